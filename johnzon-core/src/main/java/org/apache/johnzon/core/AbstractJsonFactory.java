@@ -22,13 +22,19 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 public abstract class AbstractJsonFactory implements Serializable {
     public static final String ENCODING = "org.apache.johnzon.encoding";
     public static final String BUFFER_STRATEGY = "org.apache.johnzon.buffer-strategy";
     public static final BufferStrategy DEFAULT_BUFFER_STRATEGY = BufferStrategyFactory.valueOf(System.getProperty(BUFFER_STRATEGY, "QUEUE"));
+
+    // pools are thread safe so factories with the same strategy and buffer size can reuse the same buffers
+    private static final boolean SHARE_BUFFER_POOLS = Boolean.parseBoolean(System.getProperty("org.apache.johnzon.buffer-strategy.shared", "true"));
+    private static final Map<String, BufferStrategy.BufferProvider<char[]>> SHARED_CHAR_PROVIDERS = new ConcurrentHashMap<>();
     
     protected final Map<String, Object> internalConfig = new HashMap<String, Object>();
     
@@ -58,6 +64,24 @@ public abstract class AbstractJsonFactory implements Serializable {
         return DEFAULT_BUFFER_STRATEGY;
     }
 
+    /**
+     * @param size the buffer size.
+     * @return a char buffer provider for the configured strategy, pooled strategies (QUEUE, THREAD_LOCAL) are shared
+     * between all factories using the same buffer size.
+     */
+    protected BufferStrategy.BufferProvider<char[]> getCharBufferProvider(final int size) {
+        final Object name = internalConfig.get(BUFFER_STRATEGY);
+        return sharedCharProvider(name == null ? System.getProperty(BUFFER_STRATEGY, "QUEUE") : name.toString(), size);
+    }
+
+    static BufferStrategy.BufferProvider<char[]> sharedCharProvider(final String strategy, final int size) {
+        final String normalized = strategy.toUpperCase(Locale.ENGLISH);
+        if (!SHARE_BUFFER_POOLS || !("QUEUE".equals(normalized) || "THREAD_LOCAL".equals(normalized))) {
+            return BufferStrategyFactory.valueOf(strategy).newCharProvider(size);
+        }
+        return SHARED_CHAR_PROVIDERS.computeIfAbsent(normalized + ':' + size, k -> BufferStrategyFactory.valueOf(normalized).newCharProvider(size));
+    }
+
     protected int getInt(final String key, final int defaultValue) {
         final Object intValue = internalConfig.get(key);
         if (intValue == null) {
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.johnzon.core;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.JsonValue;
+
+/**
+ * Myers O((N+M)D) shortest edit script between two lists of values.
+ * The script is a sequence of {@link #EQUAL}, {@link #DELETE} (next source value) and {@link #INSERT} (next target value).
+ */
+final class ArrayEditScript {
+    static final byte EQUAL = 0;
+    static final byte DELETE = 1;
+    static final byte INSERT = 2;
+
+    private ArrayEditScript() {
+        // no-op
+    }
+
+    /**
+     * @param source the source values.
+     * @param target the target values.
+     * @param maxDistance maximum number of deletions and insertions before giving up.
+     * @param deadline {@link System#nanoTime()} value after which the computation is abandoned.
+     * @return the edit script or {@code null} if the budget is exceeded.
+     */
+    static byte[] compute(final List<JsonValue> source, final List<JsonValue> target, final int maxDistance, final long deadline) {
+        final int n = source.size();
+        final int m = target.size();
+        final int[] sourceHashes = hashes(source);
+        final int[] targetHashes = hashes(target);
+
+        final int max = Math.min(n + m, maxDistance);
+        final int offset = max + 1;
+        final int[] v = new int[2 * max + 3];
+        final List<int[]> trace = new ArrayList<>();
+        for (int d = 0; d <= max; d++) {
+            if (System.nanoTime() - deadline > 0) {
+                return null;
+            }
+            for (int k = -d; k <= d; k += 2) {
+                int x;
+                if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+                    x = v[offset + k + 1];
+                } else {
+                    x = v[offset + k - 1] + 1;
+                }
+                int y = x - k;
+                while (x < n && y < m && sourceHashes[x] == targetHashes[y] && source.get(x).equals(target.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    final int[] snapshot = new int[2 * d + 1];
+                    System.arraycopy(v, offset - d, snapshot, 0, snapshot.length);
+                    trace.add(snapshot);
+                    return backtrack(trace, n, m);
+                }
+            }
+            final int[] snapshot = new int[2 * d + 1];
+            System.arraycopy(v, offset - d, snapshot, 0, snapshot.length);
+            trace.add(snapshot);
+        }
+        return null;
+    }
+
+    private static byte[] backtrack(final List<int[]> trace, final int n, final int m) {
+        final int distance = trace.size() - 1;
+        final byte[] script = new byte[n + m - (n + m - distance) / 2];
+        int index = script.length;
+        int x = n;
+        int y = m;
+        for (int d = distance; d > 0; d--) {
+            final int[] previous = trace.get(d - 1); // k in [-(d-1), d-1]
+            final int k = x - y;
+            final int previousK;
+            if (k == -d || (k != d && previous[k - 1 + d - 1] < previous[k + 1 + d - 1])) {
+                previousK = k + 1;
+            } else {
+                previousK = k - 1;
+            }
+            final int previousX = previous[previousK + d - 1];
+            final int previousY = previousX - previousK;
+            while (x > previousX && y > previousY) {
+                script[--index] = EQUAL;
+                x--;
+                y--;
+            }
+            script[--index] = previousK == k + 1 ? INSERT : DELETE;
+            x = previousX;
+            y = previousY;
+        }
+        while (x > 0) {
+            script[--index] = EQUAL;
+            x--;
+        }
+        return script;
+    }
+
+    private static int[] hashes(final List<JsonValue> values) {
+        final int[] hashes = new int[values.size()];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = values.get(i).hashCode();
+        }
+        return hashes;
+    }
+}
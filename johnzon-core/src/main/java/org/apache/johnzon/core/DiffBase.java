@@ -32,4 +32,19 @@ class DiffBase implements Serializable {
     protected boolean isJsonArray(JsonValue targetValue) {
         return targetValue instanceof JsonArray;
     }
+
+    /**
+     * Equality check using the cached {@link JsonContentHash} of Johnzon structures:
+     * different hashes mean different values without visiting the subtrees.
+     */
+    protected boolean isSame(final JsonValue source, final JsonValue target) {
+        if (source == target) {
+            return true;
+        }
+        if (JsonContentHash.isHashable(source) && JsonContentHash.isHashable(target)
+                && JsonContentHash.of(source) != JsonContentHash.of(target)) {
+            return false;
+        }
+        return source.equals(target);
+    }
 }
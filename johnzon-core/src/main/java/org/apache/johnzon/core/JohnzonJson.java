@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonPointer;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonWriter;
+import jakarta.json.JsonWriterFactory;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+
+/**
+ * Static facade equivalent to {@link jakarta.json.Json} but bound to Johnzon:
+ * it does not look up the provider for each call and reuses the same factories (and buffer pools).
+ *
+ * All methods delegate to a single {@link JsonProviderImpl} created with the class, the factory
+ * accessors return the same default (unconfigured) instances for the JVM lifetime and the
+ * {@code createXXX} shortcuts use these shared factories, so they behave as their {@link jakarta.json.Json} counterparts.
+ * Pretty factories are created lazily on first use.
+ *
+ * Factories created by the provider with a configuration are cached by configuration
+ * ({@code org.apache.johnzon.factory-cache.size} system property, 32 by default, 0 to disable) and
+ * pointers by path ({@code org.apache.johnzon.pointer-cache.size}, 512 by default); both caches are reset when full.
+ *
+ * Factories are thread safe so the ones exposed there can be kept and shared by the application.
+ */
+@Experimental
+public final class JohnzonJson {
+    private static final JsonProviderImpl PROVIDER = new JsonProviderImpl();
+
+    private JohnzonJson() {
+        // no-op
+    }
+
+    public static JsonProviderImpl provider() {
+        return PROVIDER;
+    }
+
+    public static JsonParserFactory parserFactory() {
+        return PROVIDER.createParserFactory(null);
+    }
+
+    public static JsonReaderFactory readerFactory() {
+        return PROVIDER.createReaderFactory(null);
+    }
+
+    public static JsonGeneratorFactory generatorFactory() {
+        return PROVIDER.createGeneratorFactory(null);
+    }
+
+    public static JsonWriterFactory writerFactory() {
+        return PROVIDER.createWriterFactory(null);
+    }
+
+    public static JsonBuilderFactory builderFactory() {
+        return PROVIDER.createBuilderFactory(null);
+    }
+
+    /**
+     * @return a generator factory with {@link JsonGenerator#PRETTY_PRINTING} enabled.
+     */
+    public static JsonGeneratorFactory prettyGeneratorFactory() {
+        return Pretty.GENERATOR_FACTORY;
+    }
+
+    /**
+     * @return a writer factory with {@link JsonGenerator#PRETTY_PRINTING} enabled.
+     */
+    public static JsonWriterFactory prettyWriterFactory() {
+        return Pretty.WRITER_FACTORY;
+    }
+
+    public static JsonParser createParser(final Reader reader) {
+        return PROVIDER.createParser(reader);
+    }
+
+    public static JsonParser createParser(final InputStream in) {
+        return PROVIDER.createParser(in);
+    }
+
+    public static JsonGenerator createGenerator(final Writer writer) {
+        return PROVIDER.createGenerator(writer);
+    }
+
+    public static JsonGenerator createGenerator(final OutputStream out) {
+        return PROVIDER.createGenerator(out);
+    }
+
+    public static JsonReader createReader(final Reader reader) {
+        return PROVIDER.createReader(reader);
+    }
+
+    public static JsonReader createReader(final InputStream in) {
+        return PROVIDER.createReader(in);
+    }
+
+    public static JsonWriter createWriter(final Writer writer) {
+        return PROVIDER.createWriter(writer);
+    }
+
+    public static JsonWriter createWriter(final OutputStream out) {
+        return PROVIDER.createWriter(out);
+    }
+
+    public static JsonObjectBuilder createObjectBuilder() {
+        return PROVIDER.createObjectBuilder();
+    }
+
+    public static JsonObjectBuilder createObjectBuilder(final JsonObject object) {
+        return PROVIDER.createObjectBuilder(object);
+    }
+
+    public static JsonArrayBuilder createArrayBuilder() {
+        return PROVIDER.createArrayBuilder();
+    }
+
+    public static JsonArrayBuilder createArrayBuilder(final JsonArray array) {
+        return PROVIDER.createArrayBuilder(array);
+    }
+
+    public static JsonPointer createPointer(final String jsonPointer) {
+        return PROVIDER.createPointer(jsonPointer);
+    }
+
+    public static JsonPatch createPatch(final JsonArray array) {
+        return PROVIDER.createPatch(array);
+    }
+
+    public static JsonPatch createDiff(final JsonStructure source, final JsonStructure target) {
+        return PROVIDER.createDiff(source, target);
+    }
+
+    public static JsonMergePatch createMergePatch(final JsonValue patch) {
+        return PROVIDER.createMergePatch(patch);
+    }
+
+    public static JsonMergePatch createMergeDiff(final JsonValue source, final JsonValue target) {
+        return PROVIDER.createMergeDiff(source, target);
+    }
+
+    private static final class Pretty { // lazy, most applications don't need it
+        private static final JsonGeneratorFactory GENERATOR_FACTORY;
+        private static final JsonWriterFactory WRITER_FACTORY;
+
+        static {
+            final Map<String, Object> config = new HashMap<>();
+            config.put(JsonGenerator.PRETTY_PRINTING, true);
+            GENERATOR_FACTORY = PROVIDER.createGeneratorFactory(config);
+            WRITER_FACTORY = PROVIDER.createWriterFactory(config);
+        }
+    }
+}
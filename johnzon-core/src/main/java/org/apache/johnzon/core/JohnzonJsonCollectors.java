@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+/**
+ * Alternative to {@link jakarta.json.stream.JsonCollectors} designed for (parallel) streams of many values.
+ *
+ * Each thread accumulates its values in its own chunk, combining two partial results only links the chunks
+ * (no copy) and the final structure is allocated once with its exact size.
+ * Encounter order is respected, for objects the last value of a duplicated key wins as with a builder.
+ */
+@Experimental
+public final class JohnzonJsonCollectors {
+    private static final int DEFAULT_CHUNK_SIZE = 16;
+
+    private JohnzonJsonCollectors() {
+        // no-op
+    }
+
+    public static Collector<JsonValue, ?, JsonArray> toJsonArray() {
+        return toJsonArray(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param expectedSize the number of values when known (sequential streams) to avoid any resizing.
+     * @return an array collector.
+     */
+    public static Collector<JsonValue, ?, JsonArray> toJsonArray(final int expectedSize) {
+        return Collector.of(
+                () -> new Chunks<JsonValue>(expectedSize),
+                Chunks::add,
+                Chunks::merge,
+                JohnzonJsonCollectors::toArray);
+    }
+
+    public static Collector<Map.Entry<String, JsonValue>, ?, JsonObject> toJsonObject() {
+        return Collector.of(
+                () -> new Chunks<Map.Entry<String, JsonValue>>(DEFAULT_CHUNK_SIZE),
+                Chunks::add,
+                Chunks::merge,
+                JohnzonJsonCollectors::toObject);
+    }
+
+    public static <T> Collector<T, ?, JsonObject> toJsonObject(final Function<T, String> keyMapper,
+                                                               final Function<T, JsonValue> valueMapper) {
+        return Collector.of(
+                () -> new Chunks<Map.Entry<String, JsonValue>>(DEFAULT_CHUNK_SIZE),
+                (chunks, item) -> chunks.add(new AbstractMap.SimpleImmutableEntry<>(keyMapper.apply(item), valueMapper.apply(item))),
+                Chunks::merge,
+                JohnzonJsonCollectors::toObject);
+    }
+
+    private static JsonArray toArray(final Chunks<JsonValue> chunks) {
+        if (chunks.size == 0) {
+            return JsonValue.EMPTY_JSON_ARRAY;
+        }
+        final List<JsonValue> values;
+        if (chunks.chunks.size() == 1) {
+            values = chunks.chunks.get(0);
+        } else {
+            final JsonValue[] array = new JsonValue[chunks.size];
+            int index = 0;
+            for (final List<JsonValue> chunk : chunks.chunks) {
+                for (final JsonValue value : chunk) {
+                    array[index++] = value;
+                }
+            }
+            values = Arrays.asList(array);
+        }
+        return new JsonArrayImpl(Collections.unmodifiableList(values), JohnzonJson.provider().getCharBufferProvider());
+    }
+
+    private static JsonObject toObject(final Chunks<Map.Entry<String, JsonValue>> chunks) {
+        if (chunks.size == 0) {
+            return JsonValue.EMPTY_JSON_OBJECT;
+        }
+        final Map<String, JsonValue> values = new LinkedHashMap<>((int) (chunks.size / .75f) + 1);
+        for (final List<Map.Entry<String, JsonValue>> chunk : chunks.chunks) {
+            for (final Map.Entry<String, JsonValue> entry : chunk) {
+                if (entry.getKey() == null || entry.getValue() == null) {
+                    throw new NullPointerException("key/value must not be null");
+                }
+                values.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return new JsonObjectImpl(Collections.unmodifiableMap(values), JohnzonJson.provider().getCharBufferProvider());
+    }
+
+    private static final class Chunks<T> {
+        private final List<List<T>> chunks = new ArrayList<>(1);
+        private int size;
+
+        private Chunks(final int capacity) {
+            chunks.add(new ArrayList<>(Math.max(0, capacity)));
+        }
+
+        private void add(final T value) {
+            if (value == null) {
+                throw new NullPointerException("value must not be null");
+            }
+            chunks.get(0).add(value); // accumulation only happens before any merge so there is a single chunk
+            size++;
+        }
+
+        private Chunks<T> merge(final Chunks<T> other) {
+            if (other.size == 0) {
+                return this;
+            }
+            if (size == 0) {
+                return other;
+            }
+            chunks.addAll(other.chunks);
+            size += other.size;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.johnzon.core;
+
+import java.math.BigDecimal;
+import java.util.Base64;
+
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * JsonGenerator with extended functionality.
+ */
+public interface JohnzonJsonGenerator extends JsonGenerator {
+    /**
+     * Writes binary content as a base64 JSON string (padded, no line separator).
+     * Implementations can encode it directly in their output buffer instead of creating the encoded {@link String}.
+     *
+     * @param value the bytes to encode.
+     * @param url {@code true} to use the URL and filename safe alphabet, {@code false} for the basic one.
+     * @return this generator.
+     */
+    default JsonGenerator writeBinary(final byte[] value, final boolean url) {
+        return write((url ? Base64.getUrlEncoder() : Base64.getEncoder()).encodeToString(value));
+    }
+
+    default JsonGenerator writeBinary(final String key, final byte[] value, final boolean url) {
+        writeKey(key);
+        return writeBinary(value, url);
+    }
+
+    /**
+     * Writes a float with its shortest decimal representation instead of widening it to a double
+     * (which would write its binary approximation, {@code 0.1f} would become {@code 0.10000000149011612}).
+     *
+     * @param value the float to write, NaN and infinite values are rejected as for doubles.
+     * @return this generator.
+     */
+    default JsonGenerator writeFloat(final float value) {
+        return write(new BigDecimal(Float.toString(value)));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import jakarta.json.JsonArray;
+
+/**
+ * JsonArray only containing numbers and backed by a primitive array.
+ * The reader creates it when an array is homogeneous (all values fit a long or all values are doubles)
+ * so consumers can read the values without creating a JsonNumber per item.
+ */
+public interface JohnzonJsonNumericArray extends JsonArray {
+    /**
+     * @return {@code true} if the values are stored as long, {@code false} if they are stored as double.
+     */
+    boolean isIntegral();
+
+    long getLong(int index);
+
+    double getDouble(int index);
+
+    /**
+     * @return the values as int, same semantic than {@link jakarta.json.JsonNumber#intValueExact()}.
+     * @throws ArithmeticException if a value is not an int.
+     */
+    int[] toIntArray();
+
+    /**
+     * @return the values as long, same semantic than {@link jakarta.json.JsonNumber#longValueExact()}.
+     * @throws ArithmeticException if a value is not a long.
+     */
+    long[] toLongArray();
+
+    double[] toDoubleArray();
+}
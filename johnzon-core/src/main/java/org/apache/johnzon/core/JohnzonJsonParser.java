@@ -16,6 +16,8 @@
  */
 package org.apache.johnzon.core;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -43,6 +45,37 @@ public interface JohnzonJsonParser extends JsonParser {
     }
 
 
+    /**
+     * Streams the current {@link Event#VALUE_STRING} value, unescaped, instead of loading it as a {@link String}.
+     * It enables to read huge values (base64 attachments, embedded documents) without any max length limitation
+     * nor buffer growth. The reader is only valid until the next call to {@link #next()} or {@link #hasNext()},
+     * what was not read is skipped, and {@link #getString()} can't be used once it was called.
+     *
+     * @return a reader on the current string value.
+     */
+    default Reader getValueReader() {
+        return new StringReader(getString());
+    }
+
+    /**
+     * Gives the chars of the current {@link Event#KEY_NAME}, {@link Event#VALUE_STRING} or {@link Event#VALUE_NUMBER}
+     * to a function without creating a {@link String}, typically to look a key up in a precomputed table.
+     * The array is the parser buffer: it must not be modified nor kept once the function returned.
+     *
+     * @param function the function to call with the current chars.
+     * @param <T> the result type.
+     * @return the function result.
+     */
+    default <T> T readChars(final CharsFunction<T> function) {
+        final String value = getString();
+        return function.apply(value.toCharArray(), 0, value.length());
+    }
+
+    @FunctionalInterface
+    interface CharsFunction<T> {
+        T apply(char[] chars, int offset, int length);
+    }
+
     class JohnzonJsonParserWrapper implements JohnzonJsonParser {
         private final JsonParser jsonParser;
 
@@ -61,6 +94,21 @@ public interface JohnzonJsonParser extends JsonParser {
             return true;
         }
 
+        @Override
+        public Reader getValueReader() {
+            return JohnzonJsonParser.class.isInstance(jsonParser) ?
+                    JohnzonJsonParser.class.cast(jsonParser).getValueReader() : new StringReader(jsonParser.getString());
+        }
+
+        @Override
+        public <T> T readChars(final CharsFunction<T> function) {
+            if (JohnzonJsonParser.class.isInstance(jsonParser)) {
+                return JohnzonJsonParser.class.cast(jsonParser).readChars(function);
+            }
+            final String value = jsonParser.getString();
+            return function.apply(value.toCharArray(), 0, value.length());
+        }
+
         @Override
         public boolean hasNext() {
             return jsonParser.hasNext();
@@ -102,7 +102,7 @@ public abstract class JohnzonJsonParserImpl implements JohnzonJsonParser {
                 if (isFitLong()) {
                     return new JsonLongImpl(getLong());
                 }
-                return new JsonNumberImpl(getBigDecimal());
+                return new JsonLazyNumberImpl(getString());
             default:
                 throw new IllegalStateException(current + " doesn't support getValue()");
         }
@@ -38,24 +38,68 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder, Serializable {
     private RejectDuplicateKeysMode rejectDuplicateKeysMode;
     private List<JsonValue> tmpList;
     private BufferStrategy.BufferProvider<char[]> bufferProvider;
+    private boolean persistent;
+    private JsonStringCache stringCache;
 
     protected JsonArrayBuilderImpl() {
         // no-op: serialization
     }
 
+    private JsonStringImpl newString(final String value) {
+        return stringCache == null ? new JsonStringImpl(value) : stringCache.get(value);
+    }
+
     public JsonArrayBuilderImpl(final JsonArray initialData,
                                 final BufferStrategy.BufferProvider<char[]> provider,
                                 final RejectDuplicateKeysMode rejectDuplicateKeysMode) {
+        this(initialData, provider, rejectDuplicateKeysMode, false);
+    }
+
+    /**
+     * @param persistent if {@code true} the built arrays share their unchanged values when modified through a JsonPointer.
+     */
+    public JsonArrayBuilderImpl(final JsonArray initialData,
+                                final BufferStrategy.BufferProvider<char[]> provider,
+                                final RejectDuplicateKeysMode rejectDuplicateKeysMode,
+                                final boolean persistent) {
+        this(initialData, provider, rejectDuplicateKeysMode, persistent, null);
+    }
+
+    /**
+     * @param stringCache if not {@code null}, used to share string values instances.
+     */
+    JsonArrayBuilderImpl(final JsonArray initialData,
+                         final BufferStrategy.BufferProvider<char[]> provider,
+                         final RejectDuplicateKeysMode rejectDuplicateKeysMode,
+                         final boolean persistent, final JsonStringCache stringCache) {
         this.tmpList = new ArrayList<>(initialData);
         this.bufferProvider = provider;
         this.rejectDuplicateKeysMode = rejectDuplicateKeysMode;
+        this.persistent = persistent;
+        this.stringCache = stringCache;
     }
 
     public JsonArrayBuilderImpl(final Collection<?> initialData, final BufferStrategy.BufferProvider<char[]> provider,
                                 final RejectDuplicateKeysMode rejectDuplicateKeysMode) {
+        this(initialData, provider, rejectDuplicateKeysMode, false);
+    }
+
+    public JsonArrayBuilderImpl(final Collection<?> initialData, final BufferStrategy.BufferProvider<char[]> provider,
+                                final RejectDuplicateKeysMode rejectDuplicateKeysMode, final boolean persistent) {
+        this(initialData, provider, rejectDuplicateKeysMode, persistent, null);
+    }
+
+    /**
+     * @param stringCache if not {@code null}, used to share string values instances, including the initial ones.
+     */
+    JsonArrayBuilderImpl(final Collection<?> initialData, final BufferStrategy.BufferProvider<char[]> provider,
+                         final RejectDuplicateKeysMode rejectDuplicateKeysMode, final boolean persistent,
+                         final JsonStringCache stringCache) {
         this.bufferProvider = provider;
         this.rejectDuplicateKeysMode = rejectDuplicateKeysMode;
-        this.tmpList = new ArrayList<>();
+        this.persistent = persistent;
+        this.stringCache = stringCache;
+        this.tmpList = new ArrayList<>(initialData.size());
         if (!initialData.isEmpty()) {
             for (Object initialValue : initialData) {
                 add(initialValue);
@@ -65,7 +109,17 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder, Serializable {
 
     @Override
     public JsonArrayBuilder addAll(final JsonArrayBuilder builder) {
-        builder.build().forEach(this::add);
+        // values are appended in bulk, for johnzon builders without building an intermediate array
+        final List<JsonValue> values = JsonArrayBuilderImpl.class.isInstance(builder) ?
+                JsonArrayBuilderImpl.class.cast(builder).tmpList : builder.build();
+        if (values == null || values.isEmpty()) {
+            return this;
+        }
+        if (tmpList == null) {
+            tmpList = new ArrayList<>(values);
+        } else {
+            tmpList.addAll(values);
+        }
         return this;
     }
 
@@ -77,7 +131,7 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder, Serializable {
 
     @Override
     public JsonArrayBuilder add(final int index, final String value) {
-        addValue(index, new JsonStringImpl(value));
+        addValue(index, newString(value));
         return this;
     }
 
@@ -143,7 +197,7 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder, Serializable {
 
     @Override
     public JsonArrayBuilder set(final int index, final String value) {
-        setValue(index, new JsonStringImpl(value));
+        setValue(index, newString(value));
         return this;
     }
 
@@ -225,12 +279,12 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder, Serializable {
         } else if (value instanceof String) {
             add((String) value);
         } else if (value instanceof Map) {
-            add(new JsonObjectBuilderImpl(Map.class.cast(value), bufferProvider, rejectDuplicateKeysMode).build());
+            add(new JsonObjectBuilderImpl(Map.class.cast(value), bufferProvider, rejectDuplicateKeysMode, persistent, stringCache).build());
         } else if (value instanceof Collection) {
-            add(new JsonArrayBuilderImpl(Collection.class.cast(value), bufferProvider, rejectDuplicateKeysMode).build());
+            add(new JsonArrayBuilderImpl(Collection.class.cast(value), bufferProvider, rejectDuplicateKeysMode, persistent, stringCache).build());
         } else if (value.getClass().isArray()) {
             final Collection<Object> collection = ArrayUtil.newCollection(value);
-            add(new JsonArrayBuilderImpl(collection, bufferProvider, rejectDuplicateKeysMode).build());
+            add(new JsonArrayBuilderImpl(collection, bufferProvider, rejectDuplicateKeysMode, persistent, stringCache).build());
         } else {
             throw new JsonException("Illegal JSON type! type=" + value.getClass());
         }
@@ -246,7 +300,7 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder, Serializable {
 
     @Override
     public JsonArrayBuilder add(final String value) {
-        addValue(new JsonStringImpl(value));
+        addValue(newString(value));
         return this;
     }
 
@@ -337,6 +391,9 @@ class JsonArrayBuilderImpl implements JsonArrayBuilder, Serializable {
 
     @Override
     public JsonArray build() {
+        if (persistent) {
+            return new JsonArrayImpl(tmpList == null ? PersistentJsonList.EMPTY : PersistentJsonList.of(tmpList), bufferProvider);
+        }
         if(tmpList == null) {
             return JsonValue.EMPTY_JSON_ARRAY;
         }
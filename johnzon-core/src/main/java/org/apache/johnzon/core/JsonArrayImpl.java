@@ -35,6 +35,7 @@ import java.util.NoSuchElementException;
 class JsonArrayImpl extends AbstractList<JsonValue> implements JsonArray, Serializable {
     private final BufferStrategy.BufferProvider<char[]> provider;
     private Integer hashCode = null;
+    private transient volatile long contentHash; // 0 means not yet computed
     private final List<JsonValue> unmodifieableBackingList;
     private int size = -1;
 
@@ -43,6 +44,26 @@ class JsonArrayImpl extends AbstractList<JsonValue> implements JsonArray, Serial
         this.provider = provider;
     }
 
+    /**
+     * @return {@code true} if {@link #with(int, JsonValue)}, {@link #insert(int, JsonValue)} and {@link #without(int)}
+     *         share the unchanged values.
+     */
+    boolean isPersistent() {
+        return PersistentJsonList.class.isInstance(unmodifieableBackingList);
+    }
+
+    JsonArray with(final int index, final JsonValue value) {
+        return new JsonArrayImpl(PersistentJsonList.of(unmodifieableBackingList).with(index, value), provider);
+    }
+
+    JsonArray insert(final int index, final JsonValue value) {
+        return new JsonArrayImpl(PersistentJsonList.of(unmodifieableBackingList).insert(index, value), provider);
+    }
+
+    JsonArray without(final int index) {
+        return new JsonArrayImpl(PersistentJsonList.of(unmodifieableBackingList).without(index), provider);
+    }
+
     private <T> T value(final int idx, final Class<T> type) {
         if (idx > unmodifieableBackingList.size()) {
             throw new IndexOutOfBoundsException(idx + "/" + unmodifieableBackingList.size());
@@ -177,9 +198,34 @@ class JsonArrayImpl extends AbstractList<JsonValue> implements JsonArray, Serial
 
     @Override
     public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (JsonArrayImpl.class.isInstance(obj)) {
+            final long otherHash = JsonArrayImpl.class.cast(obj).contentHash;
+            final long hash = contentHash;
+            if (hash != 0 && otherHash != 0 && hash != otherHash) { // both already known, can't be equal
+                return false;
+            }
+        }
         return List.class.isInstance(obj) && super.equals(obj);
     }
 
+    /**
+     * @return the cached {@link JsonContentHash} of this array.
+     */
+    long contentHash() {
+        long h = contentHash;
+        if (h == 0) {
+            h = JsonContentHash.computeArray(this);
+            if (h == 0) {
+                h = 1;
+            }
+            contentHash = h;
+        }
+        return h;
+    }
+
     @Override
     public int hashCode() {
         Integer h = hashCode;
@@ -206,6 +252,9 @@ class JsonArrayImpl extends AbstractList<JsonValue> implements JsonArray, Serial
 
     @Override
     public Iterator<JsonValue> iterator() {
+        if (isPersistent()) { // positional access is O(log n) there
+            return unmodifieableBackingList.iterator();
+        }
         return new JsonArrayIterator();
     }
 
@@ -24,6 +24,7 @@ import jakarta.json.JsonBuilderFactory;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,10 +36,26 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 
 class JsonBuilderFactoryImpl implements JsonBuilderFactory, Serializable {
+    /**
+     * When {@code true}, built objects and arrays are backed by persistent trees:
+     * JsonPointer/JsonPatch modifications only copy the modified path and share all other values.
+     */
+    public static final String PERSISTENT_STRUCTURES = "org.apache.johnzon.persistent-structures";
+
     private final Map<String, Object> internalConfig = new HashMap<String, Object>();
     private RejectDuplicateKeysMode rejectDuplicateKeysMode;
     private BufferStrategy.BufferProvider<char[]> bufferProvider;
-    private static final List<String> SUPPORTED_CONFIG_KEYS = RejectDuplicateKeysMode.CONFIG_KEYS;
+    private boolean persistent;
+    private JsonStringCache stringCache;
+    private static final List<String> SUPPORTED_CONFIG_KEYS;
+    static {
+        final List<String> keys = new ArrayList<>(RejectDuplicateKeysMode.CONFIG_KEYS.size() + 3);
+        keys.addAll(RejectDuplicateKeysMode.CONFIG_KEYS);
+        keys.add(PERSISTENT_STRUCTURES);
+        keys.add(JsonStringCache.STRING_DEDUPLICATION);
+        keys.add(JsonStringCache.STRING_DEDUPLICATION_MAX_LENGTH);
+        SUPPORTED_CONFIG_KEYS = Collections.unmodifiableList(keys);
+    }
 
     protected JsonBuilderFactoryImpl() {
         // no-op: serialization
@@ -58,32 +75,35 @@ class JsonBuilderFactoryImpl implements JsonBuilderFactory, Serializable {
                 }
             }
         }
+        final Object persistentValue = internalConfig.get(PERSISTENT_STRUCTURES);
+        this.persistent = persistentValue != null && Boolean.parseBoolean(persistentValue.toString());
+        this.stringCache = JsonStringCache.from(internalConfig);
     }
 
     @Override
     public JsonObjectBuilder createObjectBuilder() {
-        return new JsonObjectBuilderImpl(emptyMap(), bufferProvider, rejectDuplicateKeysMode);
+        return new JsonObjectBuilderImpl(emptyMap(), bufferProvider, rejectDuplicateKeysMode, persistent, stringCache);
     }
 
     @Override
     public JsonObjectBuilder createObjectBuilder(JsonObject initialData) {
-        return new JsonObjectBuilderImpl(initialData, bufferProvider, rejectDuplicateKeysMode);
+        return new JsonObjectBuilderImpl(initialData, bufferProvider, rejectDuplicateKeysMode, persistent, stringCache);
     }
 
     @Override
     public JsonArrayBuilder createArrayBuilder() {
-        return new JsonArrayBuilderImpl(emptyList(), bufferProvider, rejectDuplicateKeysMode);
+        return new JsonArrayBuilderImpl(emptyList(), bufferProvider, rejectDuplicateKeysMode, persistent, stringCache);
     }
 
 
     @Override
     public JsonArrayBuilder createArrayBuilder(JsonArray initialData) {
-        return new JsonArrayBuilderImpl(initialData, bufferProvider, rejectDuplicateKeysMode);
+        return new JsonArrayBuilderImpl(initialData, bufferProvider, rejectDuplicateKeysMode, persistent, stringCache);
     }
 
     @Override
     public JsonArrayBuilder createArrayBuilder(Collection<?> initialData) {
-        return new JsonArrayBuilderImpl(initialData, bufferProvider, rejectDuplicateKeysMode);
+        return new JsonArrayBuilderImpl(initialData, bufferProvider, rejectDuplicateKeysMode, persistent, stringCache);
     }
 
     @Override
@@ -93,7 +113,7 @@ class JsonBuilderFactoryImpl implements JsonBuilderFactory, Serializable {
 
     @Override
     public JsonObjectBuilder createObjectBuilder(Map<String, Object> initialValues) {
-        return new JsonObjectBuilderImpl(initialValues, bufferProvider, rejectDuplicateKeysMode);
+        return new JsonObjectBuilderImpl(initialValues, bufferProvider, rejectDuplicateKeysMode, persistent, stringCache);
     }
 
 }
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * 64 bits structural fingerprint of a {@link JsonValue}: two equal values have the same content hash
+ * (object member order is ignored, numbers follow {@link BigDecimal#equals(Object)} as {@link JsonNumber#equals(Object)}).
+ *
+ * Johnzon objects and arrays compute it once (lazily) and cache it, a parent reuses the hashes of its children
+ * so it is O(1) for an already hashed subtree. It enables to prune identical subtrees when diffing
+ * or to key caches on document fingerprints.
+ */
+@Experimental
+public final class JsonContentHash {
+    private static final long TRUE = 0x6A09E667F3BCC909L;
+    private static final long FALSE = 0xBB67AE8584CAA73BL;
+    private static final long NULL = 0x3C6EF372FE94F82BL;
+    private static final long STRING = 0xA54FF53A5F1D36F1L;
+    private static final long OBJECT = 0x510E527FADE682D1L;
+    private static final long ARRAY = 0x9B05688C2B3E6C1FL;
+    private static final long PRIME = 0x100000001B3L;
+
+    private JsonContentHash() {
+        // no-op
+    }
+
+    public static long of(final JsonValue value) {
+        switch (value.getValueType()) {
+            case OBJECT:
+                if (value instanceof JsonObjectImpl) {
+                    return JsonObjectImpl.class.cast(value).contentHash();
+                }
+                return computeObject(value.asJsonObject());
+            case ARRAY:
+                if (value instanceof JsonArrayImpl) {
+                    return JsonArrayImpl.class.cast(value).contentHash();
+                }
+                return computeArray(value.asJsonArray());
+            case STRING:
+                return string(JsonString.class.cast(value).getString()) ^ STRING;
+            case NUMBER:
+                return number(JsonNumber.class.cast(value));
+            case TRUE:
+                return TRUE;
+            case FALSE:
+                return FALSE;
+            default:
+                return NULL;
+        }
+    }
+
+    /**
+     * @param value the value to test.
+     * @return {@code true} for Johnzon structures, they compute their content hash on first use and then keep it.
+     */
+    static boolean isHashable(final JsonValue value) {
+        return value instanceof JsonObjectImpl || value instanceof JsonArrayImpl;
+    }
+
+    static long computeObject(final JsonObject object) {
+        long hash = OBJECT;
+        for (final Map.Entry<String, JsonValue> entry : object.entrySet()) { // commutative: order does not matter
+            hash += mix(string(entry.getKey()) * PRIME + of(entry.getValue()));
+        }
+        return mix(hash);
+    }
+
+    static long computeArray(final JsonArray array) {
+        long hash = ARRAY;
+        for (final JsonValue value : array) {
+            hash = (hash ^ of(value)) * PRIME;
+        }
+        return mix(hash ^ array.size());
+    }
+
+    private static long number(final JsonNumber number) {
+        if (number instanceof JsonLongImpl) {
+            return mix(number.longValue());
+        }
+        final BigDecimal decimal = number.bigDecimalValue();
+        final BigInteger unscaled = decimal.unscaledValue();
+        if (decimal.scale() == 0 && unscaled.bitLength() < 64) { // same as a long
+            return mix(unscaled.longValue());
+        }
+        long hash = PRIME ^ decimal.scale();
+        for (final byte b : unscaled.toByteArray()) {
+            hash = (hash ^ b) * PRIME;
+        }
+        return mix(hash);
+    }
+
+    // FNV-1a on the chars
+    private static long string(final String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * PRIME;
+        }
+        return mix(hash);
+    }
+
+    // murmur3 finalizer
+    private static long mix(final long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93F53FE1A85L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -65,7 +65,7 @@ public class JsonGeneratorFactoryImpl extends AbstractJsonFactory implements Jso
         if (bufferSize <= 0) {
             throw new IllegalArgumentException("buffer length must be greater than zero");
         }
-        this.buffer = new Buffer(getBufferProvider().newCharProvider(bufferSize), bufferSize);
+        this.buffer = new Buffer(getCharBufferProvider(bufferSize), bufferSize);
     }
 
     @Override
@@ -113,7 +113,7 @@ public class JsonGeneratorFactoryImpl extends AbstractJsonFactory implements Jso
         }
 
         synchronized (this) {
-            customBuffer = new Buffer(getBufferProvider().newCharProvider(bufferSize), bufferSize);
+            customBuffer = new Buffer(getCharBufferProvider(bufferSize), bufferSize);
             return customBuffer.provider;
         }
     }
@@ -34,13 +34,15 @@ import java.math.BigInteger;
 import java.util.Iterator;
 import java.util.Map;
 
-class JsonGeneratorImpl implements JsonGenerator, JsonChars, Serializable {
+class JsonGeneratorImpl implements JohnzonJsonGenerator, JsonChars, Serializable {
     private final transient Writer writer;
     private final BufferStrategy.BufferProvider<char[]> bufferProvider;
     private final char[] buffer;
     private int bufferPos = 0;
     private final boolean prettyPrint;
     private static final String INDENT = "  ";
+    private static final char[] BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+    private static final char[] BASE64_URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
     private int depth = 0;
     private boolean closed;
 
@@ -190,7 +192,11 @@ class JsonGeneratorImpl implements JsonGenerator, JsonChars, Serializable {
             case NUMBER:
                 //TODO optimize
                 final JsonNumber number = JsonNumber.class.cast(value);
-                if (number.isIntegral()) {
+                if (number instanceof JsonLazyNumberImpl) { // source digits, no need to parse them
+                    checkObject();
+                    writeKey(name);
+                    writeValue(number.toString());
+                } else if (number.isIntegral()) {
                     write(name, number.longValueExact());
                 } else {
                     write(name, number.bigDecimalValue());
@@ -242,6 +248,9 @@ class JsonGeneratorImpl implements JsonGenerator, JsonChars, Serializable {
                 final JsonNumber number = JsonNumber.class.cast(value);
                 if (number instanceof JsonLongImpl) {
                     write(number.longValueExact());
+                } else if (number instanceof JsonLazyNumberImpl) { // source digits, no need to parse them
+                    checkArrayOrValue();
+                    writeValue(number.toString());
                 } else {
                     write(number.bigDecimalValue());
                 }
@@ -402,6 +411,14 @@ class JsonGeneratorImpl implements JsonGenerator, JsonChars, Serializable {
         return this;
     }
 
+    @Override
+    public JsonGenerator writeFloat(final float value) {
+        checkArrayOrValue();
+        checkDoubleRange(value);
+        writeValue(Float.toString(value));
+        return this;
+    }
+
     @Override
     public JsonGenerator write(final boolean value) {
         checkArrayOrValue();
@@ -416,6 +433,78 @@ class JsonGeneratorImpl implements JsonGenerator, JsonChars, Serializable {
         return this;
     }
 
+    @Override
+    public JsonGenerator writeBinary(final byte[] value, final boolean url) {
+        checkArrayOrValue();
+        prepareValue();
+        final GeneratorState peek = state.peek();
+        if (peek == GeneratorState.START_ARRAY || peek == GeneratorState.IN_ARRAY) {
+            writeIndent();
+        }
+        justWrite(QUOTE_CHAR);
+        writeBase64(value, url ? BASE64_URL : BASE64);
+        justWrite(QUOTE_CHAR);
+        alignState();
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeBinary(final String key, final byte[] value, final boolean url) {
+        checkObject();
+        writeKey(key);
+        return writeBinary(value, url);
+    }
+
+    // used by JsonTranscoder, the chars are written as they are so they must not need any escaping
+
+    void writeRawKey(final char[] chars, final int start, final int length) {
+        final GeneratorState currentState = currentState();
+        if (!currentState.acceptsKey) {
+            throw new JsonGenerationException("state " + currentState + " does not accept a key");
+        }
+        if (currentState == GeneratorState.IN_OBJECT) {
+            justWrite(COMMA_CHAR);
+            writeEol();
+        }
+
+        writeIndent();
+
+        justWrite(QUOTE_CHAR);
+        justWrite(chars, start, length);
+        justWrite(QUOTE_CHAR);
+        justWrite(KEY_SEPARATOR);
+        state.push(GeneratorState.AFTER_KEY);
+    }
+
+    // unlike writeStartObject()/writeStartArray() it does not indent again a structure following a key
+    void writeRawStart(final boolean object) {
+        prepareValue();
+        if (currentState() != GeneratorState.AFTER_KEY) {
+            writeIndent();
+        }
+        state.push(object ? GeneratorState.START_OBJECT : GeneratorState.START_ARRAY);
+        depth++;
+        justWrite(object ? START_OBJECT_CHAR : START_ARRAY_CHAR);
+        writeEol();
+    }
+
+    void writeRawValue(final char[] chars, final int start, final int length, final boolean string) {
+        checkArrayOrValue();
+        prepareValue();
+        final GeneratorState peek = state.peek();
+        if (peek == GeneratorState.START_ARRAY || peek == GeneratorState.IN_ARRAY) {
+            writeIndent();
+        }
+        if (string) {
+            justWrite(QUOTE_CHAR);
+            justWrite(chars, start, length);
+            justWrite(QUOTE_CHAR);
+        } else {
+            justWrite(chars, start, length);
+        }
+        alignState();
+    }
+
     @Override
     public JsonGenerator writeKey(final String key) {
         final GeneratorState currentState = currentState();
@@ -588,6 +677,61 @@ class JsonGeneratorImpl implements JsonGenerator, JsonChars, Serializable {
         }
     }
 
+    private void justWrite(final char[] chars, final int start, final int length) {
+        int offset = start;
+        int remaining = length;
+        while (remaining > 0) {
+            if (bufferPos >= buffer.length) {
+                flushBuffer();
+            }
+            final int chunk = Math.min(remaining, buffer.length - bufferPos);
+            System.arraycopy(chars, offset, buffer, bufferPos, chunk);
+            bufferPos += chunk;
+            offset += chunk;
+            remaining -= chunk;
+        }
+    }
+
+    // base64 chars never need any escaping so they are encoded directly in the buffer, by groups of 3 bytes
+    private void writeBase64(final byte[] value, final char[] alphabet) {
+        final int full = value.length - value.length % 3;
+        int i = 0;
+        while (i < full) {
+            final int groups = Math.min((full - i) / 3, (buffer.length - bufferPos) >> 2);
+            if (groups == 0) {
+                if (buffer.length >= 4) {
+                    flushBuffer();
+                    continue;
+                }
+                // tiny buffer, let justWrite(char) flush as needed
+                final int bits = (value[i++] & 0xff) << 16 | (value[i++] & 0xff) << 8 | (value[i++] & 0xff);
+                justWrite(alphabet[bits >>> 18]);
+                justWrite(alphabet[(bits >>> 12) & 0x3f]);
+                justWrite(alphabet[(bits >>> 6) & 0x3f]);
+                justWrite(alphabet[bits & 0x3f]);
+                continue;
+            }
+            final char[] out = buffer;
+            int pos = bufferPos;
+            for (int g = 0; g < groups; g++) {
+                final int bits = (value[i++] & 0xff) << 16 | (value[i++] & 0xff) << 8 | (value[i++] & 0xff);
+                out[pos++] = alphabet[bits >>> 18];
+                out[pos++] = alphabet[(bits >>> 12) & 0x3f];
+                out[pos++] = alphabet[(bits >>> 6) & 0x3f];
+                out[pos++] = alphabet[bits & 0x3f];
+            }
+            bufferPos = pos;
+        }
+        final int remaining = value.length - full;
+        if (remaining > 0) {
+            final int bits = (value[full] & 0xff) << 16 | (remaining == 2 ? (value[full + 1] & 0xff) << 8 : 0);
+            justWrite(alphabet[bits >>> 18]);
+            justWrite(alphabet[(bits >>> 12) & 0x3f]);
+            justWrite(remaining == 2 ? alphabet[(bits >>> 6) & 0x3f] : '=');
+            justWrite('=');
+        }
+    }
+
     private void justWrite(final char value) {
         if (bufferPos >= buffer.length) {
             flushBuffer();
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import jakarta.json.JsonNumber;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Number read from a document which keeps the source digits and only parses them when needed.
+ * It behaves as a {@link JsonNumberImpl} created from {@code new BigDecimal(text)}
+ * but {@link #doubleValue()} and serialization do not require any {@link BigDecimal}.
+ *
+ * Parsed values are cached, races are benign since the computation is idempotent.
+ */
+final class JsonLazyNumberImpl implements JsonNumber, Serializable {
+    private final String text;
+    private transient BigDecimal decimal;
+    private transient Double doubleValue;
+    private transient Integer hashCode;
+
+    JsonLazyNumberImpl(final String text) {
+        if (text == null) {
+            throw new NullPointerException("text must not be null");
+        }
+        this.text = text;
+    }
+
+    @Override
+    public Number numberValue() {
+        return bigDecimalValue();
+    }
+
+    @Override
+    public boolean isIntegral() {
+        boolean dot = false;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == 'e' || c == 'E') { // scale depends on the exponent
+                return bigDecimalValue().scale() == 0;
+            }
+            dot |= c == '.';
+        }
+        return !dot;
+    }
+
+    @Override
+    public int intValue() {
+        return bigDecimalValue().intValue();
+    }
+
+    @Override
+    public int intValueExact() {
+        checkFractionalPart();
+        return bigDecimalValue().intValueExact();
+    }
+
+    @Override
+    public long longValue() {
+        return bigDecimalValue().longValue();
+    }
+
+    @Override
+    public long longValueExact() {
+        checkFractionalPart();
+        return bigDecimalValue().longValueExact();
+    }
+
+    @Override
+    public BigInteger bigIntegerValue() {
+        return bigDecimalValue().toBigInteger();
+    }
+
+    @Override
+    public BigInteger bigIntegerValueExact() {
+        return bigDecimalValue().toBigIntegerExact();
+    }
+
+    @Override
+    public double doubleValue() {
+        Double value = doubleValue;
+        if (value == null) {
+            final BigDecimal parsed = decimal;
+            // both are correctly rounded so it is the same value than BigDecimal#doubleValue()
+            value = parsed != null ? parsed.doubleValue() : Double.parseDouble(text);
+            doubleValue = value;
+        }
+        return value;
+    }
+
+    @Override
+    public BigDecimal bigDecimalValue() {
+        BigDecimal value = decimal;
+        if (value == null) {
+            value = new BigDecimal(text);
+            decimal = value;
+        }
+        return value;
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.NUMBER;
+    }
+
+    @Override
+    public String toString() {
+        if (isCanonical()) {
+            return text;
+        }
+        return bigDecimalValue().toString();
+    }
+
+    @Override
+    public int hashCode() {
+        Integer h = hashCode;
+        if (h == null) {
+            h = bigDecimalValue().hashCode();
+            hashCode = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return JsonNumber.class.isInstance(obj) && JsonNumber.class.cast(obj).bigDecimalValue().equals(bigDecimalValue());
+    }
+
+    /**
+     * @return {@code true} if {@code BigDecimal#toString()} would return the source text:
+     * no exponent and a non zero integer part (no scientific notation for small values nor lost sign for -0).
+     */
+    private boolean isCanonical() {
+        final int start = text.charAt(0) == '-' ? 1 : 0;
+        if (start >= text.length() || text.charAt(start) == '0') {
+            return false;
+        }
+        for (int i = start + 1; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == 'e' || c == 'E') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void checkFractionalPart() {
+        if (bigDecimalValue().remainder(BigDecimal.ONE).doubleValue() != 0) {
+            throw new ArithmeticException("Not an int/long, use other value readers");
+        }
+    }
+}
@@ -45,6 +45,11 @@ class JsonMergePatchDiff extends DiffBase {
     }
 
     private JsonValue diff(JsonValue source, JsonValue target) {
+        if (isSame(source, target)) {
+            // if the two values are identical, then return an empty patch
+            return JsonValue.EMPTY_JSON_OBJECT;
+        }
+
         JsonObjectBuilder builder = new JsonObjectBuilderImpl(emptyMap(), bufferProvider, RejectDuplicateKeysMode.DEFAULT);
 
         if (isJsonObject(source) && isJsonObject(target)) {
@@ -73,9 +78,6 @@ class JsonMergePatchDiff extends DiffBase {
             }
 
             return builder.build();
-        } else if (source.equals(target)) {
-            // if the two objects are identical, then return an empty patch
-            return JsonValue.EMPTY_JSON_OBJECT;
         } else {
             // as defined in the RFC anything else than comparing JsonObjects will result
             // in completely replacing the source with the target
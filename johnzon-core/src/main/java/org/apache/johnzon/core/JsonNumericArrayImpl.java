@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import jakarta.json.JsonValue;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+final class JsonNumericArrayImpl extends JsonArrayImpl implements JohnzonJsonNumericArray {
+    private final long[] longs;
+    private final double[] doubles;
+
+    private JsonNumericArrayImpl(final long[] longs, final double[] doubles, final int size,
+                                 final BufferStrategy.BufferProvider<char[]> provider) {
+        super(new PrimitiveValues(longs, doubles, size), provider);
+        this.longs = longs;
+        this.doubles = doubles;
+    }
+
+    static JsonNumericArrayImpl ofLongs(final long[] values, final int size, final BufferStrategy.BufferProvider<char[]> provider) {
+        return new JsonNumericArrayImpl(values.length == size ? values : Arrays.copyOf(values, size), null, size, provider);
+    }
+
+    static JsonNumericArrayImpl ofDoubles(final double[] values, final int size, final BufferStrategy.BufferProvider<char[]> provider) {
+        return new JsonNumericArrayImpl(null, values.length == size ? values : Arrays.copyOf(values, size), size, provider);
+    }
+
+    @Override
+    public boolean isIntegral() {
+        return longs != null;
+    }
+
+    @Override
+    public long getLong(final int index) {
+        return longs != null ? longs[index] : (long) doubles[index];
+    }
+
+    @Override
+    public double getDouble(final int index) {
+        return longs != null ? longs[index] : doubles[index];
+    }
+
+    @Override
+    public int getInt(final int index) {
+        return longs != null ? (int) longs[index] : (int) doubles[index];
+    }
+
+    @Override
+    public int[] toIntArray() {
+        final int size = size();
+        final int[] values = new int[size];
+        if (longs != null) {
+            for (int i = 0; i < size; i++) {
+                final long value = longs[i];
+                if ((int) value != value) {
+                    throw new ArithmeticException("Overflow");
+                }
+                values[i] = (int) value;
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                values[i] = (int) checkFractionalPart(doubles[i]);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public long[] toLongArray() {
+        if (longs != null) {
+            return longs.clone();
+        }
+        final int size = size();
+        final long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (long) checkFractionalPart(doubles[i]);
+        }
+        return values;
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        if (doubles != null) {
+            return doubles.clone();
+        }
+        final int size = size();
+        final double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = longs[i];
+        }
+        return values;
+    }
+
+    private static double checkFractionalPart(final double value) {
+        if ((value % 1) != 0) {
+            throw new ArithmeticException("Not an int/long, use other value readers");
+        }
+        return value;
+    }
+
+    // JsonValue view of the primitive array, values are created on access
+    private static final class PrimitiveValues extends AbstractList<JsonValue> implements RandomAccess {
+        private final long[] longs;
+        private final double[] doubles;
+        private final int size;
+
+        private PrimitiveValues(final long[] longs, final double[] doubles, final int size) {
+            this.longs = longs;
+            this.doubles = doubles;
+            this.size = size;
+        }
+
+        @Override
+        public JsonValue get(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index + "/" + size);
+            }
+            return longs != null ? new JsonLongImpl(longs[index]) : new JsonDoubleImpl(doubles[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
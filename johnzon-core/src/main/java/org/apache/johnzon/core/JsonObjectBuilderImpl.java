@@ -39,24 +39,71 @@ class JsonObjectBuilderImpl implements JsonObjectBuilder, Serializable {
     private RejectDuplicateKeysMode rejectDuplicateKeysMode;
     private BufferStrategy.BufferProvider<char[]> bufferProvider;
     private Map<String, JsonValue> attributeMap = new LinkedHashMap<>();
+    private boolean persistent;
+    private JsonStringCache stringCache;
 
     protected JsonObjectBuilderImpl() {
         // no-op: serialization
     }
 
+    private JsonStringImpl newString(final String value) {
+        return stringCache == null ? new JsonStringImpl(value) : stringCache.get(value);
+    }
+
     public JsonObjectBuilderImpl(final JsonObject initialData,
                                  final BufferStrategy.BufferProvider<char[]> bufferProvider,
                                  final RejectDuplicateKeysMode rejectDuplicateKeysMode) {
+        this(initialData, bufferProvider, rejectDuplicateKeysMode, false);
+    }
+
+    /**
+     * @param persistent if {@code true} the built objects share their unchanged values when modified through a JsonPointer.
+     */
+    public JsonObjectBuilderImpl(final JsonObject initialData,
+                                 final BufferStrategy.BufferProvider<char[]> bufferProvider,
+                                 final RejectDuplicateKeysMode rejectDuplicateKeysMode,
+                                 final boolean persistent) {
+        this(initialData, bufferProvider, rejectDuplicateKeysMode, persistent, null);
+    }
+
+    /**
+     * @param stringCache if not {@code null}, used to share string values instances.
+     */
+    JsonObjectBuilderImpl(final JsonObject initialData,
+                          final BufferStrategy.BufferProvider<char[]> bufferProvider,
+                          final RejectDuplicateKeysMode rejectDuplicateKeysMode,
+                          final boolean persistent, final JsonStringCache stringCache) {
         this.bufferProvider = bufferProvider;
         this.rejectDuplicateKeysMode = rejectDuplicateKeysMode;
+        this.persistent = persistent;
+        this.stringCache = stringCache;
         this.attributeMap = new LinkedHashMap<>(initialData);
     }
 
     public JsonObjectBuilderImpl(final Map<String, Object> initialValues,
                                  final BufferStrategy.BufferProvider<char[]> bufferProvider,
                                  final RejectDuplicateKeysMode rejectDuplicateKeysMode) {
+        this(initialValues, bufferProvider, rejectDuplicateKeysMode, false);
+    }
+
+    public JsonObjectBuilderImpl(final Map<String, Object> initialValues,
+                                 final BufferStrategy.BufferProvider<char[]> bufferProvider,
+                                 final RejectDuplicateKeysMode rejectDuplicateKeysMode,
+                                 final boolean persistent) {
+        this(initialValues, bufferProvider, rejectDuplicateKeysMode, persistent, null);
+    }
+
+    /**
+     * @param stringCache if not {@code null}, used to share string values instances, including the initial ones.
+     */
+    JsonObjectBuilderImpl(final Map<String, Object> initialValues,
+                          final BufferStrategy.BufferProvider<char[]> bufferProvider,
+                          final RejectDuplicateKeysMode rejectDuplicateKeysMode,
+                          final boolean persistent, final JsonStringCache stringCache) {
         this.bufferProvider = bufferProvider;
         this.rejectDuplicateKeysMode = rejectDuplicateKeysMode;
+        this.persistent = persistent;
+        this.stringCache = stringCache;
         if (!initialValues.isEmpty()) {
             for (Map.Entry<String, Object> entry : initialValues.entrySet()) {
                 add(entry.getKey(), entry.getValue());
@@ -88,12 +135,12 @@ class JsonObjectBuilderImpl implements JsonObjectBuilder, Serializable {
         } else if (value == null) {
             addNull(name);
         } else if (value instanceof Map) {
-            add(name, new JsonObjectBuilderImpl(Map.class.cast(value), bufferProvider, rejectDuplicateKeysMode).build());
+            add(name, new JsonObjectBuilderImpl(Map.class.cast(value), bufferProvider, rejectDuplicateKeysMode, persistent, stringCache).build());
         } else if (value instanceof Collection) {
-            add(name, new JsonArrayBuilderImpl(Collection.class.cast(value), bufferProvider, rejectDuplicateKeysMode).build());
+            add(name, new JsonArrayBuilderImpl(Collection.class.cast(value), bufferProvider, rejectDuplicateKeysMode, persistent, stringCache).build());
         } else if (value.getClass().isArray()) {
             final Collection<Object> collection = ArrayUtil.newCollection(value);
-            add(name, new JsonArrayBuilderImpl(collection, bufferProvider, rejectDuplicateKeysMode).build());
+            add(name, new JsonArrayBuilderImpl(collection, bufferProvider, rejectDuplicateKeysMode, persistent, stringCache).build());
         } else {
             throw new JsonException("Illegal JSON type! name=" + name + " type=" + value.getClass());
         }
@@ -107,7 +154,7 @@ class JsonObjectBuilderImpl implements JsonObjectBuilder, Serializable {
 
     @Override
     public JsonObjectBuilder add(final String name, final String value) {
-        putValue(name, new JsonStringImpl(value));
+        putValue(name, newString(value));
         return this;
     }
 
@@ -187,6 +234,9 @@ class JsonObjectBuilderImpl implements JsonObjectBuilder, Serializable {
 
     @Override
     public JsonObject build() {
+        if (persistent) {
+            return new JsonObjectImpl(attributeMap == null ? PersistentJsonMap.EMPTY : PersistentJsonMap.of(attributeMap), bufferProvider);
+        }
 
         if(attributeMap == null || attributeMap.isEmpty()) {
             return JsonValue.EMPTY_JSON_OBJECT;
@@ -36,6 +36,7 @@ final class JsonObjectImpl extends AbstractMap<String, JsonValue> implements Jso
     private final BufferStrategy.BufferProvider<char[]> provider;
 
     private transient Integer hashCode = null;
+    private transient volatile long contentHash; // 0 means not yet computed
     private final Map<String, JsonValue> unmodifieableBackingMap;
 
     private <T> T value(final String name, final Class<T> clazz) {
@@ -60,6 +61,26 @@ final class JsonObjectImpl extends AbstractMap<String, JsonValue> implements Jso
         this.provider = provider;
     }
 
+    JsonObjectImpl(final PersistentJsonMap backingMap, final BufferStrategy.BufferProvider<char[]> provider) {
+        this.unmodifieableBackingMap = backingMap;
+        this.provider = provider;
+    }
+
+    /**
+     * @return {@code true} if {@link #with(String, JsonValue)} and {@link #without(String)} share the unchanged values.
+     */
+    boolean isPersistent() {
+        return PersistentJsonMap.class.isInstance(unmodifieableBackingMap);
+    }
+
+    JsonObject with(final String name, final JsonValue value) {
+        return new JsonObjectImpl(PersistentJsonMap.of(unmodifieableBackingMap).with(name, value), provider);
+    }
+
+    JsonObject without(final String name) {
+        return new JsonObjectImpl(PersistentJsonMap.of(unmodifieableBackingMap).without(name), provider);
+    }
+
     @Override
     public JsonArray getJsonArray(final String name) {
         return value(name, JsonArray.class);
@@ -157,9 +178,34 @@ final class JsonObjectImpl extends AbstractMap<String, JsonValue> implements Jso
 
     @Override
     public boolean equals(final Object obj) {
-        return (JsonObjectImpl.class.isInstance(obj)
-                && unmodifieableBackingMap.equals(JsonObjectImpl.class.cast(obj).unmodifieableBackingMap))
-                || (Map.class.isInstance(obj) && unmodifieableBackingMap.equals(Map.class.cast(obj)));
+        if (obj == this) {
+            return true;
+        }
+        if (JsonObjectImpl.class.isInstance(obj)) {
+            final JsonObjectImpl other = JsonObjectImpl.class.cast(obj);
+            final long otherHash = other.contentHash;
+            final long hash = contentHash;
+            if (hash != 0 && otherHash != 0 && hash != otherHash) { // both already known, can't be equal
+                return false;
+            }
+            return unmodifieableBackingMap.equals(other.unmodifieableBackingMap);
+        }
+        return Map.class.isInstance(obj) && unmodifieableBackingMap.equals(Map.class.cast(obj));
+    }
+
+    /**
+     * @return the cached {@link JsonContentHash} of this object.
+     */
+    long contentHash() {
+        long h = contentHash;
+        if (h == 0) {
+            h = JsonContentHash.computeObject(this);
+            if (h == 0) {
+                h = 1;
+            }
+            contentHash = h;
+        }
+        return h;
     }
 
     @Override
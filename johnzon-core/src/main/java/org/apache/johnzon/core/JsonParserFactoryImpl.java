@@ -63,8 +63,8 @@ public class JsonParserFactoryImpl extends AbstractJsonFactory implements JsonPa
         }
 
         this.maxSize = getInt(MAX_STRING_LENGTH, DEFAULT_MAX_STRING_LENGTH);
-        this.bufferProvider = getBufferProvider().newCharProvider(bufferSize);
-        this.valueBufferProvider = getBufferProvider().newCharProvider(maxSize);
+        this.bufferProvider = getCharBufferProvider(bufferSize);
+        this.valueBufferProvider = getCharBufferProvider(maxSize);
         this.supportsComments = getBool(SUPPORTS_COMMENTS, DEFAULT_SUPPORTS_COMMENT);
         this.autoAdjustBuffers = getBool(AUTO_ADJUST_STRING_BUFFER, true);
         this.defaultEncoding = ofNullable(getString(ENCODING, null)).map(Charset::forName).orElse(null);
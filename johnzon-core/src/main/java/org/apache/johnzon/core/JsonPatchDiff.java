@@ -16,7 +16,13 @@
  */
 package org.apache.johnzon.core;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
@@ -30,6 +36,10 @@ import jakarta.json.spi.JsonProvider;
  * Create a diff from a source and target JsonStructure
  */
 class JsonPatchDiff extends DiffBase {
+    // arrays are diffed with an edit script (minimal patch) within this budget, else index by index
+    private static final int ARRAY_MAX_SIZE = Integer.getInteger("org.apache.johnzon.diff.array.max-size", 100_000);
+    private static final int ARRAY_MAX_EDIT_DISTANCE = Integer.getInteger("org.apache.johnzon.diff.array.max-edit-distance", 1024);
+    private static final long ARRAY_TIMEOUT = TimeUnit.MILLISECONDS.toNanos(Long.getLong("org.apache.johnzon.diff.array.timeout", 100L));
 
     private final JsonProvider provider;
     private final JsonStructure source;
@@ -50,31 +60,247 @@ class JsonPatchDiff extends DiffBase {
     }
 
     private void diff(JsonPatchBuilder patchBuilder, String basePath, JsonValue source, JsonValue target) {
+        if (isSame(source, target)) { // prunes identical subtrees
+            return;
+        }
         if (isJsonObject(source) && isJsonObject(target)) {
             diffJsonObjects(patchBuilder, basePath + "/", (JsonObject) source, (JsonObject) target);
         } else if (isJsonArray(source) && isJsonArray(target)) {
             diffJsonArray(patchBuilder, basePath + "/", (JsonArray) source, (JsonArray) target);
-        } else if (!source.equals(target)){
+        } else {
             patchBuilder.replace(basePath, target);
         }
     }
 
     private void diffJsonArray(JsonPatchBuilder patchBuilder, String basePath, JsonArray source, JsonArray target) {
-        for (int i = 0; i < source.size(); i++) {
-            final JsonValue sourceValue = source.get(i);
-            if (target.size() <= i) {
-                patchBuilder.remove(basePath + i);
-                continue;
+        // common prefix and suffix are cheap to detect and the most common case (appending/prepending)
+        int start = 0;
+        while (start < source.size() && start < target.size() && isSame(source.get(start), target.get(start))) {
+            start++;
+        }
+        int sourceEnd = source.size();
+        int targetEnd = target.size();
+        while (sourceEnd > start && targetEnd > start && isSame(source.get(sourceEnd - 1), target.get(targetEnd - 1))) {
+            sourceEnd--;
+            targetEnd--;
+        }
+        if (start == sourceEnd && start == targetEnd) {
+            return;
+        }
+
+        final List<JsonValue> sourceValues = source.subList(start, sourceEnd);
+        final List<JsonValue> targetValues = target.subList(start, targetEnd);
+        final byte[] script = sourceValues.size() + targetValues.size() > ARRAY_MAX_SIZE ?
+                null : ArrayEditScript.compute(sourceValues, targetValues, ARRAY_MAX_EDIT_DISTANCE, System.nanoTime() + ARRAY_TIMEOUT);
+        if (script == null) { // too expensive
+            diffJsonArrayByIndex(patchBuilder, basePath, start, sourceValues, targetValues);
+        } else {
+            applyScript(patchBuilder, basePath, start, sourceValues, targetValues, script);
+        }
+    }
+
+    // converts the edit script to operations, the simulated array (positions) tracks the index of each value when the patch is applied
+    private void applyScript(final JsonPatchBuilder patchBuilder, final String basePath, final int start,
+                             final List<JsonValue> source, final List<JsonValue> target, final byte[] script) {
+        final int[] pairedSource = new int[source.size()]; // 1 = modified in place, 2 = moved
+        final int[] targetOrigin = new int[target.size()]; // source index (+1) of a modified/moved value
+        matchMoves(source, target, script, pairedSource, targetOrigin);
+        matchModifications(script, pairedSource, targetOrigin);
+
+        // added and moved values are placed after the last handled one so they form a chain following the last value
+        // handled in place (or the array start): slots are ordered as the patched array and known before applying it
+        final int[] anchors = new int[target.size()]; // -1 = array start, else source index, only for placed values
+        final int[] chainSizes = new int[source.size() + 1];
+        int anchor = -1;
+        int i = 0;
+        int j = 0;
+        for (final byte op : script) {
+            switch (op) {
+                case ArrayEditScript.EQUAL:
+                    anchor = i++;
+                    j++;
+                    break;
+                case ArrayEditScript.DELETE:
+                    i++;
+                    break;
+                default: // INSERT
+                    final int origin = targetOrigin[j] - 1;
+                    if (origin >= 0 && pairedSource[origin] == 1) {
+                        anchor = origin;
+                    } else {
+                        anchors[j] = anchor;
+                        chainSizes[anchor + 1]++;
+                    }
+                    j++;
+            }
+        }
+        final int[] sourceSlots = new int[source.size()];
+        final int[] nextChainSlot = new int[source.size() + 1];
+        int slot = chainSizes[0];
+        for (int s = 0; s < source.size(); s++) {
+            sourceSlots[s] = slot++;
+            nextChainSlot[s + 1] = slot;
+            slot += chainSizes[s + 1];
+        }
+        final Positions positions = new Positions(slot, sourceSlots);
+
+        i = 0;
+        j = 0;
+        for (final byte op : script) {
+            switch (op) {
+                case ArrayEditScript.EQUAL:
+                    i++;
+                    j++;
+                    break;
+                case ArrayEditScript.DELETE:
+                    if (pairedSource[i] == 0) {
+                        patchBuilder.remove(basePath + (start + positions.indexOf(sourceSlots[i])));
+                        positions.remove(sourceSlots[i]);
+                    }
+                    i++;
+                    break;
+                default: // INSERT
+                    final int origin = targetOrigin[j] - 1;
+                    if (origin >= 0 && pairedSource[origin] == 1) {
+                        diff(patchBuilder, basePath + (start + positions.indexOf(sourceSlots[origin])), source.get(origin), target.get(j));
+                    } else {
+                        final int to = nextChainSlot[anchors[j] + 1]++;
+                        if (origin >= 0) {
+                            final int from = positions.indexOf(sourceSlots[origin]);
+                            positions.remove(sourceSlots[origin]);
+                            positions.add(to);
+                            final int index = positions.indexOf(to);
+                            if (from != index) {
+                                patchBuilder.move(basePath + (start + index), basePath + (start + from));
+                            }
+                        } else {
+                            positions.add(to);
+                            patchBuilder.add(basePath + (start + positions.indexOf(to)), target.get(j));
+                        }
+                    }
+                    j++;
+            }
+        }
+    }
+
+    // a deleted value equal to an inserted one is moved
+    private void matchMoves(final List<JsonValue> source, final List<JsonValue> target, final byte[] script,
+                            final int[] pairedSource, final int[] targetOrigin) {
+        final Map<JsonValue, Deque<Integer>> deleted = new HashMap<>();
+        int i = 0;
+        for (final byte op : script) {
+            if (op != ArrayEditScript.INSERT) {
+                if (op == ArrayEditScript.DELETE) {
+                    deleted.computeIfAbsent(source.get(i), k -> new ArrayDeque<>()).add(i);
+                }
+                i++;
+            }
+        }
+        if (deleted.isEmpty()) {
+            return;
+        }
+        int j = 0;
+        for (final byte op : script) {
+            if (op != ArrayEditScript.DELETE) {
+                if (op == ArrayEditScript.INSERT) {
+                    final Deque<Integer> candidates = deleted.get(target.get(j));
+                    if (candidates != null && !candidates.isEmpty()) {
+                        final int origin = candidates.poll();
+                        pairedSource[origin] = 2;
+                        targetOrigin[j] = origin + 1;
+                    }
+                }
+                j++;
+            }
+        }
+    }
+
+    // in a block of changes, remaining deletions and insertions are paired and diffed (nested changes)
+    private void matchModifications(final byte[] script, final int[] pairedSource, final int[] targetOrigin) {
+        final List<Integer> deletions = new ArrayList<>();
+        final List<Integer> insertions = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        for (int op = 0; op <= script.length; op++) {
+            if (op == script.length || script[op] == ArrayEditScript.EQUAL) {
+                for (int p = 0; p < Math.min(deletions.size(), insertions.size()); p++) {
+                    pairedSource[deletions.get(p)] = 1;
+                    targetOrigin[insertions.get(p)] = deletions.get(p) + 1;
+                }
+                deletions.clear();
+                insertions.clear();
+                i++;
+                j++;
+            } else if (script[op] == ArrayEditScript.DELETE) {
+                if (pairedSource[i] == 0) {
+                    deletions.add(i);
+                }
+                i++;
+            } else {
+                if (targetOrigin[j] == 0) {
+                    insertions.add(j);
+                }
+                j++;
+            }
+        }
+    }
+
+    // source and target are the values between the common prefix (of size start) and suffix
+    private void diffJsonArrayByIndex(final JsonPatchBuilder patchBuilder, final String basePath, final int start,
+                                      final List<JsonValue> source, final List<JsonValue> target) {
+        final int common = Math.min(source.size(), target.size());
+        for (int i = 0; i < common; i++) {
+            diff(patchBuilder, basePath + (start + i), source.get(i), target.get(i));
+        }
+
+        // from the end to keep the indices valid
+        for (int i = source.size() - 1; i >= common; i--) {
+            patchBuilder.remove(basePath + (start + i));
+        }
+
+        for (int i = common; i < target.size(); i++) {
+            patchBuilder.add(basePath + (start + i), target.get(i));
+        }
+    }
+
+    // Fenwick tree counting the values present in each slot, the index of a value is the number of values before its slot
+    private static final class Positions {
+        private final int[] tree;
+
+        private Positions(final int size, final int[] present) {
+            tree = new int[size + 1];
+            for (final int slot : present) {
+                tree[slot + 1] = 1;
+            }
+            for (int i = 1; i <= size; i++) { // linear build
+                final int parent = i + (i & -i);
+                if (parent <= size) {
+                    tree[parent] += tree[i];
+                }
             }
-            diff(patchBuilder, basePath + i, sourceValue, target.get(i));
         }
 
-        if (target.size() > source.size()) {
-            for (int i = source.size(); i < target.size(); i++) {
-                patchBuilder.add(basePath + i, target.get(i));
+        private void add(final int slot) {
+            update(slot, 1);
+        }
+
+        private void remove(final int slot) {
+            update(slot, -1);
+        }
+
+        private int indexOf(final int slot) {
+            int count = 0;
+            for (int i = slot; i > 0; i -= i & -i) {
+                count += tree[i];
             }
+            return count;
         }
 
+        private void update(final int slot, final int delta) {
+            for (int i = slot + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
     }
 
     private void diffJsonObjects(JsonPatchBuilder patchBuilder, String basePath, JsonObject source, JsonObject target) {
@@ -19,9 +19,12 @@
 package org.apache.johnzon.core;
 
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonArrayBuilder;
@@ -57,6 +60,15 @@ class JsonPatchImpl implements JsonPatch {
 
     @Override
     public <T extends JsonStructure> T apply(T target) {
+        if (target == null) {
+            throw new NullPointerException("target must not be null");
+        }
+        if (patches.isEmpty()) {
+            return target;
+        }
+        if (WorkingCopy.supports(target, patches)) {
+            return (T) new WorkingCopy(provider, target).apply(patches);
+        }
 
         //X TODO JsonPointer should use generics like JsonPatch
         JsonStructure patched = target;
@@ -71,8 +83,7 @@ class JsonPatchImpl implements JsonPatch {
                     patched = patch.pathPointer.remove(patched);
                     break;
                 case REPLACE:
-                    // first remove the existing element and then add the new value
-                    patched = patch.pathPointer.add(patch.pathPointer.remove(patched), patch.value);
+                    patched = patch.pathPointer.replace(patched, patch.value);
                     break;
                 case MOVE:
                     JsonValue valueToMove = patch.fromPointer.getValue(patched);
@@ -257,4 +268,333 @@ class JsonPatchImpl implements JsonPatch {
         }
     }
 
+    /**
+     * Applies all the operations on a mutable copy of the target which is frozen once at the end.
+     * Only the containers on modified paths are copied (thawed), other values are reused as they are.
+     * It follows exactly the semantic of the operation by operation application (JsonPointerImpl)
+     * and relies on it to throw the same errors.
+     */
+    private static final class WorkingCopy {
+        private final JsonProvider provider;
+        private Object root; // JsonValue or MutableObject/MutableArray
+
+        private WorkingCopy(final JsonProvider provider, final JsonStructure target) {
+            this.provider = provider;
+            this.root = target;
+        }
+
+        // persistent structures already share values so they are patched operation by operation
+        private static boolean supports(final JsonStructure target, final List<PatchValue> patches) {
+            if ((JsonObjectImpl.class.isInstance(target) && JsonObjectImpl.class.cast(target).isPersistent()) ||
+                    (JsonArrayImpl.class.isInstance(target) && JsonArrayImpl.class.cast(target).isPersistent())) {
+                return false;
+            }
+            for (final PatchValue patch : patches) {
+                if (!JsonPointerImpl.class.isInstance(patch.pathPointer) ||
+                        (patch.fromPointer != null && !JsonPointerImpl.class.isInstance(patch.fromPointer))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private JsonStructure apply(final List<PatchValue> patches) {
+            for (final PatchValue patch : patches) {
+                final JsonPointerImpl path = JsonPointerImpl.class.cast(patch.pathPointer);
+                switch (patch.operation) {
+                    case ADD:
+                        add(path, patch.value);
+                        break;
+                    case REMOVE:
+                        remove(path);
+                        break;
+                    case REPLACE:
+                        replace(path, patch.value);
+                        break;
+                    case MOVE:
+                        final JsonPointerImpl from = JsonPointerImpl.class.cast(patch.fromPointer);
+                        get(from); // validation
+                        add(path, remove(from));
+                        break;
+                    case COPY: // the copy can be modified by the next operations independently of its source
+                        add(path, copy(get(JsonPointerImpl.class.cast(patch.fromPointer))));
+                        break;
+                    case TEST:
+                        if (!equal(get(path), patch.value)) {
+                            throw new JsonException("JsonPatch.Operation.TEST fails! Values are not equal");
+                        }
+                        break;
+                    default:
+                        throw new IllegalStateException("unsupported operation: " + patch.operation);
+                }
+            }
+            return JsonStructure.class.cast(freeze(root));
+        }
+
+        private void add(final JsonPointerImpl pointer, final Object value) {
+            final int last = pointer.getTokenCount() - 1;
+            if (last == 0) {
+                root = JsonStructure.class.cast(freeze(value));
+                return;
+            }
+
+            Object holder = null;
+            Object current = root;
+            for (int i = 1; i < last; i++) {
+                if (!isStructure(current)) { // JsonPointerImpl ignores the addition in that case
+                    return;
+                }
+                final Object child = child(current, pointer, i);
+                if (child == null) {
+                    throw fail(pointer, () -> pointer.add(frozenRoot(), freeze(value)));
+                }
+                current = thaw(holder, pointer, i - 1, current);
+                holder = current;
+                current = child;
+            }
+            if (!isStructure(current)) {
+                return;
+            }
+            final Object mutableParent = thaw(holder, pointer, last - 1, current);
+
+            final String token = pointer.getToken(last);
+            if (mutableParent instanceof MutableObject) {
+                MutableObject.class.cast(mutableParent).add(token, value);
+            } else {
+                final List<Object> values = MutableArray.class.cast(mutableParent).values;
+                final int index = pointer.getIndex(last);
+                if (index == JsonPointerImpl.END_OF_ARRAY) {
+                    values.add(value);
+                } else if (index >= 0 && index <= values.size()) {
+                    values.add(index, value);
+                } else {
+                    throw fail(pointer, () -> pointer.add(frozenRoot(), freeze(value)));
+                }
+            }
+        }
+
+        private Object remove(final JsonPointerImpl pointer) {
+            final Object parent = thawParent(pointer, () -> pointer.remove(frozenRoot()));
+            final int last = pointer.getTokenCount() - 1;
+            if (parent instanceof MutableObject) {
+                return MutableObject.class.cast(parent).remove(pointer.getToken(last));
+            }
+            return MutableArray.class.cast(parent).values.remove(pointer.getIndex(last));
+        }
+
+        private void replace(final JsonPointerImpl pointer, final Object value) {
+            final Object parent = thawParent(pointer, () -> pointer.replace(frozenRoot(), freeze(value)));
+            final int last = pointer.getTokenCount() - 1;
+            if (parent instanceof MutableObject) { // same ordering than a removal followed by an addition
+                final MutableObject object = MutableObject.class.cast(parent);
+                final String key = pointer.getToken(last);
+                object.remove(key);
+                object.add(key, value);
+            } else {
+                MutableArray.class.cast(parent).values.set(pointer.getIndex(last), value);
+            }
+        }
+
+        private Object get(final JsonPointerImpl pointer) {
+            Object current = root;
+            for (int i = 1; i < pointer.getTokenCount(); i++) {
+                current = child(current, pointer, i);
+                if (current == null) {
+                    throw fail(pointer, () -> pointer.getValue(frozenRoot()));
+                }
+            }
+            return current;
+        }
+
+        // ensures the referenced value exists (else fails as JsonPointerImpl) and returns its thawed parent
+        private Object thawParent(final JsonPointerImpl pointer, final Runnable error) {
+            final int count = pointer.getTokenCount();
+            if (count == 1) { // the root
+                throw fail(pointer, error);
+            }
+            Object holder = null;
+            Object current = root;
+            for (int i = 1; i < count; i++) {
+                final Object child = child(current, pointer, i);
+                if (child == null) {
+                    throw fail(pointer, error);
+                }
+                current = thaw(holder, pointer, i - 1, current);
+                holder = current;
+                current = child;
+            }
+            return holder;
+        }
+
+        // replaces the immutable structure by a mutable one in its holder (or the root)
+        private Object thaw(final Object holder, final JsonPointerImpl pointer, final int position, final Object value) {
+            if (value instanceof MutableObject || value instanceof MutableArray) {
+                return value;
+            }
+            final Object mutable;
+            if (value instanceof JsonObject) {
+                mutable = new MutableObject(JsonObject.class.cast(value));
+            } else {
+                mutable = new MutableArray(JsonArray.class.cast(value));
+            }
+            if (holder == null) {
+                root = mutable;
+            } else if (holder instanceof MutableObject) {
+                MutableObject.class.cast(holder).values.put(pointer.getToken(position), mutable);
+            } else {
+                MutableArray.class.cast(holder).values.set(pointer.getIndex(position), mutable);
+            }
+            return mutable;
+        }
+
+        // null if missing
+        private Object child(final Object parent, final JsonPointerImpl pointer, final int position) {
+            if (parent instanceof MutableObject) {
+                return MutableObject.class.cast(parent).values.get(pointer.getToken(position));
+            }
+            if (parent instanceof MutableArray) {
+                return at(MutableArray.class.cast(parent).values, pointer.getIndex(position));
+            }
+            if (parent instanceof JsonObject) {
+                return JsonObject.class.cast(parent).get(pointer.getToken(position));
+            }
+            if (parent instanceof JsonArray) {
+                return at(JsonArray.class.cast(parent), pointer.getIndex(position));
+            }
+            return null;
+        }
+
+        private static Object at(final List<?> list, final int index) {
+            return index < 0 || index >= list.size() ? null : list.get(index);
+        }
+
+        private static boolean isStructure(final Object value) {
+            return value instanceof MutableObject || value instanceof MutableArray ||
+                    value instanceof JsonObject || value instanceof JsonArray;
+        }
+
+        private JsonStructure frozenRoot() {
+            return JsonStructure.class.cast(freeze(root));
+        }
+
+        private JsonValue freeze(final Object value) {
+            if (value instanceof MutableObject) {
+                final MutableObject object = MutableObject.class.cast(value);
+                final JsonObjectBuilder builder = provider.createObjectBuilder();
+                for (final String key : object.keys) {
+                    builder.add(key, freeze(object.values.get(key)));
+                }
+                return builder.build();
+            }
+            if (value instanceof MutableArray) {
+                final JsonArrayBuilder builder = provider.createArrayBuilder();
+                for (final Object item : MutableArray.class.cast(value).values) {
+                    builder.add(freeze(item));
+                }
+                return builder.build();
+            }
+            return JsonValue.class.cast(value);
+        }
+
+        // mutable containers are duplicated, immutable values are shared
+        private static Object copy(final Object value) {
+            if (value instanceof MutableObject) {
+                final MutableObject object = MutableObject.class.cast(value);
+                final Map<String, Object> values = new HashMap<>(object.values.size());
+                for (final Map.Entry<String, Object> entry : object.values.entrySet()) {
+                    values.put(entry.getKey(), copy(entry.getValue()));
+                }
+                return new MutableObject(new ArrayList<>(object.keys), values);
+            }
+            if (value instanceof MutableArray) {
+                final List<Object> items = MutableArray.class.cast(value).values;
+                final List<Object> values = new ArrayList<>(items.size());
+                for (final Object item : items) {
+                    values.add(copy(item));
+                }
+                return new MutableArray(values);
+            }
+            return value;
+        }
+
+        // same result than freeze(value).equals(expected) without building the frozen value
+        private static boolean equal(final Object value, final JsonValue expected) {
+            if (value instanceof MutableObject) {
+                if (expected == null || expected.getValueType() != JsonValue.ValueType.OBJECT) {
+                    return false;
+                }
+                final Map<String, Object> values = MutableObject.class.cast(value).values;
+                final JsonObject object = expected.asJsonObject();
+                if (values.size() != object.size()) {
+                    return false;
+                }
+                for (final Map.Entry<String, Object> entry : values.entrySet()) {
+                    if (!equal(entry.getValue(), object.get(entry.getKey()))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            if (value instanceof MutableArray) {
+                if (expected == null || expected.getValueType() != JsonValue.ValueType.ARRAY) {
+                    return false;
+                }
+                final List<Object> values = MutableArray.class.cast(value).values;
+                final JsonArray array = expected.asJsonArray();
+                if (values.size() != array.size()) {
+                    return false;
+                }
+                for (int i = 0; i < values.size(); i++) {
+                    if (!equal(values.get(i), array.get(i))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return value.equals(expected);
+        }
+
+        private JsonException fail(final JsonPointerImpl pointer, final Runnable error) {
+            error.run(); // throws the same error than the operation by operation application
+            return new JsonException("Invalid pointer '" + pointer.getJsonPointer() + "'");
+        }
+    }
+
+    private static final class MutableObject {
+        private final List<String> keys;
+        private final Map<String, Object> values;
+
+        private MutableObject(final JsonObject object) {
+            this(new ArrayList<>(object.keySet()), new HashMap<>(object));
+        }
+
+        private MutableObject(final List<String> keys, final Map<String, Object> values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        // same ordering than JsonPointerImpl: a new member is added after the first existing one
+        private void add(final String key, final Object value) {
+            if (values.put(key, value) == null) {
+                keys.add(keys.isEmpty() ? 0 : 1, key);
+            }
+        }
+
+        private Object remove(final String key) {
+            keys.remove(key);
+            return values.remove(key);
+        }
+    }
+
+    private static final class MutableArray {
+        private final List<Object> values;
+
+        private MutableArray(final JsonArray array) {
+            this(new ArrayList<>(array));
+        }
+
+        private MutableArray(final List<Object> values) {
+            this.values = values;
+        }
+    }
 }
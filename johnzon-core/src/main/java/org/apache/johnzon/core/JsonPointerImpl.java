@@ -19,7 +19,6 @@
 package org.apache.johnzon.core;
 
 import jakarta.json.JsonArray;
-import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
@@ -28,19 +27,22 @@ import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
 import jakarta.json.spi.JsonProvider;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.regex.Pattern;
 
 
-public class JsonPointerImpl implements JsonPointer {
+public class JsonPointerImpl implements JsonPointer, Serializable {
 
     private final JsonProvider provider;
     private final String jsonPointer;
     private final List<String> referenceTokens = new ArrayList<>();
-    private static final Pattern IS_NUMBER = Pattern.compile("\\d+");
+
+    // precompiled form of referenceTokens: array index of each token (or NOT_AN_INDEX/END_OF_ARRAY)
+    static final int NOT_AN_INDEX = -1;
+    static final int END_OF_ARRAY = -2;
+    private final int[] indices;
 
     /**
      * Constructs and initializes a JsonPointer.
@@ -65,6 +67,11 @@ public class JsonPointerImpl implements JsonPointer {
         for (String encodedReferenceToken : encodedReferenceTokens) {
             referenceTokens.add(JsonPointerUtil.decode(encodedReferenceToken));
         }
+
+        this.indices = new int[referenceTokens.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = toIndex(referenceTokens.get(i));
+        }
     }
 
     /**
@@ -114,6 +121,12 @@ public class JsonPointerImpl implements JsonPointer {
             return target;
         }
 
+        final JsonValue found = find(target);
+        if (found != null) {
+            return found;
+        }
+
+        // missing value, walk again to throw the relevant error
         JsonValue jsonValue = target;
         for (int i = 1; i < referenceTokens.size(); i++) {
             jsonValue = getValue(jsonValue, referenceTokens.get(i), i, referenceTokens.size() - 1);
@@ -123,12 +136,40 @@ public class JsonPointerImpl implements JsonPointer {
 
     @Override
     public boolean containsValue(JsonStructure target) {
-        try {
-            getValue(target);
-            return true;
-        } catch (JsonException je) {
-            return false;
+        return target != null && find(target) != null;
+    }
+
+    /**
+     * Exception free alternative to {@link #getValue(JsonStructure)}.
+     *
+     * @param target the target referenced by this {@code JsonPointer}
+     * @return the referenced value or {@code null} if it does not exist.
+     * @throws NullPointerException if {@code target} is null
+     */
+    public JsonValue find(final JsonValue target) {
+        if (target == null) {
+            throw new NullPointerException("target must not be null");
+        }
+
+        JsonValue current = target;
+        for (int i = 1; i < indices.length; i++) {
+            if (current instanceof JsonObject) {
+                current = ((JsonObject) current).get(referenceTokens.get(i));
+                if (current == null) {
+                    return null;
+                }
+            } else if (current instanceof JsonArray) {
+                final JsonArray array = (JsonArray) current;
+                final int index = indices[i];
+                if (index < 0 || index >= array.size()) {
+                    return null;
+                }
+                current = array.get(index);
+            } else {
+                return null;
+            }
         }
+        return current;
     }
 
     /**
@@ -234,7 +275,9 @@ public class JsonPointerImpl implements JsonPointer {
      * @see #replace(JsonStructure, JsonValue)
      */
     public JsonObject replace(JsonObject target, JsonValue value) {
-        return add(remove(target), value);
+        validateRemove(target);
+
+        return replace(target, value, 1).asJsonObject();
     }
 
     /**
@@ -249,7 +292,9 @@ public class JsonPointerImpl implements JsonPointer {
      * @see #replace(JsonStructure, JsonValue)
      */
     public JsonArray replace(JsonArray target, JsonValue value) {
-        return add(remove(target), value);
+        validateRemove(target);
+
+        return replace(target, value, 1).asJsonArray();
     }
 
     /**
@@ -304,6 +349,24 @@ public class JsonPointerImpl implements JsonPointer {
         return jsonPointer;
     }
 
+    /**
+     * @return number of reference tokens, including the leading empty one (root).
+     */
+    int getTokenCount() {
+        return indices.length;
+    }
+
+    String getToken(final int position) {
+        return referenceTokens.get(position);
+    }
+
+    /**
+     * @return the array index of the token at this position, {@link #END_OF_ARRAY} for "-" or {@link #NOT_AN_INDEX}.
+     */
+    int getIndex(final int position) {
+        return indices[position];
+    }
+
     @Override
     public String toString() {
         return "JsonPointerImpl{" +
@@ -335,161 +398,177 @@ public class JsonPointerImpl implements JsonPointer {
             if (jsonValue != null) {
                 return jsonValue;
             }
-            throw new JsonException("'" + jsonObject + "' contains no value for name '" + referenceToken + "'");
+            throw new JsonException("'" + jsonPointer + "': no value for name '" + referenceToken + "'");
         } else if (jsonValue instanceof JsonArray) {
-            validateArrayIndex(referenceToken);
-
-            try {
-                JsonArray jsonArray = (JsonArray) jsonValue;
-                int arrayIndex = getArrayIndex(referenceToken, jsonArray, false);
-                return jsonArray.get(arrayIndex);
-            } catch (NumberFormatException e) {
-                throw new JsonException("'" + referenceToken + "' is no valid array index", e);
-            }
+            final JsonArray jsonArray = (JsonArray) jsonValue;
+            return jsonArray.get(getArrayIndex(currentPosition, jsonArray, false));
         } else {
             if (currentPosition != referencePosition) {
                 return jsonValue;
             }
-            throw new JsonException("'" + jsonValue + "' contains no element for '" + referenceToken + "'");
+            throw new JsonException("'" + jsonPointer + "': " + jsonValue.getValueType() + " contains no element for '" + referenceToken + "'");
         }
     }
 
     private <T extends JsonStructure> T addInternal(T jsonValue, JsonValue newValue) {
-        List<String> currentPath = new ArrayList<>();
-        currentPath.add("");
-
-        return (T) addInternal(jsonValue, newValue, currentPath, true);
+        return (T) add(jsonValue, newValue, 1);
     }
 
-    private JsonValue addInternal(JsonValue jsonValue, JsonValue newValue, List<String> currentPath,
-                                  boolean check) {
+    // only the structures on the pointer path are rebuilt, all other values are reused as they are
+    private JsonValue add(final JsonValue jsonValue, final JsonValue newValue, final int currentPosition) {
+        final String token = referenceTokens.get(currentPosition);
+        final boolean last = currentPosition == referenceTokens.size() - 1;
         if (jsonValue.getValueType() == JsonValue.ValueType.OBJECT) {
-            JsonObject jsonObject = jsonValue.asJsonObject();
-            if (!check) {
-                return provider.createObjectBuilder(jsonObject).build();
+            final JsonObject jsonObject = jsonValue.asJsonObject();
+            if (last) {
+                return with(jsonObject, token, newValue);
             }
-
-            JsonObjectBuilder objectBuilder = provider.createObjectBuilder();
-
-            if (jsonObject.isEmpty() && isPositionToAdd(currentPath)) {
-                objectBuilder.add(referenceTokens.get(referenceTokens.size() - 1), newValue);
-            } else {
-                for (Map.Entry<String, JsonValue> entry : jsonObject.entrySet()) {
-
-                    currentPath.add(entry.getKey());
-                    objectBuilder.add(entry.getKey(), addInternal(entry.getValue(), newValue, currentPath, canMatch(currentPath)));
-                    currentPath.remove(entry.getKey());
-
-                    if (isPositionToAdd(currentPath)) {
-                        objectBuilder.add(referenceTokens.get(referenceTokens.size() - 1), newValue);
-                    }
-                }
+            final JsonValue child = jsonObject.get(token);
+            if (child == null) {
+                return jsonObject;
             }
-            return objectBuilder.build();
+            return with(jsonObject, token, add(child, newValue, currentPosition + 1));
         } else if (jsonValue.getValueType() == JsonValue.ValueType.ARRAY) {
-            JsonArray jsonArray = jsonValue.asJsonArray();
-            if (!check) {
-                return provider.createArrayBuilder(jsonArray).build();
+            final JsonArray jsonArray = jsonValue.asJsonArray();
+            if (last) {
+                return insert(jsonArray, getArrayIndex(currentPosition, jsonArray, true), newValue);
             }
-            JsonArrayBuilder arrayBuilder = provider.createArrayBuilder();
+            final int arrayIndex = getArrayIndex(currentPosition, jsonArray, false);
+            return with(jsonArray, arrayIndex, add(jsonArray.get(arrayIndex), newValue, currentPosition + 1));
+        }
+        return jsonValue;
+    }
 
-            int arrayIndex = -1;
-            if (isPositionToAdd(currentPath)) {
-                arrayIndex = getArrayIndex(referenceTokens.get(referenceTokens.size() - 1), jsonArray, canMatch(currentPath));
+    // value is already validated to exist, only the path to the value is rebuilt once
+    private JsonValue replace(final JsonValue jsonValue, final JsonValue newValue, final int currentPosition) {
+        final String token = referenceTokens.get(currentPosition);
+        final boolean last = currentPosition == referenceTokens.size() - 1;
+        if (jsonValue.getValueType() == JsonValue.ValueType.OBJECT) {
+            final JsonObject jsonObject = jsonValue.asJsonObject();
+            final JsonValue child = jsonObject.get(token);
+            if (child == null) {
+                return jsonObject;
             }
-
-            int jsonArraySize = jsonArray.size();
-            for (int i = 0; i <= jsonArraySize; i++) {
-                if (i == arrayIndex) {
-                    arrayBuilder.add(newValue);
-                }
-                if (i == jsonArraySize) {
-                    break;
-                }
-
-                String path = String.valueOf(i);
-                currentPath.add(path);
-                arrayBuilder.add(addInternal(jsonArray.get(i), newValue, currentPath, canMatch(currentPath)));
-                currentPath.remove(path);
+            if (last) { // same ordering than a removal followed by an addition
+                return with(without(jsonObject, token), token, newValue);
             }
-            return arrayBuilder.build();
+            return with(jsonObject, token, replace(child, newValue, currentPosition + 1));
+        } else if (jsonValue.getValueType() == JsonValue.ValueType.ARRAY) {
+            final JsonArray jsonArray = jsonValue.asJsonArray();
+            final int arrayIndex = getArrayIndex(currentPosition, jsonArray, false);
+            return with(jsonArray, arrayIndex, last ? newValue : replace(jsonArray.get(arrayIndex), newValue, currentPosition + 1));
         }
         return jsonValue;
     }
 
-    private boolean isPositionToAdd(List<String> currentPath) {
-        return currentPath.size() == referenceTokens.size() - 1 &&
-                currentPath.get(currentPath.size() - 1).equals(referenceTokens.get(referenceTokens.size() - 2));
-    }
-
-    private boolean canMatch(final List<String> currentPath) {
-        return currentPath.size() <= referenceTokens.size() &&
-                Objects.equals(currentPath.get(currentPath.size() - 1), referenceTokens.get(currentPath.size() - 1));
-    }
-
     private JsonValue remove(final JsonValue jsonValue, final int currentPosition) {
         if (referenceTokens.size() <= currentPosition) { // unlikely
             return jsonValue;
         }
 
         final String token = referenceTokens.get(currentPosition);
+        final boolean last = currentPosition == referenceTokens.size() - 1;
         if (jsonValue.getValueType() == JsonValue.ValueType.OBJECT) {
             final JsonObject jsonObject = jsonValue.asJsonObject();
-            final JsonObjectBuilder objectBuilder = provider.createObjectBuilder();
-            for (final Map.Entry<String, JsonValue> entry : jsonObject.entrySet()) {
-                final boolean matchesToken = token.equals(entry.getKey());
-                if (matchesToken && currentPosition == referenceTokens.size() - 1) {
-                    continue;
-                }
-                if (matchesToken) {
-                    objectBuilder.add(
-                            entry.getKey(),
-                            remove(entry.getValue(), currentPosition + 1));
-                } else {
-                    objectBuilder.add(entry.getKey(), entry.getValue());
-                }
+            final JsonValue child = jsonObject.get(token);
+            if (child == null) {
+                return jsonObject;
+            }
+            if (last) {
+                return without(jsonObject, token);
             }
-            return objectBuilder.build();
+            return with(jsonObject, token, remove(child, currentPosition + 1));
         } else if (jsonValue.getValueType() == JsonValue.ValueType.ARRAY) {
             final JsonArray jsonArray = jsonValue.asJsonArray();
-            if ("-".equals(token) || IS_NUMBER.matcher(token).matches()) {
-                final int arrayIndex = getArrayIndex(token, jsonArray, false);
-                final JsonArrayBuilder arrayBuilder = provider.createArrayBuilder();
-                final int jsonArraySize = jsonArray.size();
-                for (int i = 0; i < jsonArraySize; i++) {
-                    final boolean matchesIndex = i == arrayIndex;
-                    if (matchesIndex && currentPosition != referenceTokens.size() - 1) {
-                        arrayBuilder.add(remove(jsonArray.get(i), currentPosition + 1));
-                    } else if (!matchesIndex) {
-                        arrayBuilder.add(jsonArray.get(i));
-                    }
-                }
-                return arrayBuilder.build();
-            } // else?
-            return jsonArray;
+            final int arrayIndex = getArrayIndex(currentPosition, jsonArray, false);
+            if (last) {
+                return without(jsonArray, arrayIndex);
+            }
+            return with(jsonArray, arrayIndex, remove(jsonArray.get(arrayIndex), currentPosition + 1));
         }
         return jsonValue;
     }
 
-    private int getArrayIndex(String referenceToken, JsonArray jsonArray, boolean addOperation) {
-        if (addOperation && referenceToken.equals("-")) {
-            return jsonArray.size();
+    private JsonObject with(final JsonObject jsonObject, final String name, final JsonValue value) {
+        if (JsonObjectImpl.class.isInstance(jsonObject) && JsonObjectImpl.class.cast(jsonObject).isPersistent()) {
+            return JsonObjectImpl.class.cast(jsonObject).with(name, value);
+        }
+        if (jsonObject.isEmpty() || jsonObject.containsKey(name)) {
+            return provider.createObjectBuilder(jsonObject).add(name, value).build();
+        }
+        // keep the historical ordering: a new member is added after the first existing one
+        final JsonObjectBuilder builder = provider.createObjectBuilder();
+        boolean first = true;
+        for (final Map.Entry<String, JsonValue> entry : jsonObject.entrySet()) {
+            builder.add(entry.getKey(), entry.getValue());
+            if (first) {
+                builder.add(name, value);
+                first = false;
+            }
+        }
+        return builder.build();
+    }
+
+    private JsonObject without(final JsonObject jsonObject, final String name) {
+        if (JsonObjectImpl.class.isInstance(jsonObject) && JsonObjectImpl.class.cast(jsonObject).isPersistent()) {
+            return JsonObjectImpl.class.cast(jsonObject).without(name);
+        }
+        return provider.createObjectBuilder(jsonObject).remove(name).build();
+    }
+
+    private JsonArray with(final JsonArray jsonArray, final int index, final JsonValue value) {
+        if (JsonArrayImpl.class.isInstance(jsonArray) && JsonArrayImpl.class.cast(jsonArray).isPersistent()) {
+            return JsonArrayImpl.class.cast(jsonArray).with(index, value);
+        }
+        return provider.createArrayBuilder(jsonArray).set(index, value).build();
+    }
 
-        } else if (!addOperation && referenceToken.equals("-")) {
+    private JsonArray insert(final JsonArray jsonArray, final int index, final JsonValue value) {
+        if (JsonArrayImpl.class.isInstance(jsonArray) && JsonArrayImpl.class.cast(jsonArray).isPersistent()) {
+            return JsonArrayImpl.class.cast(jsonArray).insert(index, value);
+        }
+        return provider.createArrayBuilder(jsonArray).add(index, value).build();
+    }
+
+    private JsonArray without(final JsonArray jsonArray, final int index) {
+        if (JsonArrayImpl.class.isInstance(jsonArray) && JsonArrayImpl.class.cast(jsonArray).isPersistent()) {
+            return JsonArrayImpl.class.cast(jsonArray).without(index);
+        }
+        return provider.createArrayBuilder(jsonArray).remove(index).build();
+    }
+
+    private int getArrayIndex(final int position, final JsonArray jsonArray, final boolean addOperation) {
+        final String referenceToken = referenceTokens.get(position);
+        final int index = indices[position];
+        if (index == END_OF_ARRAY) {
             final int arrayIndex = jsonArray.size();
-            validateArraySize(referenceToken, jsonArray, arrayIndex, jsonArray.size());
+            if (!addOperation) {
+                validateArraySize(referenceToken, jsonArray, arrayIndex, jsonArray.size());
+            }
             return arrayIndex;
         }
+        if (index == NOT_AN_INDEX) {
+            validateArrayIndex(referenceToken);
+            throw new JsonException("'" + referenceToken + "' is no valid array index");
+        }
 
-        validateArrayIndex(referenceToken);
+        final int arraySize = addOperation ? jsonArray.size() + 1 : jsonArray.size();
+        validateArraySize(referenceToken, jsonArray, index, arraySize);
+        return index;
+    }
 
+    private static int toIndex(final String referenceToken) {
+        if (referenceToken.equals("-")) {
+            return END_OF_ARRAY;
+        }
+        if (referenceToken.length() > 1 && (referenceToken.startsWith("-") || referenceToken.startsWith("0"))) {
+            return NOT_AN_INDEX;
+        }
         try {
-            int arrayIndex = Integer.parseInt(referenceToken);
-            int arraySize = addOperation ? jsonArray.size() + 1 : jsonArray.size();
-            validateArraySize(referenceToken, jsonArray, arrayIndex, arraySize);
-            return arrayIndex;
+            final int index = Integer.parseInt(referenceToken);
+            return index < 0 ? NOT_AN_INDEX : index;
         } catch (final NumberFormatException e) {
-            throw new JsonException("'" + referenceToken + "' is no valid array index", e);
+            return NOT_AN_INDEX;
         }
     }
 
@@ -517,10 +596,11 @@ public class JsonPointerImpl implements JsonPointer {
                                    final int arrayIndex, final int arraySize) throws JsonException {
 
         if (arrayIndex >= arraySize) {
-            throw new JsonException("'" + jsonArray + "' contains no element for index " + arrayIndex + " and for '" + referenceToken + "'.");
+            throw new JsonException("'" + jsonPointer + "': array of size " + jsonArray.size() +
+                    " contains no element for index " + arrayIndex + " and for '" + referenceToken + "'.");
         }
         if (arrayIndex < 0) {
-            throw new JsonException(arrayIndex + " is not a valid index for array '" + jsonArray + "' and for '" + referenceToken + "'.");
+            throw new JsonException("'" + jsonPointer + "': " + arrayIndex + " is not a valid index for '" + referenceToken + "'.");
         }
     }
 
@@ -26,7 +26,11 @@ import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import jakarta.json.JsonArray;
@@ -52,75 +56,86 @@ import jakarta.json.stream.JsonGeneratorFactory;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParserFactory;
 
+import static java.util.Arrays.asList;
+
 public class JsonProviderImpl extends JsonProvider implements Serializable {
     private final Supplier<BufferStrategy.BufferProvider<char[]>> bufferProvider = new Cached<>(() ->
-        BufferStrategyFactory.valueOf(System.getProperty(AbstractJsonFactory.BUFFER_STRATEGY, "QUEUE"))
-            .newCharProvider(Integer.getInteger("org.apache.johnzon.default-char-provider.length", 1024)));
+        AbstractJsonFactory.sharedCharProvider(System.getProperty(AbstractJsonFactory.BUFFER_STRATEGY, "QUEUE"),
+            Integer.getInteger("org.apache.johnzon.default-char-provider.length", 1024)));
 
-    private final JsonReaderFactory readerFactory = new JsonReaderFactoryImpl(null);
-    private final JsonParserFactory parserFactory = new JsonParserFactoryImpl(null);
-    private final JsonGeneratorFactory generatorFactory = new JsonGeneratorFactoryImpl(null);
-    private final JsonWriterFactory writerFactory = new JsonWriterFactoryImpl(null);
+    private final Supplier<JsonReaderFactory> readerFactory = new Cached<>(() -> new JsonReaderFactoryImpl(null));
+    private final Supplier<JsonParserFactory> parserFactory = new Cached<>(() -> new JsonParserFactoryImpl(null));
+    private final Supplier<JsonGeneratorFactory> generatorFactory = new Cached<>(() -> new JsonGeneratorFactoryImpl(null));
+    private final Supplier<JsonWriterFactory> writerFactory = new Cached<>(() -> new JsonWriterFactoryImpl(null));
     private final Supplier<JsonBuilderFactory> builderFactory = new Cached<>(() ->
             new JsonBuilderFactoryImpl(null, bufferProvider.get(), RejectDuplicateKeysMode.DEFAULT));
+
+    // factories are immutable and thread safe so configured ones are reused when the same configuration is requested again
+    private final int factoryCacheSize = Integer.getInteger("org.apache.johnzon.factory-cache.size", 32);
+    private final Map<Object, Object> configuredFactories = new ConcurrentHashMap<>();
+
+    // pointers are immutable and precompiled so they can be reused, bounded to avoid to leak with dynamic paths
+    private final int pointerCacheSize = Integer.getInteger("org.apache.johnzon.pointer-cache.size", 512);
+    private final Map<String, JsonPointer> pointers = new ConcurrentHashMap<>();
+
     @Override
     public JsonParser createParser(final InputStream in) {
-        return parserFactory.createParser(in);
+        return parserFactory.get().createParser(in);
     }
 
     @Override
     public JsonParser createParser(final Reader reader) {
-        return parserFactory.createParser(reader);
+        return parserFactory.get().createParser(reader);
     }
 
     @Override
     public JsonReader createReader(final InputStream in) {
-        return readerFactory.createReader(in);
+        return readerFactory.get().createReader(in);
     }
 
     @Override
     public JsonReader createReader(final Reader reader) {
-        return readerFactory.createReader(reader);
+        return readerFactory.get().createReader(reader);
     }
 
     @Override
     public JsonParserFactory createParserFactory(final Map<String, ?> config) {
-        return (config == null || config.isEmpty()) ? parserFactory : new JsonParserFactoryImpl(config);
+        return (config == null || config.isEmpty()) ? parserFactory.get() : configured(JsonParserFactory.class, config, JsonParserFactoryImpl::new);
     }
 
     @Override
     public JsonReaderFactory createReaderFactory(final Map<String, ?> config) {
-        return (config == null || config.isEmpty()) ? readerFactory : new JsonReaderFactoryImpl(config);
+        return (config == null || config.isEmpty()) ? readerFactory.get() : configured(JsonReaderFactory.class, config, JsonReaderFactoryImpl::new);
     }
 
     @Override
     public JsonGenerator createGenerator(final Writer writer) {
-        return generatorFactory.createGenerator(writer);
+        return generatorFactory.get().createGenerator(writer);
     }
 
     @Override
     public JsonGenerator createGenerator(final OutputStream out) {
-        return generatorFactory.createGenerator(out);
+        return generatorFactory.get().createGenerator(out);
     }
 
     @Override
     public JsonGeneratorFactory createGeneratorFactory(final Map<String, ?> config) {
-        return (config == null || config.isEmpty()) ? generatorFactory : new JsonGeneratorFactoryImpl(config);
+        return (config == null || config.isEmpty()) ? generatorFactory.get() : configured(JsonGeneratorFactory.class, config, JsonGeneratorFactoryImpl::new);
     }
 
     @Override
     public JsonWriter createWriter(final Writer writer) {
-        return writerFactory.createWriter(writer);
+        return writerFactory.get().createWriter(writer);
     }
 
     @Override
     public JsonWriter createWriter(final OutputStream out) {
-        return writerFactory.createWriter(out);
+        return writerFactory.get().createWriter(out);
     }
 
     @Override
     public JsonWriterFactory createWriterFactory(final Map<String, ?> config) {
-        return (config == null || config.isEmpty()) ? writerFactory : new JsonWriterFactoryImpl(config);
+        return (config == null || config.isEmpty()) ? writerFactory.get() : configured(JsonWriterFactory.class, config, JsonWriterFactoryImpl::new);
     }
 
     @Override
@@ -187,7 +202,8 @@ public class JsonProviderImpl extends JsonProvider implements Serializable {
     public JsonBuilderFactory createBuilderFactory(final Map<String, ?> config) {
         final JsonBuilderFactory builderFactory = this.builderFactory.get();
         return (config == null || config.isEmpty()) ?
-                builderFactory : new JsonBuilderFactoryImpl(config, bufferProvider.get(), RejectDuplicateKeysMode.from(config));
+                builderFactory : configured(JsonBuilderFactory.class, config,
+                    c -> new JsonBuilderFactoryImpl(c, bufferProvider.get(), RejectDuplicateKeysMode.from(c)));
     }
 
     @Override
@@ -202,7 +218,16 @@ public class JsonProviderImpl extends JsonProvider implements Serializable {
 
     @Override
     public JsonPointer createPointer(String path) {
-        return new JsonPointerImpl(this, path);
+        if (path == null || pointerCacheSize <= 0) {
+            return new JsonPointerImpl(this, path);
+        }
+        final JsonPointer existing = pointers.get(path);
+        if (existing != null) {
+            return existing;
+        }
+        final JsonPointer pointer = new JsonPointerImpl(this, path);
+        cache(pointers, pointerCacheSize, path, pointer);
+        return pointer;
     }
 
     @Override
@@ -225,6 +250,32 @@ public class JsonProviderImpl extends JsonProvider implements Serializable {
         return new JsonMergePatchDiff(source, target, bufferProvider.get()).calculateDiff();
     }
 
+    BufferStrategy.BufferProvider<char[]> getCharBufferProvider() {
+        return bufferProvider.get();
+    }
+
+    private <T> T configured(final Class<T> type, final Map<String, ?> config, final Function<Map<String, ?>, T> factory) {
+        if (factoryCacheSize <= 0) {
+            return factory.apply(config);
+        }
+        final List<Object> key = asList(type, new HashMap<>(config));
+        final Object existing = configuredFactories.get(key);
+        if (existing != null) {
+            return type.cast(existing);
+        }
+        final T created = factory.apply(config);
+        cache(configuredFactories, factoryCacheSize, key, created);
+        return created;
+    }
+
+    // when full the cache is reset instead of keeping forever the first entries, the current working set fills it again
+    private static <K, V> void cache(final Map<K, V> cache, final int maxSize, final K key, final V value) {
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+        cache.putIfAbsent(key, value);
+    }
+
     /**
      * Enables to not allocate potentially big instances or delay the initialization but ensure it happens only once.
      * @param <T> the type of the cached instance.
@@ -21,6 +21,7 @@ package org.apache.johnzon.core;
 import java.io.InputStream;
 import java.io.Reader;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -30,15 +31,24 @@ import jakarta.json.JsonReaderFactory;
 import jakarta.json.stream.JsonParser;
 
 class JsonReaderFactoryImpl extends AbstractJsonFactory implements JsonReaderFactory {
-    static final Collection<String> SUPPORTED_CONFIG_KEYS = RejectDuplicateKeysMode.CONFIG_KEYS;
+    static final Collection<String> SUPPORTED_CONFIG_KEYS = new ArrayList<>(RejectDuplicateKeysMode.CONFIG_KEYS.size() + 2);
+    static {
+        SUPPORTED_CONFIG_KEYS.addAll(RejectDuplicateKeysMode.CONFIG_KEYS);
+        SUPPORTED_CONFIG_KEYS.add(JsonStringCache.STRING_DEDUPLICATION);
+        SUPPORTED_CONFIG_KEYS.add(JsonStringCache.STRING_DEDUPLICATION_MAX_LENGTH);
+    }
 
     private final JsonParserFactoryImpl parserFactory;
     private final RejectDuplicateKeysMode rejectDuplicateKeys;
+    private final JsonStringCache stringCache;
 
     JsonReaderFactoryImpl(final Map<String, ?> config) {
         super(config, SUPPORTED_CONFIG_KEYS, JsonParserFactoryImpl.SUPPORTED_CONFIG_KEYS);
         if (!internalConfig.isEmpty()) {
-            RejectDuplicateKeysMode.CONFIG_KEYS.forEach(internalConfig::remove);
+            this.stringCache = JsonStringCache.from(internalConfig);
+            SUPPORTED_CONFIG_KEYS.forEach(internalConfig::remove);
+        } else {
+            this.stringCache = null;
         }
         this.parserFactory = new JsonParserFactoryImpl(internalConfig);
         this.rejectDuplicateKeys = RejectDuplicateKeysMode.from(config);
@@ -46,21 +56,25 @@ class JsonReaderFactoryImpl extends AbstractJsonFactory implements JsonReaderFac
 
     @Override
     public JsonReader createReader(final Reader reader) {
-        return new JsonReaderImpl(parserFactory.createInternalParser(reader), parserFactory.getValueBufferProvider(), rejectDuplicateKeys);
+        return new JsonReaderImpl(parserFactory.createInternalParser(reader), false,
+                parserFactory.getValueBufferProvider(), rejectDuplicateKeys, stringCache);
     }
 
     @Override
     public JsonReader createReader(final InputStream in) {
-        return new JsonReaderImpl(parserFactory.createInternalParser(in), parserFactory.getValueBufferProvider(), rejectDuplicateKeys);
+        return new JsonReaderImpl(parserFactory.createInternalParser(in), false,
+                parserFactory.getValueBufferProvider(), rejectDuplicateKeys, stringCache);
     }
 
     @Override
     public JsonReader createReader(final InputStream in, final Charset charset) {
-        return new JsonReaderImpl(parserFactory.createInternalParser(in, charset), parserFactory.getValueBufferProvider(), rejectDuplicateKeys);
+        return new JsonReaderImpl(parserFactory.createInternalParser(in, charset), false,
+                parserFactory.getValueBufferProvider(), rejectDuplicateKeys, stringCache);
     }
 
     public JsonReader createReader(final JsonParser parser) {
-        return new JsonReaderImpl(parser, parserFactory.getValueBufferProvider(), rejectDuplicateKeys);
+        return new JsonReaderImpl(parser, false,
+                parserFactory.getValueBufferProvider(), rejectDuplicateKeys, stringCache);
     }
 
     @Override
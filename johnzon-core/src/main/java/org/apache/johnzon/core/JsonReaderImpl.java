@@ -30,6 +30,8 @@ import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParsingException;
 
+import java.util.Arrays;
+
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 
@@ -37,6 +39,7 @@ public class JsonReaderImpl implements JsonReader {
     private final JohnzonJsonParser parser;
     private final BufferStrategy.BufferProvider<char[]> bufferProvider;
     private final RejectDuplicateKeysMode rejectDuplicateKeysMode;
+    private final JsonStringCache stringCache;
     private boolean closed = false;
 
     private boolean subStreamReader;
@@ -55,7 +58,18 @@ public class JsonReaderImpl implements JsonReader {
     public JsonReaderImpl(final JsonParser parser, boolean subStreamReader,
                           final BufferStrategy.BufferProvider<char[]> bufferProvider,
                           final RejectDuplicateKeysMode rejectDuplicateKeys) {
+        this(parser, subStreamReader, bufferProvider, rejectDuplicateKeys, null);
+    }
+
+    /**
+     * @param stringCache if not {@code null}, used to share string values instances.
+     */
+    public JsonReaderImpl(final JsonParser parser, boolean subStreamReader,
+                          final BufferStrategy.BufferProvider<char[]> bufferProvider,
+                          final RejectDuplicateKeysMode rejectDuplicateKeys,
+                          final JsonStringCache stringCache) {
         this.bufferProvider = bufferProvider;
+        this.stringCache = stringCache;
         if (parser instanceof JohnzonJsonParser) {
             this.parser = (JohnzonJsonParser) parser;
         } else {
@@ -96,14 +110,13 @@ public class JsonReaderImpl implements JsonReader {
                 }
                 return objectBuilder.build();
             case START_ARRAY:
-                final JsonArrayBuilder arrayBuilder = new JsonArrayBuilderImpl(emptyList(), bufferProvider, rejectDuplicateKeysMode);
-                parseArray(arrayBuilder);
+                final JsonArray array = parseArray();
                 if (!subStreamReader && parser.hasNext()) {
                     throw new JsonParsingException("Expected end of file", parser.getLocation());
                 }
-                return arrayBuilder.build();
+                return array;
             case VALUE_STRING:
-                final JsonStringImpl string = new JsonStringImpl(parser.getString());
+                final JsonStringImpl string = newString();
                 if (!subStreamReader && parser.hasNext()) {
                     throw new JsonParsingException("Expected end of file", parser.getLocation());
                 }
@@ -128,7 +141,7 @@ public class JsonReaderImpl implements JsonReader {
                 if (parser.isFitLong()) {
                     number = new JsonLongImpl(parser.getLong());
                 } else {
-                    number = new JsonNumberImpl(parser.getBigDecimal());
+                    number = new JsonLazyNumberImpl(parser.getString());
                 }
                 if (!subStreamReader && parser.hasNext()) {
                     throw new JsonParsingException("Expected end of file", parser.getLocation());
@@ -160,6 +173,21 @@ public class JsonReaderImpl implements JsonReader {
         }
     }
 
+    /**
+     * Enables to bind the document directly from the parser events instead of building a {@link JsonValue} first.
+     * The caller is then responsible to consume a single value and to check there is nothing after it.
+     *
+     * @return the underlying parser, not yet started, or {@code null} if this reader can't be consumed this way
+     *         (sub stream reader, not a johnzon parser or duplicated keys rejection which needs the built objects).
+     */
+    public JsonParser getStreamingParser() {
+        if (closed || subStreamReader || (rejectDuplicateKeysMode != null && rejectDuplicateKeysMode != RejectDuplicateKeysMode.DEFAULT) ||
+                !JohnzonJsonParserImpl.class.isInstance(parser)) {
+            return null;
+        }
+        return parser;
+    }
+
     @Override
     public void close() {
         if (!closed) {
@@ -178,7 +206,7 @@ public class JsonReaderImpl implements JsonReader {
                     break;
 
                 case VALUE_STRING:
-                    builder.add(key, new JsonStringImpl(parser.getString()));
+                    builder.add(key, newString());
                     break;
 
                 case START_OBJECT:
@@ -188,16 +216,14 @@ public class JsonReaderImpl implements JsonReader {
                     break;
 
                 case START_ARRAY:
-                    JsonArrayBuilder subArray = new JsonArrayBuilderImpl(emptyList(), bufferProvider, rejectDuplicateKeysMode);
-                    parseArray(subArray);
-                    builder.add(key, subArray);
+                    builder.add(key, parseArray());
                     break;
 
                 case VALUE_NUMBER:
                     if (parser.isIntegralNumber() && parser.isNotTooLong()) {
                         builder.add(key, new JsonLongImpl(parser.getLong()));
                     } else {
-                        builder.add(key, new JsonNumberImpl(parser.getBigDecimal()));
+                        builder.add(key, new JsonLazyNumberImpl(parser.getString()));
                     }
                     break;
 
@@ -225,59 +251,126 @@ public class JsonReaderImpl implements JsonReader {
         }
     }
 
-    private void parseArray(final JsonArrayBuilder builder) {
+    // homogeneous numeric arrays are kept in a primitive array until another kind of value is met
+    private JsonArray parseArray() {
+        long[] longs = null;
+        double[] doubles = null;
+        int size = 0;
         while (parser.hasNext()) {
             final JsonParser.Event next = parser.next();
-            switch (next) {
-                case VALUE_STRING:
-                    builder.add(new JsonStringImpl(parser.getString()));
-                    break;
-
-                case VALUE_NUMBER:
-                    if (parser.isFitLong()) {
-                        builder.add(new JsonLongImpl(parser.getLong()));
-                    } else {
-                        builder.add(new JsonNumberImpl(parser.getBigDecimal()));
+            if (next == JsonParser.Event.VALUE_NUMBER) {
+                if (doubles == null && parser.isFitLong()) {
+                    if (longs == null) {
+                        longs = new long[8];
+                    } else if (size == longs.length) {
+                        longs = Arrays.copyOf(longs, size << 1);
                     }
-                    break;
+                    longs[size++] = parser.getLong();
+                    continue;
+                }
+                if (longs == null) {
+                    final String text = parser.getString();
+                    final double value = Double.parseDouble(text);
+                    if (text.indexOf('E') < 0 && Double.toString(value).equals(text)) { // exact representation, no precision or format loss
+                        if (doubles == null) {
+                            doubles = new double[8];
+                        } else if (size == doubles.length) {
+                            doubles = Arrays.copyOf(doubles, size << 1);
+                        }
+                        doubles[size++] = value;
+                        continue;
+                    }
+                }
+            } else if (next == JsonParser.Event.END_ARRAY) {
+                break;
+            }
 
-                case START_OBJECT:
-                    JsonObjectBuilder subObject = new JsonObjectBuilderImpl(emptyMap(), bufferProvider, rejectDuplicateKeysMode);
-                    parseObject(subObject);
-                    builder.add(subObject);
-                    break;
+            final JsonArrayBuilder builder = new JsonArrayBuilderImpl(emptyList(), bufferProvider, rejectDuplicateKeysMode);
+            for (int i = 0; i < size; i++) {
+                if (longs != null) {
+                    builder.add(new JsonLongImpl(longs[i]));
+                } else {
+                    builder.add(new JsonLazyNumberImpl(Double.toString(doubles[i])));
+                }
+            }
+            if (handleArrayEvent(builder, next)) {
+                return builder.build();
+            }
+            parseArray(builder);
+            return builder.build();
+        }
+        if (longs != null) {
+            return JsonNumericArrayImpl.ofLongs(longs, size, bufferProvider);
+        }
+        if (doubles != null) {
+            return JsonNumericArrayImpl.ofDoubles(doubles, size, bufferProvider);
+        }
+        return new JsonArrayBuilderImpl(emptyList(), bufferProvider, rejectDuplicateKeysMode).build();
+    }
 
-                case START_ARRAY:
-                    JsonArrayBuilder subArray = null;
-                    parseArray(subArray = new JsonArrayBuilderImpl(emptyList(), bufferProvider, rejectDuplicateKeysMode));
-                    builder.add(subArray);
-                    break;
+    private void parseArray(final JsonArrayBuilder builder) {
+        while (parser.hasNext()) {
+            if (handleArrayEvent(builder, parser.next())) {
+                return;
+            }
+        }
+    }
 
-                case END_ARRAY:
-                    return;
+    // returns true if the array is finished
+    private boolean handleArrayEvent(final JsonArrayBuilder builder, final JsonParser.Event next) {
+        switch (next) {
+            case VALUE_STRING:
+                builder.add(newString());
+                break;
 
-                case VALUE_NULL:
-                    builder.addNull();
-                    break;
+            case VALUE_NUMBER:
+                if (parser.isFitLong()) {
+                    builder.add(new JsonLongImpl(parser.getLong()));
+                } else {
+                    builder.add(new JsonLazyNumberImpl(parser.getString()));
+                }
+                break;
 
-                case VALUE_TRUE:
-                    builder.add(true);
-                    break;
+            case START_OBJECT:
+                JsonObjectBuilder subObject = new JsonObjectBuilderImpl(emptyMap(), bufferProvider, rejectDuplicateKeysMode);
+                parseObject(subObject);
+                builder.add(subObject);
+                break;
 
-                case VALUE_FALSE:
-                    builder.add(false);
-                    break;
+            case START_ARRAY:
+                builder.add(parseArray());
+                break;
 
-                case KEY_NAME:
-                    throw new JsonParsingException("array doesn't have keys", parser.getLocation());
+            case END_ARRAY:
+                return true;
 
-                case END_OBJECT:
-                    throw new JsonParsingException("'}', shouldn't occur", parser.getLocation());
+            case VALUE_NULL:
+                builder.addNull();
+                break;
 
-                default:
-                    throw new JsonParsingException(next.name() + ", shouldn't occur", parser.getLocation());
-            }
+            case VALUE_TRUE:
+                builder.add(true);
+                break;
+
+            case VALUE_FALSE:
+                builder.add(false);
+                break;
+
+            case KEY_NAME:
+                throw new JsonParsingException("array doesn't have keys", parser.getLocation());
+
+            case END_OBJECT:
+                throw new JsonParsingException("'}', shouldn't occur", parser.getLocation());
+
+            default:
+                throw new JsonParsingException(next.name() + ", shouldn't occur", parser.getLocation());
         }
+        return false;
+    }
+
+    private JsonStringImpl newString() {
+        final String value = parser.getString();
+        return stringCache == null ? new JsonStringImpl(value) : stringCache.get(value);
     }
 
     private void checkClosed() {
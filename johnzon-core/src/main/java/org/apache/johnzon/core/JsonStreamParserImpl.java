@@ -26,6 +26,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
 import java.util.NoSuchElementException;
@@ -74,6 +75,9 @@ public class JsonStreamParserImpl extends JohnzonJsonParserImpl implements JsonC
     private char[] fallBackCopyBuffer;
     private boolean releaseFallBackCopyBufferLength = true;
     private int fallBackCopyBufferLength;
+    private boolean currentValueEscaped; // the current string had escape sequences, the decoded chars differ from the source
+    private boolean stringPending; // current VALUE_STRING content not yet read
+    private ValueReader valueReader; // current VALUE_STRING content being streamed
 
     // location (line, column, offset)
     // We try to calculate this efficiently so we do not just increment the values per char read
@@ -201,7 +205,7 @@ public class JsonStreamParserImpl extends JohnzonJsonParserImpl implements JsonC
             System.arraycopy(buffer, startOfValueInBuffer, newArray, fallBackCopyBufferLength, length);
         }
         if (releaseFallBackCopyBufferLength) {
-            bufferProvider.release(fallBackCopyBuffer);
+            valueProvider.release(fallBackCopyBuffer);
             releaseFallBackCopyBufferLength = false;
         }
         fallBackCopyBuffer = newArray;
@@ -226,12 +230,19 @@ public class JsonStreamParserImpl extends JohnzonJsonParserImpl implements JsonC
                 previousEvent != VALUE_NULL && previousEvent != VALUE_NUMBER) {
             if (bufferPos < 0) { // check we don't have an empty string to parse
                 final char c = readNextChar();
+                if (c == EOF) { // nothing was consumed so don't unread, it keeps hasNext() idempotent
+                    return false;
+                }
                 unreadChar();
-                return c != EOF;
+                return true;
             }
             return true;
         }
 
+        if (stringPending || valueReader != null) {
+            skipPendingString(); // a pending value is read so getString() still works after hasNext()
+        }
+
         //detect garbage at the end of the file after last object or array is closed
         if (bufferPos < availableCharsInBuffer) {
 
@@ -386,6 +397,9 @@ public class JsonStreamParserImpl extends JohnzonJsonParserImpl implements JsonC
     @Override
     protected final Event internalNext() {
         //main entry, make decision how to handle the current character in the stream
+        if (stringPending || valueReader != null) {
+            skipPendingString();
+        }
 
         if (!hasNext()) {
             final char c = readNextChar();
@@ -439,6 +453,9 @@ public class JsonStreamParserImpl extends JohnzonJsonParserImpl implements JsonC
         if (fallBackCopyBufferLength != 0) {
             fallBackCopyBufferLength = 0;
         }
+        if (currentValueEscaped) {
+            currentValueEscaped = false;
+        }
 
         startOfValueInBuffer = endOfValueInBuffer = -1;
 
@@ -619,6 +636,7 @@ public class JsonStreamParserImpl extends JohnzonJsonParserImpl implements JsonC
                 throw uexc("Unescaped control character");
 
             } else if (n == ESCAPE_CHAR) {
+                currentValueEscaped = true;
 
                 n = readNextChar();
 
@@ -707,8 +725,6 @@ public class JsonStreamParserImpl extends JohnzonJsonParserImpl implements JsonC
             throw uexc("Expected : { [ ,");
         }
         //starting quote already consumed
-        readString();
-        //end quote already consumed
 
         //make the decision if its an key or value
         if (previousEvent == KEY_SEPARATOR_EVENT) {
@@ -719,20 +735,82 @@ public class JsonStreamParserImpl extends JohnzonJsonParserImpl implements JsonC
                 throw uexc("Key value pair not allowed in an array");
             }
 
-            return EVT_MAP[previousEvent = VALUE_STRING];
+            return pendingStringValue();
 
         } else { //Event is  START_OBJECT  OR START_ARRAY OR COMMA_EVENT
             //must be a key if we are in an object, if not its a value 
 
             if ((currentStructureElement != null && currentStructureElement.isArray) || currentStructureElement == null) {
-                return EVT_MAP[previousEvent = VALUE_STRING];
+                return pendingStringValue();
             }
 
+            readString();
+            //end quote already consumed
             return EVT_MAP[previousEvent = KEY_NAME];
         }
 
     }
 
+    // string values are only read when needed (getString(), getValueReader()) or skipped by the next event
+    private Event pendingStringValue() {
+        stringPending = true;
+        return EVT_MAP[previousEvent = VALUE_STRING];
+    }
+
+    private void readPendingString() {
+        if (stringPending) {
+            stringPending = false;
+            readString();
+        }
+    }
+
+    // moves after the current string value if it was not read or not fully streamed
+    private void skipPendingString() {
+        if (valueReader != null) {
+            valueReader.skipRemaining();
+            valueReader = null;
+        } else {
+            readPendingString(); // same validations (max length) than when the value is read
+        }
+    }
+
+    // reads and unescapes the next char of the current string, -1 for its closing quote
+    private int nextStringChar() {
+        final char c = readNextChar();
+        if (c == QUOTE_CHAR) {
+            return -1;
+        }
+        if (c == ESCAPE_CHAR) {
+            final char escaped = readNextChar();
+            if (escaped == 'u') {
+                return parseUnicodeHexChars();
+            }
+            return escaped == ESCAPE_CHAR ? ESCAPE_CHAR : Strings.asEscapedChar(escaped);
+        }
+        if (c == EOL) {
+            throw uexc("Unexpected linebreak");
+        }
+        if (c <= '\u001F') {
+            throw uexc("Unescaped control character");
+        }
+        return c;
+    }
+
+    @Override
+    public Reader getValueReader() {
+        if (previousEvent != VALUE_STRING) {
+            throw new IllegalStateException(EVT_MAP[previousEvent] + " doesn't support getValueReader()");
+        }
+        if (valueReader != null) {
+            throw new IllegalStateException("getValueReader() already called for this value");
+        }
+        if (!stringPending) { // already read
+            return new StringReader(getString());
+        }
+        stringPending = false;
+        return valueReader = new ValueReader();
+    }
+
     //read a number
     //if a number cross buffer boundary then copy in the value buffer
     //if not then denote string start and end in startOfValueInBuffer and endOfValueInBuffer and read directly from buffer
@@ -891,6 +969,10 @@ public class JsonStreamParserImpl extends JohnzonJsonParserImpl implements JsonC
     @Override
     public String getString() {
         if (previousEvent == KEY_NAME || previousEvent == VALUE_STRING || previousEvent == VALUE_NUMBER) {
+            if (valueReader != null) {
+                throw new IllegalStateException("The value is read with getValueReader()");
+            }
+            readPendingString();
 
             //if there a content in the value buffer read from them, if not use main buffer
             return fallBackCopyBufferLength > 0 ? new String(fallBackCopyBuffer, 0, fallBackCopyBufferLength) : new String(buffer,
@@ -900,6 +982,44 @@ public class JsonStreamParserImpl extends JohnzonJsonParserImpl implements JsonC
         }
     }
 
+    @Override
+    public <T> T readChars(final CharsFunction<T> function) {
+        if (previousEvent == KEY_NAME || previousEvent == VALUE_STRING || previousEvent == VALUE_NUMBER) {
+            if (valueReader != null) {
+                throw new IllegalStateException("The value is read with getValueReader()");
+            }
+            readPendingString();
+            return fallBackCopyBufferLength > 0 ?
+                    function.apply(fallBackCopyBuffer, 0, fallBackCopyBufferLength) :
+                    function.apply(buffer, startOfValueInBuffer, endOfValueInBuffer - startOfValueInBuffer);
+        } else {
+            throw new IllegalStateException(EVT_MAP[previousEvent] + " doesn't support readChars()");
+        }
+    }
+
+    // used by JsonTranscoder to copy the current key/string/number chars without creating a String
+
+    /**
+     * @return {@code true} if the current chars are the source ones (no escape sequence was decoded).
+     */
+    boolean isCurrentValueVerbatim() {
+        readPendingString();
+        return !currentValueEscaped;
+    }
+
+    char[] getCurrentValueChars() {
+        readPendingString();
+        return fallBackCopyBufferLength > 0 ? fallBackCopyBuffer : buffer;
+    }
+
+    int getCurrentValueStart() {
+        return fallBackCopyBufferLength > 0 ? 0 : startOfValueInBuffer;
+    }
+
+    int getCurrentValueLength() {
+        return fallBackCopyBufferLength > 0 ? fallBackCopyBufferLength : endOfValueInBuffer - startOfValueInBuffer;
+    }
+
     @Override
     public boolean isIntegralNumber() {
 
@@ -984,6 +1104,9 @@ public class JsonStreamParserImpl extends JohnzonJsonParserImpl implements JsonC
 
     @Override
     public JsonLocation getLocation() {
+        if (valueReader == null) {
+            readPendingString();
+        }
         return createLocation();
     }
 
@@ -1072,4 +1195,62 @@ public class JsonStreamParserImpl extends JohnzonJsonParserImpl implements JsonC
         return new JsonParsingException("General exception on " + location + ". Reason is [[" + message + "]]", location);
     }
 
-}
\ No newline at end of file
+
+    // streams the current string value from the parser buffer, unescaping it on the fly
+    private final class ValueReader extends Reader {
+        private boolean done;
+
+        @Override
+        public int read(final char[] chars, final int offset, final int length) throws IOException {
+            if (valueReader != this) {
+                throw new IOException("The parser moved to another event");
+            }
+            if (done) {
+                return -1;
+            }
+            int read = 0;
+            while (read < length) {
+                // bulk copy of the plain chars already in the buffer
+                final int start = bufferPos + 1;
+                final int max = start + Math.min(bufferLeft, length - read);
+                int end = start;
+                while (end < max) {
+                    final char c = buffer[end];
+                    if (c == QUOTE_CHAR || c == ESCAPE_CHAR || c <= '\u001F') {
+                        break;
+                    }
+                    end++;
+                }
+                if (end > start) {
+                    final int count = end - start;
+                    System.arraycopy(buffer, start, chars, offset + read, count);
+                    read += count;
+                    bufferPos += count;
+                    bufferLeft -= count;
+                    continue;
+                }
+
+                final int c = nextStringChar();
+                if (c < 0) {
+                    done = true;
+                    break;
+                }
+                chars[offset + read++] = (char) c;
+            }
+            return read == 0 && done ? -1 : read;
+        }
+
+        private void skipRemaining() {
+            while (!done) {
+                if (nextStringChar() < 0) {
+                    done = true;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            // no-op, the rest of the value is skipped when the parser moves
+        }
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonException;
+import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Applies a {@link JsonPatch} or a {@link JsonMergePatch} while copying a {@link JsonParser} to a {@link JsonGenerator}.
+ *
+ * Events are copied as they are read, only the subtrees touched by the patch are buffered:
+ * <ul>
+ *     <li>for a JSON Patch add, remove, replace or test operation, the targeted member when its parent is an object
+ *     (new members are written before the end of the object), the whole parent array otherwise since items are shifted,</li>
+ *     <li>for a JSON Patch move or copy operation, the common parent of both paths,</li>
+ *     <li>for a JSON Merge Patch, nothing - the patch itself is merged while streaming.</li>
+ * </ul>
+ * Memory is therefore bounded by the patch scope and not by the document size.
+ *
+ * Since output is written while reading, an operation on a missing path is only detected
+ * when the document has been fully read, the generator content must be discarded in that case.
+ *
+ * Instances are immutable and can be reused.
+ */
+@Experimental
+public final class JsonStreamingPatch {
+    private final JsonProvider provider;
+    private final JsonPatch rootPatch; // when an operation targets the root or moves its members, the whole document is buffered
+    private final Scope scopes;
+    private final int scopeCount;
+    private final JsonValue mergePatch;
+
+    public JsonStreamingPatch(final JsonProvider provider, final JsonMergePatch patch) {
+        this.provider = provider;
+        this.mergePatch = patch.toJsonValue();
+        this.rootPatch = null;
+        this.scopes = null;
+        this.scopeCount = 0;
+    }
+
+    public JsonStreamingPatch(final JsonProvider provider, final JsonPatch patch) {
+        this.provider = provider;
+        this.mergePatch = null;
+
+        final List<JsonValue> operations = patch.toJsonArray();
+        final List<List<String>> operationScopes = new ArrayList<>(operations.size());
+        final Scope root = new Scope();
+        for (final JsonValue operation : operations) {
+            final JsonObject object = operation.asJsonObject();
+            final boolean member = isMemberOperation(object);
+            final List<String> scope = scopeOf(object, member);
+            operationScopes.add(scope);
+            final Scope target = root.child(scope, 0);
+            if (member) {
+                target.member = true;
+            } else {
+                target.buffered = true;
+            }
+        }
+        if (root.buffered) { // an operation on the document itself or moving/copying root members
+            this.rootPatch = patch;
+            this.scopes = null;
+            this.scopeCount = 0;
+            return;
+        }
+
+        // an operation belongs to the outermost buffered subtree containing it, the patch order is kept per subtree,
+        // containers on the way also keep it in case they are arrays with patched items (buffered as a whole then)
+        final Map<Scope, JsonArrayBuilder> relativeOperations = new HashMap<>();
+        final Map<Scope, JsonArrayBuilder> containerOperations = new HashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            final JsonObject operation = operations.get(i).asJsonObject();
+            final List<String> scope = operationScopes.get(i);
+            Scope current = root;
+            int depth = 0;
+            while (!current.buffered && !current.member) {
+                containerOperations.computeIfAbsent(current, k -> provider.createArrayBuilder())
+                        .add(relativize(operation, depth, true));
+                current = current.children.get(scope.get(depth++));
+            }
+            relativeOperations.computeIfAbsent(current, k -> provider.createArrayBuilder())
+                    .add(current.member ? relativize(operation, depth - 1, false) : relativize(operation, depth, true));
+        }
+        for (final Map.Entry<Scope, JsonArrayBuilder> entry : relativeOperations.entrySet()) {
+            entry.getKey().patch = provider.createPatch(entry.getValue().build());
+        }
+        for (final Map.Entry<Scope, JsonArrayBuilder> entry : containerOperations.entrySet()) {
+            final Scope container = entry.getKey();
+            if (container.children.values().stream().anyMatch(it -> it.member)) {
+                container.patch = provider.createPatch(entry.getValue().build());
+                container.count = container.count();
+            }
+        }
+        this.rootPatch = null;
+        this.scopes = root;
+        this.scopeCount = relativeOperations.size();
+    }
+
+    /**
+     * Reads a single JSON value from the parser and writes its patched version to the generator.
+     * The parser and generator are not closed.
+     *
+     * @param parser the source document, not yet started.
+     * @param generator where to write the patched document.
+     */
+    public void apply(final JsonParser parser, final JsonGenerator generator) {
+        if (!parser.hasNext()) {
+            throw new JsonException("No JSON value to patch");
+        }
+        final JsonParser.Event event = parser.next();
+        if (mergePatch != null) {
+            merge(parser, generator, event, mergePatch);
+        } else if (rootPatch != null) {
+            final JsonValue value = parser.getValue();
+            if (!JsonStructure.class.isInstance(value)) {
+                throw new JsonException("A JSON Patch can only be applied on a structure, got " + value.getValueType());
+            }
+            generator.write(rootPatch.apply(JsonStructure.class.cast(value)));
+        } else {
+            final int applied = patch(parser, generator, event, scopes);
+            if (applied != scopeCount) {
+                throw new JsonException("Some JSON Patch operations target paths which don't exist in the document");
+            }
+        }
+    }
+
+    private int patch(final JsonParser parser, final JsonGenerator generator, final JsonParser.Event event, final Scope scope) {
+        if (scope == null) {
+            JsonTranscoder.copy(parser, generator, event);
+            return 0;
+        }
+        if (scope.buffered) {
+            // patch a wrapper {"": value} to get the same semantic than the DOM (errors, scalar handling)
+            final JsonValue value = parser.getValue();
+            final JsonObject patched = scope.patch.apply(provider.createObjectBuilder().add("", value).build());
+            generator.write(patched.get(""));
+            return 1;
+        }
+        int applied = 0;
+        switch (event) {
+            case START_OBJECT:
+                generator.writeStartObject();
+                Set<String> patchedMembers = null;
+                for (JsonParser.Event next = parser.next(); next != JsonParser.Event.END_OBJECT; next = parser.next()) {
+                    final String key = parser.getString();
+                    final JsonParser.Event valueEvent = parser.next();
+                    final Scope child = scope.children.get(key);
+                    if (child != null && child.member) {
+                        if (patchedMembers == null) {
+                            patchedMembers = new HashSet<>();
+                        }
+                        patchedMembers.add(key);
+                        writeMembers(generator, child.patch.apply(provider.createObjectBuilder().add(key, parser.getValue()).build()));
+                        applied++;
+                    } else {
+                        generator.writeKey(key);
+                        applied += patch(parser, generator, valueEvent, child);
+                    }
+                }
+                for (final Map.Entry<String, Scope> child : scope.children.entrySet()) { // members added by the patch
+                    if (child.getValue().member && (patchedMembers == null || !patchedMembers.contains(child.getKey()))) {
+                        writeMembers(generator, child.getValue().patch.apply(JsonValue.EMPTY_JSON_OBJECT));
+                        applied++;
+                    }
+                }
+                generator.writeEnd();
+                break;
+            case START_ARRAY:
+                if (scope.patch != null) { // items are added or removed, indices are shifted so the array is patched as a whole
+                    final JsonObject patched = scope.patch.apply(provider.createObjectBuilder().add("", parser.getValue()).build());
+                    generator.write(patched.get(""));
+                    return scope.count;
+                }
+                generator.writeStartArray();
+                int index = 0;
+                for (JsonParser.Event next = parser.next(); next != JsonParser.Event.END_ARRAY; next = parser.next()) {
+                    applied += patch(parser, generator, next, scope.children.get(Integer.toString(index++)));
+                }
+                generator.writeEnd();
+                break;
+            default: // the path goes through a scalar, operations can't be applied
+                JsonTranscoder.copy(parser, generator, event);
+        }
+        return applied;
+    }
+
+    private static void writeMembers(final JsonGenerator generator, final JsonObject members) {
+        for (final Map.Entry<String, JsonValue> member : members.entrySet()) {
+            generator.write(member.getKey(), member.getValue());
+        }
+    }
+
+    // same semantic than JsonMergePatchImpl
+    private void merge(final JsonParser parser, final JsonGenerator generator, final JsonParser.Event event, final JsonValue patch) {
+        if (event != JsonParser.Event.START_OBJECT || patch.getValueType() != JsonValue.ValueType.OBJECT) {
+            skip(parser, event);
+            generator.write(patch);
+            return;
+        }
+
+        final JsonObject patchObject = patch.asJsonObject();
+        final Set<String> seen = new HashSet<>();
+        generator.writeStartObject();
+        for (JsonParser.Event next = parser.next(); next != JsonParser.Event.END_OBJECT; next = parser.next()) {
+            final String key = parser.getString();
+            final JsonParser.Event valueEvent = parser.next();
+            final JsonValue memberPatch = patchObject.get(key);
+            if (memberPatch == null) {
+                generator.writeKey(key);
+                JsonTranscoder.copy(parser, generator, valueEvent);
+                continue;
+            }
+            seen.add(key);
+            if (JsonValue.NULL.equals(memberPatch)) {
+                skip(parser, valueEvent);
+            } else {
+                generator.writeKey(key);
+                merge(parser, generator, valueEvent, memberPatch);
+            }
+        }
+        for (final Map.Entry<String, JsonValue> entry : patchObject.entrySet()) {
+            if (!seen.contains(entry.getKey()) && !JsonValue.NULL.equals(entry.getValue())) {
+                generator.write(entry.getKey(), entry.getValue());
+            }
+        }
+        generator.writeEnd();
+    }
+
+    private static void skip(final JsonParser parser, final JsonParser.Event event) {
+        if (event == JsonParser.Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == JsonParser.Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+
+    // add, remove, replace and test only touch the member of their path
+    private static boolean isMemberOperation(final JsonObject operation) {
+        final JsonPatch.Operation op = JsonPatch.Operation.fromOperationName(operation.getString("op"));
+        return op != JsonPatch.Operation.MOVE && op != JsonPatch.Operation.COPY && !operation.getString("path").isEmpty();
+    }
+
+    private List<String> scopeOf(final JsonObject operation, final boolean member) {
+        if (member) {
+            return tokens(operation.getString("path"), 0);
+        }
+        final List<String> path = parentTokens(operation.getString("path"));
+        final JsonPatch.Operation op = JsonPatch.Operation.fromOperationName(operation.getString("op"));
+        if (op != JsonPatch.Operation.MOVE && op != JsonPatch.Operation.COPY) {
+            return path;
+        }
+        final List<String> from = parentTokens(operation.getString("from"));
+        int common = 0;
+        while (common < path.size() && common < from.size() && path.get(common).equals(from.get(common))) {
+            common++;
+        }
+        return path.subList(0, common);
+    }
+
+    private List<String> parentTokens(final String path) {
+        return tokens(path, 1);
+    }
+
+    private List<String> tokens(final String path, final int skippedLastTokens) {
+        final JsonPointerImpl pointer = new JsonPointerImpl(provider, path);
+        final List<String> tokens = new ArrayList<>(pointer.getTokenCount());
+        for (int i = 1; i < pointer.getTokenCount() - skippedLastTokens; i++) { // first token is the root
+            tokens.add(pointer.getToken(i));
+        }
+        return tokens;
+    }
+
+    private JsonObject relativize(final JsonObject operation, final int depth, final boolean wrapped) {
+        final JsonObjectBuilder builder = provider.createObjectBuilder(operation)
+                .add("path", relativize(operation.getString("path"), depth, wrapped));
+        if (operation.containsKey("from")) {
+            builder.add("from", relativize(operation.getString("from"), depth, wrapped));
+        }
+        return builder.build();
+    }
+
+    // drops the first tokens (raw, still encoded), a wrapped value is patched as the "" key of an object
+    // whereas a member is patched in an object with only this member
+    private static String relativize(final String path, final int depth, final boolean wrapped) {
+        int index = 0;
+        for (int i = 0; i < depth; i++) {
+            index = path.indexOf('/', index + 1);
+        }
+        return wrapped ? '/' + path.substring(index) : path.substring(index);
+    }
+
+    private static final class Scope {
+        private final Map<String, Scope> children = new LinkedHashMap<>(); // added members keep the patch order
+        private boolean buffered; // the whole value is patched
+        private boolean member; // the member is patched in its parent object
+        private JsonPatch patch;
+        private int count; // buffered subtrees applied with patch when it is a container (array with patched items)
+
+        private int count() {
+            if (buffered || member) {
+                return 1;
+            }
+            int total = 0;
+            for (final Scope child : children.values()) {
+                total += child.count();
+            }
+            return total;
+        }
+
+        private Scope child(final List<String> path, final int from) {
+            if (from == path.size()) {
+                return this;
+            }
+            return children.computeIfAbsent(path.get(from), k -> new Scope()).child(path, from + 1);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import jakarta.json.JsonString;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache returning canonical {@link JsonString} instances for short values
+ * (enum like values as status or currency codes are often repeated a lot in big documents).
+ *
+ * It is a direct mapped table: each value has a single slot (hash based), a colliding value just replaces it.
+ * This keeps lookups lock free and the memory bounded, concurrent updates are benign since values are immutable.
+ *
+ * It can be enabled on reader and builder factories with {@link #STRING_DEDUPLICATION} (a size or a cache instance
+ * to share it between factories).
+ */
+@Experimental
+public final class JsonStringCache implements Serializable {
+    /**
+     * Either the number of slots of the cache (rounded to a power of two) or a {@link JsonStringCache} instance.
+     */
+    public static final String STRING_DEDUPLICATION = "org.apache.johnzon.string-deduplication";
+
+    /**
+     * Longer strings are not deduplicated, default is 32 chars.
+     */
+    public static final String STRING_DEDUPLICATION_MAX_LENGTH = "org.apache.johnzon.string-deduplication.max-length";
+
+    private final JsonStringImpl[] slots;
+    private final int maxLength;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JsonStringCache(final int size, final int maxLength) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be > 0: " + size);
+        }
+        this.slots = new JsonStringImpl[Integer.highestOneBit(Math.min(size, 1 << 30) * 2 - 1)];
+        this.maxLength = maxLength;
+    }
+
+    public JsonString of(final String value) {
+        return get(value);
+    }
+
+    JsonStringImpl get(final String value) {
+        if (value.length() > maxLength) {
+            return new JsonStringImpl(value);
+        }
+        final int hash = value.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & (slots.length - 1);
+        final JsonStringImpl existing = slots[index];
+        if (existing != null && existing.getString().equals(value)) {
+            hits.increment();
+            return existing;
+        }
+        misses.increment();
+        final JsonStringImpl created = new JsonStringImpl(value);
+        slots[index] = created;
+        return created;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return hits / lookups for the values eligible to the deduplication ({@code 0} if there was no lookup yet).
+     */
+    public double getHitRatio() {
+        final long h = hits.sum();
+        final long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    public int size() {
+        return slots.length;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonStringCache{size=" + slots.length + ", maxLength=" + maxLength
+                + ", hits=" + getHits() + ", misses=" + getMisses() + '}';
+    }
+
+    static JsonStringCache from(final Map<String, ?> config) {
+        if (config == null) {
+            return null;
+        }
+        final Object value = config.get(STRING_DEDUPLICATION);
+        if (value == null) {
+            return null;
+        }
+        if (JsonStringCache.class.isInstance(value)) {
+            return JsonStringCache.class.cast(value);
+        }
+        final int size = Number.class.isInstance(value) ? Number.class.cast(value).intValue() : Integer.parseInt(value.toString().trim());
+        if (size <= 0) {
+            return null;
+        }
+        final Object maxLength = config.get(STRING_DEDUPLICATION_MAX_LENGTH);
+        return new JsonStringCache(size, maxLength == null ?
+                32 : (Number.class.isInstance(maxLength) ? Number.class.cast(maxLength).intValue() : Integer.parseInt(maxLength.toString().trim())));
+    }
+}
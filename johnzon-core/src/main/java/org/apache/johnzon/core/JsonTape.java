@@ -0,0 +1,650 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact read-only document model: the whole document is flattened in a single {@code long[]} "tape"
+ * and all string/key/big number characters are stored in a single side {@code char[]}.
+ * {@link JsonValue} instances are only thin views created when navigating so the heap
+ * only holds two primitive arrays whatever the document size is.
+ *
+ * Layout of the tape (tag is stored in the 8 high bits of the first word of an entry):
+ * <ul>
+ *     <li>object/array: {@code [tag|index of end word][element count] ... [tag|index of start word]}</li>
+ *     <li>key/string/big number: {@code [tag|offset in chars][length]}</li>
+ *     <li>long: {@code [tag][value]}</li>
+ *     <li>true/false/null: {@code [tag]}</li>
+ * </ul>
+ */
+@Experimental
+public final class JsonTape {
+    private static final int TAG_SHIFT = 56;
+    private static final long PAYLOAD_MASK = (1L << TAG_SHIFT) - 1;
+
+    private static final byte START_OBJECT = 'o';
+    private static final byte END_OBJECT = 'O';
+    private static final byte START_ARRAY = 'a';
+    private static final byte END_ARRAY = 'A';
+    private static final byte KEY = 'k';
+    private static final byte STRING = 's';
+    private static final byte LONG = 'l';
+    private static final byte NUMBER = 'd';
+    private static final byte TRUE = 't';
+    private static final byte FALSE = 'f';
+    private static final byte NULL = 'n';
+
+    private final long[] tape;
+    private final char[] chars;
+    private final BufferStrategy.BufferProvider<char[]> provider;
+
+    private JsonTape(final long[] tape, final char[] chars, final BufferStrategy.BufferProvider<char[]> provider) {
+        this.tape = tape;
+        this.chars = chars;
+        this.provider = provider;
+    }
+
+    /**
+     * Reads the next value of the parser in a tape, parser is not closed.
+     *
+     * @param parser the parser to consume.
+     * @param provider buffer provider used for the {@code toString()} of the views.
+     * @return the tape of the read value.
+     */
+    public static JsonTape read(final JsonParser parser, final BufferStrategy.BufferProvider<char[]> provider) {
+        if (!parser.hasNext()) {
+            throw new JsonParsingException("Nothing to read", parser.getLocation());
+        }
+        final Writer writer = new Writer();
+        writer.write(parser, parser.next());
+        return new JsonTape(writer.trimmedTape(), writer.trimmedChars(), provider);
+    }
+
+    /**
+     * @return the root value of the document, it is a view on the tape.
+     */
+    public JsonValue getRoot() {
+        return valueAt(0);
+    }
+
+    /**
+     * @return the number of long words used by the tape.
+     */
+    public int tapeLength() {
+        return tape.length;
+    }
+
+    /**
+     * @return the number of characters stored for strings, keys and big numbers.
+     */
+    public int charsLength() {
+        return chars.length;
+    }
+
+    private static byte tag(final long word) {
+        return (byte) (word >>> TAG_SHIFT);
+    }
+
+    private static int payload(final long word) {
+        return (int) (word & PAYLOAD_MASK);
+    }
+
+    // index of the word following the value starting at idx
+    private int next(final int idx) {
+        final long word = tape[idx];
+        switch (tag(word)) {
+            case START_OBJECT:
+            case START_ARRAY:
+                return payload(word) + 1;
+            case KEY:
+            case STRING:
+            case NUMBER:
+            case LONG:
+                return idx + 2;
+            default:
+                return idx + 1;
+        }
+    }
+
+    private String string(final int idx) {
+        return new String(chars, payload(tape[idx]), (int) tape[idx + 1]);
+    }
+
+    private boolean keyEquals(final int idx, final String key) {
+        final int length = (int) tape[idx + 1];
+        if (length != key.length()) {
+            return false;
+        }
+        final int offset = payload(tape[idx]);
+        for (int i = 0; i < length; i++) {
+            if (chars[offset + i] != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private JsonValue valueAt(final int idx) {
+        final long word = tape[idx];
+        switch (tag(word)) {
+            case START_OBJECT:
+                return new TapeObject(idx);
+            case START_ARRAY:
+                return new TapeArray(idx);
+            case STRING:
+                return new TapeString(idx);
+            case LONG:
+                return new JsonLongImpl(tape[idx + 1]);
+            case NUMBER:
+                return new JsonNumberImpl(new BigDecimal(chars, payload(word), (int) tape[idx + 1]));
+            case TRUE:
+                return JsonValue.TRUE;
+            case FALSE:
+                return JsonValue.FALSE;
+            case NULL:
+                return JsonValue.NULL;
+            default:
+                throw new IllegalStateException("Unexpected tape entry: " + (char) tag(word));
+        }
+    }
+
+    private String toJson(final JsonValue value, final boolean object) {
+        final StringWriter writer = new StringWriter(2048);
+        try (final JsonGenerator generator = new JsonGeneratorImpl(writer, provider, false)) {
+            if (object) {
+                generator.writeStartObject();
+                JsonObject.class.cast(value).forEach(generator::write);
+            } else {
+                generator.writeStartArray();
+                JsonArray.class.cast(value).forEach(generator::write);
+            }
+            generator.writeEnd();
+        }
+        return writer.toString();
+    }
+
+    private final class TapeString implements JsonString {
+        private final int idx;
+
+        private TapeString(final int idx) {
+            this.idx = idx;
+        }
+
+        @Override
+        public String getString() {
+            return string(idx);
+        }
+
+        @Override
+        public CharSequence getChars() {
+            return getString();
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return ValueType.STRING;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder().append(JsonChars.QUOTE_CHAR);
+            Strings.appendEscaped(getString(), builder);
+            return builder.append(JsonChars.QUOTE_CHAR).toString();
+        }
+
+        @Override
+        public int hashCode() {
+            return getString().hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return JsonString.class.isInstance(obj) && JsonString.class.cast(obj).getString().equals(getString());
+        }
+    }
+
+    private final class TapeObject extends AbstractMap<String, JsonValue> implements JsonObject {
+        private final int start;
+
+        private TapeObject(final int start) {
+            this.start = start;
+        }
+
+        private int find(final String key) {
+            final int end = payload(tape[start]);
+            int idx = start + 2;
+            while (idx < end) {
+                if (keyEquals(idx, key)) {
+                    return idx + 2;
+                }
+                idx = next(idx + 2);
+            }
+            return -1;
+        }
+
+        private <T> T value(final String name, final Class<T> type) {
+            final int idx = find(name);
+            return idx < 0 ? null : type.cast(valueAt(idx));
+        }
+
+        private <T> T valueOrException(final String name, final Class<T> type) {
+            final T value = value(name, type);
+            if (value == null) {
+                throw new NullPointerException("no mapping for " + name);
+            }
+            return value;
+        }
+
+        @Override
+        public JsonValue get(final Object key) {
+            return String.class.isInstance(key) ? value(String.class.cast(key), JsonValue.class) : null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return String.class.isInstance(key) && find(String.class.cast(key)) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return (int) tape[start + 1];
+        }
+
+        @Override
+        public JsonArray getJsonArray(final String name) {
+            return value(name, JsonArray.class);
+        }
+
+        @Override
+        public JsonObject getJsonObject(final String name) {
+            return value(name, JsonObject.class);
+        }
+
+        @Override
+        public JsonNumber getJsonNumber(final String name) {
+            return value(name, JsonNumber.class);
+        }
+
+        @Override
+        public JsonString getJsonString(final String name) {
+            return value(name, JsonString.class);
+        }
+
+        @Override
+        public String getString(final String name) {
+            return valueOrException(name, JsonString.class).getString();
+        }
+
+        @Override
+        public String getString(final String name, final String defaultValue) {
+            final JsonValue value = get(name);
+            return JsonString.class.isInstance(value) ? JsonString.class.cast(value).getString() : defaultValue;
+        }
+
+        @Override
+        public int getInt(final String name) {
+            return valueOrException(name, JsonNumber.class).intValue();
+        }
+
+        @Override
+        public int getInt(final String name, final int defaultValue) {
+            final JsonValue value = get(name);
+            return JsonNumber.class.isInstance(value) ? JsonNumber.class.cast(value).intValue() : defaultValue;
+        }
+
+        @Override
+        public boolean getBoolean(final String name) {
+            final JsonValue value = valueOrException(name, JsonValue.class);
+            if (JsonValue.TRUE == value) {
+                return true;
+            }
+            if (JsonValue.FALSE == value) {
+                return false;
+            }
+            throw new ClassCastException("Wrong value for a boolean: " + value);
+        }
+
+        @Override
+        public boolean getBoolean(final String name, final boolean defaultValue) {
+            final JsonValue value = get(name);
+            if (value != null) {
+                return JsonValue.TRUE == value || JsonValue.FALSE != value && defaultValue;
+            }
+            return defaultValue;
+        }
+
+        @Override
+        public boolean isNull(final String name) {
+            return JsonValue.NULL == valueOrException(name, JsonValue.class);
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return ValueType.OBJECT;
+        }
+
+        @Override
+        public Set<Entry<String, JsonValue>> entrySet() {
+            return new AbstractSet<Entry<String, JsonValue>>() {
+                @Override
+                public Iterator<Entry<String, JsonValue>> iterator() {
+                    final int end = payload(tape[start]);
+                    return new Iterator<Entry<String, JsonValue>>() {
+                        private int idx = start + 2;
+
+                        @Override
+                        public boolean hasNext() {
+                            return idx < end;
+                        }
+
+                        @Override
+                        public Entry<String, JsonValue> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final String key = string(idx);
+                            final JsonValue value = valueAt(idx + 2);
+                            idx = JsonTape.this.next(idx + 2);
+                            return new SimpleImmutableEntry<>(key, value);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return TapeObject.this.size();
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return isEmpty() ? "{}" : toJson(this, true);
+        }
+    }
+
+    private final class TapeArray extends AbstractList<JsonValue> implements JsonArray {
+        private final int start;
+        private int[] offsets; // lazily computed for random access
+
+        private TapeArray(final int start) {
+            this.start = start;
+        }
+
+        private int offset(final int index) {
+            final int size = size();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index + "/" + size);
+            }
+            int[] local = offsets;
+            if (local == null) {
+                local = new int[size];
+                int idx = start + 2;
+                for (int i = 0; i < size; i++) {
+                    local[i] = idx;
+                    idx = next(idx);
+                }
+                offsets = local;
+            }
+            return local[index];
+        }
+
+        @Override
+        public JsonValue get(final int index) {
+            return valueAt(offset(index));
+        }
+
+        @Override
+        public int size() {
+            return (int) tape[start + 1];
+        }
+
+        @Override
+        public Iterator<JsonValue> iterator() {
+            final int end = payload(tape[start]);
+            return new Iterator<JsonValue>() {
+                private int idx = start + 2;
+
+                @Override
+                public boolean hasNext() {
+                    return idx < end;
+                }
+
+                @Override
+                public JsonValue next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final JsonValue value = valueAt(idx);
+                    idx = JsonTape.this.next(idx);
+                    return value;
+                }
+            };
+        }
+
+        @Override
+        public JsonObject getJsonObject(final int index) {
+            return JsonObject.class.cast(get(index));
+        }
+
+        @Override
+        public JsonArray getJsonArray(final int index) {
+            return JsonArray.class.cast(get(index));
+        }
+
+        @Override
+        public JsonNumber getJsonNumber(final int index) {
+            return JsonNumber.class.cast(get(index));
+        }
+
+        @Override
+        public JsonString getJsonString(final int index) {
+            return JsonString.class.cast(get(index));
+        }
+
+        @Override
+        public <T extends JsonValue> List<T> getValuesAs(final Class<T> clazz) {
+            return (List<T>) this;
+        }
+
+        @Override
+        public String getString(final int index) {
+            return getJsonString(index).getString();
+        }
+
+        @Override
+        public String getString(final int index, final String defaultValue) {
+            if (index < 0 || index >= size()) {
+                return defaultValue;
+            }
+            final JsonValue value = get(index);
+            return JsonString.class.isInstance(value) ? JsonString.class.cast(value).getString() : defaultValue;
+        }
+
+        @Override
+        public int getInt(final int index) {
+            return getJsonNumber(index).intValue();
+        }
+
+        @Override
+        public int getInt(final int index, final int defaultValue) {
+            if (index < 0 || index >= size()) {
+                return defaultValue;
+            }
+            final JsonValue value = get(index);
+            return JsonNumber.class.isInstance(value) ? JsonNumber.class.cast(value).intValue() : defaultValue;
+        }
+
+        @Override
+        public boolean getBoolean(final int index) {
+            final JsonValue value = get(index);
+            if (JsonValue.TRUE == value) {
+                return true;
+            }
+            if (JsonValue.FALSE == value) {
+                return false;
+            }
+            throw new ClassCastException();
+        }
+
+        @Override
+        public boolean getBoolean(final int index, final boolean defaultValue) {
+            if (index < 0 || index >= size()) {
+                return defaultValue;
+            }
+            final JsonValue value = get(index);
+            return JsonValue.TRUE == value || JsonValue.FALSE != value && defaultValue;
+        }
+
+        @Override
+        public boolean isNull(final int index) {
+            return JsonValue.NULL == get(index);
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return ValueType.ARRAY;
+        }
+
+        @Override
+        public String toString() {
+            return isEmpty() ? "[]" : toJson(this, false);
+        }
+    }
+
+    // builds the tape from parser events, containers are patched on their end event
+    private static final class Writer {
+        private long[] tape = new long[64];
+        private int tapeLength;
+        private char[] chars = new char[256];
+        private int charsLength;
+
+        private void write(final JsonParser parser, final JsonParser.Event event) {
+            switch (event) {
+                case START_OBJECT:
+                    writeStructure(parser, START_OBJECT, END_OBJECT, JsonParser.Event.END_OBJECT);
+                    break;
+                case START_ARRAY:
+                    writeStructure(parser, START_ARRAY, END_ARRAY, JsonParser.Event.END_ARRAY);
+                    break;
+                case KEY_NAME:
+                    writeChars(KEY, parser.getString());
+                    break;
+                case VALUE_STRING:
+                    writeChars(STRING, parser.getString());
+                    break;
+                case VALUE_NUMBER:
+                    if (parser.isIntegralNumber() && (!JohnzonJsonParser.class.isInstance(parser)
+                            || JohnzonJsonParser.class.cast(parser).isFitLong())) {
+                        append(((long) LONG) << TAG_SHIFT);
+                        append(parser.getLong());
+                    } else {
+                        writeChars(NUMBER, parser.getBigDecimal().toString());
+                    }
+                    break;
+                case VALUE_TRUE:
+                    append(((long) TRUE) << TAG_SHIFT);
+                    break;
+                case VALUE_FALSE:
+                    append(((long) FALSE) << TAG_SHIFT);
+                    break;
+                case VALUE_NULL:
+                    append(((long) NULL) << TAG_SHIFT);
+                    break;
+                default:
+                    throw new JsonParsingException(event + ", shouldn't occur", parser.getLocation());
+            }
+        }
+
+        private void writeStructure(final JsonParser parser, final byte startTag, final byte endTag,
+                                    final JsonParser.Event endEvent) {
+            final int start = tapeLength;
+            append(0); // patched at the end
+            append(0);
+            long count = 0;
+            while (parser.hasNext()) {
+                final JsonParser.Event next = parser.next();
+                if (next == endEvent) {
+                    final int end = tapeLength;
+                    append(((long) endTag) << TAG_SHIFT | start);
+                    tape[start] = ((long) startTag) << TAG_SHIFT | end;
+                    tape[start + 1] = count;
+                    return;
+                }
+                if (next != JsonParser.Event.KEY_NAME) {
+                    count++;
+                }
+                write(parser, next);
+            }
+            throw new JsonParsingException("Unexpected end of document", parser.getLocation());
+        }
+
+        private void writeChars(final byte tag, final String value) {
+            final int length = value.length();
+            if (charsLength + length > chars.length || charsLength + length < 0) {
+                chars = Arrays.copyOf(chars, grow(chars.length, charsLength + length));
+            }
+            value.getChars(0, length, chars, charsLength);
+            append(((long) tag) << TAG_SHIFT | charsLength);
+            append(length);
+            charsLength += length;
+        }
+
+        private void append(final long word) {
+            if (tapeLength == tape.length) {
+                tape = Arrays.copyOf(tape, grow(tape.length, tapeLength + 1));
+            }
+            tape[tapeLength++] = word;
+        }
+
+        private static int grow(final int current, final int required) {
+            if (required < 0) {
+                throw new IllegalStateException("Document too big for a tape");
+            }
+            final long next = Math.max(required, current + (current >> 1));
+            return (int) Math.min(next, Integer.MAX_VALUE - 8);
+        }
+
+        private long[] trimmedTape() {
+            return tape.length == tapeLength ? tape : Arrays.copyOf(tape, tapeLength);
+        }
+
+        private char[] trimmedChars() {
+            return chars.length == charsLength ? chars : Arrays.copyOf(chars, charsLength);
+        }
+    }
+}
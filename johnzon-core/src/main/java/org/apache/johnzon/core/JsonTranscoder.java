@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Copies a {@link JsonParser} to a {@link JsonGenerator} event by event, without building any {@link jakarta.json.JsonValue}.
+ * The output format is the generator one: compact generator to minify, pretty one to pretty print.
+ *
+ * When both sides are Johnzon ones, keys, strings and numbers are copied as chars from the parser buffer
+ * (no {@link String} nor number instance and no escaping when the source had no escape sequence).
+ *
+ * A {@link KeyFilter} enables to drop or rename object members while copying.
+ *
+ * Instances are immutable and thread safe.
+ */
+@Experimental
+public final class JsonTranscoder {
+    private static final JsonTranscoder COPY = new JsonTranscoder(null);
+
+    private final KeyFilter keyFilter;
+
+    /**
+     * @param keyFilter the filter to apply on object keys, {@code null} to copy everything.
+     */
+    public JsonTranscoder(final KeyFilter keyFilter) {
+        this.keyFilter = keyFilter;
+    }
+
+    /**
+     * Copies the next JSON value of the parser to the generator.
+     *
+     * @param parser the source.
+     * @param generator the target.
+     */
+    public static void copy(final JsonParser parser, final JsonGenerator generator) {
+        COPY.transcode(parser, generator);
+    }
+
+    /**
+     * Rewrites a document without any whitespace.
+     *
+     * @param reader the source.
+     * @param writer the target.
+     */
+    public static void minify(final Reader reader, final Writer writer) {
+        try (final JsonParser parser = JohnzonJson.createParser(reader);
+             final JsonGenerator generator = JohnzonJson.createGenerator(writer)) {
+            copy(parser, generator);
+        }
+    }
+
+    /**
+     * Rewrites a document indented.
+     *
+     * @param reader the source.
+     * @param writer the target.
+     */
+    public static void prettyPrint(final Reader reader, final Writer writer) {
+        try (final JsonParser parser = JohnzonJson.createParser(reader);
+             final JsonGenerator generator = JohnzonJson.prettyGeneratorFactory().createGenerator(writer)) {
+            copy(parser, generator);
+        }
+    }
+
+    /**
+     * Copies the next JSON value of the parser to the generator applying the key filter.
+     * Parser and generator are not closed.
+     *
+     * @param parser the source.
+     * @param generator the target.
+     */
+    public void transcode(final JsonParser parser, final JsonGenerator generator) {
+        if (!parser.hasNext()) {
+            throw new JsonException("No JSON value to transcode");
+        }
+        transcode(parser, generator, parser.next());
+    }
+
+    // copies the value starting with this event, used by the other streaming utilities too
+    static void copy(final JsonParser parser, final JsonGenerator generator, final JsonParser.Event event) {
+        COPY.transcode(parser, generator, event);
+    }
+
+    private void transcode(final JsonParser parser, final JsonGenerator generator, final JsonParser.Event first) {
+        final JsonStreamParserImpl rawParser = JsonStreamParserImpl.class.isInstance(parser) ? JsonStreamParserImpl.class.cast(parser) : null;
+        final JsonGeneratorImpl rawGenerator = JsonGeneratorImpl.class.isInstance(generator) ? JsonGeneratorImpl.class.cast(generator) : null;
+        final boolean raw = rawParser != null && rawGenerator != null;
+        final Deque<Frame> path = keyFilter == null ? null : new ArrayDeque<>();
+        String lastKey = null;
+
+        int depth = 0;
+        JsonParser.Event event = first;
+        while (true) {
+            switch (event) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    if (path != null) {
+                        path.push(new Frame(childPointer(path, lastKey), event == JsonParser.Event.START_ARRAY));
+                    }
+                    if (rawGenerator != null) {
+                        rawGenerator.writeRawStart(event == JsonParser.Event.START_OBJECT);
+                    } else if (event == JsonParser.Event.START_OBJECT) {
+                        generator.writeStartObject();
+                    } else {
+                        generator.writeStartArray();
+                    }
+                    depth++;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    generator.writeEnd();
+                    if (path != null) {
+                        path.pop();
+                    }
+                    depth--;
+                    break;
+                case KEY_NAME:
+                    if (path != null) {
+                        final String key = parser.getString();
+                        final String mapped = keyFilter.filter(path.peek().pointer, key);
+                        if (mapped == null) {
+                            skipValue(parser);
+                            break;
+                        }
+                        lastKey = key;
+                        if (!mapped.equals(key) || !raw || !rawParser.isCurrentValueVerbatim()) {
+                            generator.writeKey(mapped);
+                            break;
+                        }
+                    }
+                    if (raw && rawParser.isCurrentValueVerbatim()) {
+                        rawGenerator.writeRawKey(rawParser.getCurrentValueChars(), rawParser.getCurrentValueStart(), rawParser.getCurrentValueLength());
+                    } else {
+                        generator.writeKey(parser.getString());
+                    }
+                    break;
+                case VALUE_STRING:
+                    if (raw && rawParser.isCurrentValueVerbatim()) {
+                        rawGenerator.writeRawValue(
+                                rawParser.getCurrentValueChars(), rawParser.getCurrentValueStart(), rawParser.getCurrentValueLength(), true);
+                    } else {
+                        generator.write(parser.getString());
+                    }
+                    break;
+                case VALUE_NUMBER:
+                    if (raw) {
+                        rawGenerator.writeRawValue(
+                                rawParser.getCurrentValueChars(), rawParser.getCurrentValueStart(), rawParser.getCurrentValueLength(), false);
+                    } else {
+                        generator.write(parser.getValue());
+                    }
+                    break;
+                case VALUE_TRUE:
+                    generator.write(true);
+                    break;
+                case VALUE_FALSE:
+                    generator.write(false);
+                    break;
+                case VALUE_NULL:
+                    generator.writeNull();
+                    break;
+                default:
+                    throw new JsonException("Unexpected event: " + event);
+            }
+            if (path != null && event != JsonParser.Event.KEY_NAME && !path.isEmpty() && path.peek().array && !isStart(event)) {
+                path.peek().index++; // a value of the current array was fully written
+            }
+            if (depth == 0) {
+                return;
+            }
+            event = parser.next();
+        }
+    }
+
+    private static boolean isStart(final JsonParser.Event event) {
+        return event == JsonParser.Event.START_OBJECT || event == JsonParser.Event.START_ARRAY;
+    }
+
+    private static String childPointer(final Deque<Frame> path, final String key) {
+        if (path.isEmpty()) {
+            return "";
+        }
+        final Frame parent = path.peek();
+        return parent.pointer + '/' + (parent.array ? Integer.toString(parent.index) : JsonPointerUtil.encode(key));
+    }
+
+    private static void skipValue(final JsonParser parser) {
+        final JsonParser.Event event = parser.next();
+        if (event == JsonParser.Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == JsonParser.Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+
+    /**
+     * Decides what to do with each object member.
+     */
+    @FunctionalInterface
+    public interface KeyFilter {
+        /**
+         * @param parentPointer the JSON Pointer of the object containing the key ({@code ""} for the root).
+         * @param key the member name.
+         * @return the name to write or {@code null} to drop the member and its value.
+         */
+        String filter(String parentPointer, String key);
+    }
+
+    private static final class Frame {
+        private final String pointer;
+        private final boolean array;
+        private int index;
+
+        private Frame(final String pointer, final boolean array) {
+            this.pointer = pointer;
+            this.array = array;
+        }
+    }
+}
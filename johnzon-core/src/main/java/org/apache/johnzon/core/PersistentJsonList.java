@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import jakarta.json.JsonValue;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Immutable list where updates share all the unchanged nodes with the previous version.
+ * Positional access and updates are O(log n).
+ */
+final class PersistentJsonList extends AbstractList<JsonValue> implements Serializable {
+    static final PersistentJsonList EMPTY = new PersistentJsonList(null);
+
+    private final PersistentTree.Node root;
+
+    private PersistentJsonList(final PersistentTree.Node root) {
+        this.root = root;
+    }
+
+    static PersistentJsonList of(final List<JsonValue> values) {
+        if (PersistentJsonList.class.isInstance(values)) {
+            return PersistentJsonList.class.cast(values);
+        }
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+        final Object[] array = values.toArray();
+        return new PersistentJsonList(PersistentTree.build(null, array, 0, array.length));
+    }
+
+    PersistentJsonList with(final int index, final JsonValue value) {
+        checkIndex(index, size());
+        return new PersistentJsonList(PersistentTree.setAt(root, index, value));
+    }
+
+    PersistentJsonList insert(final int index, final JsonValue value) {
+        checkIndex(index, size() + 1);
+        return new PersistentJsonList(PersistentTree.insertAt(root, index, value));
+    }
+
+    PersistentJsonList without(final int index) {
+        checkIndex(index, size());
+        return new PersistentJsonList(PersistentTree.removeAt(root, index));
+    }
+
+    @Override
+    public JsonValue get(final int index) {
+        checkIndex(index, size());
+        return JsonValue.class.cast(PersistentTree.getAt(root, index).value);
+    }
+
+    @Override
+    public int size() {
+        return PersistentTree.size(root);
+    }
+
+    @Override
+    public Iterator<JsonValue> iterator() {
+        final Iterator<PersistentTree.Node> nodes = PersistentTree.iterator(root);
+        return new Iterator<JsonValue>() {
+            @Override
+            public boolean hasNext() {
+                return nodes.hasNext();
+            }
+
+            @Override
+            public JsonValue next() {
+                return JsonValue.class.cast(nodes.next().value);
+            }
+        };
+    }
+
+    private static void checkIndex(final int index, final int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index + "/" + size);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import jakarta.json.JsonValue;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable insertion ordered map where updates share all the unchanged nodes with the previous version.
+ * Lookups and updates are O(log n), iteration follows the insertion order.
+ */
+final class PersistentJsonMap extends AbstractMap<String, JsonValue> implements Serializable {
+    private static final Comparator<Object> BY_NAME = (a, b) -> String.class.cast(a).compareTo(String.class.cast(b));
+    private static final Comparator<Object> BY_SEQUENCE = (a, b) -> Long.compare(Long.class.cast(a), Long.class.cast(b));
+
+    static final PersistentJsonMap EMPTY = new PersistentJsonMap(null, null, 0);
+
+    private final PersistentTree.Node byName; // name -> slot
+    private final PersistentTree.Node bySequence; // insertion sequence -> entry
+    private final long nextSequence;
+
+    private PersistentJsonMap(final PersistentTree.Node byName, final PersistentTree.Node bySequence, final long nextSequence) {
+        this.byName = byName;
+        this.bySequence = bySequence;
+        this.nextSequence = nextSequence;
+    }
+
+    static PersistentJsonMap of(final Map<String, JsonValue> values) {
+        if (PersistentJsonMap.class.isInstance(values)) {
+            return PersistentJsonMap.class.cast(values);
+        }
+        final int size = values.size();
+        if (size == 0) {
+            return EMPTY;
+        }
+        final Object[] sequences = new Object[size];
+        final Object[] entries = new Object[size];
+        final Slot[] slots = new Slot[size];
+        int i = 0;
+        for (final Map.Entry<String, JsonValue> entry : values.entrySet()) {
+            sequences[i] = (long) i;
+            entries[i] = new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+            slots[i] = new Slot(entry.getKey(), i, entry.getValue());
+            i++;
+        }
+        Arrays.sort(slots, (a, b) -> a.name.compareTo(b.name));
+        final Object[] names = new Object[size];
+        for (int j = 0; j < size; j++) {
+            names[j] = slots[j].name;
+        }
+        return new PersistentJsonMap(
+                PersistentTree.build(names, slots, 0, size), PersistentTree.build(sequences, entries, 0, size), size);
+    }
+
+    /**
+     * @param name the key to add or replace, existing keys keep their position.
+     * @param value the value to associate to the key.
+     * @return a new map sharing all untouched nodes with this one.
+     */
+    PersistentJsonMap with(final String name, final JsonValue value) {
+        final PersistentTree.Node existing = PersistentTree.find(byName, name, BY_NAME);
+        final long sequence = existing == null ? nextSequence : Slot.class.cast(existing.value).sequence;
+        return new PersistentJsonMap(
+                PersistentTree.put(byName, name, new Slot(name, sequence, value), BY_NAME),
+                PersistentTree.put(bySequence, sequence, new SimpleImmutableEntry<>(name, value), BY_SEQUENCE),
+                existing == null ? nextSequence + 1 : nextSequence);
+    }
+
+    /**
+     * @param name the key to remove.
+     * @return a new map without the key or this instance if the key is not present.
+     */
+    PersistentJsonMap without(final String name) {
+        final PersistentTree.Node existing = PersistentTree.find(byName, name, BY_NAME);
+        if (existing == null) {
+            return this;
+        }
+        return new PersistentJsonMap(
+                PersistentTree.remove(byName, name, BY_NAME),
+                PersistentTree.remove(bySequence, Slot.class.cast(existing.value).sequence, BY_SEQUENCE),
+                nextSequence);
+    }
+
+    @Override
+    public JsonValue get(final Object key) {
+        if (!String.class.isInstance(key)) {
+            return null;
+        }
+        final PersistentTree.Node node = PersistentTree.find(byName, key, BY_NAME);
+        return node == null ? null : Slot.class.cast(node.value).value;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return String.class.isInstance(key) && PersistentTree.find(byName, key, BY_NAME) != null;
+    }
+
+    @Override
+    public int size() {
+        return PersistentTree.size(byName);
+    }
+
+    @Override
+    public Set<Entry<String, JsonValue>> entrySet() {
+        return new AbstractSet<Entry<String, JsonValue>>() {
+            @Override
+            public Iterator<Entry<String, JsonValue>> iterator() {
+                final Iterator<PersistentTree.Node> nodes = PersistentTree.iterator(bySequence);
+                return new Iterator<Entry<String, JsonValue>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return nodes.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, JsonValue> next() {
+                        return (Entry<String, JsonValue>) nodes.next().value;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return PersistentJsonMap.this.size();
+            }
+        };
+    }
+
+    private static final class Slot implements Serializable {
+        private final String name;
+        private final long sequence;
+        private final JsonValue value;
+
+        private Slot(final String name, final long sequence, final JsonValue value) {
+            this.name = name;
+            this.sequence = sequence;
+            this.value = value;
+        }
+    }
+}
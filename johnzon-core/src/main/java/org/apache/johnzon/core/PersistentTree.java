@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable AVL tree where each node knows the size of its subtree.
+ * Updates only copy the nodes of the modified path (O(log n)), all other nodes are shared
+ * between the old and new versions.
+ *
+ * The tree can be used either ordered by key (with a comparator) or positional (by index).
+ */
+final class PersistentTree {
+    private PersistentTree() {
+        // no-op
+    }
+
+    static final class Node implements Serializable {
+        final Object key;
+        final Object value;
+        final Node left;
+        final Node right;
+        final int height;
+        final int size;
+
+        private Node(final Object key, final Object value, final Node left, final Node right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    static int size(final Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(final Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * @param keys the keys in the tree order.
+     * @param values the values (same order than keys).
+     * @param from first index (inclusive).
+     * @param to last index (exclusive).
+     * @return a balanced tree built in O(n).
+     */
+    static Node build(final Object[] keys, final Object[] values, final int from, final int to) {
+        if (from >= to) {
+            return null;
+        }
+        final int middle = (from + to) >>> 1;
+        return new Node(keys == null ? null : keys[middle], values[middle], build(keys, values, from, middle), build(keys, values, middle + 1, to));
+    }
+
+    static Node find(final Node root, final Object key, final Comparator<Object> comparator) {
+        Node current = root;
+        while (current != null) {
+            final int compare = comparator.compare(key, current.key);
+            if (compare == 0) {
+                return current;
+            }
+            current = compare < 0 ? current.left : current.right;
+        }
+        return null;
+    }
+
+    static Node put(final Node node, final Object key, final Object value, final Comparator<Object> comparator) {
+        if (node == null) {
+            return new Node(key, value, null, null);
+        }
+        final int compare = comparator.compare(key, node.key);
+        if (compare == 0) {
+            return new Node(key, value, node.left, node.right);
+        }
+        if (compare < 0) {
+            return balance(node.key, node.value, put(node.left, key, value, comparator), node.right);
+        }
+        return balance(node.key, node.value, node.left, put(node.right, key, value, comparator));
+    }
+
+    static Node remove(final Node node, final Object key, final Comparator<Object> comparator) {
+        if (node == null) {
+            return null;
+        }
+        final int compare = comparator.compare(key, node.key);
+        if (compare == 0) {
+            return merge(node.left, node.right);
+        }
+        if (compare < 0) {
+            return balance(node.key, node.value, remove(node.left, key, comparator), node.right);
+        }
+        return balance(node.key, node.value, node.left, remove(node.right, key, comparator));
+    }
+
+    static Node getAt(final Node root, final int index) {
+        Node current = root;
+        int remaining = index;
+        while (current != null) {
+            final int leftSize = size(current.left);
+            if (remaining == leftSize) {
+                return current;
+            }
+            if (remaining < leftSize) {
+                current = current.left;
+            } else {
+                remaining -= leftSize + 1;
+                current = current.right;
+            }
+        }
+        throw new IndexOutOfBoundsException(String.valueOf(index));
+    }
+
+    static Node setAt(final Node node, final int index, final Object value) {
+        final int leftSize = size(node.left);
+        if (index == leftSize) {
+            return new Node(node.key, value, node.left, node.right);
+        }
+        if (index < leftSize) {
+            return new Node(node.key, node.value, setAt(node.left, index, value), node.right);
+        }
+        return new Node(node.key, node.value, node.left, setAt(node.right, index - leftSize - 1, value));
+    }
+
+    static Node insertAt(final Node node, final int index, final Object value) {
+        if (node == null) {
+            return new Node(null, value, null, null);
+        }
+        final int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.key, node.value, insertAt(node.left, index, value), node.right);
+        }
+        return balance(node.key, node.value, node.left, insertAt(node.right, index - leftSize - 1, value));
+    }
+
+    static Node removeAt(final Node node, final int index) {
+        final int leftSize = size(node.left);
+        if (index == leftSize) {
+            return merge(node.left, node.right);
+        }
+        if (index < leftSize) {
+            return balance(node.key, node.value, removeAt(node.left, index), node.right);
+        }
+        return balance(node.key, node.value, node.left, removeAt(node.right, index - leftSize - 1));
+    }
+
+    static Iterator<Node> iterator(final Node root) {
+        return new Iterator<Node>() {
+            private final Deque<Node> stack = new ArrayDeque<>();
+
+            {
+                pushLeft(root);
+            }
+
+            private void pushLeft(final Node from) {
+                Node current = from;
+                while (current != null) {
+                    stack.push(current);
+                    current = current.left;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public Node next() {
+                if (stack.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                final Node next = stack.pop();
+                pushLeft(next.right);
+                return next;
+            }
+        };
+    }
+
+    private static Node merge(final Node left, final Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        Node min = right;
+        while (min.left != null) {
+            min = min.left;
+        }
+        return balance(min.key, min.value, left, removeAt(right, 0));
+    }
+
+    private static Node balance(final Object key, final Object value, final Node left, final Node right) {
+        final int leftHeight = height(left);
+        final int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node(left.key, left.value, left.left, new Node(key, value, left.right, right));
+            }
+            final Node pivot = left.right;
+            return new Node(pivot.key, pivot.value,
+                    new Node(left.key, left.value, left.left, pivot.left), new Node(key, value, pivot.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node(right.key, right.value, new Node(key, value, left, right.left), right.right);
+            }
+            final Node pivot = right.left;
+            return new Node(pivot.key, pivot.value,
+                    new Node(key, value, left, pivot.left), new Node(right.key, right.value, pivot.right, right.right));
+        }
+        return new Node(key, value, left, right);
+    }
+}
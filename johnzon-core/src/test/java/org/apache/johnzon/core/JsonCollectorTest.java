@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static java.util.function.Function.identity;
@@ -171,4 +172,36 @@ public class JsonCollectorTest {
         assertEquals(jsonObject.getJsonArray(ValueType.STRING.name()), expectedStrings);
     }
 
+    @Test
+    public void johnzonParallelToJsonArray() {
+        final JsonArray expected = IntStream.range(0, 100_000).mapToObj(Json::createValue).collect(JsonCollectors.toJsonArray());
+        final JsonArray parallel = IntStream.range(0, 100_000).parallel()
+                .mapToObj(i -> (JsonValue) Json.createValue(i))
+                .collect(JohnzonJsonCollectors.toJsonArray());
+        assertEquals(expected, parallel);
+        assertEquals(expected, IntStream.range(0, 100_000).mapToObj(i -> (JsonValue) Json.createValue(i))
+                .collect(JohnzonJsonCollectors.toJsonArray(100_000)));
+        assertEquals(JsonValue.EMPTY_JSON_ARRAY, IntStream.range(0, 0).parallel()
+                .mapToObj(i -> (JsonValue) Json.createValue(i)).collect(JohnzonJsonCollectors.toJsonArray()));
+    }
+
+    @Test
+    public void johnzonParallelToJsonObject() {
+        final JsonObject parallel = IntStream.range(0, 10_000).parallel().boxed()
+                .collect(JohnzonJsonCollectors.toJsonObject(i -> "k" + (i % 5_000), Json::createValue));
+        assertEquals(5_000, parallel.size());
+        assertEquals(5_001, parallel.getInt("k1")); // last one wins
+        assertEquals(IntStream.range(0, 5_000).mapToObj(i -> "k" + i).collect(Collectors.toList()), new ArrayList<>(parallel.keySet()));
+        assertEquals(parallel, parallel.entrySet().parallelStream().collect(JohnzonJsonCollectors.toJsonObject()));
+    }
+
+    @Test
+    public void arrayBuilderAddAll() {
+        final JsonArray array = Json.createArrayBuilder().add(1)
+                .addAll(Json.createArrayBuilder().add("a").add(true))
+                .addAll(Json.createArrayBuilder())
+                .build();
+        assertEquals("[1,\"a\",true]", array.toString());
+        assertEquals(array, Json.createArrayBuilder().addAll(Json.createArrayBuilder(array)).build());
+    }
 }
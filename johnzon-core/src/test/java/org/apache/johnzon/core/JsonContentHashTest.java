@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.List;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+import org.junit.Test;
+
+public class JsonContentHashTest {
+    @Test
+    public void equalValuesHaveSameHash() {
+        final JsonObject read = read("{\"a\":1,\"b\":[true,null,\"s\",1.5],\"c\":{\"d\":10000000000000000000000}}");
+        final JsonObject built = Json.createObjectBuilder()
+                .add("c", Json.createObjectBuilder().add("d", new BigDecimal("10000000000000000000000")))
+                .add("b", Json.createArrayBuilder().add(true).addNull().add("s").add(1.5))
+                .add("a", 1)
+                .build();
+        assertEquals(read, built);
+        assertEquals(JsonContentHash.of(read), JsonContentHash.of(built));
+        // not a johnzon structure but the same content
+        assertEquals(JsonContentHash.of(read.getJsonArray("b")), JsonContentHash.of(new DelegatingArray(read.getJsonArray("b"))));
+    }
+
+    @Test
+    public void differentValuesHaveDifferentHash() {
+        final JsonObject reference = read("{\"a\":1,\"b\":[1,2]}");
+        assertNotEquals(JsonContentHash.of(reference), JsonContentHash.of(read("{\"a\":1,\"b\":[2,1]}")));
+        assertNotEquals(JsonContentHash.of(reference), JsonContentHash.of(read("{\"a\":1.0,\"b\":[1,2]}")));
+        assertNotEquals(JsonContentHash.of(reference), JsonContentHash.of(read("{\"b\":1,\"a\":[1,2]}")));
+        assertNotEquals(JsonContentHash.of(reference), JsonContentHash.of(read("{\"a\":\"1\",\"b\":[1,2]}")));
+        assertNotEquals(JsonContentHash.of(JsonValue.EMPTY_JSON_ARRAY), JsonContentHash.of(JsonValue.EMPTY_JSON_OBJECT));
+    }
+
+    @Test
+    public void equalsUsesKnownHashes() {
+        final JsonObject a = read("{\"a\":[1,2,3],\"b\":\"x\"}");
+        final JsonObject b = read("{\"a\":[1,2,3],\"b\":\"y\"}");
+        JsonContentHash.of(a);
+        JsonContentHash.of(b);
+        assertNotEquals(a, b);
+        assertEquals(a, read("{\"b\":\"x\",\"a\":[1,2,3]}"));
+        assertEquals(a.getJsonArray("a"), b.getJsonArray("a"));
+    }
+
+    @Test
+    public void diffPrunesIdenticalSubtrees() {
+        final StringBuilder big = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                big.append(',');
+            }
+            big.append("{\"id\":").append(i).append(",\"tags\":[\"a\",\"b\"]}");
+        }
+        big.append(']');
+        final JsonObject source = read("{\"unchanged\":" + big + ",\"changed\":{\"value\":1}}");
+        final JsonObject target = read("{\"unchanged\":" + big + ",\"changed\":{\"value\":2}}");
+
+        final JsonPatch patch = Json.createDiff(source, target);
+        assertEquals("[{\"op\":\"replace\",\"path\":\"/changed/value\",\"value\":2}]", patch.toString());
+        assertEquals(target, patch.apply(source));
+
+        assertEquals("{\"changed\":{\"value\":2}}", Json.createMergeDiff(source, target).toJsonValue().toString());
+        assertEquals(JsonValue.EMPTY_JSON_OBJECT, Json.createMergeDiff(source, read(source.toString())).toJsonValue());
+        assertTrue(Json.createDiff(source, read(source.toString())).toJsonArray().isEmpty());
+    }
+
+    private static JsonObject read(final String json) {
+        try (final JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+
+    private static final class DelegatingArray extends AbstractList<JsonValue> implements JsonArray {
+        private final JsonArray delegate;
+
+        private DelegatingArray(final JsonArray delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public JsonValue get(final int index) {
+            return delegate.get(index);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public JsonObject getJsonObject(final int index) {
+            return delegate.getJsonObject(index);
+        }
+
+        @Override
+        public JsonArray getJsonArray(final int index) {
+            return delegate.getJsonArray(index);
+        }
+
+        @Override
+        public JsonNumber getJsonNumber(final int index) {
+            return delegate.getJsonNumber(index);
+        }
+
+        @Override
+        public JsonString getJsonString(final int index) {
+            return delegate.getJsonString(index);
+        }
+
+        @Override
+        public <T extends JsonValue> List<T> getValuesAs(final Class<T> clazz) {
+            return delegate.getValuesAs(clazz);
+        }
+
+        @Override
+        public String getString(final int index) {
+            return delegate.getString(index);
+        }
+
+        @Override
+        public String getString(final int index, final String defaultValue) {
+            return delegate.getString(index, defaultValue);
+        }
+
+        @Override
+        public int getInt(final int index) {
+            return delegate.getInt(index);
+        }
+
+        @Override
+        public int getInt(final int index, final int defaultValue) {
+            return delegate.getInt(index, defaultValue);
+        }
+
+        @Override
+        public boolean getBoolean(final int index) {
+            return delegate.getBoolean(index);
+        }
+
+        @Override
+        public boolean getBoolean(final int index, final boolean defaultValue) {
+            return delegate.getBoolean(index, defaultValue);
+        }
+
+        @Override
+        public boolean isNull(final int index) {
+            return delegate.isNull(index);
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return ValueType.ARRAY;
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.johnzon.core;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.junit.Assert.assertEquals;
 
@@ -27,6 +28,7 @@ import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Queue;
 
@@ -65,6 +67,15 @@ public class JsonGeneratorImplTest {
         assertEquals("{\n  \"foo\":\"bar\"\n}", writer.toString());
     }
 
+    @Test
+    public void writeKeyStartObjectFormatted() {
+        final StringWriter writer = new StringWriter();
+        Json.createGeneratorFactory(singletonMap(JsonGenerator.PRETTY_PRINTING, "true")).createGenerator(writer)
+            .writeStartObject().writeKey("foo").writeStartObject().write("a", 1).writeEnd().writeEnd().close();
+        // layout of the existing write paths, only the transcoder skips the indent after a key
+        assertEquals("{\n  \"foo\":  {\n    \"a\":1\n  }\n}", writer.toString());
+    }
+
     @Test
     public void writeKeyWriteNull() {
         final StringWriter writer = new StringWriter();
@@ -492,4 +503,51 @@ public class JsonGeneratorImplTest {
         Json.createGenerator(writer).write(true).close();
         assertEquals("true", writer.toString());
     }
+
+    @Test
+    public void writeBinary() {
+        for (final int bufferSize : new int[]{ 2, 5, 7, 64 * 1024 }) {
+            final JsonGeneratorFactoryImpl factory = new JsonGeneratorFactoryImpl(
+                    singletonMap(JsonGeneratorFactoryImpl.GENERATOR_BUFFER_LENGTH, bufferSize));
+            for (final int length : new int[]{ 0, 1, 2, 3, 4, 5, 10, 1000, 8193 }) {
+                final byte[] bytes = new byte[length];
+                for (int i = 0; i < length; i++) {
+                    bytes[i] = (byte) (i * 31 + 7);
+                }
+                final StringWriter writer = new StringWriter();
+                try (final JohnzonJsonGenerator generator = JohnzonJsonGenerator.class.cast(factory.createGenerator(writer))) {
+                    generator.writeStartObject();
+                    generator.writeBinary("basic", bytes, false);
+                    generator.writeKey("url").writeStartArray();
+                    generator.writeBinary(bytes, true);
+                    generator.writeEnd();
+                    generator.writeEnd();
+                }
+                assertEquals(bufferSize + "/" + length,
+                        "{\"basic\":\"" + Base64.getEncoder().encodeToString(bytes) + "\"," +
+                                "\"url\":[\"" + Base64.getUrlEncoder().encodeToString(bytes) + "\"]}",
+                        writer.toString());
+            }
+        }
+    }
+
+    @Test
+    public void writeFloat() {
+        final StringWriter writer = new StringWriter();
+        try (final JohnzonJsonGenerator generator = JohnzonJsonGenerator.class.cast(new JsonGeneratorFactoryImpl(emptyMap()).createGenerator(writer))) {
+            generator.writeStartArray();
+            generator.writeFloat(0.1f);
+            generator.writeFloat(-2.5f);
+            generator.writeEnd();
+        }
+        assertEquals("[0.1,-2.5]", writer.toString());
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void writeFloatNaN() {
+        try (final JohnzonJsonGenerator generator = JohnzonJsonGenerator.class.cast(new JsonGeneratorFactoryImpl(emptyMap()).createGenerator(new StringWriter()))) {
+            generator.writeStartArray();
+            generator.writeFloat(Float.NaN);
+        }
+    }
 }
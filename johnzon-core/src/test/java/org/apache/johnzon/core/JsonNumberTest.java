@@ -26,9 +26,12 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonNumber;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 
@@ -52,6 +55,34 @@ public class JsonNumberTest {
             // ok
         }
     }
+
+    @Test
+    public void lazyNumberBehavesAsBigDecimal() {
+        for (final String text : new String[]{
+                "1.50", "-0.5", "-0", "0.0000001", "3.0E-5", "1e0", "1E+2", "-12.25",
+                "123456789012345678901234567890", "12345678901234567890.125"}) {
+            final JsonNumber lazy = new JsonLazyNumberImpl(text);
+            final JsonNumber reference = new JsonNumberImpl(new BigDecimal(text));
+            assertEquals(text, reference.toString(), lazy.toString());
+            assertEquals(text, reference.isIntegral(), lazy.isIntegral());
+            assertEquals(text, reference.doubleValue(), lazy.doubleValue(), 0.);
+            assertEquals(text, reference.longValue(), lazy.longValue());
+            assertEquals(text, reference.hashCode(), lazy.hashCode());
+            assertEquals(text, reference, lazy);
+            assertEquals(text, lazy, reference);
+        }
+    }
+
+    @Test
+    public void readKeepsDigits() {
+        final JsonArray array = Json.createReader(new StringReader("[{\"a\":12345678901234567890.10},1.5,1,\"s\"]")).readArray();
+        final JsonNumber number = array.getJsonObject(0).getJsonNumber("a");
+        assertTrue(JsonLazyNumberImpl.class.isInstance(number));
+        assertEquals(1.2345678901234567E19, number.doubleValue(), 0.);
+        assertEquals(new BigDecimal("12345678901234567890.10"), number.bigDecimalValue());
+        assertEquals("[{\"a\":12345678901234567890.10},1.5,1,\"s\"]", array.toString());
+    }
+
     @Test
     public void equals() {
         final JsonNumber a = Json.createObjectBuilder().add("a", 1).build().getJsonNumber("a");
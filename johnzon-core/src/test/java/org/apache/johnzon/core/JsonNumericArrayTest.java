@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+
+import org.junit.Test;
+
+public class JsonNumericArrayTest {
+    @Test
+    public void longs() {
+        final JsonArray array = read("[1,2,-3,123456789012]");
+        assertTrue(JohnzonJsonNumericArray.class.isInstance(array));
+        final JohnzonJsonNumericArray numbers = JohnzonJsonNumericArray.class.cast(array);
+        assertTrue(numbers.isIntegral());
+        assertArrayEquals(new long[]{1, 2, -3, 123456789012L}, numbers.toLongArray());
+        assertEquals("[1,2,-3,123456789012]", array.toString());
+        assertEquals(Json.createArrayBuilder().add(1).add(2).add(-3).add(123456789012L).build(), array);
+        assertEquals(array, Json.createArrayBuilder().add(1).add(2).add(-3).add(123456789012L).build());
+        assertEquals(2, array.getInt(1));
+        assertEquals(JsonValue.ValueType.NUMBER, array.get(0).getValueType());
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void intOverflow() {
+        JohnzonJsonNumericArray.class.cast(read("[1,123456789012]")).toIntArray();
+    }
+
+    @Test
+    public void doubles() {
+        final JsonArray array = read("[1.5,-2.25,0.125]");
+        assertTrue(JohnzonJsonNumericArray.class.isInstance(array));
+        final JohnzonJsonNumericArray numbers = JohnzonJsonNumericArray.class.cast(array);
+        assertFalse(numbers.isIntegral());
+        assertArrayEquals(new double[]{1.5, -2.25, 0.125}, numbers.toDoubleArray(), 0.);
+        assertEquals("[1.5,-2.25,0.125]", array.toString());
+        assertEquals(1.5, array.getJsonNumber(0).doubleValue(), 0.);
+    }
+
+    @Test
+    public void fallback() {
+        final JsonArray mixed = read("[1,2,\"three\",[4,5],1.5]");
+        assertFalse(JohnzonJsonNumericArray.class.isInstance(mixed));
+        assertEquals("[1,2,\"three\",[4,5],1.5]", mixed.toString());
+        assertTrue(JohnzonJsonNumericArray.class.isInstance(mixed.getJsonArray(3)));
+
+        final JsonArray mixedNumbers = read("[1,2,1.5]"); // no silent conversion of the integers
+        assertFalse(JohnzonJsonNumericArray.class.isInstance(mixedNumbers));
+        assertEquals("[1,2,1.5]", mixedNumbers.toString());
+
+        final JsonArray notRoundTripping = read("[1.50]");
+        assertFalse(JohnzonJsonNumericArray.class.isInstance(notRoundTripping));
+        assertEquals("[1.50]", notRoundTripping.toString());
+    }
+
+    @Test
+    public void nested() {
+        try (final JsonReader reader = Json.createReader(new StringReader("{\"values\":[1,2,3]}"))) {
+            final JsonObject object = reader.readObject();
+            assertTrue(JohnzonJsonNumericArray.class.isInstance(object.getJsonArray("values")));
+            assertEquals("{\"values\":[1,2,3]}", object.toString());
+        }
+    }
+
+    private static JsonArray read(final String json) {
+        try (final JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readArray();
+        }
+    }
+}
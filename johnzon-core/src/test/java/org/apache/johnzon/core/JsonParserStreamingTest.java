@@ -20,10 +20,12 @@ package org.apache.johnzon.core;
 
 import static java.util.stream.Collectors.joining;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
@@ -188,4 +190,57 @@ public class JsonParserStreamingTest {
         }
     }
 
+    @Test
+    public void valueReader() throws IOException {
+        final String big = IntStream.range(0, 10_000).mapToObj(i -> "line " + i).collect(joining("\\n\\u00e9\\\""));
+        final String json = "{\"skipped\":\"" + big + "\",\"streamed\":\"" + big + "\",\"partial\":\"" + big + "\",\"after\":\"ok\"}";
+        final String expected = IntStream.range(0, 10_000).mapToObj(i -> "line " + i).collect(joining("\né\""));
+
+        // buffers and max string length much smaller than the values: only the reader can access them
+        final BufferStrategy.BufferProvider<char[]> bs = BufferStrategyFactory.valueOf("QUEUE").newCharProvider(64);
+        try (final JsonStreamParserImpl parser = new JsonStreamParserImpl(new StringReader(json), 64, bs, bs, true)) {
+            assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+            assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+            assertEquals(JsonParser.Event.VALUE_STRING, parser.next()); // auto adjusted buffer
+            assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+            assertEquals("streamed", parser.getString());
+            assertEquals(JsonParser.Event.VALUE_STRING, parser.next());
+            assertEquals(expected, read(parser.getValueReader()));
+            try {
+                parser.getString();
+                fail();
+            } catch (final IllegalStateException ise) {
+                // ok
+            }
+
+            assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+            assertEquals(JsonParser.Event.VALUE_STRING, parser.next());
+            final Reader reader = parser.getValueReader();
+            final char[] start = new char[6];
+            assertEquals(6, reader.read(start));
+            assertEquals("line 0", new String(start));
+
+            assertEquals(JsonParser.Event.KEY_NAME, parser.next()); // rest of partial skipped
+            assertEquals("after", parser.getString());
+            assertEquals(JsonParser.Event.VALUE_STRING, parser.next());
+            assertEquals("ok", read(parser.getValueReader()));
+            assertEquals(JsonParser.Event.END_OBJECT, parser.next());
+        }
+
+        try (final JsonParser parser = Json.createParser(new StringReader("\"root\""))) {
+            assertEquals(JsonParser.Event.VALUE_STRING, parser.next());
+            assertEquals(false, parser.hasNext());
+            assertEquals("root", read(JohnzonJsonParser.class.cast(parser).getValueReader()));
+        }
+    }
+
+    private static String read(final Reader reader) throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        final char[] buffer = new char[100];
+        int read;
+        while ((read = reader.read(buffer)) >= 0) {
+            builder.append(buffer, 0, read);
+        }
+        return builder.toString();
+    }
 }
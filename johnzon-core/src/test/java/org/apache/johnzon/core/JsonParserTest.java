@@ -124,6 +124,20 @@ public class JsonParserTest {
         parser.close();
     }
 
+    @Test
+    public void emptyHasNextIdempotent() {
+        final JsonParser parser = Json.createParser(new StringReader(""));
+        assertFalse(parser.hasNext());
+        assertFalse(parser.hasNext());
+        try {
+            parser.next();
+            fail();
+        } catch (final NoSuchElementException nsee) {
+            // expected
+        }
+        parser.close();
+    }
+
     @Test
     public void testParseGetObject() throws Exception {
         String json = "{\"a\":1,\"b\":2 }";
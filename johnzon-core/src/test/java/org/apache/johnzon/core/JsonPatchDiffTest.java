@@ -22,9 +22,13 @@ import static org.junit.Assert.assertNotNull;
 
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonPatch;
 import jakarta.json.JsonReader;
@@ -404,10 +408,9 @@ public class JsonPatchDiffTest {
         assertNotNull(patch);
 
         JsonArray operations = patch.toJsonArray();
-        assertEquals(2, operations.size());
+        assertEquals(1, operations.size());
 
-        containsOperation(operations, JsonPatch.Operation.REPLACE, "/0", Json.createValue("b"));
-        containsOperation(operations, JsonPatch.Operation.REMOVE, "/1");
+        containsOperation(operations, JsonPatch.Operation.REMOVE, "/0");
     }
 
     @Test
@@ -442,21 +445,126 @@ public class JsonPatchDiffTest {
         // {"a":"xa","c":{"d":"xd", "d2":"xd2"},"e":[1,3],"f":"xe"}
         String jsonB = "{\"a\":\"xa\",\"c\":{\"d\":\"xd\", \"d2\":\"xd2\"},\"e\":[1,3],\"f\":\"xe\"}";
 
-        // this results in 5 diff operations:
-        // removing b, adding d2, replacing 2 with 3 from e, removing 3 from 3, adding f
+        // this results in 4 diff operations:
+        // removing b, adding d2, removing 2 from e, adding f
         JsonPatch jsonPatch = Json.createDiff(Json.createReader(new StringReader(jsonA)).readObject(),
                 Json.createReader(new StringReader(jsonB)).readObject());
         assertNotNull(jsonPatch);
         JsonArray patchOperations = jsonPatch.toJsonArray();
         assertNotNull(patchOperations);
-        assertEquals(5, patchOperations.size());
+        assertEquals(4, patchOperations.size());
         containsOperation(patchOperations, JsonPatch.Operation.REMOVE, "/b");
         containsOperation(patchOperations, JsonPatch.Operation.ADD, "/c/d2", Json.createValue("xd2"));
-        containsOperation(patchOperations, JsonPatch.Operation.REPLACE, "/e/1", Json.createValue(3));
-        containsOperation(patchOperations, JsonPatch.Operation.REMOVE, "/e/2");
+        containsOperation(patchOperations, JsonPatch.Operation.REMOVE, "/e/1");
         containsOperation(patchOperations, JsonPatch.Operation.ADD, "/f", Json.createValue("xe"));
     }
 
+    @Test
+    public void testInsertAtHeadOfLargeArray() {
+        final JsonArrayBuilder source = Json.createArrayBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            source.add(i);
+        }
+        final JsonArray sourceArray = source.build();
+        final JsonArray target = Json.createArrayBuilder(sourceArray).add(0, "head").build();
+
+        final JsonArray operations = Json.createDiff(sourceArray, target).toJsonArray();
+        assertEquals(1, operations.size());
+        containsOperation(operations, JsonPatch.Operation.ADD, "/0", Json.createValue("head"));
+    }
+
+    @Test
+    public void testTooManyEditsOnlyDiffMiddleOfArray() {
+        final JsonArrayBuilder source = Json.createArrayBuilder();
+        final JsonArrayBuilder target = Json.createArrayBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            if (i == 100) {
+                for (int j = 0; j < 1_500; j++) { // more edits than the edit script allows
+                    target.add("new" + j);
+                }
+            }
+            source.add(i);
+            target.add(i);
+        }
+        final JsonArray sourceArray = source.build();
+        final JsonArray targetArray = target.build();
+
+        final JsonPatch patch = Json.createDiff(sourceArray, targetArray);
+        final JsonArray operations = patch.toJsonArray();
+        assertEquals(1_500, operations.size());
+        containsOperation(operations, JsonPatch.Operation.ADD, "/100", Json.createValue("new0"));
+        containsOperation(operations, JsonPatch.Operation.ADD, "/1599", Json.createValue("new1499"));
+        assertEquals(targetArray, patch.apply(sourceArray));
+    }
+
+    @Test
+    public void testScatteredEditsInLargeArray() {
+        final Random random = new Random(5678);
+        for (int iteration = 0; iteration < 20; iteration++) {
+            final List<JsonValue> values = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                values.add(Json.createValue(random.nextInt(500)));
+            }
+            final JsonArray source = Json.createArrayBuilder(values).build();
+            for (int edit = 0; edit < 100; edit++) {
+                switch (random.nextInt(3)) {
+                    case 0:
+                        values.remove(random.nextInt(values.size()));
+                        break;
+                    case 1:
+                        values.add(random.nextInt(values.size()), Json.createValue("new" + edit));
+                        break;
+                    default:
+                        values.add(random.nextInt(values.size()), values.remove(random.nextInt(values.size())));
+                }
+            }
+            final JsonArray target = Json.createArrayBuilder(values).build();
+            assertEquals(target, Json.createDiff(source, target).apply(source));
+        }
+    }
+
+    @Test
+    public void testMoveInArray() {
+        final JsonArray source = Json.createReader(new StringReader("[{\"a\":1},2,3,4,5]")).readArray();
+        final JsonArray target = Json.createReader(new StringReader("[2,3,4,5,{\"a\":1}]")).readArray();
+
+        final JsonPatch patch = Json.createDiff(source, target);
+        final JsonArray operations = patch.toJsonArray();
+        assertEquals(1, operations.size());
+        assertEquals("move", operations.getJsonObject(0).getString("op"));
+        assertEquals("/0", operations.getJsonObject(0).getString("from"));
+        assertEquals("/4", operations.getJsonObject(0).getString("path"));
+        assertEquals(target, patch.apply(source));
+    }
+
+    @Test
+    public void testRandomArrayDiffs() {
+        final Random random = new Random(1234);
+        for (int iteration = 0; iteration < 500; iteration++) {
+            final JsonArray source = randomArray(random);
+            final JsonArray target = randomArray(random);
+            final JsonPatch patch = Json.createDiff(source, target);
+            assertEquals(source + " -> " + target + ": " + patch, target, patch.apply(source));
+
+            final JsonObject wrapped = Json.createObjectBuilder().add("list", source).build();
+            final JsonObject wrappedTarget = Json.createObjectBuilder().add("list", target).build();
+            assertEquals(wrappedTarget, Json.createDiff(wrapped, wrappedTarget).apply(wrapped));
+        }
+    }
+
+    private static JsonArray randomArray(final Random random) {
+        final JsonArrayBuilder builder = Json.createArrayBuilder();
+        final int size = random.nextInt(12);
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(4) == 0) {
+                builder.add(Json.createObjectBuilder().add("k", random.nextInt(3)));
+            } else {
+                builder.add(random.nextInt(6));
+            }
+        }
+        return builder.build();
+    }
+
     private void containsOperation(JsonArray patchOperations,
                                    JsonPatch.Operation patchOperation,
                                    String jsonPointer) {
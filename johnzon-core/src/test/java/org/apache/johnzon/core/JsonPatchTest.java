@@ -1047,6 +1047,89 @@ public class JsonPatchTest {
     }
 
 
+    @Test
+    public void batchApplicationMatchesOperationByOperation() {
+        final JsonObject source = Json.createReader(new StringReader("" +
+                "{\"a\":{\"b\":[1,2,3],\"c\":{\"d\":\"e\"}},\"f\":\"g\",\"h\":[{\"i\":1},{\"i\":2}]}"))
+                .readObject();
+        final JsonArray operations = Json.createReader(new StringReader("[" +
+                "{\"op\":\"add\",\"path\":\"/a/b/1\",\"value\":10}," +
+                "{\"op\":\"add\",\"path\":\"/a/b/-\",\"value\":11}," +
+                "{\"op\":\"remove\",\"path\":\"/a/b/0\"}," +
+                "{\"op\":\"replace\",\"path\":\"/f\",\"value\":\"x\"}," +
+                "{\"op\":\"add\",\"path\":\"/a/c/new\",\"value\":{\"n\":true}}," +
+                "{\"op\":\"add\",\"path\":\"/a/c/new/m\",\"value\":null}," +
+                "{\"op\":\"copy\",\"from\":\"/a/c\",\"path\":\"/h/0/copy\"}," +
+                "{\"op\":\"replace\",\"path\":\"/a/c/d\",\"value\":\"changed after copy\"}," +
+                "{\"op\":\"move\",\"from\":\"/h/1\",\"path\":\"/moved\"}," +
+                "{\"op\":\"add\",\"path\":\"/moved/j\",\"value\":[]}," +
+                "{\"op\":\"test\",\"path\":\"/h/0/copy/d\",\"value\":\"e\"}," +
+                "{\"op\":\"test\",\"path\":\"/moved\",\"value\":{\"i\":2,\"j\":[]}}," +
+                "{\"op\":\"replace\",\"path\":\"/a/b/2\",\"value\":12}" +
+                "]")).readArray();
+
+        JsonStructure expected = source;
+        for (final JsonValue operation : operations) { // one patch per operation
+            expected = Json.createPatch(Json.createArrayBuilder().add(operation).build()).apply(expected);
+        }
+        final JsonObject patched = Json.createPatch(operations).apply(source);
+        assertEquals(expected.toString(), patched.toString());
+        assertEquals("{\"a\":{\"b\":[10,2,12,11],\"c\":{\"new\":{\"n\":true,\"m\":null},\"d\":\"changed after copy\"}}," +
+                "\"moved\":{\"i\":2,\"j\":[]},\"f\":\"x\",\"h\":[{\"i\":1,\"copy\":{\"d\":\"e\",\"new\":{\"n\":true,\"m\":null}}}]}",
+                patched.toString());
+        assertSame(source.getJsonArray("h").getJsonObject(0).get("i"), patched.getJsonArray("h").getJsonObject(0).get("i"));
+    }
+
+    @Test
+    public void batchApplicationCopiesAndTestsThawedValues() {
+        final JsonObject source = Json.createReader(new StringReader("{\"a\":{\"b\":[1,{\"c\":2}]}}")).readObject();
+        final JsonArray operations = Json.createReader(new StringReader("[" +
+                "{\"op\":\"add\",\"path\":\"/a/b/1/d\",\"value\":3}," +
+                "{\"op\":\"copy\",\"from\":\"/a\",\"path\":\"/copy\"}," +
+                "{\"op\":\"add\",\"path\":\"/copy/b/1/e\",\"value\":4}," +
+                "{\"op\":\"remove\",\"path\":\"/copy/b/0\"}," +
+                "{\"op\":\"test\",\"path\":\"/a\",\"value\":{\"b\":[1,{\"d\":3,\"c\":2}]}}," +
+                "{\"op\":\"test\",\"path\":\"/copy/b\",\"value\":[{\"e\":4,\"c\":2,\"d\":3}]}" +
+                "]")).readArray();
+        final JsonObject patched = Json.createPatch(operations).apply(source);
+        assertEquals("{\"a\":{\"b\":[1,{\"c\":2,\"d\":3}]},\"copy\":{\"b\":[{\"c\":2,\"e\":4,\"d\":3}]}}", patched.toString());
+
+        try {
+            Json.createPatch(Json.createArrayBuilder()
+                    .add(operations.get(0))
+                    .add(Json.createReader(new StringReader("{\"op\":\"test\",\"path\":\"/a/b\",\"value\":[1,{\"c\":2}]}")).readObject())
+                    .build())
+                    .apply(source);
+            Assert.fail();
+        } catch (final JsonException expected) {
+            // ok
+        }
+    }
+
+    @Test
+    public void batchApplicationErrors() {
+        final JsonObject source = Json.createObjectBuilder().add("a", Json.createArrayBuilder().add(1)).build();
+        for (final String operation : new String[]{
+                "{\"op\":\"remove\",\"path\":\"/missing\"}",
+                "{\"op\":\"remove\",\"path\":\"\"}",
+                "{\"op\":\"replace\",\"path\":\"/a/1\",\"value\":1}",
+                "{\"op\":\"add\",\"path\":\"/a/2\",\"value\":1}",
+                "{\"op\":\"add\",\"path\":\"/missing/b\",\"value\":1}",
+                "{\"op\":\"move\",\"from\":\"/missing\",\"path\":\"/b\"}",
+                "{\"op\":\"test\",\"path\":\"/a/0\",\"value\":2}"}) {
+            final JsonPatch patch = Json.createPatch(Json.createArrayBuilder()
+                    .add(Json.createObjectBuilder().add("op", "add").add("path", "/b").add("value", 1))
+                    .add(Json.createReader(new StringReader(operation)).readObject())
+                    .build());
+            try {
+                patch.apply(source);
+                Assert.fail(operation);
+            } catch (final JsonException je) {
+                // ok
+            }
+        }
+    }
+
     private static String toJsonString(final JsonStructure value) {
         return value.toString();
     }
@@ -33,10 +33,14 @@ import jakarta.json.spi.JsonProvider;
 import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class JsonPointerTest {
 
@@ -773,6 +777,39 @@ public class JsonPointerTest {
     }
 
 
+    @Test
+    public void testFindWithoutException() {
+        final JsonObject document = Json.createObjectBuilder()
+                .add("list", Json.createArrayBuilder().add("a").add(Json.createObjectBuilder().add("b", "c")))
+                .add("scalar", 1)
+                .build();
+        assertEquals("c", JsonString.class.cast(new JsonPointerImpl(JsonProvider.provider(), "/list/1/b").find(document)).getString());
+        assertSame(document, new JsonPointerImpl(JsonProvider.provider(), "").find(document));
+        for (final String missing : new String[]{"/missing", "/list/2", "/list/-", "/list/01", "/list/x", "/list/-1", "/scalar/a", "/list/1/b/c"}) {
+            final JsonPointerImpl pointer = new JsonPointerImpl(JsonProvider.provider(), missing);
+            assertNull(missing, pointer.find(document));
+            assertFalse(missing, pointer.containsValue(document));
+            try {
+                pointer.getValue(document);
+                fail(missing);
+            } catch (final JsonException je) {
+                // ok
+            }
+        }
+    }
+
+    @Test
+    public void testPointerCache() {
+        final JsonProvider provider = new JsonProviderImpl();
+        assertSame(provider.createPointer("/a/0"), provider.createPointer("/a/0"));
+        assertNotSame(provider.createPointer("/a/0"), provider.createPointer("/a/1"));
+
+        for (int i = 0; i < 1000; i++) { // more than the cache size
+            provider.createPointer("/dynamic/" + i);
+        }
+        assertSame(provider.createPointer("/after"), provider.createPointer("/after"));
+    }
+
     private JsonStructure getJsonDocument() {
         JsonReader reader = Json.createReaderFactory(Collections.emptyMap()).createReader(
                 Thread.currentThread().getContextClassLoader().getResourceAsStream("json/jsonPointerTest.json"));
@@ -18,12 +18,20 @@
  */
 package org.apache.johnzon.core;
 
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import jakarta.json.Json;
 import jakarta.json.JsonNumber;
+import jakarta.json.JsonReader;
 import jakarta.json.JsonValue;
+import jakarta.json.JsonWriter;
+import jakarta.json.stream.JsonGenerator;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -83,4 +91,48 @@ public class JsonProviderTest {
 
         Assert.assertEquals(bi, val.bigIntegerValue());
     }
+
+    @Test
+    public void factoriesAreReused() {
+        final JsonProviderImpl provider = new JsonProviderImpl();
+        Assert.assertSame(provider.createReaderFactory(null), provider.createReaderFactory(Collections.emptyMap()));
+
+        final Map<String, Object> config = new HashMap<>();
+        config.put(JsonGenerator.PRETTY_PRINTING, true);
+        Assert.assertSame(provider.createGeneratorFactory(config), provider.createGeneratorFactory(new HashMap<>(config)));
+        Assert.assertNotSame(provider.createGeneratorFactory(config), provider.createGeneratorFactory(null));
+        Assert.assertNotSame(provider.createGeneratorFactory(config), provider.createWriterFactory(config));
+
+        // once the cache is full new configurations are still cached
+        for (int i = 0; i < 100; i++) {
+            provider.createGeneratorFactory(Collections.singletonMap(JsonGeneratorFactoryImpl.GENERATOR_BUFFER_LENGTH, 64 + i));
+        }
+        final Map<String, ?> after = Collections.singletonMap(JsonGeneratorFactoryImpl.GENERATOR_BUFFER_LENGTH, 32);
+        Assert.assertSame(provider.createGeneratorFactory(after), provider.createGeneratorFactory(after));
+    }
+
+    @Test
+    public void bufferPoolsAreShared() {
+        final Map<String, Object> config = Collections.singletonMap(JsonGeneratorFactoryImpl.GENERATOR_BUFFER_LENGTH, 123);
+        Assert.assertSame(
+                new JsonGeneratorFactoryImpl(config).getCharBufferProvider(123),
+                new JsonGeneratorFactoryImpl(config).getCharBufferProvider(123));
+        Assert.assertNotSame(
+                new JsonGeneratorFactoryImpl(config).getCharBufferProvider(123),
+                new JsonGeneratorFactoryImpl(Collections.singletonMap(AbstractJsonFactory.BUFFER_STRATEGY, "BY_INSTANCE"))
+                        .getCharBufferProvider(123));
+    }
+
+    @Test
+    public void facade() {
+        final StringWriter out = new StringWriter();
+        try (final JsonReader reader = JohnzonJson.createReader(new StringReader("{\"a\":[1,true]}"));
+             final JsonWriter writer = JohnzonJson.createWriter(out)) {
+            writer.write(reader.read());
+        }
+        Assert.assertEquals("{\"a\":[1,true]}", out.toString());
+        Assert.assertSame(JohnzonJson.readerFactory(), JohnzonJson.readerFactory());
+        Assert.assertSame(JohnzonJson.prettyWriterFactory(), JohnzonJson.prettyWriterFactory());
+        Assert.assertEquals(JsonValue.EMPTY_JSON_OBJECT, JohnzonJson.createObjectBuilder().build());
+    }
 }
@@ -63,4 +63,30 @@ public class JsonStreamParserImplTest {
                 asList("START_OBJECT", "KEY_NAME", "VALUE_STRING", "{\"foo\":\"barbar\\barbarbar\"}", "END_OBJECT"),
                 events);
     }
+
+    @Test
+    public void readChars() {
+        final String json = "{\"a_long_key_name\":\"v\\u0041lue\",\"n\":12}";
+        for (final int bufferSize : new int[]{ 4, 1024 }) {
+            final JohnzonJsonParser parser = new JsonStreamParserImpl(new ByteArrayInputStream(json
+                    .getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8,
+                    1024,
+                    BufferStrategyFactory.valueOf("QUEUE").newCharProvider(bufferSize),
+                    BufferStrategyFactory.valueOf("QUEUE").newCharProvider(1024),
+                    true);
+            final List<String> values = new ArrayList<>();
+            while (parser.hasNext()) {
+                switch (parser.next()) {
+                    case KEY_NAME:
+                    case VALUE_STRING:
+                    case VALUE_NUMBER:
+                        values.add(parser.readChars(String::new));
+                        break;
+                    default:
+                }
+            }
+            parser.close();
+            assertEquals(asList("a_long_key_name", "vAlue", "n", "12"), values);
+        }
+    }
 }
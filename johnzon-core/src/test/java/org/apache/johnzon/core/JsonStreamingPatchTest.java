@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+
+import org.junit.Test;
+
+public class JsonStreamingPatchTest {
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+    private static final String DOCUMENT = "{\"name\":\"doc\",\"count\":12345678901234567890.10,"
+            + "\"items\":[{\"id\":1,\"tags\":[\"a\",\"b\"]},{\"id\":2,\"tags\":[]},{\"id\":3}],"
+            + "\"meta\":{\"created\":\"today\",\"nested\":{\"deep\":true,\"list\":[1,2,3]}},\"empty\":null}";
+
+    @Test
+    public void patchMatchesDom() {
+        assertPatch("[{\"op\":\"replace\",\"path\":\"/name\",\"value\":\"renamed\"}]");
+        assertPatch("[{\"op\":\"add\",\"path\":\"/items/1/tags/-\",\"value\":\"x\"},"
+                + "{\"op\":\"remove\",\"path\":\"/meta/nested/list/0\"}]");
+        assertPatch("[{\"op\":\"add\",\"path\":\"/items/0\",\"value\":{\"id\":0}},"
+                + "{\"op\":\"replace\",\"path\":\"/items/1/id\",\"value\":10}]");
+        assertPatch("[{\"op\":\"move\",\"from\":\"/meta/nested/deep\",\"path\":\"/meta/deep\"},"
+                + "{\"op\":\"copy\",\"from\":\"/items/2\",\"path\":\"/items/-\"},"
+                + "{\"op\":\"test\",\"path\":\"/items/3/id\",\"value\":3}]");
+        assertPatch("[{\"op\":\"add\",\"path\":\"/meta/nested/more\",\"value\":[1]},"
+                + "{\"op\":\"remove\",\"path\":\"/meta/nested\"}]");
+        assertPatch("[{\"op\":\"add\",\"path\":\"/added\",\"value\":1}]"); // root scope
+        assertPatch("[{\"op\":\"remove\",\"path\":\"/name\"},{\"op\":\"add\",\"path\":\"/name\",\"value\":2},"
+                + "{\"op\":\"replace\",\"path\":\"/meta/nested\",\"value\":{}},{\"op\":\"add\",\"path\":\"/meta/nested/x\",\"value\":1},"
+                + "{\"op\":\"test\",\"path\":\"/empty\",\"value\":null}]");
+        assertPatch("[{\"op\":\"remove\",\"path\":\"/items/0\"},{\"op\":\"replace\",\"path\":\"/items/0/id\",\"value\":20}]");
+        assertPatch("[{\"op\":\"move\",\"from\":\"/name\",\"path\":\"/renamed\"}]"); // whole document
+        assertPatch("[]");
+    }
+
+    @Test
+    public void rootMembersAreStreamed() {
+        // untouched members keep their position, added ones are written at the end
+        final String patch = "[{\"op\":\"replace\",\"path\":\"/count\",\"value\":1},{\"op\":\"remove\",\"path\":\"/empty\"},"
+                + "{\"op\":\"add\",\"path\":\"/z\",\"value\":true},{\"op\":\"add\",\"path\":\"/a\",\"value\":false}]";
+        assertEquals("{\"name\":\"doc\",\"count\":1,\"items\":[{\"id\":1,\"tags\":[\"a\",\"b\"]},{\"id\":2,\"tags\":[]},{\"id\":3}],"
+                        + "\"meta\":{\"created\":\"today\",\"nested\":{\"deep\":true,\"list\":[1,2,3]}},\"z\":true,\"a\":false}",
+                stream(new JsonStreamingPatch(PROVIDER, PROVIDER.createPatch(Json.createReader(new StringReader(patch)).readArray()))));
+        assertPatch(patch);
+    }
+
+    @Test
+    public void patchErrors() {
+        assertFails("[{\"op\":\"remove\",\"path\":\"/missing/key\"}]");
+        assertFails("[{\"op\":\"remove\",\"path\":\"/meta/missing\"}]");
+        assertFails("[{\"op\":\"test\",\"path\":\"/items/0/id\",\"value\":2}]");
+        assertFails("[{\"op\":\"remove\",\"path\":\"/missing\"}]");
+        assertFails("[{\"op\":\"replace\",\"path\":\"/name/key\",\"value\":1}]");
+    }
+
+    @Test
+    public void mergePatchMatchesDom() {
+        assertMergePatch("{\"name\":\"renamed\",\"empty\":\"filled\"}");
+        assertMergePatch("{\"meta\":{\"nested\":{\"deep\":null,\"new\":{\"a\":null}},\"created\":null},\"items\":null}");
+        assertMergePatch("{\"name\":{\"first\":\"a\"},\"other\":1}");
+        assertMergePatch("[1,2]");
+        assertMergePatch("{}");
+    }
+
+    private static void assertPatch(final String patch) {
+        final JsonPatch jsonPatch = PROVIDER.createPatch(Json.createReader(new StringReader(patch)).readArray());
+        final JsonStructure expected = jsonPatch.apply(read());
+        assertEquals(expected, read(stream(new JsonStreamingPatch(PROVIDER, jsonPatch))));
+    }
+
+    private static void assertMergePatch(final String patch) {
+        final JsonMergePatch mergePatch = PROVIDER.createMergePatch(Json.createReader(new StringReader(patch)).readValue());
+        final JsonValue expected = mergePatch.apply(read());
+        assertEquals(expected, Json.createReader(new StringReader(stream(new JsonStreamingPatch(PROVIDER, mergePatch)))).readValue());
+    }
+
+    private static void assertFails(final String patch) {
+        final JsonPatch jsonPatch = PROVIDER.createPatch(Json.createReader(new StringReader(patch)).readArray());
+        try {
+            jsonPatch.apply(read());
+            fail("DOM should fail");
+        } catch (final JsonException expected) {
+            // ok
+        }
+        try {
+            stream(new JsonStreamingPatch(PROVIDER, jsonPatch));
+            fail("stream should fail");
+        } catch (final JsonException expected) {
+            // ok
+        }
+    }
+
+    private static String stream(final JsonStreamingPatch patch) {
+        final StringWriter writer = new StringWriter();
+        try (final JsonParser parser = Json.createParser(new StringReader(DOCUMENT));
+             final JsonGenerator generator = Json.createGenerator(writer)) {
+            patch.apply(parser, generator);
+        }
+        return writer.toString();
+    }
+
+    private static JsonStructure read() {
+        return read(DOCUMENT);
+    }
+
+    private static JsonStructure read(final String json) {
+        try (final JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.read();
+        }
+    }
+}
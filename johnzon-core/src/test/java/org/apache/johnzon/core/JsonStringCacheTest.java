@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+
+import org.junit.Test;
+
+public class JsonStringCacheTest {
+    @Test
+    public void reader() {
+        final JsonStringCache cache = new JsonStringCache(64, 8);
+        final String json = "[{\"currency\":\"EUR\",\"label\":\"a long label value\"}," +
+                "{\"currency\":\"EUR\",\"label\":\"a long label value\"},\"EUR\"]";
+        try (final JsonReader reader = Json.createReaderFactory(singletonMap(JsonStringCache.STRING_DEDUPLICATION, cache))
+                .createReader(new StringReader(json))) {
+            final JsonArray array = reader.readArray();
+            assertSame(array.getJsonObject(0).get("currency"), array.getJsonObject(1).get("currency"));
+            assertSame(array.getJsonObject(0).get("currency"), array.get(2));
+            assertNotSame(array.getJsonObject(0).get("label"), array.getJsonObject(1).get("label")); // too long
+            assertEquals(json, array.toString());
+        }
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(2. / 3, cache.getHitRatio(), 0.0001);
+    }
+
+    @Test
+    public void builder() {
+        final Map<String, Object> config = new HashMap<>();
+        config.put(JsonStringCache.STRING_DEDUPLICATION, "16");
+        config.put(JsonStringCache.STRING_DEDUPLICATION_MAX_LENGTH, 4);
+        final JsonBuilderFactory factory = Json.createBuilderFactory(config);
+        final JsonArray array = factory.createArrayBuilder()
+                .add("OK")
+                .add(factory.createObjectBuilder().add("status", "OK"))
+                .add("not deduplicated")
+                .build();
+        assertSame(array.get(0), array.getJsonObject(1).get("status"));
+    }
+
+    @Test
+    public void builderInitialValues() {
+        final JsonBuilderFactory factory = Json.createBuilderFactory(singletonMap(JsonStringCache.STRING_DEDUPLICATION, "16"));
+        final Map<String, Object> nested = new HashMap<>();
+        nested.put("status", "OK");
+        final Map<String, Object> values = new HashMap<>();
+        values.put("status", "OK");
+        values.put("nested", nested);
+        values.put("items", asList("OK", "OK"));
+        final JsonObject object = factory.createObjectBuilder(values).build();
+        assertSame(object.get("status"), object.getJsonObject("nested").get("status"));
+        assertSame(object.get("status"), object.getJsonArray("items").get(0));
+        assertSame(object.get("status"), object.getJsonArray("items").get(1));
+
+        final JsonArray array = factory.createArrayBuilder(asList("OK", "OK")).build();
+        assertSame(array.get(0), array.get(1));
+    }
+
+    @Test
+    public void collisionsReplace() {
+        final JsonStringCache cache = new JsonStringCache(1, 32);
+        assertEquals(1, cache.size());
+        assertSame(cache.of("a"), cache.of("a"));
+        cache.of("b");
+        assertEquals("a", cache.of("a").getString());
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+    }
+}
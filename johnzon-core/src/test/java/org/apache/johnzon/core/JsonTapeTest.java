@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+
+import org.junit.Test;
+
+public class JsonTapeTest {
+    private static final String JSON = "{\"name\":\"johnzon\",\"count\":3,\"big\":12345678901234567890.5,\"ok\":true," +
+            "\"nothing\":null,\"nested\":{\"list\":[1,\"two\",{\"three\":3},[4]]},\"empty\":{},\"none\":[]}";
+
+    @Test
+    public void navigate() {
+        final JsonObject root = read(JSON).asJsonObject();
+        assertEquals(8, root.size());
+        assertEquals("johnzon", root.getString("name"));
+        assertEquals(3, root.getInt("count"));
+        assertEquals(new BigDecimal("12345678901234567890.5"), root.getJsonNumber("big").bigDecimalValue());
+        assertTrue(root.getBoolean("ok"));
+        assertTrue(root.isNull("nothing"));
+        assertNull(root.get("missing"));
+        assertFalse(root.containsKey("missing"));
+
+        final JsonArray list = root.getJsonObject("nested").getJsonArray("list");
+        assertEquals(4, list.size());
+        assertEquals(1, list.getInt(0));
+        assertEquals("two", list.getString(1));
+        assertEquals(3, list.getJsonObject(2).getInt("three"));
+        assertEquals(4, list.getJsonArray(3).getInt(0));
+        assertTrue(root.getJsonObject("empty").isEmpty());
+        assertTrue(root.getJsonArray("none").isEmpty());
+    }
+
+    @Test
+    public void equalsDom() {
+        final JsonValue dom = Json.createReader(new StringReader(JSON)).readValue();
+        final JsonValue tape = read(JSON);
+        assertEquals(dom, tape);
+        assertEquals(tape, dom);
+        assertEquals(dom.hashCode(), tape.hashCode());
+        assertEquals(dom.toString(), tape.toString());
+    }
+
+    @Test
+    public void scalarRoot() {
+        assertEquals("\"a\\\"b\"", read("\"a\\\"b\"").toString());
+        assertEquals(JsonValue.TRUE, read("true"));
+        assertEquals(Json.createValue(5), read("5"));
+    }
+
+    private static JsonValue read(final String json) {
+        try (final JsonParser parser = Json.createParser(new StringReader(json))) {
+            return JsonTape.read(parser, BufferStrategyFactory.valueOf("QUEUE").newCharProvider(1024)).getRoot();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+
+import org.junit.Test;
+
+public class JsonTranscoderTest {
+    private static final String DOCUMENT = "{ \"name\" : \"a \\\"quoted\\\" \\u00e9 value\", \"n\": -1.50e+10, \"big\": 123456789012345678901234567890,\n"
+            + "  \"list\": [ 1, true, false, null, { \"password\": \"secret\", \"k\\/ey\": [] } ],\n"
+            + "  \"nested\": { \"password\": { \"deep\": [1, 2] }, \"keep\": \"\" } }";
+
+    @Test
+    public void minify() {
+        final StringWriter writer = new StringWriter();
+        JsonTranscoder.minify(new StringReader(DOCUMENT), writer);
+        assertEquals("{\"name\":\"a \\\"quoted\\\" é value\",\"n\":-1.50e+10,\"big\":123456789012345678901234567890,"
+                + "\"list\":[1,true,false,null,{\"password\":\"secret\",\"k/ey\":[]}],"
+                + "\"nested\":{\"password\":{\"deep\":[1,2]},\"keep\":\"\"}}", writer.toString());
+        assertEquals(Json.createReader(new StringReader(DOCUMENT)).readValue(), Json.createReader(new StringReader(writer.toString())).readValue());
+    }
+
+    @Test
+    public void prettyPrint() {
+        final StringWriter writer = new StringWriter();
+        JsonTranscoder.prettyPrint(new StringReader("{\"a\":[1,{\"b\":\"c\"}]}"), writer);
+
+        final StringWriter expected = new StringWriter();
+        try (final JsonGenerator generator = Json.createGeneratorFactory(singletonMap(JsonGenerator.PRETTY_PRINTING, true)).createGenerator(expected)) {
+            generator.write(Json.createReader(new StringReader("{\"a\":[1,{\"b\":\"c\"}]}")).readValue());
+        }
+        assertEquals(expected.toString(), writer.toString());
+    }
+
+    @Test
+    public void filterKeys() {
+        final StringBuilder seen = new StringBuilder();
+        final JsonTranscoder transcoder = new JsonTranscoder((pointer, key) -> {
+            seen.append(pointer).append('|').append(key).append(' ');
+            if ("password".equals(key)) {
+                return null;
+            }
+            return "name".equals(key) ? "label" : key;
+        });
+        final StringWriter writer = new StringWriter();
+        try (final JsonParser parser = Json.createParser(new StringReader(DOCUMENT));
+             final JsonGenerator generator = Json.createGenerator(writer)) {
+            transcoder.transcode(parser, generator);
+        }
+        assertEquals("{\"label\":\"a \\\"quoted\\\" é value\",\"n\":-1.50e+10,\"big\":123456789012345678901234567890,"
+                + "\"list\":[1,true,false,null,{\"k/ey\":[]}],\"nested\":{\"keep\":\"\"}}", writer.toString());
+        assertEquals("|name |n |big |list /list/4|password /list/4|k/ey |nested /nested|password /nested|keep ", seen.toString());
+    }
+
+    @Test
+    public void smallBuffers() { // values crossing the parser and generator buffers
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 200; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"key").append(i).append("\":\"value ").append(i).append(" with some text\",\"n\":").append(i * 1.5).append('}');
+        }
+        json.append(']');
+        final JsonParserFactory parserFactory = Json.createParserFactory(singletonMap(JsonParserFactoryImpl.BUFFER_LENGTH, 16));
+        final StringWriter writer = new StringWriter();
+        try (final JsonParser parser = parserFactory.createParser(new StringReader(json.toString()));
+             final JsonGenerator generator = Json.createGeneratorFactory(singletonMap(JsonGeneratorFactoryImpl.GENERATOR_BUFFER_LENGTH, 8))
+                     .createGenerator(writer)) {
+            JsonTranscoder.copy(parser, generator);
+        }
+        assertEquals(json.toString(), writer.toString());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.core;
+
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+
+import org.junit.Test;
+
+public class PersistentJsonStructuresTest {
+    private final JsonBuilderFactory factory = Json.createBuilderFactory(singletonMap(JsonBuilderFactoryImpl.PERSISTENT_STRUCTURES, true));
+
+    @Test
+    public void pointerSharesUnchangedValues() {
+        final JsonObject untouched = factory.createObjectBuilder().add("value", 1).build();
+        final JsonObject root = factory.createObjectBuilder()
+                .add("untouched", untouched)
+                .add("nested", factory.createObjectBuilder().add("a", 1).add("b", 2))
+                .add("list", factory.createArrayBuilder().add(1).add(2).add(3))
+                .build();
+
+        final JsonObject added = Json.createPointer("/nested/c").add(root, Json.createValue(3));
+        assertSame(untouched, added.get("untouched"));
+        assertSame(root.get("list"), added.get("list"));
+        assertEquals("{\"a\":1,\"b\":2,\"c\":3}", added.getJsonObject("nested").toString());
+        assertTrue(JsonObjectImpl.class.cast(added.getJsonObject("nested")).isPersistent());
+
+        final JsonObject replaced = Json.createPointer("/nested/a").replace(root, Json.createValue(0));
+        assertEquals(0, replaced.getJsonObject("nested").getInt("a"));
+        assertSame(untouched, replaced.get("untouched"));
+
+        final JsonObject removed = Json.createPointer("/list/1").remove(root);
+        assertEquals("[1,3]", removed.getJsonArray("list").toString());
+        assertSame(untouched, removed.get("untouched"));
+
+        // original is not modified
+        assertEquals("{\"untouched\":{\"value\":1},\"nested\":{\"a\":1,\"b\":2},\"list\":[1,2,3]}", root.toString());
+    }
+
+    @Test
+    public void patch() {
+        final JsonObject root = factory.createObjectBuilder()
+                .add("list", factory.createArrayBuilder().add(1).add(2).add(3))
+                .build();
+        final JsonPatch patch = Json.createPatchBuilder()
+                .add("/list/0", 0)
+                .remove("/list/3")
+                .add("/list/-", 4)
+                .add("/name", "johnzon")
+                .build();
+        final JsonObject patched = patch.apply(root);
+        assertEquals("{\"list\":[0,1,2,4],\"name\":\"johnzon\"}", patched.toString());
+        assertEquals(Json.createReader(new StringReader(patched.toString())).readObject(), patched);
+    }
+
+    @Test
+    public void largeArray() {
+        JsonArray array = factory.createArrayBuilder().build();
+        for (int i = 0; i < 1000; i++) {
+            array = Json.createPointer("/" + (i / 2)).add(array, Json.createValue(i));
+        }
+        assertEquals(1000, array.size());
+        for (int i = 0; i < 1000; i++) {
+            array = Json.createPointer("/0").remove(array);
+        }
+        assertTrue(array.isEmpty());
+    }
+}
@@ -283,6 +283,7 @@ public class JohnzonBuilder implements JsonbBuilder {
 
         builder.setReadAttributeBeforeWrite(
                 config.getProperty("johnzon.readAttributeBeforeWrite").map(Boolean.class::cast).orElse(false));
+        configureOptInFeatures();
         builder.setAutoAdjustStringBuffers(
                 config.getProperty("johnzon.autoAdjustBuffer").map(Boolean.class::cast).orElse(true));
         config.getProperty("johnzon.serialize-value-filter")
@@ -357,6 +358,15 @@ public class JohnzonBuilder implements JsonbBuilder {
         return new JohnzonJsonb(mapper, ijson, null);
     }
 
+    private void configureOptInFeatures() {
+        config.getProperty("johnzon.mapping-cache-size").map(this::toInt).ifPresent(builder::setMappingCacheSize);
+        config.getProperty("johnzon.streamingDeserialization").map(Boolean.class::cast).ifPresent(builder::setStreamingDeserialization);
+    }
+
+    private int toInt(final Object v) {
+        return Number.class.isInstance(v) ? Number.class.cast(v).intValue() : Integer.parseInt(v.toString());
+    }
+
     private Boolean toBool(final Object v) {
         return !Boolean.class.isInstance(v) ? Boolean.parseBoolean(v.toString()) : Boolean.class.cast(v);
     }
@@ -18,10 +18,10 @@
  */
 package org.apache.johnzon.jsonb;
 
-import org.apache.johnzon.mapper.util.ArrayUtil;
 import org.apache.johnzon.jsonb.api.experimental.JsonbExtension;
 import org.apache.johnzon.mapper.JsonObjectGenerator;
 import org.apache.johnzon.mapper.Mapper;
+import org.apache.johnzon.mapper.internal.MappingCache;
 import org.apache.johnzon.mapper.MapperException;
 import org.apache.johnzon.mapper.reflection.JohnzonParameterizedType;
 
@@ -53,6 +53,7 @@ import java.util.OptionalLong;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -262,7 +263,7 @@ public class JohnzonJsonb implements Jsonb, AutoCloseable, JsonbExtension {
                 return "null";
             }
             if (isArray(object.getClass())) {
-                return delegate.writeArrayAsString(toArray(object));
+                return delegate.writeArrayAsString(object);
             } else if (Collection.class.isInstance(object)) {
                 return delegate.writeArrayAsString(Collection.class.cast(object));
             } else if (ijson && isNotObjectOrArray(object)) {
@@ -275,68 +276,11 @@ public class JohnzonJsonb implements Jsonb, AutoCloseable, JsonbExtension {
         }
     }
 
-    private Object[] toArray(final Object object) {
-        final Class<?> componentType = object.getClass().getComponentType();
-        Object[] array;
-        if (int.class == componentType) {
-            final int length = ArrayUtil.getArrayLength(object);
-            array = new Integer[length];
-            for (int i = 0; i < length; i++) {
-                array[i] = ((int[])object)[i];
-            }
-        } else if (double.class == componentType) {
-            final int length = ArrayUtil.getArrayLength(object);
-            array = new Double[length];
-            for (int i = 0; i < length; i++) {
-                array[i] = ((double[])object)[i];
-            }
-        } else if (byte.class == componentType) {
-            final int length = ArrayUtil.getArrayLength(object);
-            array = new Byte[length];
-            for (int i = 0; i < length; i++) {
-                array[i] = ((byte[])object)[i];
-            }
-        } else if (char.class == componentType) {
-            final int length = ArrayUtil.getArrayLength(object);
-            array = new Character[length];
-            for (int i = 0; i < length; i++) {
-                array[i] = ((char[])object)[i];
-            }
-        } else if (float.class == componentType) {
-            final int length = ArrayUtil.getArrayLength(object);
-            array = new Float[length];
-            for (int i = 0; i < length; i++) {
-                array[i] = ((float[])object)[i];
-            }
-        } else if (long.class == componentType) {
-            final int length = ArrayUtil.getArrayLength(object);
-            array = new Long[length];
-            for (int i = 0; i < length; i++) {
-                array[i] = ((long[])object)[i];
-            }
-        } else if (short.class == componentType) {
-            final int length = ArrayUtil.getArrayLength(object);
-            array = new Short[length];
-            for (int i = 0; i < length; i++) {
-                array[i] = ((short[])object)[i];
-            }
-        } else if (boolean.class == componentType) {
-            final int length = ArrayUtil.getArrayLength(object);
-            array = new Boolean[length];
-            for (int i = 0; i < length; i++) {
-                array[i] = ((boolean[])object)[i];
-            }
-        } else {
-            array = (Object[]) object;
-        }
-        return array;
-    }
-
     @Override
     public String toJson(final Object inObject, final Type runtimeType) throws JsonbException {
         final Object object = unwrapOptional(inObject);
         if (object != null && isArray(runtimeType)) {
-            return delegate.writeArrayAsString(toArray(object));
+            return delegate.writeArrayAsString(object);
         } else if (isCollection(runtimeType)) {
             return delegate.writeArrayAsString(Collection.class.cast(object));
         } else if (ijson && isNotObjectOrArray(object)) {
@@ -354,7 +298,7 @@ public class JohnzonJsonb implements Jsonb, AutoCloseable, JsonbExtension {
 
         final Object object = unwrapOptional(inObject);
         if (object != null && isArray(object.getClass())) {
-            delegate.writeArray((Object[]) object, writer);
+            delegate.writeArray(object, writer);
         } else if (Collection.class.isInstance(object)) {
             delegate.writeArray(Collection.class.cast(object), writer);
         } else if (ijson && isNotObjectOrArray(object)) {
@@ -373,7 +317,7 @@ public class JohnzonJsonb implements Jsonb, AutoCloseable, JsonbExtension {
 
         final Object object = unwrapOptional(inObject);
         if (object != null && isArray(runtimeType)) {
-            delegate.writeArray((Object[]) object, writer);
+            delegate.writeArray(object, writer);
         } else if (isCollection(runtimeType)) {
             delegate.writeArray(Collection.class.cast(object), writer);
         } else if (ijson && isNotObjectOrArray(object)) {
@@ -387,7 +331,7 @@ public class JohnzonJsonb implements Jsonb, AutoCloseable, JsonbExtension {
     public void toJson(final Object inObject, final OutputStream stream) throws JsonbException {
         final Object object = unwrapOptional(inObject);
         if (object != null && isArray(object.getClass())) {
-            delegate.writeArray(toArray(object), stream);
+            delegate.writeArray(object, stream);
         } else if (Collection.class.isInstance(object)) {
             delegate.writeArray(Collection.class.cast(object), stream);
         } else if (ijson && isNotObjectOrArray(object)) {
@@ -401,7 +345,7 @@ public class JohnzonJsonb implements Jsonb, AutoCloseable, JsonbExtension {
     public void toJson(final Object inObject, final Type runtimeType, final OutputStream stream) throws JsonbException {
         final Object object = unwrapOptional(inObject);
         if (object != null && isArray(runtimeType)) {
-            delegate.writeArray((Object[]) object, stream);
+            delegate.writeArray(object, stream);
         } else if (isCollection(runtimeType)) {
             delegate.writeArray(Collection.class.cast(object), stream);
         } else if (ijson && isNotObjectOrArray(object)) {
@@ -459,6 +403,33 @@ public class JohnzonJsonb implements Jsonb, AutoCloseable, JsonbExtension {
         return Class.class.isInstance(rawType) && Collection.class.isAssignableFrom(Class.class.cast(rawType));
     }
 
+    /**
+     * Eagerly builds the mappings of the types (and the types they reference) and runs synthetic
+     * serialization passes, see {@link Mapper#warmup(Collection)}.
+     *
+     * @param types the types to warm up.
+     */
+    public void warmup(final Collection<? extends Type> types) {
+        delegate.warmup(types);
+    }
+
+    public void warmup(final Collection<? extends Type> types, final ForkJoinPool pool, final int iterations) {
+        delegate.warmup(types, pool, iterations);
+    }
+
+    /**
+     * Forgets the mappings of the classes of a classloader being undeployed, see {@link Mapper#clean(ClassLoader)}.
+     *
+     * @param loader the released classloader.
+     */
+    public void clean(final ClassLoader loader) {
+        delegate.clean(loader);
+    }
+
+    public Map<String, MappingCache.Statistics> getMappingCacheStatistics() {
+        return delegate.getMappingCacheStatistics();
+    }
+
     @Override
     public void close() {
         try {
@@ -968,6 +968,7 @@ public class JsonbAccessMode implements AccessMode, Closeable, Cleanable<Class<?
             Closeable.class.cast(delegate).close();
         }
         toRelease.clear();
+        parsingCache.clear();
     }
 
     // belongs to Meta but java 8
@@ -981,6 +982,7 @@ public class JsonbAccessMode implements AccessMode, Closeable, Cleanable<Class<?
 
     @Override
     public void clean(final Class<?> value) {
+        parsingCache.remove(value); // afterParsed is not called if the mapping creation failed
         if (Cleanable.class.isInstance(visibility)) {
             Cleanable.class.cast(visibility).clean(value);
         }
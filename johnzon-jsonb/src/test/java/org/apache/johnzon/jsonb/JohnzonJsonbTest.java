@@ -18,6 +18,8 @@
  */
 package org.apache.johnzon.jsonb;
 
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import jakarta.json.Json;
@@ -31,6 +33,7 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
@@ -59,6 +62,34 @@ public class JohnzonJsonbTest {
         }
     }
 
+    @Test
+    public void primitiveArrays() throws Exception {
+        try (final Jsonb jsonb = JsonbBuilder.create()) {
+            assertEquals("[1,2,3]", jsonb.toJson(new int[]{1, 2, 3}));
+            assertEquals("[0.1,2.5]", jsonb.toJson(new float[]{0.1f, 2.5f}));
+            assertEquals("[0.5,1.0]", jsonb.toJson(new double[]{0.5, 1}, double[].class));
+            assertEquals("[1,2]", jsonb.toJson(new byte[]{1, 2}));
+
+            final StringWriter writer = new StringWriter();
+            jsonb.toJson(new long[]{1, 2}, long[].class, writer);
+            assertEquals("[1,2]", writer.toString());
+
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            jsonb.toJson(new boolean[]{true, false}, stream);
+            assertEquals("[true,false]", stream.toString("UTF-8"));
+
+            assertArrayEquals(new double[]{0.5, 1}, jsonb.fromJson("[0.5,1]", double[].class), 0);
+        }
+    }
+
+    @Test
+    public void warmup() throws Exception {
+        try (final Jsonb jsonb = JsonbBuilder.create()) {
+            JohnzonJsonb.class.cast(jsonb).warmup(singletonList(LongWrapper.class));
+            assertEquals("{\"value\":1}", jsonb.toJson(new LongWrapper(1L)));
+        }
+    }
+
     @Test
     public void longBounds() {
         final String max = rule.toJson(new LongWrapper(Long.MAX_VALUE));
@@ -23,7 +23,6 @@ import org.apache.johnzon.jsonlogic.spi.Operator;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonBuilderFactory;
-import jakarta.json.JsonException;
 import jakarta.json.JsonMergePatch;
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
@@ -33,6 +32,9 @@ import jakarta.json.JsonString;
 import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
 import jakarta.json.spi.JsonProvider;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -56,6 +58,7 @@ public class JohnzonJsonLogic {
     private final Map<JsonArray, JsonPatch> jsonPatches = new ConcurrentHashMap<>();
     private final Map<JsonValue, JsonMergePatch> jsonMergePatches = new ConcurrentHashMap<>();
     private final JsonBuilderFactory builderFactory;
+    private final MethodHandle pointerFind;
     private boolean cachePointers;
     private boolean cacheJsonPatches;
     private boolean cacheJsonMergePatches;
@@ -69,6 +72,7 @@ public class JohnzonJsonLogic {
     public JohnzonJsonLogic(final JsonProvider provider) {
         this.provider = provider;
         this.builderFactory = provider.createBuilderFactory(emptyMap());
+        this.pointerFind = findPointerLookup(provider);
     }
 
     public JohnzonJsonLogic cachePointers() {
@@ -713,11 +717,7 @@ public class JohnzonJsonLogic {
         }
         final JsonValue objectAttribute;
         if (string.contains(".")) {
-            try {
-                objectAttribute = toPointer(string).getValue(JsonStructure.class.cast(params));
-            } catch (final JsonException je) { // missing
-                return JsonValue.NULL;
-            }
+            objectAttribute = find(toPointer(string), params);
         } else if (params.getValueType() == JsonValue.ValueType.OBJECT) {
             objectAttribute = params.asJsonObject().get(string);
         } else if (params.getValueType() == JsonValue.ValueType.ARRAY) {
@@ -742,6 +742,39 @@ public class JohnzonJsonLogic {
                         string.replace('.', '/'));
     }
 
+    // missing values are common in rules, johnzon-core pointers resolve them in one pass without throwing
+    private JsonValue find(final JsonPointer pointer, final JsonValue params) {
+        if (pointerFind != null) {
+            try {
+                return (JsonValue) pointerFind.invokeExact(pointer, params);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        if (!JsonStructure.class.isInstance(params)) {
+            return null;
+        }
+        final JsonStructure structure = JsonStructure.class.cast(params);
+        return pointer.containsValue(structure) ? pointer.getValue(structure) : null;
+    }
+
+    // johnzon-core JsonPointerImpl#find(JsonValue), null with other providers
+    private static MethodHandle findPointerLookup(final JsonProvider provider) {
+        try {
+            final Class<?> pointerType = provider.createPointer("").getClass();
+            if (!"org.apache.johnzon.core.JsonPointerImpl".equals(pointerType.getName())) {
+                return null;
+            }
+            return MethodHandles.publicLookup()
+                    .findVirtual(pointerType, "find", MethodType.methodType(JsonValue.class, JsonValue.class))
+                    .asType(MethodType.methodType(JsonValue.class, JsonPointer.class, JsonValue.class));
+        } catch (final NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
     // same as JsonCollector one except it uses this builderFactory instead of default one which goes through the SPI
     private Collector<JsonValue, JsonArrayBuilder, JsonArray> toArray() {
         return Collector.of(builderFactory::createArrayBuilder, JsonArrayBuilder::add, JsonArrayBuilder::addAll, JsonArrayBuilder::build);
@@ -221,6 +221,19 @@ public class JohnzonJsonLogicTest {
                         .build()));
     }
 
+    @Test
+    public void varObjectPtrMissing() {
+        assertEquals(JsonValue.NULL, jsonLogic.apply(
+                builderFactory.createObjectBuilder()
+                        .add("var", "a.b.1")
+                        .build(),
+                builderFactory.createObjectBuilder()
+                        .add("a", builderFactory.createObjectBuilder()
+                                .add("b", builderFactory.createArrayBuilder()
+                                        .add("ok")))
+                        .build()));
+    }
+
     @Test
     public void varObjectStringMissing() {
         assertEquals(JsonValue.NULL, jsonLogic.apply(
@@ -18,18 +18,33 @@
  */
 package org.apache.johnzon.mapper;
 
+import jakarta.json.JsonArray;
 import jakarta.json.JsonReader;
 import jakarta.json.JsonReaderFactory;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
 import jakarta.json.stream.JsonGeneratorFactory;
 import jakarta.json.stream.JsonParser;
+import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.Base64;
+import java.util.Map;
+
+import org.apache.johnzon.mapper.internal.PropertyIndex;
 
 import static java.util.Optional.ofNullable;
 
 public final class JohnzonCores {
     private static final Method CREATE_READER;
+    private static final boolean NUMERIC_ARRAYS;
+    private static final boolean BINARY_GENERATOR;
+    private static final boolean FLOAT_GENERATOR;
+    private static final boolean STREAMING_READER;
+    private static final boolean CHARS_PARSER;
+    private static final boolean VALUE_READER;
 
     static {
         Method m = null;
@@ -45,6 +60,75 @@ public final class JohnzonCores {
             // no-op
         }
         CREATE_READER = m;
+
+        boolean numericArrays = false;
+        try {
+            ofNullable(JohnzonCores.class.getClassLoader())
+                    .orElseGet(ClassLoader::getSystemClassLoader)
+                    .loadClass("org.apache.johnzon.core.JohnzonJsonNumericArray");
+            numericArrays = true;
+        } catch (final Exception | NoClassDefFoundError e) {
+            // no-op
+        }
+        NUMERIC_ARRAYS = numericArrays;
+
+        boolean binaryGenerator = false;
+        try {
+            ofNullable(JohnzonCores.class.getClassLoader())
+                    .orElseGet(ClassLoader::getSystemClassLoader)
+                    .loadClass("org.apache.johnzon.core.JohnzonJsonGenerator");
+            binaryGenerator = true;
+        } catch (final Exception | NoClassDefFoundError e) {
+            // no-op
+        }
+        BINARY_GENERATOR = binaryGenerator;
+
+        boolean floatGenerator = false;
+        try {
+            ofNullable(JohnzonCores.class.getClassLoader())
+                    .orElseGet(ClassLoader::getSystemClassLoader)
+                    .loadClass("org.apache.johnzon.core.JohnzonJsonGenerator")
+                    .getMethod("writeFloat", float.class);
+            floatGenerator = true;
+        } catch (final Exception | NoClassDefFoundError e) {
+            // no-op
+        }
+        FLOAT_GENERATOR = floatGenerator;
+
+        boolean streamingReader = false;
+        try {
+            ofNullable(JohnzonCores.class.getClassLoader())
+                    .orElseGet(ClassLoader::getSystemClassLoader)
+                    .loadClass("org.apache.johnzon.core.JsonReaderImpl")
+                    .getMethod("getStreamingParser");
+            streamingReader = true;
+        } catch (final Exception | NoClassDefFoundError e) {
+            // no-op
+        }
+        STREAMING_READER = streamingReader;
+
+        boolean charsParser = false;
+        try {
+            final ClassLoader loader = ofNullable(JohnzonCores.class.getClassLoader()).orElseGet(ClassLoader::getSystemClassLoader);
+            loader.loadClass("org.apache.johnzon.core.JohnzonJsonParser")
+                    .getMethod("readChars", loader.loadClass("org.apache.johnzon.core.JohnzonJsonParser$CharsFunction"));
+            charsParser = true;
+        } catch (final Exception | NoClassDefFoundError e) {
+            // no-op
+        }
+        CHARS_PARSER = charsParser;
+
+        boolean valueReader = false;
+        try {
+            ofNullable(JohnzonCores.class.getClassLoader())
+                    .orElseGet(ClassLoader::getSystemClassLoader)
+                    .loadClass("org.apache.johnzon.core.JohnzonJsonParser")
+                    .getMethod("getValueReader");
+            valueReader = true;
+        } catch (final Exception | NoClassDefFoundError e) {
+            // no-op
+        }
+        VALUE_READER = valueReader;
     }
 
     private JohnzonCores() {
@@ -71,6 +155,232 @@ public final class JohnzonCores {
         }
     }
 
+    /**
+     * @param array the array to test.
+     * @return {@code true} if the array is backed by a primitive array and can be read with the {@code toXXXArray} methods.
+     */
+    public static boolean isNumericArray(final JsonArray array) {
+        return NUMERIC_ARRAYS && NumericArrays.is(array);
+    }
+
+    public static int[] toIntArray(final JsonArray array) {
+        return NumericArrays.toIntArray(array);
+    }
+
+    public static long[] toLongArray(final JsonArray array) {
+        return NumericArrays.toLongArray(array);
+    }
+
+    public static double[] toDoubleArray(final JsonArray array) {
+        return NumericArrays.toDoubleArray(array);
+    }
+
+    /**
+     * Writes a byte array as a base64 string, johnzon-core generator encodes it directly in its buffer.
+     *
+     * @param generator the generator to write to.
+     * @param key the attribute name or {@code null} if the value is not in an object.
+     * @param value the bytes to write.
+     * @param url {@code true} to use the URL safe alphabet.
+     */
+    public static void writeBinary(final JsonGenerator generator, final String key, final byte[] value, final boolean url) {
+        if (BINARY_GENERATOR && BinaryGenerators.writeBinary(generator, key, value, url)) {
+            return;
+        }
+        final String encoded = (url ? Base64.getUrlEncoder() : Base64.getEncoder()).encodeToString(value);
+        if (key != null) {
+            generator.write(key, encoded);
+        } else {
+            generator.write(encoded);
+        }
+    }
+
+    /**
+     * Writes float array items with their shortest decimal representation, johnzon-core generator writes them
+     * without the {@link BigDecimal} conversion.
+     *
+     * @param generator the generator to write to.
+     * @param values the floats to write.
+     * @param length the number of items to write.
+     */
+    public static void writeFloats(final JsonGenerator generator, final float[] values, final int length) {
+        if (FLOAT_GENERATOR && FloatGenerators.writeFloats(generator, values, length)) {
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            generator.write(new BigDecimal(Float.toString(values[i])));
+        }
+    }
+
+    /**
+     * @param reader the reader to bind.
+     * @return the parser behind the reader if the document can be bound from the parser events, {@code null} otherwise.
+     */
+    public static JsonParser streamingParser(final JsonReader reader) {
+        return STREAMING_READER ? StreamingReaders.parser(reader) : null;
+    }
+
+    /**
+     * @param values the values to index by name.
+     * @param <T> the value type.
+     * @return an index which can also be looked up from the parser buffer with {@link #find(JsonParser, PropertyIndex)}.
+     */
+    public static <T> PropertyIndex<T> propertyIndex(final Map<String, T> values) {
+        return CHARS_PARSER ? CharsParsers.index(values) : new PropertyIndex<>(values);
+    }
+
+    /**
+     * @param parser the parser on a {@link JsonParser.Event#KEY_NAME} event.
+     * @param index the index created with {@link #propertyIndex(Map)}.
+     * @param <T> the value type.
+     * @return the value of the current key matched without creating a String,
+     *         {@code null} if the key is unknown or the parser can't be matched this way.
+     */
+    public static <T> T find(final JsonParser parser, final PropertyIndex<T> index) {
+        return CHARS_PARSER ? CharsParsers.find(parser, index) : null;
+    }
+
+    /**
+     * @param parser the parser on a {@link JsonParser.Event#VALUE_NUMBER} event.
+     * @return {@code true} if the number is integral and {@link JsonParser#getLong()} reads it exactly without allocation.
+     */
+    public static boolean isFitLong(final JsonParser parser) {
+        return CHARS_PARSER && CharsParsers.isFitLong(parser);
+    }
+
+    /**
+     * @param parser the parser on a {@link JsonParser.Event#VALUE_STRING} event.
+     * @return a reader on the current string, johnzon-core parser streams it without loading it as a String
+     *         (no max length limit), it is only valid until the next parser event.
+     */
+    public static Reader valueReader(final JsonParser parser) {
+        return VALUE_READER ? ValueReaders.reader(parser) : new StringReader(parser.getString());
+    }
+
+    // indirection (for classloading)
+    private static class ValueReaders {
+        private ValueReaders() {
+            // no-op
+        }
+
+        private static Reader reader(final JsonParser parser) {
+            if (!org.apache.johnzon.core.JohnzonJsonParser.class.isInstance(parser)) {
+                return new StringReader(parser.getString());
+            }
+            return org.apache.johnzon.core.JohnzonJsonParser.class.cast(parser).getValueReader();
+        }
+    }
+
+    // indirection (for classloading)
+    private static class CharsParsers {
+        private CharsParsers() {
+            // no-op
+        }
+
+        private static <T> PropertyIndex<T> index(final Map<String, T> values) {
+            return new CharsIndex<>(values);
+        }
+
+        private static <T> T find(final JsonParser parser, final PropertyIndex<T> index) {
+            if (!org.apache.johnzon.core.JohnzonJsonParser.class.isInstance(parser) || !CharsIndex.class.isInstance(index)) {
+                return null;
+            }
+            return org.apache.johnzon.core.JohnzonJsonParser.class.cast(parser).readChars((CharsIndex<T>) index);
+        }
+
+        private static boolean isFitLong(final JsonParser parser) {
+            return org.apache.johnzon.core.JohnzonJsonParser.class.isInstance(parser) &&
+                    org.apache.johnzon.core.JohnzonJsonParser.class.cast(parser).isFitLong();
+        }
+
+        // the index is its own callback, no allocation per lookup
+        private static class CharsIndex<T> extends PropertyIndex<T> implements org.apache.johnzon.core.JohnzonJsonParser.CharsFunction<T> {
+            private CharsIndex(final Map<String, T> values) {
+                super(values);
+            }
+
+            @Override
+            public T apply(final char[] chars, final int offset, final int length) {
+                return find(chars, offset, length);
+            }
+        }
+    }
+
+    // indirection (for classloading)
+    private static class StreamingReaders {
+        private StreamingReaders() {
+            // no-op
+        }
+
+        private static JsonParser parser(final JsonReader reader) {
+            if (!org.apache.johnzon.core.JsonReaderImpl.class.isInstance(reader)) {
+                return null;
+            }
+            return org.apache.johnzon.core.JsonReaderImpl.class.cast(reader).getStreamingParser();
+        }
+    }
+
+    // indirection (for classloading)
+    private static class BinaryGenerators {
+        private BinaryGenerators() {
+            // no-op
+        }
+
+        private static boolean writeBinary(final JsonGenerator generator, final String key, final byte[] value, final boolean url) {
+            if (!org.apache.johnzon.core.JohnzonJsonGenerator.class.isInstance(generator)) {
+                return false;
+            }
+            final org.apache.johnzon.core.JohnzonJsonGenerator binaryGenerator = org.apache.johnzon.core.JohnzonJsonGenerator.class.cast(generator);
+            if (key != null) {
+                binaryGenerator.writeBinary(key, value, url);
+            } else {
+                binaryGenerator.writeBinary(value, url);
+            }
+            return true;
+        }
+    }
+
+    // indirection (for classloading)
+    private static class FloatGenerators {
+        private FloatGenerators() {
+            // no-op
+        }
+
+        private static boolean writeFloats(final JsonGenerator generator, final float[] values, final int length) {
+            if (!org.apache.johnzon.core.JohnzonJsonGenerator.class.isInstance(generator)) {
+                return false;
+            }
+            final org.apache.johnzon.core.JohnzonJsonGenerator floatGenerator = org.apache.johnzon.core.JohnzonJsonGenerator.class.cast(generator);
+            for (int i = 0; i < length; i++) {
+                floatGenerator.writeFloat(values[i]);
+            }
+            return true;
+        }
+    }
+
+    // indirection (for classloading)
+    private static class NumericArrays {
+        private NumericArrays() {
+            // no-op
+        }
+
+        private static boolean is(final JsonArray array) {
+            return org.apache.johnzon.core.JohnzonJsonNumericArray.class.isInstance(array);
+        }
+
+        private static int[] toIntArray(final JsonArray array) {
+            return org.apache.johnzon.core.JohnzonJsonNumericArray.class.cast(array).toIntArray();
+        }
+
+        private static long[] toLongArray(final JsonArray array) {
+            return org.apache.johnzon.core.JohnzonJsonNumericArray.class.cast(array).toLongArray();
+        }
+
+        private static double[] toDoubleArray(final JsonArray array) {
+            return org.apache.johnzon.core.JohnzonJsonNumericArray.class.cast(array).toDoubleArray();
+        }
+    }
+
     // indirection (for classloading)
     private static class Snippets {
         private Snippets() {
@@ -18,7 +18,9 @@
  */
 package org.apache.johnzon.mapper;
 
+import org.apache.johnzon.mapper.access.MappingSnapshot;
 import org.apache.johnzon.mapper.internal.JsonPointerTracker;
+import org.apache.johnzon.mapper.internal.MappingCache;
 import org.apache.johnzon.mapper.reflection.JohnzonCollectionType;
 import org.apache.johnzon.mapper.util.ArrayUtil;
 
@@ -52,10 +54,18 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.apache.johnzon.mapper.internal.Streams.noClose;
 
-public class Mapper implements Closeable {
+public class Mapper implements Closeable, Cleanable<ClassLoader> {
 
     protected final MapperConfig config;
     protected final Mappings mappings;
@@ -79,26 +89,79 @@ public class Mapper implements Closeable {
         this.charset = config.getEncoding();
     }
 
+    /**
+     * Same as {@link #warmup(Collection, ForkJoinPool, int)} using the common pool and a thousand iterations.
+     *
+     * @param types the types to warm up.
+     */
+    public void warmup(final Collection<? extends Type> types) {
+        warmup(types, ForkJoinPool.commonPool(), 1000);
+    }
+
+    /**
+     * Builds the mappings of the types and of the types reachable from their properties in parallel
+     * then serializes and deserializes synthetic instances (created from an empty object) to resolve
+     * the lazy converters and let the JIT compile the hot paths before the first real request.
+     * Types which can't be instantiated this way only get their mapping built.
+     *
+     * @param types the types to warm up.
+     * @param pool the pool used to build the mappings and run the synthetic passes.
+     * @param iterations the number of serialization/deserialization passes per type.
+     */
+    public void warmup(final Collection<? extends Type> types, final ForkJoinPool pool, final int iterations) {
+        final Collection<Mappings.ClassMapping> classMappings = mappings.warmup(types, pool);
+        if (iterations <= 0) {
+            return;
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> classMappings.parallelStream()
+                .filter(it -> it.factory != null)
+                .forEach(it -> syntheticPasses(it.clazz, iterations))));
+    }
+
+    private void syntheticPasses(final Class<?> type, final int iterations) {
+        try {
+            Object instance = readObject("{}", type);
+            for (int i = 0; i < iterations && instance != null; i++) {
+                instance = readObject(writeObjectAsString(instance), type);
+            }
+        } catch (final RuntimeException e) {
+            // not instantiable from an empty object (required creator parameters, validation...), mapping is built anyway
+        }
+    }
+
     public <T> void writeArray(final Object object, final OutputStream stream) {
-        if (object instanceof short[]) {
-            writeObject(ArrayUtil.asList((short[]) object), stream);
-        } else if (object instanceof int[]) {
-            writeObject(ArrayUtil.asList((int[]) object), stream);
-        } else if (object instanceof long[]) {
-            writeObject(ArrayUtil.asList((long[]) object), stream);
-        } else if (object instanceof byte[]) {
-            writeObject(ArrayUtil.asList((byte[]) object), stream);
-        } else if (object instanceof char[]) {
-            writeObject(ArrayUtil.asList((char[]) object), stream);
-        } else if (object instanceof float[]) {
-            writeObject(ArrayUtil.asList((float[]) object), stream);
-        } else if (object instanceof double[]) {
-            writeObject(ArrayUtil.asList((double[]) object), stream);
+        if (isPrimitiveArray(object)) {
+            writeArray(object, new OutputStreamWriter(stream, charset == null ? StandardCharsets.UTF_8 : charset));
         } else {
             writeObject(Arrays.asList((T[]) object), stream);
         }
     }
 
+    /**
+     * Writes an array, primitive arrays (int[], double[]...) are written directly from their items, without boxing them.
+     *
+     * @param object the array to write.
+     * @param stream the output.
+     */
+    public void writeArray(final Object object, final Writer stream) {
+        if (!isPrimitiveArray(object)) {
+            writeArray((Object[]) object, stream);
+            return;
+        }
+        try (final JsonGenerator generator = generatorFactory.createGenerator(stream(stream))) {
+            new MappingGeneratorImpl(config, generator, mappings).writePrimitiveArray(object);
+        }
+    }
+
+    public String writeArrayAsString(final Object instance) {
+        final StringWriter writer = new StringWriter(2048);
+        writeArray(instance, writer);
+        return writer.toString();
+    }
+
+    private static boolean isPrimitiveArray(final Object object) {
+        return object != null && object.getClass().isArray() && object.getClass().getComponentType().isPrimitive();
+    }
 
     public <T> void writeArray(final T[] object, final OutputStream stream) {
         writeObject(Arrays.asList(object), stream);
@@ -188,6 +251,19 @@ public class Mapper implements Closeable {
         }
     }
 
+    /**
+     * Writes the readers and writers of the classes as resolved by this mapper access mode,
+     * see {@link MapperBuilder#setMappingSnapshot(String)} to use it at runtime.
+     *
+     * @param stream the output.
+     * @param classes the classes to capture.
+     */
+    public void writeMappingSnapshot(final Writer stream, final Collection<Class<?>> classes) {
+        try (final JsonGenerator generator = generatorFactory.createGenerator(stream)) {
+            MappingSnapshot.write(config.getAccessMode(), classes, builderFactory, generator);
+        }
+    }
+
     public void writeObjectWithGenerator(final Object object, final JsonGenerator generator) {
         writeObject(object, generator, null, null);
     }
@@ -360,6 +436,44 @@ public class Mapper implements Closeable {
         }
     }
 
+    /**
+     * Reads a root JSON array lazily: items are bound one at a time while the stream is consumed
+     * so arbitrary large arrays can be processed in constant memory.
+     * The returned stream must be closed to release the underlying input.
+     *
+     * @param stream the input to read.
+     * @param elementType the type of the array items.
+     * @param <T> the item type.
+     * @return a lazy stream of the bound items.
+     */
+    public <T> Stream<T> readStream(final InputStream stream, final Type elementType) {
+        return readStream(charset == null ? readerFactory.createReader(stream(stream)) : readerFactory.createReader(stream(stream), charset), elementType);
+    }
+
+    /**
+     * Reader flavor of {@link #readStream(InputStream, Type)}.
+     *
+     * @param stream the input to read.
+     * @param elementType the type of the array items.
+     * @param <T> the item type.
+     * @return a lazy stream of the bound items.
+     */
+    public <T> Stream<T> readStream(final Reader stream, final Type elementType) {
+        return readStream(readerFactory.createReader(stream(stream)), elementType);
+    }
+
+    private <T> Stream<T> readStream(final JsonReader reader, final Type elementType) {
+        final Iterator<T> items;
+        try {
+            items = new MappingParserImpl(config, mappings, reader, null, builderFactory).readArrayItems(elementType);
+        } catch (final RuntimeException re) {
+            reader.close();
+            throw re;
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(items, Spliterator.ORDERED), false)
+                .onClose(reader::close);
+    }
+
     private Object mapArray(final Class<?> clazz, final JsonReader reader) {
 
         return mapObject(ArrayUtil.getArrayTypeFor(clazz), reader);
@@ -367,7 +481,7 @@ public class Mapper implements Closeable {
 
 
     private <T> T mapObject(final Type clazz, final JsonReader reader) {
-        return new MappingParserImpl(config, mappings, reader, null).readObject(clazz);
+        return new MappingParserImpl(config, mappings, reader, null, builderFactory).readObject(clazz);
     }
 
 
@@ -385,6 +499,7 @@ public class Mapper implements Closeable {
 
     @Override
     public synchronized void close() {
+        mappings.clear();
         Collection<Exception> errors = null;
         for (final Closeable c : closeables) {
             try {
@@ -402,6 +517,23 @@ public class Mapper implements Closeable {
         }
     }
 
+    /**
+     * Forgets the mappings of the classes of a classloader being undeployed so it is not retained by this mapper.
+     *
+     * @param loader the released classloader.
+     */
+    @Override
+    public void clean(final ClassLoader loader) {
+        mappings.clean(loader);
+    }
+
+    /**
+     * @return hits, misses and evictions of the class ({@code classes}) and collection ({@code collections}) mapping caches.
+     */
+    public Map<String, MappingCache.Statistics> getMappingCacheStatistics() {
+        return mappings.getCacheStatistics();
+    }
+
     public JsonBuilderFactory getBuilderFactory() {
         return builderFactory;
     }
@@ -27,8 +27,12 @@ import org.apache.johnzon.mapper.access.AccessMode;
 import org.apache.johnzon.mapper.access.BaseAccessMode;
 import org.apache.johnzon.mapper.access.FieldAccessMode;
 import org.apache.johnzon.mapper.access.FieldAndMethodAccessMode;
+import org.apache.johnzon.mapper.access.GeneratedCodec;
+import org.apache.johnzon.mapper.access.GeneratedCodecAccessMode;
 import org.apache.johnzon.mapper.access.MethodAccessMode;
 import org.apache.johnzon.mapper.access.KnownNotOpenedJavaTypesAccessMode;
+import org.apache.johnzon.mapper.access.MappingSnapshot;
+import org.apache.johnzon.mapper.access.MappingSnapshotAccessMode;
 import org.apache.johnzon.mapper.converter.BooleanConverter;
 import org.apache.johnzon.mapper.converter.ByteConverter;
 import org.apache.johnzon.mapper.converter.CachedDelegateConverter;
@@ -107,6 +111,10 @@ public class MapperBuilder {
     private boolean supportEnumContainerDeserialization = true;
     private Function<Class<?>, MapperConfig.CustomEnumConverter<?>> enumConverterFactory = type -> new EnumConverter(type);
     private boolean skipAccessModeWrapper;
+    private boolean streamingDeserialization;
+    private boolean useGeneratedCodecs;
+    private String mappingSnapshot;
+    private int mappingCacheSize;
 
     // @experimental polymorphic api
     private Function<String, Class<?>> typeLoader;
@@ -201,6 +209,20 @@ public class MapperBuilder {
                 throw new IllegalStateException("AccessMode is not an BaseAccessMode");
             }
         }
+        // generated codecs only mirror the built-in mapper model, custom modes (JSON-B) keep their own per-property handling
+        final boolean builtInAccessMode = BaseAccessMode.class.isInstance(accessMode);
+        if (mappingSnapshot != null && !MappingSnapshotAccessMode.class.isInstance(accessMode) && !KnownNotOpenedJavaTypesAccessMode.class.isInstance(accessMode)) {
+            final MappingSnapshot snapshot = MappingSnapshot.load(Thread.currentThread().getContextClassLoader(), mappingSnapshot, readerFactory);
+            if (snapshot != null) {
+                accessMode = new MappingSnapshotAccessMode(accessMode, snapshot);
+            }
+        }
+        if (useGeneratedCodecs && builtInAccessMode) {
+            final Map<Class<?>, GeneratedCodec<?>> codecs = GeneratedCodecAccessMode.load(Thread.currentThread().getContextClassLoader());
+            if (!codecs.isEmpty()) {
+                accessMode = new GeneratedCodecAccessMode(accessMode, codecs);
+            }
+        }
         if (!skipAccessModeWrapper && !KnownNotOpenedJavaTypesAccessMode.class.isInstance(accessMode)) {
             accessMode = new KnownNotOpenedJavaTypesAccessMode(accessMode);
         }
@@ -238,7 +260,8 @@ public class MapperBuilder {
                         typeLoader, discriminatorMapper, discriminator,
                         deserializationPredicate, serializationPredicate,
                         enumConverterFactory,
-                        JohnzonCores.snippetFactory(snippetMaxLength, generatorFactory)),
+                        JohnzonCores.snippetFactory(snippetMaxLength, generatorFactory),
+                        streamingDeserialization, mappingCacheSize),
                 closeables);
     }
 
@@ -530,6 +553,61 @@ public class MapperBuilder {
         return this;
     }
 
+    /**
+     * Binds objects and collections directly from the parser events instead of reading the whole document as a {@link jakarta.json.JsonValue} first.
+     * Values needing to look behind (object converters, deduplication, constructors, discriminator not in first position, ...)
+     * are still buffered. Error messages of a value bound this way don't contain its JSON snippet.
+     *
+     * @param streamingDeserialization {@code true} to enable it, it requires johnzon-core as JSON-P provider.
+     * @return this builder.
+     */
+    public MapperBuilder setStreamingDeserialization(final boolean streamingDeserialization) {
+        this.streamingDeserialization = streamingDeserialization;
+        return this;
+    }
+
+    /**
+     * Uses the readers, writers and factories generated by johnzon-processor for {@link JohnzonCodec} classes
+     * instead of introspecting these classes. They are looked up as {@link GeneratedCodec} services
+     * from the thread context classloader.
+     * Only the built-in access modes (extending {@link BaseAccessMode}) are decorated, a custom access mode
+     * - like the JSON-B one - ignores this option.
+     *
+     * @param useGeneratedCodecs {@code true} to use the generated models when available.
+     * @return this builder.
+     */
+    public MapperBuilder setUseGeneratedCodecs(final boolean useGeneratedCodecs) {
+        this.useGeneratedCodecs = useGeneratedCodecs;
+        return this;
+    }
+
+    /**
+     * Loads the readers and writers captured at build time (see {@link Mapper#writeMappingSnapshot(java.io.Writer, java.util.Collection)})
+     * instead of introspecting the classes which did not change since then.
+     * The resource is looked up from the thread context classloader and ignored if missing,
+     * {@link MappingSnapshot#DEFAULT_LOCATION} is the location used by the johnzon-maven-plugin.
+     *
+     * @param mappingSnapshot the snapshot resource.
+     * @return this builder.
+     */
+    public MapperBuilder setMappingSnapshot(final String mappingSnapshot) {
+        this.mappingSnapshot = mappingSnapshot;
+        return this;
+    }
+
+    /**
+     * Bounds the number of class and collection mappings kept by the mapper (each),
+     * the least recently used ones are evicted and rebuilt if needed again.
+     * Useful when a lot of types are generated or deployed over time.
+     *
+     * @param mappingCacheSize the maximum number of mappings, {@code <= 0} (default) means unbounded.
+     * @return this builder.
+     */
+    public MapperBuilder setMappingCacheSize(final int mappingCacheSize) {
+        this.mappingCacheSize = mappingCacheSize;
+        return this;
+    }
+
     public MapperBuilder setSupportEnumContainerDeserialization(final boolean supportEnumContainerDeserialization) {
         this.supportEnumContainerDeserialization = supportEnumContainerDeserialization;
         return this;
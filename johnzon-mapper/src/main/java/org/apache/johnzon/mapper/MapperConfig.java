@@ -58,6 +58,8 @@ public /* DON'T MAKE IT HIDDEN */ class MapperConfig implements Cloneable {
         }
     };
 
+    static final SerializeValueFilter NO_SERIALIZE_VALUE_FILTER = (name, value) -> false;
+
     private final int version;
     private final boolean useJsRange;
     private final boolean close;
@@ -98,6 +100,9 @@ public /* DON'T MAKE IT HIDDEN */ class MapperConfig implements Cloneable {
 
     private final SnippetFactory snippet;
 
+    private final boolean streamingDeserialization;
+    private final int mappingCacheSize;
+
     //CHECKSTYLE:OFF
     @Deprecated
     public MapperConfig(final LazyConverterMap adapters,
@@ -132,8 +137,8 @@ public /* DON'T MAKE IT HIDDEN */ class MapperConfig implements Cloneable {
                 JohnzonCores.snippetFactory(50, Json.createGeneratorFactory(emptyMap())));
     }
 
-    //disable checkstyle for 10+ parameters
     //CHECKSTYLE:OFF
+    @Deprecated
     public MapperConfig(final LazyConverterMap adapters,
                         final Map<Class<?>, ObjectConverter.Writer<?>> objectConverterWriters,
                         final Map<Class<?>, ObjectConverter.Reader<?>> objectConverterReaders,
@@ -159,6 +164,79 @@ public /* DON'T MAKE IT HIDDEN */ class MapperConfig implements Cloneable {
                         final Function<Class<?>, CustomEnumConverter<?>> enumConverterFactory,
                         final SnippetFactory snippet) {
         //CHECKSTYLE:ON
+        this(adapters, objectConverterWriters, objectConverterReaders, version, close, skipNull, skipEmptyArray,
+                treatByteArrayAsBase64, treatByteArrayAsBase64URL, readAttributeBeforeWrite, accessMode, encoding,
+                attributeOrder, failOnUnknown, serializeValueFilter, useBigDecimalForFloats, deduplicateObjects, interfaceImplementationMapping,
+                useJsRange, useBigDecimalForObjectNumbers, supportEnumMapDeserialization, typeLoader,
+                discriminatorMapper, discriminator, deserializationPredicate, serializationPredicate, enumConverterFactory,
+                snippet, false);
+    }
+
+    //CHECKSTYLE:OFF
+    @Deprecated
+    public MapperConfig(final LazyConverterMap adapters,
+                        final Map<Class<?>, ObjectConverter.Writer<?>> objectConverterWriters,
+                        final Map<Class<?>, ObjectConverter.Reader<?>> objectConverterReaders,
+                        final int version, final boolean close,
+                        final boolean skipNull, final boolean skipEmptyArray,
+                        final boolean treatByteArrayAsBase64, final boolean treatByteArrayAsBase64URL,
+                        final boolean readAttributeBeforeWrite,
+                        final AccessMode accessMode, final Charset encoding,
+                        final Comparator<String> attributeOrder,
+                        final boolean failOnUnknown,
+                        final SerializeValueFilter serializeValueFilter,
+                        final boolean useBigDecimalForFloats,
+                        final Boolean deduplicateObjects,
+                        final Map<Class<?>, Class<?>> interfaceImplementationMapping,
+                        final boolean useJsRange,
+                        final boolean useBigDecimalForObjectNumbers,
+                        final boolean supportEnumMapDeserialization,
+                        final Function<String, Class<?>> typeLoader,
+                        final Function<Class<?>, String> discriminatorMapper,
+                        final String discriminator,
+                        final Predicate<Class<?>> deserializationPredicate,
+                        final Predicate<Class<?>> serializationPredicate,
+                        final Function<Class<?>, CustomEnumConverter<?>> enumConverterFactory,
+                        final SnippetFactory snippet,
+                        final boolean streamingDeserialization) {
+        //CHECKSTYLE:ON
+        this(adapters, objectConverterWriters, objectConverterReaders, version, close, skipNull, skipEmptyArray,
+                treatByteArrayAsBase64, treatByteArrayAsBase64URL, readAttributeBeforeWrite, accessMode, encoding,
+                attributeOrder, failOnUnknown, serializeValueFilter, useBigDecimalForFloats, deduplicateObjects, interfaceImplementationMapping,
+                useJsRange, useBigDecimalForObjectNumbers, supportEnumMapDeserialization, typeLoader,
+                discriminatorMapper, discriminator, deserializationPredicate, serializationPredicate, enumConverterFactory,
+                snippet, streamingDeserialization, 0);
+    }
+
+    //disable checkstyle for 10+ parameters
+    //CHECKSTYLE:OFF
+    public MapperConfig(final LazyConverterMap adapters,
+                        final Map<Class<?>, ObjectConverter.Writer<?>> objectConverterWriters,
+                        final Map<Class<?>, ObjectConverter.Reader<?>> objectConverterReaders,
+                        final int version, final boolean close,
+                        final boolean skipNull, final boolean skipEmptyArray,
+                        final boolean treatByteArrayAsBase64, final boolean treatByteArrayAsBase64URL,
+                        final boolean readAttributeBeforeWrite,
+                        final AccessMode accessMode, final Charset encoding,
+                        final Comparator<String> attributeOrder,
+                        final boolean failOnUnknown,
+                        final SerializeValueFilter serializeValueFilter,
+                        final boolean useBigDecimalForFloats,
+                        final Boolean deduplicateObjects,
+                        final Map<Class<?>, Class<?>> interfaceImplementationMapping,
+                        final boolean useJsRange,
+                        final boolean useBigDecimalForObjectNumbers,
+                        final boolean supportEnumMapDeserialization,
+                        final Function<String, Class<?>> typeLoader,
+                        final Function<Class<?>, String> discriminatorMapper,
+                        final String discriminator,
+                        final Predicate<Class<?>> deserializationPredicate,
+                        final Predicate<Class<?>> serializationPredicate,
+                        final Function<Class<?>, CustomEnumConverter<?>> enumConverterFactory,
+                        final SnippetFactory snippet,
+                        final boolean streamingDeserialization,
+                        final int mappingCacheSize) {
+        //CHECKSTYLE:ON
         this.objectConverterWriters = objectConverterWriters;
         this.objectConverterReaders = objectConverterReaders;
         this.version = version;
@@ -188,7 +266,7 @@ public /* DON'T MAKE IT HIDDEN */ class MapperConfig implements Cloneable {
 
         this.attributeOrder = attributeOrder;
         this.failOnUnknown = failOnUnknown;
-        this.serializeValueFilter = serializeValueFilter == null ? (name, value) -> false : serializeValueFilter;
+        this.serializeValueFilter = serializeValueFilter == null ? NO_SERIALIZE_VALUE_FILTER : serializeValueFilter;
         this.interfaceImplementationMapping = interfaceImplementationMapping;
 
         this.objectConverterWriterCache = new HashMap<>(objectConverterWriters.size());
@@ -196,6 +274,8 @@ public /* DON'T MAKE IT HIDDEN */ class MapperConfig implements Cloneable {
         this.useBigDecimalForFloats = useBigDecimalForFloats;
         this.deduplicateObjects = deduplicateObjects;
         this.snippet = snippet;
+        this.streamingDeserialization = streamingDeserialization;
+        this.mappingCacheSize = mappingCacheSize;
     }
 
     public SnippetFactory getSnippet() {
@@ -460,6 +540,14 @@ public /* DON'T MAKE IT HIDDEN */ class MapperConfig implements Cloneable {
         return Boolean.TRUE.equals(deduplicateObjects);
     }
 
+    public boolean isStreamingDeserialization() {
+        return streamingDeserialization;
+    }
+
+    public int getMappingCacheSize() {
+        return mappingCacheSize;
+    }
+
     public boolean isSupportEnumContainerDeserialization() {
         return supportEnumMapDeserialization;
     }
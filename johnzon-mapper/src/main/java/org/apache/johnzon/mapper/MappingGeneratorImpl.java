@@ -30,7 +30,6 @@ import jakarta.json.stream.JsonGenerator;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -39,6 +38,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.BaseStream;
 import java.util.stream.StreamSupport;
 
@@ -46,12 +49,14 @@ public class MappingGeneratorImpl implements MappingGenerator {
     private final MapperConfig config;
     private final JsonGenerator generator;
     private final Mappings mappings;
+    private final boolean filterValues;
     private Map<Object, String> jsonPointers;
 
     MappingGeneratorImpl(MapperConfig config, JsonGenerator jsonGenerator, final Mappings mappings) {
         this.config = config;
         this.generator = jsonGenerator;
         this.mappings = mappings;
+        this.filterValues = config.getSerializeValueFilter() != MapperConfig.NO_SERIALIZE_VALUE_FILTER;
     }
 
     @Override
@@ -373,18 +378,25 @@ public class MappingGeneratorImpl implements MappingGenerator {
             return true;
         }
 
-        for (final Map.Entry<String, Mappings.Getter> getterEntry : classMapping.getters.entrySet()) {
-            final Mappings.Getter getter = getterEntry.getValue();
-            if (ignored != null && ignored.contains(getterEntry.getKey())) {
+        // scalar steps are written directly when nothing can intercept the value (filter, object deduplication)
+        final boolean direct = !filterValues && jsonPointers.isEmpty();
+        for (final Mappings.WriteStep step : classMapping.writePlan) {
+            final Mappings.Getter getter = step.getter;
+            final String key = step.name;
+            if (ignored != null && ignored.contains(key)) {
                 continue;
             }
             if (getter.version >= 0 && config.getVersion() >= 0 && config.getVersion() < getter.version) {
                 continue;
             }
+            if (direct && step.scalar != null) {
+                writeScalar(step, object, generator);
+                continue;
+            }
 
             final Object value = getter.reader.read(object);
             if (JsonValue.class.isInstance(value)) {
-                generator.write(getterEntry.getKey(), JsonValue.class.cast(value));
+                generator.write(key, JsonValue.class.cast(value));
                 continue;
             }
 
@@ -392,7 +404,7 @@ public class MappingGeneratorImpl implements MappingGenerator {
                 if (!getter.reader.isNillable(!config.isSkipNull())) {
                     continue;
                 } else {
-                    generator.writeNull(getterEntry.getKey());
+                    generator.writeNull(key);
                     continue;
                 }
             }
@@ -402,7 +414,7 @@ public class MappingGeneratorImpl implements MappingGenerator {
             String valJsonPointer = jsonPointers.get(val);
             if (valJsonPointer != null) {
                 // write the JsonPointer instead
-                generator.write(getterEntry.getKey(), valJsonPointer);
+                generator.write(key, valJsonPointer);
             } else {
                 writeValue(val.getClass(),
                         getter.dynamic,
@@ -411,11 +423,11 @@ public class MappingGeneratorImpl implements MappingGenerator {
                         getter.collection,
                         getter.map,
                         getter.itemConverter,
-                        getterEntry.getKey(),
+                        key,
                         val,
                         getter.objectConverter,
                         getter.ignoreNested,
-                        isDedup() ? new JsonPointerTracker(jsonPointer, getterEntry.getKey()) : null,
+                        isDedup() ? new JsonPointerTracker(jsonPointer, key) : null,
                         generator);
             }
         }
@@ -432,6 +444,87 @@ public class MappingGeneratorImpl implements MappingGenerator {
         return true;
     }
 
+    // same output than writePrimitives() but without any type test and boxing for plain primitive accessors
+    private void writeScalar(final Mappings.WriteStep step, final Object object, final JsonGenerator generator)
+            throws InvocationTargetException, IllegalAccessException {
+        final String key = step.name;
+        if (step.primitiveReader != null) {
+            switch (step.scalar) {
+                case INT:
+                    generator.write(key, ToIntFunction.class.cast(step.primitiveReader).applyAsInt(object));
+                    return;
+                case LONG:
+                    final long longValue = ToLongFunction.class.cast(step.primitiveReader).applyAsLong(object);
+                    if (isInJsRange(longValue)) {
+                        generator.write(key, longValue);
+                    } else {
+                        generator.write(key, Long.toString(longValue));
+                    }
+                    return;
+                case DOUBLE:
+                    final double doubleValue = ToDoubleFunction.class.cast(step.primitiveReader).applyAsDouble(object);
+                    if (!Double.isNaN(doubleValue)) {
+                        generator.write(key, doubleValue);
+                    }
+                    return;
+                case BOOLEAN:
+                    generator.write(key, Predicate.class.cast(step.primitiveReader).test(object));
+                    return;
+                default:
+                    break;
+            }
+        }
+
+        final Object value = step.getter.reader.read(object);
+        if (value == null) {
+            if (step.getter.reader.isNillable(!config.isSkipNull())) {
+                generator.writeNull(key);
+            }
+            return;
+        }
+        switch (step.scalar) {
+            case STRING:
+                generator.write(key, value.toString());
+                break;
+            case INT:
+                generator.write(key, Number.class.cast(value).intValue());
+                break;
+            case LONG:
+                final long longValue = Long.class.cast(value);
+                if (isInJsRange(longValue)) {
+                    generator.write(key, longValue);
+                } else {
+                    generator.write(key, value.toString());
+                }
+                break;
+            case FLOAT:
+                if (!Float.isNaN(Float.class.cast(value))) {
+                    generator.write(key, new BigDecimal(value.toString()));
+                }
+                break;
+            case DOUBLE:
+                final double doubleValue = Double.class.cast(value);
+                if (!Double.isNaN(doubleValue)) {
+                    generator.write(key, doubleValue);
+                }
+                break;
+            case BOOLEAN:
+                generator.write(key, Boolean.class.cast(value));
+                break;
+            case CHAR:
+                generator.write(key, value.toString());
+                break;
+            case ENUM:
+                final Object adapted = step.getter.converter.from(value);
+                if (!writePrimitives(key, adapted.getClass(), adapted, generator)) {
+                    writeValue(adapted.getClass(), true, false, false, false, false, null, key, adapted, null, null, null, generator);
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unsupported scalar " + step.scalar);
+        }
+    }
+
     //CHECKSTYLE:OFF
     private void writeValue(final Class<?> type, final boolean dynamic,
                             final boolean primitive, final boolean array,
@@ -580,21 +673,9 @@ public class MappingGeneratorImpl implements MappingGenerator {
             return;
         }
 
-        if(config.isTreatByteArrayAsBase64() && (type == byte[].class /*|| type == Byte[].class*/)) {
-            String base64EncodedByteArray = Base64.getEncoder().encodeToString((byte[]) arrayValue);
-            if (key != null) {
-                generator.write(key, base64EncodedByteArray);
-            } else {
-                generator.write(base64EncodedByteArray);
-            }
-            return;
-        }
-        if(config.isTreatByteArrayAsBase64URL() && (type == byte[].class /*|| type == Byte[].class*/)) {
-            if (key != null) {
-                generator.write(key, Base64.getUrlEncoder().encodeToString((byte[]) arrayValue));
-            } else {
-                generator.write(Base64.getUrlEncoder().encodeToString((byte[]) arrayValue));
-            }
+        if ((config.isTreatByteArrayAsBase64() || config.isTreatByteArrayAsBase64URL()) && (type == byte[].class /*|| type == Byte[].class*/)) {
+            // johnzon-core generator encodes it directly in its buffer, no intermediate String
+            JohnzonCores.writeBinary(generator, key, (byte[]) arrayValue, !config.isTreatByteArrayAsBase64());
             return;
         }
 
@@ -606,6 +687,56 @@ public class MappingGeneratorImpl implements MappingGenerator {
 
         // some specialised arrays to speed up conversion.
         // Needed since Array.get is rather slow :(
+        if (type.isArray() && type.getComponentType().isPrimitive()) {
+            writePrimitiveArrayItems(type, arrayValue, length);
+        } else if (type == Byte[].class ||
+                   type == Short[].class ||
+                   type == Integer[].class ||
+                   type == Long[].class ||
+                   type == Float[].class ||
+                   type == Double[].class ||
+                   type == Character[].class ||
+                   type == Boolean[].class) {
+            // Wrapper types do not not need deduplication
+            Object[] oArrayValue = (Object[]) arrayValue;
+            for (int i = 0; i < length; i++) {
+                final Object o = oArrayValue[i];
+                writeItem(itemConverter != null ? itemConverter.from(o) : o, ignoredProperties,
+                        isDedup() ? new JsonPointerTracker(jsonPointer, i) : null);
+            }
+        } else {
+            // must be object arrays
+            for (int i = 0; i < length; i++) {
+                Object[] oArrayValue = (Object[]) arrayValue;
+                final Object o = oArrayValue[i];
+                String valJsonPointer = jsonPointers == null ? null : jsonPointers.get(o);
+                if (valJsonPointer != null) {
+                    // write the JsonPointer as String natively
+                    generator.write(valJsonPointer);
+                } else if (o instanceof JsonValue) {
+                    generator.write((JsonValue) o);
+                } else {
+                    writeItem(itemConverter != null ? itemConverter.from(o) : o, ignoredProperties,
+                            isDedup() ? new JsonPointerTracker(jsonPointer, i) : null);
+                }
+            }
+        }
+        generator.writeEnd();
+    }
+
+
+    /**
+     * Writes a root primitive array as a JSON array of numbers (booleans, strings for chars) without boxing its items.
+     * Contrary to arrays of an object, it ignores {@code skipEmptyArray} and base64 settings since the root value must be written.
+     */
+    void writePrimitiveArray(final Object arrayValue) {
+        generator.writeStartArray();
+        writePrimitiveArrayItems(arrayValue.getClass(), arrayValue, ArrayUtil.getArrayLength(arrayValue));
+        generator.writeEnd();
+    }
+
+    // items are written as their wrapper would be (js range, NaN skipped) but without boxing them
+    private void writePrimitiveArrayItems(final Class<?> type, final Object arrayValue, final int length) {
         if (type == byte[].class) {
             byte[] tArrayValue = (byte[]) arrayValue;
             for (int i = 0; i < length; i++) {
@@ -628,14 +759,15 @@ public class MappingGeneratorImpl implements MappingGenerator {
             long[] tArrayValue = (long[]) arrayValue;
             for (int i = 0; i < length; i++) {
                 final long o = tArrayValue[i];
-                generator.write(o);
+                if (isInJsRange(o)) {
+                    generator.write(o);
+                } else {
+                    generator.write(String.valueOf(o));
+                }
             }
         } else if (type == float[].class) {
-            float[] tArrayValue = (float[]) arrayValue;
-            for (int i = 0; i < length; i++) {
-                final float o = tArrayValue[i];
-                generator.write(o);
-            }
+            // items are positional, a NaN fails as in a double[] instead of being skipped
+            JohnzonCores.writeFloats(generator, (float[]) arrayValue, length);
         } else if (type == double[].class) {
             double[] tArrayValue = (double[]) arrayValue;
             for (int i = 0; i < length; i++) {
@@ -654,42 +786,9 @@ public class MappingGeneratorImpl implements MappingGenerator {
                 final boolean o = tArrayValue[i];
                 generator.write(o);
             }
-        } else if (type == Byte[].class ||
-                   type == Short[].class ||
-                   type == Integer[].class ||
-                   type == Long[].class ||
-                   type == Float[].class ||
-                   type == Double[].class ||
-                   type == Character[].class ||
-                   type == Boolean[].class) {
-            // Wrapper types do not not need deduplication
-            Object[] oArrayValue = (Object[]) arrayValue;
-            for (int i = 0; i < length; i++) {
-                final Object o = oArrayValue[i];
-                writeItem(itemConverter != null ? itemConverter.from(o) : o, ignoredProperties,
-                        isDedup() ? new JsonPointerTracker(jsonPointer, i) : null);
-            }
-        } else {
-            // must be object arrays
-            for (int i = 0; i < length; i++) {
-                Object[] oArrayValue = (Object[]) arrayValue;
-                final Object o = oArrayValue[i];
-                String valJsonPointer = jsonPointers == null ? null : jsonPointers.get(o);
-                if (valJsonPointer != null) {
-                    // write the JsonPointer as String natively
-                    generator.write(valJsonPointer);
-                } else if (o instanceof JsonValue) {
-                    generator.write((JsonValue) o);
-                } else {
-                    writeItem(itemConverter != null ? itemConverter.from(o) : o, ignoredProperties,
-                            isDedup() ? new JsonPointerTracker(jsonPointer, i) : null);
-                }
-            }
         }
-        generator.writeEnd();
     }
 
-
     private void writeItem(final Object o, final Collection<String> ignoredProperties, JsonPointerTracker jsonPointer) {
         if (o == null) {
             generator.writeNull();
@@ -743,8 +842,8 @@ public class MappingGeneratorImpl implements MappingGenerator {
         return converter.from(value);
     }
 
-    private boolean isInJsRange(final Number longValue) {
+    private boolean isInJsRange(final long longValue) {
         return !config.isUseJsRange() ||
-                (longValue.longValue() <= 9007199254740991L && longValue.longValue() >= -9007199254740991L);
+                (longValue <= 9007199254740991L && longValue >= -9007199254740991L);
     }
 }
@@ -21,18 +21,31 @@ package org.apache.johnzon.mapper;
 import org.apache.johnzon.mapper.access.AccessMode;
 import org.apache.johnzon.mapper.converter.CharacterConverter;
 import org.apache.johnzon.mapper.internal.AdapterKey;
+import org.apache.johnzon.mapper.internal.Base64Strings;
 import org.apache.johnzon.mapper.internal.ConverterAdapter;
 import org.apache.johnzon.mapper.internal.JsonPointerTracker;
 import org.apache.johnzon.mapper.number.Validator;
 import org.apache.johnzon.mapper.reflection.JohnzonParameterizedType;
 
 import jakarta.json.JsonArray;
+import jakarta.json.JsonBuilderFactory;
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonReader;
 import jakarta.json.JsonString;
 import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayReader;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.InvocationTargetException;
@@ -44,6 +57,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
@@ -52,6 +66,7 @@ import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -59,6 +74,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
+import java.util.NoSuchElementException;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
@@ -101,6 +117,7 @@ public class MappingParserImpl implements MappingParser {
     private final Mappings mappings;
 
     private final JsonReader jsonReader;
+    private final JsonBuilderFactory builderFactory;
 
     /**
      * Used for de-referencing JsonPointers during deserialisation.
@@ -110,14 +127,30 @@ public class MappingParserImpl implements MappingParser {
     private Map<String, Object> jsonPointers;
 
     public MappingParserImpl(MapperConfig config, Mappings mappings, JsonReader jsonReader, Map<String, Object> jsonPointers) {
+        this(config, mappings, jsonReader, jsonPointers, null);
+    }
+
+    /**
+     * @param builderFactory used to buffer the rest of an object when a streamed binding needs to look behind,
+     *                       if {@code null} such objects are fully buffered.
+     */
+    public MappingParserImpl(final MapperConfig config, final Mappings mappings, final JsonReader jsonReader,
+                             final Map<String, Object> jsonPointers, final JsonBuilderFactory builderFactory) {
         this.config = config;
         this.mappings = mappings;
         this.jsonReader = jsonReader;
+        this.builderFactory = builderFactory;
     }
 
 
     @Override
     public <T> T readObject(Type targetType) {
+        if (isStreamingBinding()) {
+            final JsonParser parser = JohnzonCores.streamingParser(jsonReader);
+            if (parser != null && parser.hasNext()) {
+                return (T) readStreaming(parser, targetType);
+            }
+        }
         try {
             return readObject(jsonReader.readValue(), targetType);
         } catch (final NoSuchMethodError noSuchMethodError) { // jsonp 1.0 fallback - mainly for tests
@@ -253,6 +286,11 @@ public class MappingParserImpl implements MappingParser {
         return jsonPointers != Collections.<String, Object>emptyMap();
     }
 
+    // binary values (byte[] and InputStream) use the basic alphabet when both base64 flags are set, as serialization does
+    private boolean isBase64Url() {
+        return !config.isTreatByteArrayAsBase64() && config.isTreatByteArrayAsBase64URL();
+    }
+
     private Object buildObject(final Type inType, final JsonObject object, final boolean applyObjectConverter,
                                final JsonPointerTracker jsonPointer, final Collection<Class<?>> skippedConverters) {
         final Type type = inType == Object.class ? new JohnzonParameterizedType(Map.class, String.class, Object.class) : inType;
@@ -394,59 +432,11 @@ public class MappingParserImpl implements MappingParser {
         }
 
         for (final Map.Entry<String, JsonValue> jsonEntry : object.entrySet()) {
-            final Mappings.Setter value = classMapping.setters.get(jsonEntry.getKey());
+            final Mappings.Setter value = findSetter(classMapping, jsonEntry.getKey());
             if (value == null) {
                 continue;
             }
-
-            final JsonValue jsonValue = jsonEntry.getValue();
-            final JsonValue.ValueType valueType = jsonValue != null ? jsonValue.getValueType() : null;
-            try {
-                if (JsonValue.class == value.paramType) {
-                    value.writer.write(t, jsonValue);
-                    continue;
-                }
-                if (jsonValue == null) {
-                    continue;
-                }
-
-                final AccessMode.Writer setterMethod = value.writer;
-                if (NULL == valueType) { // forced
-                    setterMethod.write(t, null);
-                } else {
-                    Object existingInstance = null;
-                    if (config.isReadAttributeBeforeWrite()) {
-                        final Mappings.Getter getter = classMapping.getters.get(jsonEntry.getKey());
-                        if (getter != null) {
-                            try {
-                                existingInstance = getter.reader.read(t);
-                            } catch (final RuntimeException re) {
-                                // backward compatibility
-                            }
-                        }
-                    }
-                    final Object convertedValue = toValue(
-                            existingInstance, jsonValue, value.converter, value.itemConverter,
-                            value.paramType, value.objectConverter,
-                            isDedup() ? new JsonPointerTracker(jsonPointer, jsonEntry.getKey()) : null, inType,
-                            e -> {
-                                if (SetterMappingException.class.isInstance(e)) {
-                                    throw SetterMappingException.class.cast(e);
-                                }
-                                final String snippet = config.getSnippet().of(jsonValue);
-                                throw new SetterMappingException(
-                                        classMapping.clazz, jsonEntry.getKey(), value.writer.getType(), valueType, snippet, e);
-                            });
-                    if (convertedValue != null) {
-                        setterMethod.write(t, convertedValue);
-                    }
-                }
-            } catch (final SetterMappingException alreadyHandled) {
-                throw alreadyHandled;
-            } catch (final Exception e) {
-                final String snippet = jsonValue == null? "null": config.getSnippet().of(jsonValue);
-                throw new SetterMappingException(classMapping.clazz, jsonEntry.getKey(), value.writer.getType(), valueType, snippet, e);
-            }
+            bindValue(classMapping, t, inType, jsonPointer, jsonEntry.getKey(), value, jsonEntry.getValue());
         }
         if (classMapping.anySetter != null) {
             for (final Map.Entry<String, JsonValue> entry : object.entrySet()) {
@@ -501,6 +491,567 @@ public class MappingParserImpl implements MappingParser {
         return t;
     }
 
+    private void bindValue(final Mappings.ClassMapping classMapping, final Object t, final Type inType, final JsonPointerTracker jsonPointer,
+                           final String key, final Mappings.Setter value, final JsonValue jsonValue) {
+        final JsonValue.ValueType valueType = jsonValue != null ? jsonValue.getValueType() : null;
+        try {
+            if (JsonValue.class == value.paramType) {
+                value.writer.write(t, jsonValue);
+                return;
+            }
+            if (jsonValue == null) {
+                return;
+            }
+
+            final AccessMode.Writer setterMethod = value.writer;
+            if (NULL == valueType) { // forced
+                setterMethod.write(t, null);
+            } else {
+                Object existingInstance = null;
+                if (config.isReadAttributeBeforeWrite()) {
+                    final Mappings.Getter getter = classMapping.getters.get(key);
+                    if (getter != null) {
+                        try {
+                            existingInstance = getter.reader.read(t);
+                        } catch (final RuntimeException re) {
+                            // backward compatibility
+                        }
+                    }
+                }
+                final Object convertedValue = toValue(
+                        existingInstance, jsonValue, value.converter, value.itemConverter,
+                        value.paramType, value.objectConverter,
+                        isDedup() ? new JsonPointerTracker(jsonPointer, key) : null, inType,
+                        e -> {
+                            if (SetterMappingException.class.isInstance(e)) {
+                                throw SetterMappingException.class.cast(e);
+                            }
+                            final String snippet = config.getSnippet().of(jsonValue);
+                            throw new SetterMappingException(
+                                    classMapping.clazz, key, value.writer.getType(), valueType, snippet, e);
+                        });
+                if (convertedValue != null) {
+                    setterMethod.write(t, convertedValue);
+                }
+            }
+        } catch (final SetterMappingException alreadyHandled) {
+            throw alreadyHandled;
+        } catch (final Exception e) {
+            final String snippet = jsonValue == null? "null": config.getSnippet().of(jsonValue);
+            throw new SetterMappingException(classMapping.clazz, key, value.writer.getType(), valueType, snippet, e);
+        }
+    }
+
+    // streaming binding: objects and collections are bound from the parser events,
+    // anything needing to look behind is read as a JsonValue and goes through the buffered binding
+
+    private boolean isStreamingBinding() {
+        return config.isStreamingDeserialization() && !config.isDeduplicateObjects() &&
+                !config.isFailOnUnknown() && !config.isReadAttributeBeforeWrite();
+    }
+
+    /**
+     * Lazily binds the items of the root array, one at a time, without building the array first.
+     *
+     * @param itemType the type of the array items.
+     * @param <T> the item type.
+     * @return an iterator over the bound items, the reader stays open until the caller closes it.
+     */
+    <T> Iterator<T> readArrayItems(final Type itemType) {
+        final Adapter itemConverter = Class.class.isInstance(itemType) ? config.findAdapter(Class.class.cast(itemType)) : null;
+        final JsonParser parser = JohnzonCores.streamingParser(jsonReader);
+        if (parser == null) { // not a johnzon reader, we can't do better than building the array
+            final Iterator<JsonValue> values = jsonReader.readArray().iterator();
+            return new Iterator<T>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return values.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    return (T) readArrayItem(values.next(), itemType, itemConverter, index++);
+                }
+            };
+        }
+        if (!parser.hasNext() || parser.next() != JsonParser.Event.START_ARRAY) {
+            throw new MapperException("Expected a JSON array to read " + itemType + " items");
+        }
+        final boolean streaming = isStreamingBinding();
+        return new Iterator<T>() {
+            private JsonParser.Event event;
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                if (event == null) {
+                    if (!parser.hasNext()) {
+                        throw new JsonParsingException("Expected end of array", parser.getLocation());
+                    }
+                    event = parser.next();
+                    if (event == JsonParser.Event.END_ARRAY && parser.hasNext()) {
+                        throw new JsonParsingException("Expected end of file", parser.getLocation());
+                    }
+                }
+                return event != JsonParser.Event.END_ARRAY;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final JsonParser.Event current = event;
+                event = null;
+                final int position = index++;
+                return (T) (streaming ? readStreamingValue(parser, current, itemType) : readArrayItem(parser.getValue(), itemType, itemConverter, position));
+            }
+        };
+    }
+
+    // same binding than the items of a root array, deduplicated references are relative to the root array (/index/...)
+    private Object readArrayItem(final JsonValue value, final Type itemType, final Adapter itemConverter, final int index) {
+        return toObject(null, value, itemType, itemConverter, isDedup() ? new JsonPointerTracker(JsonPointerTracker.ROOT, index) : null, Object.class);
+    }
+
+    private Object readStreaming(final JsonParser parser, final Type targetType) {
+        final Object value = readStreamingValue(parser, parser.next(), targetType);
+        if (parser.hasNext()) {
+            throw new JsonParsingException("Expected end of file", parser.getLocation());
+        }
+        return value;
+    }
+
+    private Object readStreamingValue(final JsonParser parser, final JsonParser.Event event, final Type targetType) {
+        switch (event) {
+            case START_OBJECT:
+                if (JsonStructure.class == targetType || JsonObject.class == targetType || JsonValue.class == targetType) {
+                    return parser.getObject();
+                }
+                return streamObject(parser, targetType, targetType instanceof Class || targetType instanceof ParameterizedType,
+                        null, null, null);
+            case START_ARRAY:
+                return streamRootArray(parser, targetType);
+            default:
+                return readObject(parser.getValue(), targetType);
+        }
+    }
+
+    private Object streamRootArray(final JsonParser parser, final Type targetType) {
+        if (Class.class.isInstance(targetType)) {
+            final Class<?> asClass = Class.class.cast(targetType);
+            if (asClass.isArray() && !asClass.getComponentType().isPrimitive()) {
+                final Class<?> componentType = asClass.getComponentType();
+                return streamArray(parser, componentType, config.findAdapter(componentType), Object.class);
+            }
+            if (asClass.isArray() && isStreamablePrimitive(asClass.getComponentType()) && config.findAdapter(asClass.getComponentType()) == null) {
+                return streamPrimitiveArray(parser, asClass.getComponentType(), Object.class);
+            }
+        } else if (ParameterizedType.class.isInstance(targetType)) {
+            final ParameterizedType pt = ParameterizedType.class.cast(targetType);
+            final Mappings.CollectionMapping mapping = mappings.findCollectionMapping(pt, Object.class);
+            final Collection<Object> collection = mapping == null ? null : newStreamedCollection(mapping.raw);
+            if (collection != null) {
+                final Type arg = pt.getActualTypeArguments()[0];
+                return streamCollection(parser, collection, mapping.arg,
+                        Class.class.isInstance(arg) ? config.findAdapter(Class.class.cast(arg)) : null, Object.class);
+            }
+        }
+        return readObject(parser.getArray(), targetType);
+    }
+
+    /**
+     * Binds the object the parser is on (START_OBJECT event).
+     *
+     * @param knownMapping the mapping if already looked up.
+     * @param firstKey the first key if it was already read (discriminator lookup).
+     * @param firstValue the value of the first key.
+     */
+    private Object streamObject(final JsonParser parser, final Type type, final boolean applyObjectConverter,
+                                final Mappings.ClassMapping knownMapping, final String firstKey, final JsonValue firstValue) {
+        final Mappings.ClassMapping classMapping = knownMapping != null ? knownMapping : findStreamableMapping(type, applyObjectConverter);
+        if (classMapping == null) {
+            return buildObject(type, bufferObject(parser, firstKey, firstValue, false), applyObjectConverter, null, null);
+        }
+
+        String key = firstKey;
+        JsonValue value = firstValue;
+        boolean ended = false;
+        if (config.getDeserializationPredicate() != null && config.getDeserializationPredicate().test(Class.class.cast(type))) {
+            if (key == null) {
+                if (parser.next() == JsonParser.Event.END_OBJECT) {
+                    ended = true;
+                } else {
+                    key = parser.getString();
+                    parser.next();
+                    value = parser.getValue();
+                }
+            }
+            if (key != null) {
+                if (!config.getDiscriminator().equals(key) || !JsonString.class.isInstance(value)) {
+                    // the discriminator is not in first position (or invalid), only known once the whole object is read
+                    return buildObject(type, bufferObject(parser, key, value, false), applyObjectConverter, null, null);
+                }
+                final Class<?> nestedType = config.getTypeLoader().apply(JsonString.class.cast(value).getString());
+                if (nestedType != null && nestedType != type) {
+                    return streamObject(parser, nestedType, applyObjectConverter, null, key, value);
+                }
+            }
+        }
+
+        final Object t;
+        try {
+            t = classMapping.factory.create(null);
+        } catch (final Exception e) {
+            // let the buffered binding fail (or retry) with the object snippet
+            return buildObject(type, bufferObject(parser, key, value, ended), applyObjectConverter, null, null);
+        }
+        if (jsonPointers == null) { // same as buildObject(), deduplicated mappings are not streamed
+            jsonPointers = Collections.emptyMap();
+        }
+
+        if (key != null) {
+            final Mappings.Setter setter = findSetter(classMapping, key);
+            if (setter != null) {
+                bindValue(classMapping, t, type, null, key, setter, value);
+            }
+        }
+        if (!ended) {
+            while (parser.next() != JsonParser.Event.END_OBJECT) {
+                // known keys are matched on the parser buffer, the key is only created for the other ones
+                final Map.Entry<String, Mappings.Setter> known = JohnzonCores.find(parser, classMapping.setterIndex);
+                final String name = known != null ? known.getKey() : parser.getString();
+                streamMember(parser, parser.next(), classMapping, t, type, name,
+                        known != null ? known.getValue() : classMapping.setters.get(name));
+            }
+        }
+        return t;
+    }
+
+    private void streamMember(final JsonParser parser, final JsonParser.Event event, final Mappings.ClassMapping classMapping,
+                              final Object t, final Type inType, final String key, final Mappings.Setter setter) {
+        if (setter == null) {
+            if (event == JsonParser.Event.START_OBJECT) {
+                parser.skipObject();
+            } else if (event == JsonParser.Event.START_ARRAY) {
+                parser.skipArray();
+            }
+            return;
+        }
+        if (event == JsonParser.Event.VALUE_STRING && isStreamableString(setter)) {
+            final Object value;
+            try {
+                value = streamString(parser, setter.paramType);
+            } catch (final IOException | RuntimeException e) {
+                // the value was not buffered so there is no snippet
+                throw new SetterMappingException(classMapping.clazz, key, setter.writer.getType(), STRING, "\"...\"", e);
+            }
+            setter.writer.write(t, value);
+            return;
+        }
+        if ((event != JsonParser.Event.START_OBJECT && event != JsonParser.Event.START_ARRAY) ||
+                JsonValue.class == setter.paramType || setter.converter != null || setter.objectConverter != null ||
+                (event == JsonParser.Event.START_OBJECT ?
+                        findStreamableMapping(objectTarget(setter.paramType, setter.itemConverter), setter.paramType instanceof Class) == null :
+                        !isStreamableArray(setter.paramType, setter.itemConverter, inType))) {
+            bindValue(classMapping, t, inType, null, key, setter, parser.getValue());
+            return;
+        }
+        try {
+            final Object convertedValue = event == JsonParser.Event.START_OBJECT ?
+                    streamObjectValue(parser, setter.paramType, setter.itemConverter, inType) :
+                    streamArrayValue(parser, setter.paramType, setter.itemConverter, inType);
+            if (convertedValue != null) {
+                setter.writer.write(t, convertedValue);
+            }
+        } catch (final SetterMappingException alreadyHandled) {
+            throw alreadyHandled;
+        } catch (final Exception e) {
+            // the value was not buffered so there is no snippet
+            final boolean object = event == JsonParser.Event.START_OBJECT;
+            throw new SetterMappingException(classMapping.clazz, key, setter.writer.getType(),
+                    object ? JsonValue.ValueType.OBJECT : ARRAY, object ? "{...}" : "[...]", e);
+        }
+    }
+
+    // same types than toValue() binds from a string without any conversion
+    private boolean isStreamableString(final Mappings.Setter setter) {
+        return setter.converter == null && setter.itemConverter == null && setter.objectConverter == null &&
+                (setter.paramType == Reader.class || setter.paramType == InputStream.class ||
+                        (setter.paramType == byte[].class && (config.isTreatByteArrayAsBase64() || config.isTreatByteArrayAsBase64URL())));
+    }
+
+    // reads the value from the parser without creating the string so huge values don't hit the max string length
+    private Object streamString(final JsonParser parser, final Type type) throws IOException {
+        final Reader reader = JohnzonCores.valueReader(parser); // only valid until the next event so it is consumed there
+        if (type == Reader.class) {
+            final CharArrayWriter text = new CharArrayWriter();
+            final char[] chars = new char[8192];
+            int read;
+            while ((read = reader.read(chars)) >= 0) {
+                text.write(chars, 0, read);
+            }
+            return new CharArrayReader(text.toCharArray());
+        }
+        final ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        try (final InputStream decoded = (isBase64Url() ? Base64.getUrlDecoder() : Base64.getDecoder()).wrap(new AsciiReaderInputStream(reader))) {
+            final byte[] bytes = new byte[8192];
+            int read;
+            while ((read = decoded.read(bytes)) >= 0) {
+                binary.write(bytes, 0, read);
+            }
+        }
+        return type == byte[].class ? binary.toByteArray() : new ByteArrayInputStream(binary.toByteArray());
+    }
+
+    // the index is an exact lookup, the map can have other semantics (case insensitive comparator for instance)
+    private static Mappings.Setter findSetter(final Mappings.ClassMapping classMapping, final String key) {
+        final Map.Entry<String, Mappings.Setter> known = classMapping.setterIndex.find(key);
+        return known != null ? known.getValue() : classMapping.setters.get(key);
+    }
+
+    // same as toObject() for an object but without buffering it when possible
+    private Object streamObjectValue(final JsonParser parser, final Type type, final Adapter itemConverter, final Type rootType) {
+        final Type target = objectTarget(type, itemConverter);
+        final boolean applyObjectConverter = type instanceof Class;
+        final Mappings.ClassMapping classMapping = findStreamableMapping(target, applyObjectConverter);
+        if (classMapping == null) {
+            return toObject(null, parser.getObject(), type, itemConverter, null, rootType);
+        }
+        final Object object = streamObject(parser, target, applyObjectConverter, classMapping, null, null);
+        return target != type ? itemConverter.to(object) : object;
+    }
+
+    // toObject() binds an object to the adapter type when the item converter is typed
+    private static Type objectTarget(final Type type, final Adapter itemConverter) {
+        final boolean typedAdapter = !ConverterAdapter.class.isInstance(itemConverter) && TypeAwareAdapter.class.isInstance(itemConverter);
+        return typedAdapter ? TypeAwareAdapter.class.cast(itemConverter).getTo() : type;
+    }
+
+    private boolean isStreamableArray(final Type type, final Adapter itemConverter, final Type rootType) {
+        if (Class.class.isInstance(type)) {
+            final Class<?> clazz = Class.class.cast(type);
+            return clazz.isArray() && (!clazz.getComponentType().isPrimitive() ||
+                    (itemConverter == null && isStreamablePrimitive(clazz.getComponentType())));
+        }
+        if (ParameterizedType.class.isInstance(type)) {
+            final ParameterizedType genericType = ParameterizedType.class.cast(type);
+            if (Class.class.isInstance(genericType.getRawType()) && Collection.class.isAssignableFrom(Class.class.cast(genericType.getRawType()))) {
+                final Mappings.CollectionMapping mapping = mappings.findCollectionMapping(genericType, rootType);
+                return mapping != null && newStreamedCollection(mapping.raw) != null;
+            }
+        }
+        return false;
+    }
+
+    // same as toObject() for an array but without buffering it when possible
+    private Object streamArrayValue(final JsonParser parser, final Type type, final Adapter itemConverter, final Type rootType) {
+        if (Class.class.isInstance(type)) {
+            final Class<?> clazz = Class.class.cast(type);
+            if (clazz.isArray() && !clazz.getComponentType().isPrimitive()) {
+                return streamArray(parser, clazz.getComponentType(), itemConverter, rootType);
+            }
+            if (clazz.isArray() && itemConverter == null && isStreamablePrimitive(clazz.getComponentType())) {
+                return streamPrimitiveArray(parser, clazz.getComponentType(), rootType);
+            }
+        } else if (ParameterizedType.class.isInstance(type)) {
+            final ParameterizedType genericType = ParameterizedType.class.cast(type);
+            if (Class.class.isInstance(genericType.getRawType()) && Collection.class.isAssignableFrom(Class.class.cast(genericType.getRawType()))) {
+                final Mappings.CollectionMapping mapping = mappings.findCollectionMapping(genericType, rootType);
+                final Collection<Object> collection = mapping == null ? null : newStreamedCollection(mapping.raw);
+                if (collection != null) {
+                    return streamCollection(parser, collection, mapping.arg, itemConverter, rootType);
+                }
+            }
+        }
+        return toObject(null, parser.getArray(), type, itemConverter, null, rootType);
+    }
+
+    private Object streamArray(final JsonParser parser, final Class<?> componentType, final Adapter itemConverter, final Type rootType) {
+        final List<Object> items = new ArrayList<>();
+        JsonParser.Event event;
+        while ((event = parser.next()) != JsonParser.Event.END_ARRAY) {
+            items.add(streamItem(parser, event, componentType, itemConverter, rootType));
+        }
+        return items.toArray((Object[]) Array.newInstance(componentType, items.size()));
+    }
+
+    private static boolean isStreamablePrimitive(final Class<?> type) {
+        return int.class == type || long.class == type || double.class == type || float.class == type;
+    }
+
+    // numbers are read directly from the parser into a growing array (no JsonArray, no boxing),
+    // other values use the same conversion as the buffered binding
+    private Object streamPrimitiveArray(final JsonParser parser, final Class<?> componentType, final Type rootType) {
+        int size = 0;
+        JsonParser.Event event;
+        if (int.class == componentType) {
+            int[] array = new int[16];
+            while ((event = parser.next()) != JsonParser.Event.END_ARRAY) {
+                if (size == array.length) {
+                    array = Arrays.copyOf(array, size * 2);
+                }
+                final long value;
+                if (event == JsonParser.Event.VALUE_NUMBER && JohnzonCores.isFitLong(parser) && (value = parser.getLong()) == (int) value) {
+                    array[size] = (int) value;
+                } else {
+                    array[size] = (int) primitiveItem(parser, event, componentType, size, rootType);
+                }
+                size++;
+            }
+            return size == array.length ? array : Arrays.copyOf(array, size);
+        }
+        if (long.class == componentType) {
+            long[] array = new long[16];
+            while ((event = parser.next()) != JsonParser.Event.END_ARRAY) {
+                if (size == array.length) {
+                    array = Arrays.copyOf(array, size * 2);
+                }
+                array[size] = event == JsonParser.Event.VALUE_NUMBER && JohnzonCores.isFitLong(parser) ?
+                        parser.getLong() : (long) primitiveItem(parser, event, componentType, size, rootType);
+                size++;
+            }
+            return size == array.length ? array : Arrays.copyOf(array, size);
+        }
+        if (double.class == componentType) {
+            double[] array = new double[16];
+            while ((event = parser.next()) != JsonParser.Event.END_ARRAY) {
+                if (size == array.length) {
+                    array = Arrays.copyOf(array, size * 2);
+                }
+                array[size] = event == JsonParser.Event.VALUE_NUMBER ?
+                        readDouble(parser) : (double) primitiveItem(parser, event, componentType, size, rootType);
+                size++;
+            }
+            return size == array.length ? array : Arrays.copyOf(array, size);
+        }
+        float[] array = new float[16];
+        while ((event = parser.next()) != JsonParser.Event.END_ARRAY) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, size * 2);
+            }
+            array[size] = event == JsonParser.Event.VALUE_NUMBER ?
+                    (float) readDouble(parser) : (float) primitiveItem(parser, event, componentType, size, rootType);
+            size++;
+        }
+        return size == array.length ? array : Arrays.copyOf(array, size);
+    }
+
+    private static double readDouble(final JsonParser parser) {
+        return JohnzonCores.isFitLong(parser) ? parser.getLong() : Double.parseDouble(parser.getString());
+    }
+
+    private Object primitiveItem(final JsonParser parser, final JsonParser.Event event, final Class<?> componentType,
+                                 final int index, final Type rootType) {
+        if (event == JsonParser.Event.VALUE_NULL) {
+            throw new IllegalStateException("json array mapped to " + componentType.getName() + "[] has null value at index " + index);
+        }
+        final Object value = toObject(null, parser.getValue(), componentType, null, null, rootType);
+        if (value == null) {
+            throw new IllegalStateException("json array mapped to " + componentType.getName() + "[] has null value at index " + index);
+        }
+        return value;
+    }
+
+    private Collection<Object> streamCollection(final JsonParser parser, final Collection<Object> collection, final Type itemType,
+                                                final Adapter itemConverter, final Type rootType) {
+        JsonParser.Event event;
+        while ((event = parser.next()) != JsonParser.Event.END_ARRAY) {
+            if (event == JsonParser.Event.VALUE_NULL) {
+                collection.add(null);
+                continue;
+            }
+            try {
+                collection.add(streamItem(parser, event, itemType, itemConverter, rootType));
+            } catch (final MapperException me) {
+                throw me;
+            } catch (final Exception e) {
+                throw new MapperException(e);
+            }
+        }
+        return collection;
+    }
+
+    private Object streamItem(final JsonParser parser, final JsonParser.Event event, final Type type,
+                              final Adapter itemConverter, final Type rootType) {
+        switch (event) {
+            case START_OBJECT:
+                return streamObjectValue(parser, type, itemConverter, rootType);
+            case START_ARRAY:
+                return streamArrayValue(parser, type, itemConverter, rootType);
+            default:
+                return toObject(null, parser.getValue(), type, itemConverter, null, rootType);
+        }
+    }
+
+    // the parser is on START_OBJECT or after the first member when firstKey is not null
+    private JsonObject bufferObject(final JsonParser parser, final String firstKey, final JsonValue firstValue, final boolean ended) {
+        if (firstKey == null) {
+            return ended ? JsonValue.EMPTY_JSON_OBJECT : parser.getObject();
+        }
+        final JsonObjectBuilder builder = builderFactory.createObjectBuilder().add(firstKey, firstValue);
+        while (parser.next() != JsonParser.Event.END_OBJECT) {
+            final String key = parser.getString();
+            parser.next();
+            builder.add(key, parser.getValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return the mapping if the type can be bound from the parser events, {@code null} if it needs the whole object.
+     */
+    private Mappings.ClassMapping findStreamableMapping(final Type type, final boolean applyObjectConverter) {
+        if (!Class.class.isInstance(type)) {
+            return null;
+        }
+        final Class<?> clazz = Class.class.cast(type);
+        if (clazz.isPrimitive() || clazz.isArray() || clazz.isEnum() ||
+                Map.class.isAssignableFrom(clazz) || Collection.class.isAssignableFrom(clazz) || isPlatformType(clazz.getName())) {
+            return null;
+        }
+        if (applyObjectConverter && config.findObjectConverterReader(clazz) != null) {
+            return null;
+        }
+        if (builderFactory == null && config.getDeserializationPredicate() != null && config.getDeserializationPredicate().test(clazz)) {
+            return null;
+        }
+        final Mappings.ClassMapping classMapping = mappings.findOrCreateClassMapping(clazz);
+        if (classMapping == null || classMapping.factory == null || classMapping.deduplicateObjects ||
+                (applyObjectConverter && classMapping.reader != null) ||
+                classMapping.anySetter != null || classMapping.anyField != null || classMapping.mapAdder != null ||
+                (classMapping.factory.getParameterTypes() != null && classMapping.factory.getParameterTypes().length > 0)) {
+            return null;
+        }
+        return classMapping;
+    }
+
+    private static boolean isPlatformType(final String name) {
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jakarta.");
+    }
+
+    // sorted, bounded and enum collections keep the buffered binding
+    private static Collection<Object> newStreamedCollection(final Class<?> raw) {
+        if (List.class == raw || Collection.class == raw || ArrayList.class == raw) {
+            return new ArrayList<>();
+        }
+        if (Set.class == raw || HashSet.class == raw) {
+            return new HashSet<>();
+        }
+        if (LinkedHashSet.class == raw) {
+            return new LinkedHashSet<>();
+        }
+        if (LinkedList.class == raw) {
+            return new LinkedList<>();
+        }
+        if (Deque.class == raw || ArrayDeque.class == raw) {
+            return new ArrayDeque<>();
+        }
+        return null;
+    }
+
     private Number toNumberValue(JsonNumber jsonNumber) {
         if (jsonNumber.isIntegral()) {
             final int intValue = jsonNumber.intValue();
@@ -645,11 +1196,18 @@ public class MappingParserImpl implements MappingParser {
             throw new MapperException("Unable to parse " + description + " to boolean: " + snippet);
         }
 
-        if (config.isTreatByteArrayAsBase64() && jsonValue.getValueType() == JsonValue.ValueType.STRING && (type == byte[].class /*|| type == Byte[].class*/)) {
-            return Base64.getDecoder().decode(((JsonString) jsonValue).getString());
+        if ((config.isTreatByteArrayAsBase64() || config.isTreatByteArrayAsBase64URL()) &&
+                jsonValue.getValueType() == JsonValue.ValueType.STRING && (type == byte[].class /*|| type == Byte[].class*/)) {
+            return Base64Strings.decode(((JsonString) jsonValue).getString(), isBase64Url());
         }
-        if (config.isTreatByteArrayAsBase64URL() && jsonValue.getValueType() == JsonValue.ValueType.STRING && (type == byte[].class /*|| type == Byte[].class*/)) {
-            return Base64.getUrlDecoder().decode(((JsonString) jsonValue).getString());
+
+        if (valueType == STRING && (type == Reader.class || type == InputStream.class)) {
+            final String value = JsonString.class.cast(jsonValue).getString();
+            if (type == Reader.class) {
+                return new StringReader(value);
+            }
+            // binary content is base64 encoded, decoded on the fly without copying the text
+            return (isBase64Url() ? Base64.getUrlDecoder() : Base64.getDecoder()).wrap(new AsciiInputStream(value));
         }
 
         if (Object.class == type) { // handling specific types here to keep exception in standard handling
@@ -880,6 +1438,9 @@ public class MappingParserImpl implements MappingParser {
             return array;
         }
         if (int.class == componentType) {
+            if (itemConverter == null && JohnzonCores.isNumericArray(jsonArray)) { // no boxing
+                return JohnzonCores.toIntArray(jsonArray);
+            }
             int[] array = new int[jsonArray.size()];
             int i = 0;
             for (final JsonValue value : jsonArray) {
@@ -894,6 +1455,9 @@ public class MappingParserImpl implements MappingParser {
             return array;
         }
         if (long.class == componentType) {
+            if (itemConverter == null && JohnzonCores.isNumericArray(jsonArray)) { // no boxing
+                return JohnzonCores.toLongArray(jsonArray);
+            }
             long[] array = new long[jsonArray.size()];
             int i = 0;
             for (final JsonValue value : jsonArray) {
@@ -908,6 +1472,14 @@ public class MappingParserImpl implements MappingParser {
             return array;
         }
         if (float.class == componentType) {
+            if (itemConverter == null && JohnzonCores.isNumericArray(jsonArray)) { // no boxing
+                final double[] values = JohnzonCores.toDoubleArray(jsonArray);
+                final float[] array = new float[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    array[i] = (float) values[i];
+                }
+                return array;
+            }
             float[] array = new float[jsonArray.size()];
             int i = 0;
             for (final JsonValue value : jsonArray) {
@@ -922,6 +1494,9 @@ public class MappingParserImpl implements MappingParser {
             return array;
         }
         if (double.class == componentType) {
+            if (itemConverter == null && JohnzonCores.isNumericArray(jsonArray)) { // no boxing
+                return JohnzonCores.toDoubleArray(jsonArray);
+            }
             double[] array = new double[jsonArray.size()];
             int i = 0;
             for (final JsonValue value : jsonArray) {
@@ -1250,4 +1825,69 @@ public class MappingParserImpl implements MappingParser {
             return delegate.readObject(jsonValue, targetType, useConverters, skippedConverters);
         }
     }
+
+    // reads an ASCII string (base64) as bytes
+    private static class AsciiReaderInputStream extends InputStream {
+        private final Reader reader;
+        private char[] chars;
+
+        private AsciiReaderInputStream(final Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int c = reader.read();
+            return c < 0 ? -1 : Math.min(c, 0xFF); // non ASCII chars stay invalid base64
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (chars == null || chars.length < length) {
+                chars = new char[length];
+            }
+            final int count = reader.read(chars, 0, length);
+            for (int i = 0; i < count; i++) {
+                bytes[offset + i] = (byte) Math.min(chars[i], 0xFF);
+            }
+            return count;
+        }
+    }
+
+    private static class AsciiInputStream extends InputStream {
+        private final String value;
+        private int position;
+
+        private AsciiInputStream(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public int read() {
+            return position < value.length() ? value.charAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= value.length()) {
+                return -1;
+            }
+            final int count = Math.min(length, value.length() - position);
+            for (int i = 0; i < count; i++) {
+                bytes[offset + i] = (byte) value.charAt(position++);
+            }
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return value.length() - position;
+        }
+    }
 }
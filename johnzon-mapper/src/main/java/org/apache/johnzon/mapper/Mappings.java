@@ -20,6 +20,7 @@ package org.apache.johnzon.mapper;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 import static org.apache.johnzon.mapper.reflection.Converters.matches;
 import static org.apache.johnzon.mapper.reflection.Generics.resolve;
 
@@ -28,10 +29,13 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
@@ -51,14 +55,21 @@ import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import org.apache.johnzon.mapper.access.AccessMode;
 import org.apache.johnzon.mapper.access.FieldAccessMode;
 import org.apache.johnzon.mapper.access.MethodAccessMode;
 import org.apache.johnzon.mapper.converter.DateWithCopyConverter;
+import org.apache.johnzon.mapper.internal.Accessors;
 import org.apache.johnzon.mapper.internal.AdapterKey;
 import org.apache.johnzon.mapper.internal.ConverterAdapter;
+import org.apache.johnzon.mapper.internal.MappingCache;
+import org.apache.johnzon.mapper.internal.PropertyIndex;
 import org.apache.johnzon.mapper.reflection.Generics;
 import org.apache.johnzon.mapper.reflection.JohnzonParameterizedType;
 
@@ -77,6 +88,8 @@ public class Mappings {
         public final Method mapAdder;
         public final Class<?> mapAdderType;
         public boolean deduplicateObjects;
+        public final WriteStep[] writePlan;
+        public final PropertyIndex<Map.Entry<String, Setter>> setterIndex;
 
         protected ClassMapping(final Class<?> clazz, final AccessMode.Factory factory,
                                final Map<String, Getter> getters, final Map<String, Setter> setters,
@@ -97,6 +110,12 @@ public class Mappings {
             this.mapAdder = mapAdder;
             this.mapAdderType = mapAdder == null ? null : mapAdder.getParameterTypes()[1];
             this.deduplicateObjects = isDeduplicateObjects();
+            this.writePlan = getters.entrySet().stream()
+                    .map(it -> new WriteStep(it.getKey(), it.getValue()))
+                    .toArray(WriteStep[]::new);
+            final Map<String, Map.Entry<String, Setter>> indexed = new HashMap<>();
+            setters.forEach((name, setter) -> indexed.put(name, new AbstractMap.SimpleImmutableEntry<>(name, setter)));
+            this.setterIndex = JohnzonCores.propertyIndex(indexed);
         }
 
         private Boolean isDeduplicateObjects() {
@@ -121,6 +140,82 @@ public class Mappings {
         }
     }
 
+    private class WarmupTask extends RecursiveAction {
+        private final Collection<? extends Type> types;
+        private final Set<Type> visited;
+        private final Collection<ClassMapping> mappings;
+
+        private WarmupTask(final Collection<? extends Type> types, final Set<Type> visited, final Collection<ClassMapping> mappings) {
+            this.types = types;
+            this.visited = visited;
+            this.mappings = mappings;
+        }
+
+        @Override
+        protected void compute() {
+            final Collection<Type> next = new ArrayList<>();
+            for (final Type type : types) {
+                if (visited.add(type)) {
+                    visit(type, next);
+                }
+            }
+            if (next.isEmpty()) {
+                return;
+            }
+            final Collection<WarmupTask> tasks = new ArrayList<>(next.size());
+            for (final Type type : next) {
+                tasks.add(new WarmupTask(singletonList(type), visited, mappings));
+            }
+            ForkJoinTask.invokeAll(tasks);
+        }
+
+        private void visit(final Type type, final Collection<Type> next) {
+            if (GenericArrayType.class.isInstance(type)) {
+                next.add(GenericArrayType.class.cast(type).getGenericComponentType());
+                return;
+            }
+            if (ParameterizedType.class.isInstance(type)) {
+                final ParameterizedType pt = ParameterizedType.class.cast(type);
+                next.addAll(asList(pt.getActualTypeArguments()));
+                if (!Class.class.isInstance(pt.getRawType()) || isJavaType(Class.class.cast(pt.getRawType()))) { // collections, maps, optional...
+                    return;
+                }
+            } else if (Class.class.isInstance(type)) {
+                final Class<?> clazz = Class.class.cast(type);
+                if (clazz.isArray()) {
+                    next.add(clazz.getComponentType());
+                    return;
+                }
+                if (isPrimitive(clazz) || clazz.isEnum() || isJavaType(clazz)) {
+                    return;
+                }
+            } else { // type variables, wildcards
+                return;
+            }
+
+            final ClassMapping mapping = findOrCreateClassMapping(type);
+            if (mapping == null) {
+                return;
+            }
+            mappings.add(mapping);
+            for (final Getter getter : mapping.getters.values()) {
+                if (getter.converter == null && getter.objectConverter == null) {
+                    next.add(getter.reader.getType());
+                }
+            }
+            for (final Setter setter : mapping.setters.values()) {
+                if (setter.converter == null && setter.objectConverter == null) {
+                    next.add(setter.paramType);
+                }
+            }
+        }
+
+        private boolean isJavaType(final Class<?> clazz) {
+            final String name = clazz.getName();
+            return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jakarta.");
+        }
+    }
+
     public static class Getter {
         public final AccessMode.Reader reader;
         public final int version;
@@ -214,6 +309,71 @@ public class Mappings {
         }
     }
 
+    /**
+     * A property of the serialization plan of a class, {@link #scalar} is selected once from the declared type
+     * when it is final and natively written (BigDecimal and BigInteger are not final), other properties go through the polymorphic path.
+     */
+    public static class WriteStep {
+        public final String name;
+        public final Getter getter;
+        public final Scalar scalar;
+        public final Object primitiveReader; // ToIntFunction, ToLongFunction, ToDoubleFunction or Predicate
+
+        public WriteStep(final String name, final Getter getter) {
+            this.name = name;
+            this.getter = getter;
+
+            final Type type = getter.reader.getType();
+            Scalar selected = null;
+            if (Class.class.isInstance(type) && getter.itemConverter == null && getter.objectConverter == null) {
+                final Class<?> clazz = Class.class.cast(type);
+                if (clazz.isEnum()) { // enums get their converter, final means no constant body so no subclass
+                    selected = getter.converter != null && Modifier.isFinal(clazz.getModifiers()) ? Scalar.ENUM : null;
+                } else if (getter.converter == null) {
+                    selected = Scalar.of(clazz);
+                }
+            }
+            this.scalar = selected;
+            this.primitiveReader = selected != null && Class.class.cast(type).isPrimitive() ? findPrimitiveReader(getter.reader) : null;
+        }
+
+        private static Object findPrimitiveReader(final AccessMode.Reader reader) {
+            // only plain accessors, decorated readers can change the value
+            if (reader.getClass() == MethodAccessMode.MethodReader.class) {
+                return Accessors.primitiveReader(MethodAccessMode.MethodReader.class.cast(reader).getMethod());
+            }
+            if (reader.getClass() == FieldAccessMode.FieldReader.class) {
+                return Accessors.primitiveReader(FieldAccessMode.FieldReader.class.cast(reader).getField());
+            }
+            return null;
+        }
+
+        public enum Scalar {
+            STRING, INT, LONG, FLOAT, DOUBLE, BOOLEAN, CHAR, ENUM;
+
+            private static Scalar of(final Class<?> type) {
+                if (type == String.class) {
+                    return STRING;
+                } else if (type == int.class || type == Integer.class
+                        || type == byte.class || type == Byte.class
+                        || type == short.class || type == Short.class) {
+                    return INT;
+                } else if (type == long.class || type == Long.class) {
+                    return LONG;
+                } else if (type == float.class || type == Float.class) {
+                    return FLOAT;
+                } else if (type == double.class || type == Double.class) {
+                    return DOUBLE;
+                } else if (type == boolean.class || type == Boolean.class) {
+                    return BOOLEAN;
+                } else if (type == char.class || type == Character.class) {
+                    return CHAR;
+                }
+                return null;
+            }
+        }
+    }
+
     public static class Setter {
         public final AccessMode.Writer writer;
         public final int version;
@@ -290,13 +450,41 @@ public class Mappings {
 
     private static final JohnzonParameterizedType VIRTUAL_TYPE = new JohnzonParameterizedType(Map.class, String.class, Object.class);
 
-    protected final ConcurrentMap<Type, ClassMapping> classes = new ConcurrentHashMap<Type, ClassMapping>();
-    protected final ConcurrentMap<Type, CollectionMapping> collections = new ConcurrentHashMap<Type, CollectionMapping>();
+    protected final ConcurrentMap<Type, ClassMapping> classes;
+    protected final ConcurrentMap<Type, CollectionMapping> collections;
+    private final ConcurrentMap<Type, Object> creationLocks = new ConcurrentHashMap<>();
 
     protected final MapperConfig config;
 
     public Mappings(final MapperConfig config) {
         this.config = config;
+        this.classes = new MappingCache<>(config.getMappingCacheSize());
+        this.collections = new MappingCache<>(config.getMappingCacheSize());
+    }
+
+    /**
+     * @return the hits, misses and evictions of the class and collection mapping caches.
+     */
+    public Map<String, MappingCache.Statistics> getCacheStatistics() {
+        final Map<String, MappingCache.Statistics> statistics = new LinkedHashMap<>();
+        statistics.put("classes", MappingCache.class.cast(classes).getStatistics());
+        statistics.put("collections", MappingCache.class.cast(collections).getStatistics());
+        return statistics;
+    }
+
+    /**
+     * Forgets the mappings using a class of this classloader (redeployment).
+     *
+     * @param loader the released classloader.
+     */
+    public void clean(final ClassLoader loader) {
+        MappingCache.class.cast(classes).removeAll(loader);
+        MappingCache.class.cast(collections).removeAll(loader);
+    }
+
+    public void clear() {
+        classes.clear();
+        collections.clear();
     }
 
     public CollectionMapping findCollectionMapping(final ParameterizedType genericType, final Type enclosingType) {
@@ -409,34 +597,69 @@ public class Mappings {
         return doFindOrCreateClassMapping(clazz, emptyMap(), false);
     }
 
+    /**
+     * Creates the mappings of the types and of the types reachable from their properties.
+     *
+     * @param types the roots of the type graph.
+     * @param pool the pool creating the mappings in parallel.
+     * @return the class mappings of the graph.
+     */
+    public Collection<ClassMapping> warmup(final Collection<? extends Type> types, final ForkJoinPool pool) {
+        final Set<Type> visited = ConcurrentHashMap.newKeySet();
+        final Collection<ClassMapping> mappings = new ConcurrentLinkedQueue<>();
+        pool.invoke(new WarmupTask(types, visited, mappings));
+        return mappings;
+    }
+
     private ClassMapping doFindOrCreateClassMapping(final Type clazz, final Map<Type, Type> args,
                                                     final boolean noPutForClass) {
-        ClassMapping classMapping = classes.get(clazz);
-        if (classMapping == null) {
-            if (ParameterizedType.class.isInstance(clazz)) {
-                final ParameterizedType pt = ParameterizedType.class.cast(clazz);
-                final ClassMapping mapping = doFindOrCreateClassMapping(pt.getRawType(), Generics.toResolvedTypes(pt), true);
-                return putOrGetClassMapping(clazz, mapping);
+        final ClassMapping classMapping = classes.get(clazz);
+        if (classMapping != null) {
+            return classMapping;
+        }
+        if (noPutForClass) {
+            return doCreateClassMapping(clazz, args, true);
+        }
+        // only one thread builds a mapping, others wait for it (the lock is reentrant if the creation needs the same type)
+        final Object lock = creationLocks.computeIfAbsent(clazz, k -> new Object());
+        try {
+            synchronized (lock) {
+                final ClassMapping existing = classes.get(clazz);
+                if (existing != null) {
+                    return existing;
+                }
+                return doCreateClassMapping(clazz, args, false);
             }
-            if (!Class.class.isInstance(clazz)) {
+        } finally {
+            creationLocks.remove(clazz, lock);
+        }
+    }
+
+    private ClassMapping doCreateClassMapping(final Type clazz, final Map<Type, Type> args, final boolean noPutForClass) {
+        if (ParameterizedType.class.isInstance(clazz)) {
+            final ParameterizedType pt = ParameterizedType.class.cast(clazz);
+            final ClassMapping mapping = doFindOrCreateClassMapping(pt.getRawType(), Generics.toResolvedTypes(pt), true);
+            return putOrGetClassMapping(clazz, mapping);
+        }
+        if (!Class.class.isInstance(clazz)) {
+            return null;
+        }
+        ClassMapping classMapping;
+        final Class asClass = Class.class.cast(clazz);
+        if (Map.class.isAssignableFrom(asClass) || asClass.isInterface()) {
+            final Class<?> mapping = config.getInterfaceImplementationMapping().get(clazz);
+            if (mapping != null) {
+                classMapping = createClassMapping(mapping, args);
+            } else if (asClass.getName().startsWith("java.")) { // we'll not be able to map it with pojo rules
                 return null;
-            }
-            final Class asClass = Class.class.cast(clazz);
-            if (Map.class.isAssignableFrom(asClass) || asClass.isInterface()) {
-                final Class<?> mapping = config.getInterfaceImplementationMapping().get(clazz);
-                if (mapping != null) {
-                    classMapping = createClassMapping(mapping, args);
-                } else if (asClass.getName().startsWith("java.")) { // we'll not be able to map it with pojo rules
-                    return null;
-                } else { // assume that it can be written with pojo rules but not deserialized
-                    classMapping = createClassMapping(asClass, args);
-                }
-            } else {
+            } else { // assume that it can be written with pojo rules but not deserialized
                 classMapping = createClassMapping(asClass, args);
             }
-            if (!noPutForClass) {
-                classMapping = putOrGetClassMapping(clazz, classMapping);
-            }
+        } else {
+            classMapping = createClassMapping(asClass, args);
+        }
+        if (!noPutForClass) {
+            classMapping = putOrGetClassMapping(clazz, classMapping);
         }
         return classMapping;
     }
@@ -53,6 +53,7 @@ import org.apache.johnzon.mapper.JohnzonProperty;
 import org.apache.johnzon.mapper.JohnzonRecord;
 import org.apache.johnzon.mapper.MapperConverter;
 import org.apache.johnzon.mapper.ObjectConverter;
+import org.apache.johnzon.mapper.internal.Accessors;
 import org.apache.johnzon.mapper.internal.ConverterAdapter;
 
 // handle some specific types
@@ -226,12 +227,20 @@ public abstract class BaseAccessMode implements AccessMode {
         if (cons != null && !cons.isAccessible()) {
             cons.setAccessible(true);
         }
+        final Function<Object[], Object> accessor = cons == null ? null : Accessors.factory(cons);
         return new Factory() {
             @Override
             public Object create(final Object[] params) {
                 if (cons == null) {
                     throw new IllegalArgumentException(clazz.getName() + " can't be instantiated by Johnzon, this is a write only class");
                 }
+                if (accessor != null) {
+                    try {
+                        return accessor.apply(params);
+                    } catch (final Exception e) { // same wrapping than the InvocationTargetException of the reflection
+                        throw new IllegalStateException(e);
+                    }
+                }
                 try {
                     return params == null ? cons.newInstance() : cons.newInstance(params);
                 } catch (final InstantiationException | IllegalAccessException e) {
@@ -25,12 +25,15 @@ import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.apache.johnzon.mapper.Adapter;
 import org.apache.johnzon.mapper.JohnzonAny;
 import org.apache.johnzon.mapper.JohnzonProperty;
 import org.apache.johnzon.mapper.MapperException;
 import org.apache.johnzon.mapper.ObjectConverter;
+import org.apache.johnzon.mapper.internal.Accessors;
 
 public class FieldAccessMode extends BaseAccessMode {
     public FieldAccessMode(final boolean useConstructor, final boolean acceptHiddenConstructor) {
@@ -150,14 +153,21 @@ public class FieldAccessMode extends BaseAccessMode {
     }
 
     public static class FieldWriter extends FieldDecoratedType implements Writer {
+        private final BiConsumer<Object, Object> accessor;
+
         public FieldWriter(final Field field, final Type type) {
             super(field, type);
+            this.accessor = Accessors.writer(field);
         }
 
         @Override
         public void write(final Object instance, final Object value) {
             try {
-                field.set(instance, value);
+                if (accessor != null) {
+                    accessor.accept(instance, value);
+                } else {
+                    field.set(instance, value);
+                }
             } catch (final Exception e) {
                 throw new MapperException("Error setting " + field, e);
             }
@@ -170,14 +180,17 @@ public class FieldAccessMode extends BaseAccessMode {
     }
 
     public static class FieldReader extends FieldDecoratedType  implements Reader {
+        private final Function<Object, Object> accessor;
+
         public FieldReader(final Field field, final Type type) {
             super(field, type);
+            this.accessor = Accessors.reader(field);
         }
 
         @Override
         public Object read(final Object instance) {
             try {
-                return field.get(instance);
+                return accessor != null ? accessor.apply(instance) : field.get(instance);
             } catch (final Exception e) {
                 throw new MapperException("Error setting " + field, e);
             }
@@ -298,7 +298,7 @@ public class FieldAndMethodAccessMode extends BaseAccessMode {
     }
 
     public static final class CompositeReader extends CompositeDecoratedType<Reader> implements Reader {
-        private CompositeReader(final Reader type1, final Reader type2) {
+        CompositeReader(final Reader type1, final Reader type2) {
             super(type1, type2);
         }
 
@@ -315,7 +315,7 @@ public class FieldAndMethodAccessMode extends BaseAccessMode {
     }
 
     public static final class CompositeWriter extends CompositeDecoratedType<Writer> implements Writer {
-        private CompositeWriter(final Writer type1, final Writer type2) {
+        CompositeWriter(final Writer type1, final Writer type2) {
             super(type1, type2);
         }
 
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.mapper.access;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.johnzon.mapper.Adapter;
+import org.apache.johnzon.mapper.ObjectConverter;
+
+/**
+ * Model of a {@link org.apache.johnzon.mapper.JohnzonCodec} class generated by johnzon-processor.
+ * Implementations are registered in {@code META-INF/services/org.apache.johnzon.mapper.access.GeneratedCodec}
+ * and replace the reflection based model when {@link org.apache.johnzon.mapper.MapperBuilder#setUseGeneratedCodecs(boolean)}
+ * is enabled.
+ *
+ * @param <T> the mapped type.
+ */
+public interface GeneratedCodec<T> {
+    Class<T> type();
+
+    Map<String, AccessMode.Reader> readers();
+
+    Map<String, AccessMode.Writer> writers();
+
+    AccessMode.Factory factory();
+
+    class PropertyReader implements AccessMode.Reader {
+        private final Type type;
+        private final Function<Object, Object> accessor;
+
+        public PropertyReader(final Type type, final Function<Object, Object> accessor) {
+            this.type = type;
+            this.accessor = accessor;
+        }
+
+        @Override
+        public Object read(final Object instance) {
+            return accessor.apply(instance);
+        }
+
+        @Override
+        public ObjectConverter.Writer<?> findObjectConverterWriter() {
+            return null;
+        }
+
+        @Override
+        public Type getType() {
+            return type;
+        }
+
+        @Override
+        public <A extends Annotation> A getAnnotation(final Class<A> clazz) {
+            return null;
+        }
+
+        @Override
+        public <A extends Annotation> A getClassOrPackageAnnotation(final Class<A> clazz) {
+            return null;
+        }
+
+        @Override
+        public Adapter<?, ?> findConverter() {
+            return null;
+        }
+
+        @Override
+        public boolean isNillable(final boolean global) {
+            return global;
+        }
+    }
+
+    class PropertyWriter implements AccessMode.Writer {
+        private final Type type;
+        private final BiConsumer<Object, Object> accessor;
+
+        public PropertyWriter(final Type type, final BiConsumer<Object, Object> accessor) {
+            this.type = type;
+            this.accessor = accessor;
+        }
+
+        @Override
+        public void write(final Object instance, final Object value) {
+            accessor.accept(instance, value);
+        }
+
+        @Override
+        public ObjectConverter.Reader<?> findObjectConverterReader() {
+            return null;
+        }
+
+        @Override
+        public Type getType() {
+            return type;
+        }
+
+        @Override
+        public <A extends Annotation> A getAnnotation(final Class<A> clazz) {
+            return null;
+        }
+
+        @Override
+        public <A extends Annotation> A getClassOrPackageAnnotation(final Class<A> clazz) {
+            return null;
+        }
+
+        @Override
+        public Adapter<?, ?> findConverter() {
+            return null;
+        }
+
+        @Override
+        public boolean isNillable(final boolean global) {
+            return global;
+        }
+    }
+
+    class NoArgFactory implements AccessMode.Factory {
+        private static final Type[] NO_PARAMS = new Type[0];
+
+        private final Supplier<Object> constructor;
+
+        public NoArgFactory(final Supplier<Object> constructor) {
+            this.constructor = constructor;
+        }
+
+        @Override
+        public Object create(final Object[] params) {
+            return constructor.get();
+        }
+
+        @Override
+        public Type[] getParameterTypes() {
+            return NO_PARAMS;
+        }
+
+        @Override
+        public String[] getParameterNames() {
+            return null;
+        }
+
+        @Override
+        public Adapter<?, ?>[] getParameterConverter() {
+            return null;
+        }
+
+        @Override
+        public Adapter<?, ?>[] getParameterItemConverter() {
+            return null;
+        }
+
+        @Override
+        public ObjectConverter.Codec<?>[] getObjectConverter() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.mapper.access;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.apache.johnzon.mapper.Adapter;
+import org.apache.johnzon.mapper.ObjectConverter;
+
+// uses the build time generated model of @JohnzonCodec classes and delegates other classes,
+// generated classes are plain beans (no any getter/setter, map adder) so no need to scan them
+public class GeneratedCodecAccessMode implements AccessMode {
+    private final AccessMode delegate;
+    private final Map<Class<?>, GeneratedCodec<?>> codecs;
+
+    public GeneratedCodecAccessMode(final AccessMode delegate, final Map<Class<?>, GeneratedCodec<?>> codecs) {
+        this.delegate = delegate;
+        this.codecs = codecs;
+    }
+
+    public static Map<Class<?>, GeneratedCodec<?>> load(final ClassLoader loader) {
+        final Map<Class<?>, GeneratedCodec<?>> codecs = new HashMap<>();
+        for (final GeneratedCodec<?> codec : ServiceLoader.load(GeneratedCodec.class, loader)) {
+            codecs.putIfAbsent(codec.type(), codec);
+        }
+        return codecs;
+    }
+
+    @Override
+    public Factory findFactory(final Class<?> clazz, final Function<AnnotatedElement, String>... parameterNameExtractors) {
+        final GeneratedCodec<?> codec = codecs.get(clazz);
+        return codec != null ? codec.factory() : delegate.findFactory(clazz, parameterNameExtractors);
+    }
+
+    @Override
+    public Factory findFactory(final Class<?> clazz) {
+        final GeneratedCodec<?> codec = codecs.get(clazz);
+        return codec != null ? codec.factory() : delegate.findFactory(clazz);
+    }
+
+    @Override
+    public Map<String, Reader> findReaders(final Class<?> clazz) {
+        final GeneratedCodec<?> codec = codecs.get(clazz);
+        return codec != null ? sort(clazz, codec.readers()) : delegate.findReaders(clazz);
+    }
+
+    @Override
+    public Map<String, Writer> findWriters(final Class<?> clazz) {
+        final GeneratedCodec<?> codec = codecs.get(clazz);
+        return codec != null ? sort(clazz, codec.writers()) : delegate.findWriters(clazz);
+    }
+
+    @Override
+    public ObjectConverter.Reader<?> findReader(final Class<?> clazz) {
+        return delegate.findReader(clazz);
+    }
+
+    @Override
+    public ObjectConverter.Writer<?> findWriter(final Class<?> clazz) {
+        return delegate.findWriter(clazz);
+    }
+
+    @Override
+    public Adapter<?, ?> findAdapter(final Class<?> clazz) {
+        return delegate.findAdapter(clazz);
+    }
+
+    @Override
+    public Method findAnyGetter(final Class<?> clazz) {
+        return codecs.containsKey(clazz) ? null : delegate.findAnyGetter(clazz);
+    }
+
+    @Override
+    public Method findAnySetter(final Class<?> clazz) {
+        return codecs.containsKey(clazz) ? null : delegate.findAnySetter(clazz);
+    }
+
+    @Override
+    public Field findAnyField(final Class<?> clazz) {
+        return codecs.containsKey(clazz) ? null : delegate.findAnyField(clazz);
+    }
+
+    @Override
+    public Method findMapAdder(final Class<?> clazz) {
+        return codecs.containsKey(clazz) ? null : delegate.findMapAdder(clazz);
+    }
+
+    @Override
+    public Comparator<String> fieldComparator(final Class<?> clazz) {
+        return delegate.fieldComparator(clazz);
+    }
+
+    @Override
+    public void afterParsed(final Class<?> clazz) {
+        delegate.afterParsed(clazz);
+    }
+
+    // keep the ordering of the delegate (JSON-B property order strategy for instance)
+    private <T> Map<String, T> sort(final Class<?> clazz, final Map<String, T> properties) {
+        final Comparator<String> comparator = fieldComparator(clazz);
+        if (comparator == null) {
+            return properties;
+        }
+        final Map<String, T> sorted = new TreeMap<>(comparator);
+        sorted.putAll(properties);
+        return sorted;
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.mapper.access;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.CRC32;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Resolved readers and writers of classes, captured at build time (see {@link org.apache.johnzon.mapper.Mapper#writeMappingSnapshot})
+ * to skip the reflection scan of the access mode at startup.
+ * Each class is stored with a hash of its bytecode (and its parents one), a class which changed since the capture
+ * is scanned as usual. Only the built-in field and method accessors are captured, a class using other ones is not in the snapshot.
+ */
+public final class MappingSnapshot {
+    public static final String DEFAULT_LOCATION = "META-INF/johnzon/mapping-snapshot.json";
+
+    private static final int VERSION = 1;
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+    static {
+        for (final Class<?> primitive : new Class<?>[]{
+                boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class}) {
+            PRIMITIVES.put(primitive.getName(), primitive);
+        }
+    }
+
+    private final Map<String, JsonObject> classes;
+    // the bytecode is hashed once per class, readers and writers reuse the verdict
+    private final ConcurrentMap<Class<?>, Optional<JsonObject>> verified = new ConcurrentHashMap<>();
+
+    private MappingSnapshot(final Map<String, JsonObject> classes) {
+        this.classes = classes;
+    }
+
+    /**
+     * @param loader the classloader to read the resource from.
+     * @param resource the snapshot location.
+     * @param readerFactory the factory used to parse the snapshot.
+     * @return the snapshot or {@code null} if the resource does not exist.
+     */
+    public static MappingSnapshot load(final ClassLoader loader, final String resource, final JsonReaderFactory readerFactory) {
+        try (final InputStream stream = loader.getResourceAsStream(resource)) {
+            if (stream == null) {
+                return null;
+            }
+            try (final JsonReader reader = readerFactory.createReader(stream)) {
+                return read(reader);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param reader the reader of a snapshot written by {@link #write(AccessMode, Collection, JsonBuilderFactory, JsonGenerator)}.
+     * @return the snapshot or {@code null} if the format is not supported.
+     */
+    public static MappingSnapshot read(final JsonReader reader) {
+        final JsonObject snapshot = reader.readObject();
+        if (snapshot.getInt("version", -1) != VERSION) {
+            return null;
+        }
+        final Map<String, JsonObject> classes = new HashMap<>();
+        snapshot.getJsonObject("classes").forEach((name, value) -> classes.put(name, value.asJsonObject()));
+        return new MappingSnapshot(classes);
+    }
+
+    /**
+     * Captures the readers and writers the access mode finds for the classes.
+     *
+     * @param accessMode the access mode used at runtime.
+     * @param classes the classes to capture.
+     * @param builderFactory used to describe the accessors.
+     * @param generator the output.
+     */
+    public static void write(final AccessMode accessMode, final Collection<Class<?>> classes,
+                             final JsonBuilderFactory builderFactory, final JsonGenerator generator) {
+        generator.writeStartObject();
+        generator.write("version", VERSION);
+        generator.writeStartObject("classes");
+        for (final Class<?> clazz : classes) {
+            final String hash = hash(clazz);
+            if (hash == null) {
+                continue;
+            }
+            final Map<String, JsonValue> readers = new LinkedHashMap<>();
+            final Map<String, JsonValue> writers = new LinkedHashMap<>();
+            if (!describe(builderFactory, accessMode.findReaders(clazz), readers) || !describe(builderFactory, accessMode.findWriters(clazz), writers)) {
+                continue;
+            }
+            generator.writeStartObject(clazz.getName());
+            generator.write("hash", hash);
+            generator.writeStartObject("readers");
+            readers.forEach(generator::write);
+            generator.writeEnd();
+            generator.writeStartObject("writers");
+            writers.forEach(generator::write);
+            generator.writeEnd();
+            generator.writeEnd();
+        }
+        generator.writeEnd();
+        generator.writeEnd();
+    }
+
+    /**
+     * @param clazz the class to look up.
+     * @return the captured readers or {@code null} if the class is not in the snapshot or changed since the capture.
+     */
+    public Map<String, AccessMode.Reader> findReaders(final Class<?> clazz) {
+        final JsonObject entry = findEntry(clazz);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            final Map<String, AccessMode.Reader> readers = new LinkedHashMap<>();
+            for (final Map.Entry<String, JsonValue> reader : entry.getJsonObject("readers").entrySet()) {
+                readers.put(reader.getKey(), reader(clazz, reader.getValue().asJsonObject()));
+            }
+            return readers;
+        } catch (final ReflectiveOperationException | RuntimeException e) { // stale member, let the access mode scan it
+            return null;
+        }
+    }
+
+    /**
+     * @param clazz the class to look up.
+     * @return the captured writers or {@code null} if the class is not in the snapshot or changed since the capture.
+     */
+    public Map<String, AccessMode.Writer> findWriters(final Class<?> clazz) {
+        final JsonObject entry = findEntry(clazz);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            final Map<String, AccessMode.Writer> writers = new LinkedHashMap<>();
+            for (final Map.Entry<String, JsonValue> writer : entry.getJsonObject("writers").entrySet()) {
+                writers.put(writer.getKey(), writer(clazz, writer.getValue().asJsonObject()));
+            }
+            return writers;
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private JsonObject findEntry(final Class<?> clazz) {
+        final JsonObject entry = classes.get(clazz.getName());
+        if (entry == null) {
+            return null;
+        }
+        return verified.computeIfAbsent(clazz, k -> Optional.of(entry).filter(e -> e.getString("hash").equals(hash(k)))).orElse(null);
+    }
+
+    private static AccessMode.Reader reader(final Class<?> clazz, final JsonObject description) throws ReflectiveOperationException {
+        switch (description.getString("kind")) {
+            case "field":
+                final Field field = field(clazz, description);
+                return new FieldAccessMode.FieldReader(field, description.getBoolean("generic") ? field.getGenericType() : field.getType());
+            case "method":
+                final Method method = method(clazz, description);
+                return new MethodAccessMode.MethodReader(method, method.getGenericReturnType());
+            case "composite":
+                return new FieldAndMethodAccessMode.CompositeReader(
+                        reader(clazz, description.getJsonObject("first")), reader(clazz, description.getJsonObject("second")));
+            default:
+                throw new IllegalArgumentException("Unsupported reader: " + description);
+        }
+    }
+
+    private static AccessMode.Writer writer(final Class<?> clazz, final JsonObject description) throws ReflectiveOperationException {
+        switch (description.getString("kind")) {
+            case "field":
+                final Field field = field(clazz, description);
+                return new FieldAccessMode.FieldWriter(field, description.getBoolean("generic") ? field.getGenericType() : field.getType());
+            case "method":
+                final Method method = method(clazz, description);
+                return new MethodAccessMode.MethodWriter(method, method.getGenericParameterTypes()[0]);
+            case "composite":
+                return new FieldAndMethodAccessMode.CompositeWriter(
+                        writer(clazz, description.getJsonObject("first")), writer(clazz, description.getJsonObject("second")));
+            default:
+                throw new IllegalArgumentException("Unsupported writer: " + description);
+        }
+    }
+
+    private static Field field(final Class<?> clazz, final JsonObject description) throws ReflectiveOperationException {
+        return load(clazz, description.getString("declaringClass")).getDeclaredField(description.getString("name"));
+    }
+
+    private static Method method(final Class<?> clazz, final JsonObject description) throws ReflectiveOperationException {
+        final JsonArray parameters = description.getJsonArray("parameters");
+        final Class<?>[] types = new Class<?>[parameters.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = load(clazz, parameters.getString(i));
+        }
+        return load(clazz, description.getString("declaringClass")).getDeclaredMethod(description.getString("name"), types);
+    }
+
+    private static Class<?> load(final Class<?> clazz, final String name) throws ClassNotFoundException {
+        final Class<?> primitive = PRIMITIVES.get(name);
+        return primitive != null ? primitive : Class.forName(name, false, clazz.getClassLoader());
+    }
+
+    private static boolean describe(final JsonBuilderFactory builderFactory, final Map<String, ? extends AccessMode.DecoratedType> types,
+                                    final Map<String, JsonValue> descriptions) {
+        for (final Map.Entry<String, ? extends AccessMode.DecoratedType> entry : types.entrySet()) {
+            final JsonObject description = describe(builderFactory, entry.getValue());
+            if (description == null) {
+                return false;
+            }
+            descriptions.put(entry.getKey(), description);
+        }
+        return true;
+    }
+
+    // only the built-in accessors (exact classes, subclasses can change the behavior) with the type they use by default
+    private static JsonObject describe(final JsonBuilderFactory builderFactory, final AccessMode.DecoratedType type) {
+        final Class<?> accessor = type.getClass();
+        if (accessor == FieldAccessMode.FieldReader.class || accessor == FieldAccessMode.FieldWriter.class) {
+            final Field field = FieldAccessMode.FieldDecoratedType.class.cast(type).getField();
+            final boolean generic = type.getType().equals(field.getGenericType());
+            if (!generic && !type.getType().equals(field.getType())) {
+                return null;
+            }
+            return member(builderFactory, "field", field.getDeclaringClass(), field.getName(), new Class<?>[0])
+                    .add("generic", generic)
+                    .build();
+        }
+        if (accessor == MethodAccessMode.MethodReader.class || accessor == MethodAccessMode.MethodWriter.class) {
+            final Method method = MethodAccessMode.MethodDecoratedType.class.cast(type).getMethod();
+            final Type expected = accessor == MethodAccessMode.MethodReader.class ?
+                    method.getGenericReturnType() :
+                    (method.getParameterCount() == 1 ? method.getGenericParameterTypes()[0] : null);
+            if (!type.getType().equals(expected)) {
+                return null;
+            }
+            return member(builderFactory, "method", method.getDeclaringClass(), method.getName(), method.getParameterTypes()).build();
+        }
+        if (accessor == FieldAndMethodAccessMode.CompositeReader.class || accessor == FieldAndMethodAccessMode.CompositeWriter.class) {
+            final FieldAndMethodAccessMode.CompositeDecoratedType<?> composite = FieldAndMethodAccessMode.CompositeDecoratedType.class.cast(type);
+            final JsonObject first = describe(builderFactory, composite.getType1());
+            final JsonObject second = describe(builderFactory, composite.getType2());
+            if (first == null || second == null) {
+                return null;
+            }
+            return builderFactory.createObjectBuilder()
+                    .add("kind", "composite")
+                    .add("first", first)
+                    .add("second", second)
+                    .build();
+        }
+        return null;
+    }
+
+    private static JsonObjectBuilder member(final JsonBuilderFactory builderFactory, final String kind,
+                                            final Class<?> declaringClass, final String name, final Class<?>[] parameters) {
+        final JsonArrayBuilder types = builderFactory.createArrayBuilder();
+        for (final Class<?> parameter : parameters) {
+            types.add(parameter.getName());
+        }
+        return builderFactory.createObjectBuilder()
+                .add("kind", kind)
+                .add("declaringClass", declaringClass.getName())
+                .add("name", name)
+                .add("parameters", types);
+    }
+
+    /**
+     * @param clazz the class to hash.
+     * @return a hash of the bytecode of the class and its parents or {@code null} if it can't be read.
+     */
+    static String hash(final Class<?> clazz) {
+        if (clazz.getClassLoader() == null) { // JDK
+            return null;
+        }
+        final CRC32 crc = new CRC32();
+        final byte[] buffer = new byte[8192];
+        Class<?> current = clazz;
+        while (current != null && current.getClassLoader() != null) {
+            try (final InputStream stream = current.getClassLoader().getResourceAsStream(current.getName().replace('.', '/') + ".class")) {
+                if (stream == null) {
+                    return null;
+                }
+                int read;
+                while ((read = stream.read(buffer)) >= 0) {
+                    crc.update(buffer, 0, read);
+                }
+            } catch (final IOException e) {
+                return null;
+            }
+            current = current.getSuperclass();
+        }
+        return Long.toHexString(crc.getValue());
+    }
+}
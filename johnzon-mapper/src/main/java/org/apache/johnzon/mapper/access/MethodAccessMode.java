@@ -30,6 +30,8 @@ import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.apache.johnzon.mapper.Adapter;
@@ -38,6 +40,7 @@ import org.apache.johnzon.mapper.JohnzonProperty;
 import org.apache.johnzon.mapper.JohnzonRecord;
 import org.apache.johnzon.mapper.MapperException;
 import org.apache.johnzon.mapper.ObjectConverter;
+import org.apache.johnzon.mapper.internal.Accessors;
 
 public class MethodAccessMode extends BaseAccessMode {
     private final boolean supportGetterAsWritter;
@@ -175,12 +178,23 @@ public class MethodAccessMode extends BaseAccessMode {
     }
 
     public static class MethodWriter extends MethodDecoratedType implements Writer {
+        private final BiConsumer<Object, Object> accessor;
+
         public MethodWriter(final Method method, final Type type) {
             super(method, type);
+            this.accessor = Accessors.writer(method);
         }
 
         @Override
         public void write(final Object instance, final Object value) {
+            if (accessor != null) {
+                try {
+                    accessor.accept(instance, value);
+                } catch (final Throwable e) {
+                    throw Accessors.wrap(method, e);
+                }
+                return;
+            }
             try {
                 method.invoke(instance, value);
             } catch (final Exception e) {
@@ -195,12 +209,22 @@ public class MethodAccessMode extends BaseAccessMode {
     }
 
     public static class MethodReader extends MethodDecoratedType implements Reader {
+        private final Function<Object, Object> accessor;
+
         public MethodReader(final Method method, final Type type) {
             super(method, type);
+            this.accessor = Accessors.reader(method);
         }
 
         @Override
         public Object read(final Object instance) {
+            if (accessor != null) {
+                try {
+                    return accessor.apply(instance);
+                } catch (final Throwable e) {
+                    throw Accessors.wrap(method, e);
+                }
+            }
             try {
                 return method.invoke(instance);
             } catch (final Exception e) {
@@ -222,8 +246,9 @@ public class MethodAccessMode extends BaseAccessMode {
         @Override
         public void write(final Object instance, final Object value) {
             if (value != null) {
+                final Object current = read(instance);
                 try {
-                    final Collection<?> collection = Collection.class.cast(method.invoke(instance));
+                    final Collection<?> collection = Collection.class.cast(current);
                     if (collection != null) {
                         collection.addAll(Collection.class.cast(value));
                     }
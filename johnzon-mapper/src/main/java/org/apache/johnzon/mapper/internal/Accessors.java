@@ -0,0 +1,327 @@
+/*
+ *     Licensed to the Apache Software Foundation (ASF) under one or more
+ *     contributor license agreements.  See the NOTICE file distributed with
+ *     this work for additional information regarding copyright ownership.
+ *     The ASF licenses this file to You under the Apache License, Version 2.0
+ *     (the "License"); you may not use this file except in compliance with
+ *     the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+package org.apache.johnzon.mapper.internal;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.apache.johnzon.mapper.MapperException;
+
+/**
+ * Generates property accessors replacing {@link Method#invoke(Object, Object...)}, {@link Field#get(Object)}
+ * and {@link Constructor#newInstance(Object...)} in the mapping loops.
+ * Methods are bound through {@link LambdaMetafactory} (so the JIT sees a plain interface call),
+ * fields and primitive parameters through a {@link MethodHandle} with the reflection conversions.
+ *
+ * All factories return {@code null} when the module system (or a security manager) denies the access,
+ * callers then keep using reflection. Failures of generated method accessors are reported as reflection does,
+ * see {@link #wrap(Method, Throwable)}.
+ * Generated classes are defined next to the target class so they don't pin its classloader.
+ */
+public final class Accessors {
+    private static final MethodType FUNCTION = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType CONSUMER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private Accessors() {
+        // no-op
+    }
+
+    public static Function<Object, Object> reader(final Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0) {
+            return null;
+        }
+        try {
+            final MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+            final MethodHandle handle = lookup.unreflect(method);
+            return (Function<Object, Object>) LambdaMetafactory.metafactory(
+                    lookup, "apply", MethodType.methodType(Function.class),
+                    FUNCTION, handle, handle.type().wrap())
+                    .getTarget().invoke();
+        } catch (final Throwable e) {
+            return null;
+        }
+    }
+
+    public static BiConsumer<Object, Object> writer(final Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1) {
+            return null;
+        }
+        try {
+            final MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+            final MethodHandle handle = lookup.unreflect(method);
+            if (method.getParameterTypes()[0].isPrimitive()) { // LambdaMetafactory can't unbox from Object
+                return consumer(handle.asType(CONSUMER));
+            }
+            return (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(
+                    lookup, "accept", MethodType.methodType(BiConsumer.class),
+                    CONSUMER, handle, handle.type().changeReturnType(void.class))
+                    .getTarget().invoke();
+        } catch (final Throwable e) {
+            return null;
+        }
+    }
+
+    public static Function<Object, Object> reader(final Field field) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            return null;
+        }
+        try {
+            final MethodHandle handle = lookup(field.getDeclaringClass()).unreflectGetter(field).asType(FUNCTION);
+            return instance -> {
+                try {
+                    return handle.invokeExact(instance);
+                } catch (final Throwable e) {
+                    throw Accessors.<RuntimeException>sneakyThrow(e);
+                }
+            };
+        } catch (final Throwable e) {
+            return null;
+        }
+    }
+
+    public static BiConsumer<Object, Object> writer(final Field field) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            return null;
+        }
+        try {
+            // unreflectSetter only accepts final fields through setAccessible(true), not through the lookup
+            final boolean accessible = Modifier.isFinal(field.getModifiers()) && field.trySetAccessible();
+            final MethodHandle handle = accessible ?
+                    MethodHandles.lookup().unreflectSetter(field) :
+                    lookup(field.getDeclaringClass()).unreflectSetter(field);
+            return consumer(handle.asType(CONSUMER));
+        } catch (final Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param method the getter.
+     * @return a {@link ToIntFunction}, {@link ToLongFunction}, {@link ToDoubleFunction} or {@link Predicate}
+     * reading the property without boxing, {@code null} for other return types.
+     */
+    public static Object primitiveReader(final Method method) {
+        final Class<?> type = method.getReturnType();
+        final Class<?> api = primitiveApi(type);
+        if (api == null || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0) {
+            return null;
+        }
+        try {
+            final MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+            final MethodHandle handle = lookup.unreflect(method);
+            final Object reader = LambdaMetafactory.metafactory(
+                    lookup, primitiveApiMethod(type), MethodType.methodType(api),
+                    MethodType.methodType(type, Object.class), handle, handle.type())
+                    .getTarget().invoke();
+            if (type == int.class) {
+                final ToIntFunction<Object> function = (ToIntFunction<Object>) reader;
+                return (ToIntFunction<Object>) instance -> {
+                    try {
+                        return function.applyAsInt(instance);
+                    } catch (final Throwable e) {
+                        throw wrap(method, e);
+                    }
+                };
+            }
+            if (type == long.class) {
+                final ToLongFunction<Object> function = (ToLongFunction<Object>) reader;
+                return (ToLongFunction<Object>) instance -> {
+                    try {
+                        return function.applyAsLong(instance);
+                    } catch (final Throwable e) {
+                        throw wrap(method, e);
+                    }
+                };
+            }
+            if (type == double.class) {
+                final ToDoubleFunction<Object> function = (ToDoubleFunction<Object>) reader;
+                return (ToDoubleFunction<Object>) instance -> {
+                    try {
+                        return function.applyAsDouble(instance);
+                    } catch (final Throwable e) {
+                        throw wrap(method, e);
+                    }
+                };
+            }
+            final Predicate<Object> predicate = (Predicate<Object>) reader;
+            return (Predicate<Object>) instance -> {
+                try {
+                    return predicate.test(instance);
+                } catch (final Throwable e) {
+                    throw wrap(method, e);
+                }
+            };
+        } catch (final Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param method the method a generated accessor called.
+     * @param error what the method threw.
+     * @return the exception {@link Method#invoke(Object, Object...)} callers get for the same failure.
+     */
+    public static MapperException wrap(final Method method, final Throwable error) {
+        return new MapperException("Error calling " + method, new InvocationTargetException(error));
+    }
+
+    /**
+     * @param field the field to read.
+     * @return same as {@link #primitiveReader(Method)} for a field.
+     */
+    public static Object primitiveReader(final Field field) {
+        final Class<?> type = field.getType();
+        if (primitiveApi(type) == null || Modifier.isStatic(field.getModifiers())) {
+            return null;
+        }
+        try {
+            final MethodHandle handle = lookup(field.getDeclaringClass()).unreflectGetter(field)
+                    .asType(MethodType.methodType(type, Object.class));
+            if (type == int.class) {
+                return (ToIntFunction<Object>) instance -> {
+                    try {
+                        return (int) handle.invokeExact(instance);
+                    } catch (final Throwable e) {
+                        throw Accessors.<RuntimeException>sneakyThrow(e);
+                    }
+                };
+            }
+            if (type == long.class) {
+                return (ToLongFunction<Object>) instance -> {
+                    try {
+                        return (long) handle.invokeExact(instance);
+                    } catch (final Throwable e) {
+                        throw Accessors.<RuntimeException>sneakyThrow(e);
+                    }
+                };
+            }
+            if (type == double.class) {
+                return (ToDoubleFunction<Object>) instance -> {
+                    try {
+                        return (double) handle.invokeExact(instance);
+                    } catch (final Throwable e) {
+                        throw Accessors.<RuntimeException>sneakyThrow(e);
+                    }
+                };
+            }
+            return (Predicate<Object>) instance -> {
+                try {
+                    return (boolean) handle.invokeExact(instance);
+                } catch (final Throwable e) {
+                    throw Accessors.<RuntimeException>sneakyThrow(e);
+                }
+            };
+        } catch (final Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param constructor the constructor to call.
+     * @return a function taking the constructor parameters ({@code null} for a no-arg constructor).
+     */
+    public static Function<Object[], Object> factory(final Constructor<?> constructor) {
+        if (Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) {
+            return null;
+        }
+        try {
+            final MethodHandles.Lookup lookup = lookup(constructor.getDeclaringClass());
+            final MethodHandle handle = lookup.unreflectConstructor(constructor);
+            if (constructor.getParameterCount() == 0) {
+                final Supplier<Object> supplier = (Supplier<Object>) LambdaMetafactory.metafactory(
+                        lookup, "get", MethodType.methodType(Supplier.class),
+                        MethodType.methodType(Object.class), handle, handle.type())
+                        .getTarget().invoke();
+                return params -> supplier.get();
+            }
+            final MethodHandle spreader = handle
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return params -> {
+                try {
+                    return spreader.invokeExact(params);
+                } catch (final Throwable e) {
+                    throw Accessors.<RuntimeException>sneakyThrow(e);
+                }
+            };
+        } catch (final Throwable e) {
+            return null;
+        }
+    }
+
+    private static BiConsumer<Object, Object> consumer(final MethodHandle handle) {
+        return (instance, value) -> {
+            try {
+                handle.invokeExact(instance, value);
+            } catch (final Throwable e) {
+                throw Accessors.<RuntimeException>sneakyThrow(e);
+            }
+        };
+    }
+
+    private static Class<?> primitiveApi(final Class<?> type) {
+        if (type == int.class) {
+            return ToIntFunction.class;
+        }
+        if (type == long.class) {
+            return ToLongFunction.class;
+        }
+        if (type == double.class) {
+            return ToDoubleFunction.class;
+        }
+        if (type == boolean.class) {
+            return Predicate.class;
+        }
+        return null;
+    }
+
+    private static String primitiveApiMethod(final Class<?> type) {
+        if (type == int.class) {
+            return "applyAsInt";
+        }
+        if (type == long.class) {
+            return "applyAsLong";
+        }
+        if (type == double.class) {
+            return "applyAsDouble";
+        }
+        return "test";
+    }
+
+    // fails when the package is not opened to johnzon, callers then fallback on reflection
+    private static MethodHandles.Lookup lookup(final Class<?> type) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+    }
+
+    private static <E extends Throwable> E sneakyThrow(final Throwable e) throws E {
+        throw (E) e;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *     Licensed to the Apache Software Foundation (ASF) under one or more
+ *     contributor license agreements.  See the NOTICE file distributed with
+ *     this work for additional information regarding copyright ownership.
+ *     The ASF licenses this file to You under the Apache License, Version 2.0
+ *     (the "License"); you may not use this file except in compliance with
+ *     the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+package org.apache.johnzon.mapper.internal;
+
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Decodes base64 JSON strings directly from their chars,
+ * {@link Base64.Decoder#decode(String)} first copies the whole text in a byte array.
+ * Invalid input is delegated to the JDK decoder to keep the exact same errors.
+ */
+public final class Base64Strings {
+    private static final int[] BASIC = values(false);
+    private static final int[] URL = values(true);
+
+    private Base64Strings() {
+        // no-op
+    }
+
+    public static byte[] decode(final String value, final boolean url) {
+        final int length = value.length();
+        int end = length;
+        if (end > 0 && value.charAt(end - 1) == '=') {
+            end--;
+            if (end > 0 && value.charAt(end - 1) == '=') {
+                end--;
+            }
+        }
+        final int tail = end & 3;
+        if (tail == 1 || (end != length && (length & 3) != 0)) {
+            return fallback(value, url);
+        }
+
+        final int[] alphabet = url ? URL : BASIC;
+        final byte[] out = new byte[(end >> 2) * 3 + (tail == 0 ? 0 : tail - 1)];
+        final int full = end - tail;
+        int pos = 0;
+        for (int i = 0; i < full; i += 4) {
+            final int bits = value(alphabet, value.charAt(i)) << 18 | value(alphabet, value.charAt(i + 1)) << 12
+                    | value(alphabet, value.charAt(i + 2)) << 6 | value(alphabet, value.charAt(i + 3));
+            if (bits < 0) {
+                return fallback(value, url);
+            }
+            out[pos++] = (byte) (bits >> 16);
+            out[pos++] = (byte) (bits >> 8);
+            out[pos++] = (byte) bits;
+        }
+        if (tail > 0) {
+            int bits = value(alphabet, value.charAt(full)) << 18 | value(alphabet, value.charAt(full + 1)) << 12;
+            if (tail == 3) {
+                bits |= value(alphabet, value.charAt(full + 2)) << 6;
+            }
+            if (bits < 0) {
+                return fallback(value, url);
+            }
+            out[pos++] = (byte) (bits >> 16);
+            if (tail == 3) {
+                out[pos] = (byte) (bits >> 8);
+            }
+        }
+        return out;
+    }
+
+    // negative for invalid chars so a group with any invalid char is negative once shifted and or-ed
+    private static int value(final int[] alphabet, final char c) {
+        return c < alphabet.length ? alphabet[c] : -1;
+    }
+
+    private static byte[] fallback(final String value, final boolean url) {
+        return (url ? Base64.getUrlDecoder() : Base64.getDecoder()).decode(value);
+    }
+
+    private static int[] values(final boolean url) {
+        final int[] values = new int[128];
+        Arrays.fill(values, -1);
+        final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789" + (url ? "-_" : "+/");
+        for (int i = 0; i < alphabet.length(); i++) {
+            values[alphabet.charAt(i)] = i;
+        }
+        return values;
+    }
+}
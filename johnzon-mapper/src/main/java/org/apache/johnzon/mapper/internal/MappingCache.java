@@ -0,0 +1,322 @@
+/*
+ *     Licensed to the Apache Software Foundation (ASF) under one or more
+ *     contributor license agreements.  See the NOTICE file distributed with
+ *     this work for additional information regarding copyright ownership.
+ *     The ASF licenses this file to You under the Apache License, Version 2.0
+ *     (the "License"); you may not use this file except in compliance with
+ *     the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+package org.apache.johnzon.mapper.internal;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mapping cache keyed by {@link Type}, optionally bounded (least recently used entries are evicted)
+ * and tracking hits, misses (created entries) and evictions.
+ * Lookups stay lock free (bounded caches only stamp the entry with {@link System#nanoTime()}), an insertion going over the bound
+ * evicts a batch of the oldest entries at once so the scan is amortized over the next insertions.
+ *
+ * @param <V> the cached value type.
+ */
+public class MappingCache<V> extends AbstractMap<Type, V> implements ConcurrentMap<Type, V> {
+    private static final int EVICTION_BATCH_RATIO = 10; // evicts 10% of the entries when the bound is reached
+
+    private final ConcurrentMap<Type, Value<V>> delegate = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize the maximum number of entries, {@code <= 0} means unbounded.
+     */
+    public MappingCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public V get(final Object key) {
+        final Value<V> value = delegate.get(key);
+        if (value == null) { // the miss is counted when the entry is created, callers can look up several times before
+            return null;
+        }
+        hits.increment();
+        if (maxSize > 0) {
+            value.lastAccess = System.nanoTime();
+        }
+        return value.value;
+    }
+
+    @Override
+    public V putIfAbsent(final Type key, final V value) {
+        final Value<V> existing = delegate.putIfAbsent(key, newValue(value));
+        if (existing != null) {
+            return existing.value;
+        }
+        onInsert();
+        return null;
+    }
+
+    @Override
+    public V put(final Type key, final V value) {
+        final Value<V> existing = delegate.put(key, newValue(value));
+        if (existing != null) {
+            return existing.value;
+        }
+        onInsert();
+        return null;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        final Value<V> existing = delegate.remove(key);
+        return existing == null ? null : existing.value;
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        final Value<V> existing = delegate.get(key);
+        return existing != null && existing.value.equals(value) && delegate.remove(key, existing);
+    }
+
+    @Override
+    public boolean replace(final Type key, final V oldValue, final V newValue) {
+        final Value<V> existing = delegate.get(key);
+        return existing != null && existing.value.equals(oldValue) && delegate.replace(key, existing, newValue(newValue));
+    }
+
+    @Override
+    public V replace(final Type key, final V value) {
+        final Value<V> existing = delegate.replace(key, newValue(value));
+        return existing == null ? null : existing.value;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public Set<Entry<Type, V>> entrySet() {
+        return new AbstractSet<Entry<Type, V>>() {
+            @Override
+            public Iterator<Entry<Type, V>> iterator() {
+                final Iterator<Entry<Type, Value<V>>> iterator = delegate.entrySet().iterator();
+                return new Iterator<Entry<Type, V>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<Type, V> next() {
+                        final Entry<Type, Value<V>> next = iterator.next();
+                        return new SimpleImmutableEntry<>(next.getKey(), next.getValue().value);
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return delegate.size();
+            }
+        };
+    }
+
+    /**
+     * Removes the entries using a class of this classloader (or one of its children), typically on a redeployment.
+     *
+     * @param loader the classloader being released.
+     * @return the number of removed entries.
+     */
+    public int removeAll(final ClassLoader loader) {
+        int removed = 0;
+        for (final Iterator<Type> it = delegate.keySet().iterator(); it.hasNext(); ) {
+            if (uses(it.next(), loader)) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum(), delegate.size());
+    }
+
+    private Value<V> newValue(final V value) {
+        return new Value<>(value, maxSize > 0 ? System.nanoTime() : 0);
+    }
+
+    private void onInsert() {
+        misses.increment();
+        evictIfNeeded();
+    }
+
+    private void evictIfNeeded() {
+        // one evicting thread is enough, others keep inserting and the next insertion over the bound evicts them
+        if (maxSize <= 0 || delegate.size() <= maxSize || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final int toEvict = delegate.size() - (maxSize - maxSize / EVICTION_BATCH_RATIO);
+            if (toEvict <= 0) {
+                return;
+            }
+            // snapshot the access times, they can change while sorting
+            final List<Candidate<V>> candidates = new ArrayList<>(delegate.size());
+            for (final Map.Entry<Type, Value<V>> entry : delegate.entrySet()) {
+                candidates.add(new Candidate<>(entry.getKey(), entry.getValue()));
+            }
+            candidates.sort(Comparator.comparingLong(c -> c.lastAccess));
+            for (int i = 0; i < Math.min(toEvict, candidates.size()); i++) {
+                final Candidate<V> candidate = candidates.get(i);
+                if (delegate.remove(candidate.key, candidate.value)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static boolean uses(final Type type, final ClassLoader loader) {
+        if (Class.class.isInstance(type)) {
+            Class<?> clazz = Class.class.cast(type);
+            while (clazz.isArray()) {
+                clazz = clazz.getComponentType();
+            }
+            for (ClassLoader current = clazz.getClassLoader(); current != null; current = current.getParent()) {
+                if (current == loader) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (ParameterizedType.class.isInstance(type)) {
+            final ParameterizedType pt = ParameterizedType.class.cast(type);
+            if (uses(pt.getRawType(), loader)) {
+                return true;
+            }
+            for (final Type arg : pt.getActualTypeArguments()) {
+                if (uses(arg, loader)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (GenericArrayType.class.isInstance(type)) {
+            return uses(GenericArrayType.class.cast(type).getGenericComponentType(), loader);
+        }
+        if (WildcardType.class.isInstance(type)) {
+            final WildcardType wildcardType = WildcardType.class.cast(type);
+            for (final Type bound : wildcardType.getUpperBounds()) {
+                if (uses(bound, loader)) {
+                    return true;
+                }
+            }
+            for (final Type bound : wildcardType.getLowerBounds()) {
+                if (uses(bound, loader)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static final class Candidate<V> {
+        private final Type key;
+        private final Value<V> value;
+        private final long lastAccess;
+
+        private Candidate(final Type key, final Value<V> value) {
+            this.key = key;
+            this.value = value;
+            this.lastAccess = value.lastAccess;
+        }
+    }
+
+    private static final class Value<V> {
+        private final V value;
+        private long lastAccess; // relaxed, an approximate recency is enough to pick the entries to evict
+
+        private Value(final V value, final long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    public static final class Statistics {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        private Statistics(final long hits, final long misses, final long evictions, final int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size + '}';
+        }
+    }
+}
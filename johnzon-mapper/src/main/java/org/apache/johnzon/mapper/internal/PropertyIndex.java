@@ -0,0 +1,155 @@
+/*
+ *     Licensed to the Apache Software Foundation (ASF) under one or more
+ *     contributor license agreements.  See the NOTICE file distributed with
+ *     this work for additional information regarding copyright ownership.
+ *     The ASF licenses this file to You under the Apache License, Version 2.0
+ *     (the "License"); you may not use this file except in compliance with
+ *     the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+package org.apache.johnzon.mapper.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable lookup table of property names: names are bucketed by length and, in a bucket, the candidates
+ * are first compared on the position where their chars differ the most so a lookup is mostly
+ * an array access and one char comparison, it also works on a char range (parser buffer) without creating a String.
+ * It is an exact (case sensitive) lookup, callers keep their map for other semantics.
+ *
+ * @param <T> the value type.
+ */
+public class PropertyIndex<T> {
+    private final Bucket<T>[] buckets;
+
+    public PropertyIndex(final Map<String, T> values) {
+        int maxLength = -1;
+        for (final String name : values.keySet()) {
+            maxLength = Math.max(maxLength, name.length());
+        }
+        final List<List<Map.Entry<String, T>>> byLength = new ArrayList<>(maxLength + 1);
+        for (int i = 0; i <= maxLength; i++) {
+            byLength.add(null);
+        }
+        for (final Map.Entry<String, T> entry : values.entrySet()) {
+            List<Map.Entry<String, T>> bucket = byLength.get(entry.getKey().length());
+            if (bucket == null) {
+                bucket = new ArrayList<>(1);
+                byLength.set(entry.getKey().length(), bucket);
+            }
+            bucket.add(entry);
+        }
+        this.buckets = new Bucket[maxLength + 1];
+        for (int i = 0; i <= maxLength; i++) {
+            final List<Map.Entry<String, T>> entries = byLength.get(i);
+            if (entries != null) {
+                buckets[i] = new Bucket<>(entries, i);
+            }
+        }
+    }
+
+    /**
+     * @param key the name to look up.
+     * @return the value or {@code null} if the name is unknown.
+     */
+    public T find(final String key) {
+        final int length = key.length();
+        if (length >= buckets.length) {
+            return null;
+        }
+        final Bucket<T> bucket = buckets[length];
+        if (bucket == null) {
+            return null;
+        }
+        final int discriminant = bucket.discriminant;
+        final char c = length == 0 ? 0 : key.charAt(discriminant);
+        for (int i = 0; i < bucket.names.length; i++) {
+            final char[] name = bucket.names[i];
+            if (length != 0 && name[discriminant] != c) {
+                continue;
+            }
+            int j = 0;
+            while (j < length && name[j] == key.charAt(j)) {
+                j++;
+            }
+            if (j == length) {
+                return bucket.values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param chars the buffer containing the name.
+     * @param offset the name start in the buffer.
+     * @param length the name length.
+     * @return the value or {@code null} if the name is unknown.
+     */
+    public T find(final char[] chars, final int offset, final int length) {
+        if (length >= buckets.length) {
+            return null;
+        }
+        final Bucket<T> bucket = buckets[length];
+        if (bucket == null) {
+            return null;
+        }
+        final int discriminant = bucket.discriminant;
+        final char c = length == 0 ? 0 : chars[offset + discriminant];
+        for (int i = 0; i < bucket.names.length; i++) {
+            final char[] name = bucket.names[i];
+            if (length != 0 && name[discriminant] != c) {
+                continue;
+            }
+            int j = 0;
+            while (j < length && name[j] == chars[offset + j]) {
+                j++;
+            }
+            if (j == length) {
+                return bucket.values[i];
+            }
+        }
+        return null;
+    }
+
+    private static class Bucket<T> {
+        private final char[][] names;
+        private final T[] values;
+        private final int discriminant;
+
+        private Bucket(final List<Map.Entry<String, T>> entries, final int length) {
+            this.names = new char[entries.size()][];
+            this.values = (T[]) new Object[entries.size()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = entries.get(i).getKey().toCharArray();
+                values[i] = entries.get(i).getValue();
+            }
+
+            // the position with the most distinct chars rejects most candidates with a single comparison
+            int selected = 0;
+            int selectedDistinct = 0;
+            final Set<Character> distinct = new HashSet<>();
+            for (int position = 0; position < length && selectedDistinct < names.length; position++) {
+                distinct.clear();
+                for (final char[] name : names) {
+                    distinct.add(name[position]);
+                }
+                if (distinct.size() > selectedDistinct) {
+                    selected = position;
+                    selectedDistinct = distinct.size();
+                }
+            }
+            this.discriminant = selected;
+        }
+    }
+}
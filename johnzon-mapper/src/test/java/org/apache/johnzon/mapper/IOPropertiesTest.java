@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.mapper;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Base64;
+
+import jakarta.json.stream.JsonParsingException;
+
+import org.junit.Test;
+
+public class IOPropertiesTest {
+    @Test
+    public void bindStrings() throws IOException {
+        final byte[] binary = new byte[10_000];
+        for (int i = 0; i < binary.length; i++) {
+            binary[i] = (byte) i;
+        }
+        final String json = "{\"text\":\"some \\\"quoted\\\" text\",\"binary\":\"" + Base64.getEncoder().encodeToString(binary) + "\"}";
+        final Attachment attachment = new MapperBuilder().setTreatByteArrayAsBase64(true).build().readObject(json, Attachment.class);
+
+        final StringBuilder text = new StringBuilder();
+        final char[] chars = new char[4];
+        int read;
+        while ((read = attachment.text.read(chars)) >= 0) {
+            text.append(chars, 0, read);
+        }
+        assertEquals("some \"quoted\" text", text.toString());
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[512];
+        while ((read = attachment.binary.read(buffer)) >= 0) {
+            bytes.write(buffer, 0, read);
+        }
+        assertArrayEquals(binary, bytes.toByteArray());
+    }
+
+    @Test
+    public void urlBase64() throws IOException {
+        final byte[] binary = "some text?>>".getBytes(UTF_8);
+        final String json = "{\"binary\":\"" + Base64.getUrlEncoder().encodeToString(binary) + "\"}";
+        final Attachment attachment = new MapperBuilder().setTreatByteArrayAsBase64URL(true).build().readObject(json, Attachment.class);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int read;
+        while ((read = attachment.binary.read()) >= 0) {
+            bytes.write(read);
+        }
+        assertArrayEquals(binary, bytes.toByteArray());
+    }
+
+    @Test
+    public void bothBase64FlagsDecodeLikeByteArrays() throws IOException {
+        final byte[] binary = "some text?>>".getBytes(UTF_8);
+        final String encoded = Base64.getEncoder().encodeToString(binary);
+        final Binaries binaries = new MapperBuilder().setTreatByteArrayAsBase64(true).setTreatByteArrayAsBase64URL(true).build()
+                .readObject("{\"stream\":\"" + encoded + "\",\"bytes\":\"" + encoded + "\"}", Binaries.class);
+        assertArrayEquals(binary, binaries.bytes);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int read;
+        while ((read = binaries.stream.read()) >= 0) {
+            bytes.write(read);
+        }
+        assertArrayEquals(binary, bytes.toByteArray());
+    }
+
+    @Test
+    public void streamValuesLongerThanMaxStringLength() throws IOException {
+        final byte[] binary = new byte[10_000];
+        for (int i = 0; i < binary.length; i++) {
+            binary[i] = (byte) i;
+        }
+        final String encoded = Base64.getEncoder().encodeToString(binary);
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            text.append("line ").append(i).append('\n');
+        }
+        final String binaries = "{\"stream\":\"" + encoded + "\",\"bytes\":\"" + encoded + "\"}";
+        final String attachment = "{\"text\":\"" + text.toString().replace("\n", "\\n") + "\",\"binary\":\"" + encoded + "\"}";
+
+        try (final Mapper mapper = new MapperBuilder().setStreamingDeserialization(true).setTreatByteArrayAsBase64(true).setMaxSize(1024).build()) {
+            final Binaries bound = mapper.readObject(binaries, Binaries.class);
+            assertArrayEquals(binary, bound.bytes);
+            assertArrayEquals(binary, readAll(bound.stream));
+
+            final Attachment boundAttachment = mapper.readObject(attachment, Attachment.class);
+            final StringBuilder read = new StringBuilder();
+            final char[] chars = new char[128];
+            int length;
+            while ((length = boundAttachment.text.read(chars)) >= 0) {
+                read.append(chars, 0, length);
+            }
+            assertEquals(text.toString(), read.toString());
+            assertArrayEquals(binary, readAll(boundAttachment.binary));
+        }
+
+        // loading the values as strings hits the limit
+        try (final Mapper mapper = new MapperBuilder().setTreatByteArrayAsBase64(true).setMaxSize(1024).build()) {
+            mapper.readObject(binaries, Binaries.class);
+            fail();
+        } catch (final JsonParsingException expected) {
+            // ok
+        }
+    }
+
+    private static byte[] readAll(final InputStream stream) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[512];
+        int read;
+        while ((read = stream.read(buffer)) >= 0) {
+            bytes.write(buffer, 0, read);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static class Binaries {
+        public InputStream stream;
+        public byte[] bytes;
+    }
+
+    public static class Attachment {
+        public Reader text;
+        public InputStream binary;
+    }
+}
@@ -53,6 +53,7 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
@@ -384,6 +385,28 @@ public class MapperTest {
         assertEquals("[[\"a\",\"b\"],[\"c\",\"d\"]]", new String(baos.toByteArray()));
     }
 
+    @Test
+    public void writePrimitiveArrays() {
+        final Mapper mapper = new MapperBuilder().setUseJsRange(true).build();
+        assertEquals("[1,2,3]", mapper.writeArrayAsString(new int[]{1, 2, 3}));
+        assertEquals("[0.1,2.5]", mapper.writeArrayAsString(new float[]{0.1f, 2.5f}));
+        assertEquals("[0.5,2.0]", mapper.writeArrayAsString(new double[]{0.5, 2}));
+        try { // dropping it would shift the next items
+            mapper.writeArrayAsString(new float[]{0.5f, Float.NaN, 2});
+            fail();
+        } catch (final NumberFormatException nfe) {
+            // ok
+        }
+        assertEquals("[1,\"9007199254740993\"]", mapper.writeArrayAsString(new long[]{1, 9007199254740993L}));
+        assertEquals("[\"a\",\"b\"]", mapper.writeArrayAsString(new char[]{'a', 'b'}));
+        assertEquals("[true]", mapper.writeArrayAsString(new boolean[]{true}));
+        assertEquals("[]", new MapperBuilder().setSkipEmptyArray(true).build().writeArrayAsString(new int[0]));
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        mapper.writeArray((Object) new short[]{1, 2}, baos);
+        assertEquals("[1,2]", new String(baos.toByteArray()));
+    }
+
     @Test
     public void writeListOfList() {
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -18,6 +18,7 @@
  */
 package org.apache.johnzon.mapper;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -51,6 +52,19 @@ public class ReadPrimitiveTest {
         assertEquals('-', val2.charValue());
     }
 
+    @Test
+    public void testPrimitiveArrays() {
+        assertArrayEquals(new int[]{1, -2, 3}, mapper.readObject("[1,-2,3]", int[].class));
+        assertArrayEquals(new long[]{1, -2, 123456789012L}, mapper.readObject("[1,-2,123456789012]", long[].class));
+        assertArrayEquals(new double[]{1.5, -2.25}, mapper.readObject("[1.5,-2.25]", double[].class), 0.);
+        assertArrayEquals(new double[]{1, 2.5}, mapper.readObject("[1,2.5]", double[].class), 0.);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testPrimitiveIntArrayOverflow() {
+        mapper.readObject("[1,123456789012]", int[].class);
+    }
+
     @Test
     public void testDouble() {
         final Double val1 = mapper.readObject("5.096684684960", Double.class);
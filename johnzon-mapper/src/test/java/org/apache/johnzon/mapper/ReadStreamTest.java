@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.mapper;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import jakarta.json.stream.JsonParsingException;
+
+import org.junit.Test;
+
+public class ReadStreamTest {
+    private static final String LINES = "[{\"sku\":\"a\",\"quantity\":1},null,{\"sku\":\"b\",\"quantity\":2}]";
+
+    @Test
+    public void buffered() {
+        assertLines(new MapperBuilder().build());
+    }
+
+    @Test
+    public void streaming() {
+        assertLines(new MapperBuilder().setStreamingDeserialization(true).build());
+    }
+
+    @Test
+    public void lazy() {
+        final Mapper mapper = new MapperBuilder().setStreamingDeserialization(true).build();
+        // the array is truncated, only the failing item must be impacted
+        try (final Stream<Line> stream = mapper.readStream(new StringReader("[{\"sku\":\"a\",\"quantity\":1},{\"sku\":"), Line.class)) {
+            final Iterator<Line> iterator = stream.iterator();
+            assertEquals("a", iterator.next().sku);
+            try {
+                iterator.next();
+                fail();
+            } catch (final JsonParsingException expected) {
+                // ok
+            }
+        }
+    }
+
+    @Test
+    public void deduplicateObjects() {
+        final Mapper mapper = new MapperBuilder().setDeduplicateObjects(true).build();
+        final Line line = new Line();
+        line.sku = "a";
+        final Holder first = new Holder();
+        first.line = line;
+        final Holder second = new Holder();
+        second.line = line;
+        final String json = mapper.writeArrayAsString(asList(first, second));
+        assertEquals("[{\"line\":{\"quantity\":0,\"sku\":\"a\"}},{\"line\":\"/0/line\"}]", json);
+        try (final Stream<Holder> stream = mapper.readStream(new StringReader(json), Holder.class)) {
+            final List<Holder> holders = stream.collect(toList());
+            assertEquals("a", holders.get(0).line.sku);
+            assertSame(holders.get(0).line, holders.get(1).line);
+        }
+    }
+
+    @Test
+    public void primitives() {
+        final Mapper mapper = new MapperBuilder().build();
+        try (final Stream<Integer> stream = mapper.readStream(new StringReader("[1,2,3]"), Integer.class)) {
+            assertEquals(6, stream.mapToInt(Integer::intValue).sum());
+        }
+        try (final Stream<int[]> stream = mapper.readStream(new StringReader("[[1,2],[3]]"), int[].class)) {
+            assertEquals(3, stream.mapToInt(it -> it.length).sum());
+        }
+    }
+
+    @Test
+    public void close() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Mapper mapper = new MapperBuilder().setDoCloseOnStreams(true).build();
+        final StringReader reader = new StringReader("[]") {
+            @Override
+            public void close() {
+                closed.set(true);
+                super.close();
+            }
+        };
+        try (final Stream<Line> stream = mapper.readStream(reader, Line.class)) {
+            assertEquals(0, stream.count());
+        }
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void notAnArray() {
+        try {
+            new MapperBuilder().build().readStream(new StringReader("{}"), Line.class);
+            fail();
+        } catch (final MapperException expected) {
+            // ok
+        }
+    }
+
+    private static void assertLines(final Mapper mapper) {
+        try (final Stream<Line> stream = mapper.readStream(new ByteArrayInputStream(LINES.getBytes(StandardCharsets.UTF_8)), Line.class)) {
+            final List<Line> lines = stream.collect(toList());
+            assertEquals(3, lines.size());
+            assertEquals("a", lines.get(0).sku);
+            assertNull(lines.get(1));
+            assertEquals(2, lines.get(2).quantity);
+        }
+    }
+
+    public static class Holder {
+        public Line line;
+    }
+
+    public static class Line {
+        public String sku;
+        public int quantity;
+    }
+}
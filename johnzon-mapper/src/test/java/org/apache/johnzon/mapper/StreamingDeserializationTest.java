@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.mapper;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonParsingException;
+
+import org.apache.johnzon.mapper.reflection.JohnzonParameterizedType;
+import org.junit.Test;
+
+public class StreamingDeserializationTest {
+    private static final String ORDER = "{\"id\":\"o1\",\"unknown\":{\"a\":[1,{\"b\":2}]},\"count\":3,\"price\":12.5,\"paid\":true," +
+            "\"status\":\"SHIPPED\",\"nullable\":null,\"customer\":{\"name\":\"c\",\"address\":{\"city\":\"Paris\"}}," +
+            "\"lines\":[{\"sku\":\"a\",\"quantity\":1},null,{\"sku\":\"b\",\"quantity\":2,\"ignored\":[[]]}]," +
+            "\"extra\":[{\"sku\":\"c\",\"quantity\":3}],\"tags\":[\"x\",\"y\"],\"attributes\":{\"k\":1},\"raw\":{\"free\":[true]}," +
+            "\"matrix\":[[1,2],[3]],\"numbers\":[1,2,3]}";
+
+    private final Mapper buffered = new MapperBuilder().setAttributeOrder(String::compareTo).build();
+    private final Mapper streaming = new MapperBuilder().setAttributeOrder(String::compareTo).setStreamingDeserialization(true).build();
+
+    @Test
+    public void sameBinding() {
+        final Order expected = buffered.readObject(ORDER, Order.class);
+        final Order actual = streaming.readObject(ORDER, Order.class);
+        assertEquals(buffered.writeObjectAsString(expected), streaming.writeObjectAsString(actual));
+        assertEquals(3, actual.lines.size());
+        assertEquals("Paris", actual.customer.address.city);
+    }
+
+    @Test
+    public void rootArrays() {
+        final String json = "[{\"sku\":\"a\",\"quantity\":1},{\"sku\":\"b\",\"quantity\":2}]";
+        final List<Line> lines = (List<Line>) streaming.<Line>readCollection(new StringReader(json), new JohnzonParameterizedType(List.class, Line.class));
+        assertEquals(2, lines.size());
+        assertEquals("b", lines.get(1).sku);
+        final Line[] array = streaming.readArray(new StringReader(json), Line.class);
+        assertEquals(2, array[1].quantity);
+        assertEquals("c", streaming.<String>readObject("\"c\"", String.class));
+    }
+
+    @Test
+    public void polymorphic() {
+        final Mapper mapper = new MapperBuilder()
+                .setStreamingDeserialization(true)
+                .setPolymorphicDeserializationPredicate(Animal.class::equals)
+                .setPolymorphicDiscriminator("@type")
+                .setPolymorphicTypeLoader(type -> "dog".equals(type) ? Dog.class : null)
+                .build();
+        final Dog first = Dog.class.cast(mapper.readObject("{\"@type\":\"dog\",\"name\":\"a\",\"good\":true}", Animal.class));
+        assertEquals("a", first.name);
+        assertTrue(first.good);
+        final Dog notFirst = Dog.class.cast(mapper.readObject("{\"name\":\"b\",\"@type\":\"dog\",\"good\":true}", Animal.class));
+        assertEquals("b", notFirst.name);
+        assertTrue(notFirst.good);
+        assertEquals("c", mapper.<Animal>readObject("{\"name\":\"c\"}", Animal.class).name);
+    }
+
+    @Test
+    public void primitiveArrays() {
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 40; i++) { // more than the initial capacity
+            json.append(i == 0 ? "" : ",").append(i);
+        }
+        final String ints = json.append(']').toString();
+        final int[] expected = buffered.readObject(ints, int[].class);
+        assertArrayEquals(expected, streaming.readObject(ints, int[].class));
+        assertArrayEquals(new long[]{1, 9007199254740993L, -3}, streaming.readObject("[1,9007199254740993,-3]", long[].class));
+        assertArrayEquals(new double[]{0.1, 2, -1e-3, 1e300}, streaming.readObject("[0.1,2,-1e-3,1e300]", double[].class), 0);
+        assertArrayEquals(new float[]{0.1f, 2.5f}, streaming.readObject("[0.1,2.5]", float[].class), 0);
+        assertArrayEquals(new int[0], streaming.readObject("[]", int[].class));
+
+        final Vectors vectors = streaming.readObject("{\"ints\":[1,2],\"features\":[0.5,1,1.5]}", Vectors.class);
+        assertArrayEquals(new int[]{1, 2}, vectors.ints);
+        assertArrayEquals(new double[]{0.5, 1, 1.5}, vectors.features, 0);
+    }
+
+    @Test
+    public void primitiveArrayNull() {
+        try {
+            streaming.readObject("[1,null]", int[].class);
+            fail();
+        } catch (final MapperException | IllegalStateException e) {
+            final String message = e.getCause() == null ? e.getMessage() : e.getCause().getMessage();
+            assertTrue(message, (e.getMessage() + message).contains("json array mapped to int[] has null value at index 1"));
+        }
+    }
+
+    @Test(expected = JsonParsingException.class)
+    public void trailingContent() {
+        streaming.readObject("{\"sku\":\"a\"} {}", Line.class);
+    }
+
+    @Test
+    public void nestedError() {
+        try {
+            streaming.readObject("{\"failing\":{\"sku\":\"a\"}}", Failing.class);
+            fail();
+        } catch (final SetterMappingException sme) {
+            assertTrue(sme.getMessage(), sme.getMessage().startsWith("Failing property 'failing' of type Line cannot be mapped to json object value: {...}"));
+        }
+    }
+
+    public enum Status {
+        CREATED, SHIPPED
+    }
+
+    public static class Order {
+        public String id;
+        public int count;
+        public double price;
+        public boolean paid;
+        public Status status;
+        public Integer nullable = 1;
+        public Customer customer;
+        public List<Line> lines;
+        public Line[] extra;
+        public Set<String> tags;
+        public Map<String, Integer> attributes;
+        public JsonObject raw;
+        public List<List<Integer>> matrix;
+        public int[] numbers;
+    }
+
+    public static class Vectors {
+        public int[] ints;
+        public double[] features;
+    }
+
+    public static class Customer {
+        public String name;
+        public Address address;
+    }
+
+    public static class Address {
+        public String city;
+    }
+
+    public static class Line {
+        public String sku;
+        public int quantity;
+    }
+
+    public static class Animal {
+        public String name;
+    }
+
+    public static class Dog extends Animal {
+        public boolean good;
+    }
+
+    public static class Failing {
+        public void setFailing(final Line line) {
+            throw new IllegalStateException("failing");
+        }
+
+        public Line getFailing() {
+            return null;
+        }
+    }
+}
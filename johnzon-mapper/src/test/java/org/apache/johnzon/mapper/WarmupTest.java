@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.mapper;
+
+import org.apache.johnzon.mapper.access.FieldAccessMode;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class WarmupTest {
+    @Test
+    public void graph() {
+        try (final Mapper mapper = new MapperBuilder().setAccessModeName("field").build()) {
+            mapper.warmup(singletonList(Root.class));
+            assertNotNull(mapper.mappings.getClassMapping(Root.class));
+            assertNotNull(mapper.mappings.getClassMapping(Child.class));
+            assertNotNull(mapper.mappings.getClassMapping(Leaf.class));
+            assertNull(mapper.mappings.getClassMapping(String.class));
+        }
+    }
+
+    @Test
+    public void concurrentCreationIsDeduplicated() throws Exception {
+        final Map<Class<?>, AtomicInteger> scans = new ConcurrentHashMap<>();
+        final FieldAccessMode accessMode = new FieldAccessMode(true, true) {
+            @Override
+            public Map<String, Reader> findReaders(final Class<?> clazz) {
+                scans.computeIfAbsent(clazz, k -> new AtomicInteger()).incrementAndGet();
+                try {
+                    Thread.sleep(50); // let other threads try to create it too
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.findReaders(clazz);
+            }
+        };
+        try (final Mapper mapper = new MapperBuilder().setAccessMode(accessMode).build()) {
+            final int threads = 8;
+            final CountDownLatch start = new CountDownLatch(1);
+            final ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                final Collection<Future<Mappings.ClassMapping>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    results.add(pool.submit(() -> {
+                        start.await();
+                        return mapper.mappings.findOrCreateClassMapping(Leaf.class);
+                    }));
+                }
+                start.countDown();
+                final Mappings.ClassMapping mapping = results.iterator().next().get();
+                for (final Future<Mappings.ClassMapping> result : results) {
+                    assertSame(mapping, result.get());
+                }
+            } finally {
+                pool.shutdownNow();
+                pool.awaitTermination(1, TimeUnit.MINUTES);
+            }
+        }
+        assertEquals(1, scans.get(Leaf.class).get());
+    }
+
+    public static class Root {
+        public String name;
+        public List<Child> children;
+    }
+
+    public static class Child {
+        public Leaf[] leaves;
+    }
+
+    public static class Leaf {
+        public int value;
+    }
+}
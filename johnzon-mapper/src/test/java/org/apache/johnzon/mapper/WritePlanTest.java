@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.mapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.johnzon.mapper.access.FieldAccessMode;
+import org.junit.Test;
+
+public class WritePlanTest {
+    @Test
+    public void plan() {
+        final Mappings mappings = new Mappings(new MapperBuilder().setAttributeOrder(String::compareTo).build().config);
+        final Map<String, Mappings.WriteStep> steps = new HashMap<>();
+        Stream.of(mappings.findOrCreateClassMapping(Model.class).writePlan).forEach(it -> steps.put(it.name, it));
+        assertEquals(Mappings.WriteStep.Scalar.INT, steps.get("count").scalar);
+        assertNotNull(steps.get("count").primitiveReader);
+        assertEquals(Mappings.WriteStep.Scalar.STRING, steps.get("name").scalar);
+        assertNull(steps.get("name").primitiveReader);
+        assertEquals(Mappings.WriteStep.Scalar.ENUM, steps.get("status").scalar);
+        assertNull(steps.get("amount").scalar); // not final
+        assertNull(steps.get("any").scalar); // polymorphic
+        assertNull(steps.get("nested").scalar);
+    }
+
+    @Test
+    public void sameOutput() {
+        final Model model = new Model();
+        model.count = 1;
+        model.big = 9007199254740993L;
+        model.ratio = Double.NaN;
+        model.rate = 1.5f;
+        model.flag = true;
+        model.letter = 'c';
+        model.name = "n";
+        model.boxed = 2;
+        model.status = Status.OK;
+        model.amount = new BigDecimal("1.10");
+        model.any = 5;
+        model.nested = new Model();
+
+        final String expected = "{\"amount\":1.10,\"any\":5,\"big\":\"9007199254740993\",\"boxed\":2,\"count\":1,\"flag\":true,\"letter\":\"c\"," +
+                "\"name\":\"n\",\"nested\":{\"big\":0,\"count\":0,\"flag\":false,\"letter\":\"\\u0000\",\"rate\":0.0,\"ratio\":0.0}," +
+                "\"rate\":1.5,\"status\":\"OK\"}";
+        try (final Mapper mapper = new MapperBuilder().setAttributeOrder(String::compareTo).setUseJsRange(true).build()) {
+            assertEquals(expected, mapper.writeObjectAsString(model));
+        }
+        // a filter disables the direct writes
+        try (final Mapper mapper = new MapperBuilder().setAttributeOrder(String::compareTo).setUseJsRange(true)
+                .setSerializeValueFilter((name, value) -> false).build()) {
+            assertEquals(expected, mapper.writeObjectAsString(model));
+        }
+        try (final Mapper mapper = new MapperBuilder().setAttributeOrder(String::compareTo).setSkipNull(false).build()) {
+            assertEquals("{\"amount\":null,\"any\":null,\"big\":0,\"boxed\":null,\"count\":0,\"flag\":false,\"letter\":\"\\u0000\"," +
+                    "\"name\":null,\"nested\":null,\"rate\":0.0,\"ratio\":0.0,\"status\":null}", mapper.writeObjectAsString(new Model()));
+        }
+        try (final Mapper mapper = new MapperBuilder().setAttributeOrder(String::compareTo).setAccessMode(new FieldAccessMode(true, true)).build()) {
+            assertEquals("{\"big\":0,\"count\":0,\"flag\":false,\"letter\":\"\\u0000\",\"rate\":0.0,\"ratio\":0.0}", mapper.writeObjectAsString(new Model()));
+        }
+    }
+
+    public enum Status {
+        OK
+    }
+
+    public static class Model {
+        public int count;
+        public long big;
+        public double ratio;
+        public float rate;
+        public boolean flag;
+        public char letter;
+        public String name;
+        public Integer boxed;
+        public Status status;
+        public BigDecimal amount;
+        public Object any;
+        public Model nested;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.mapper.access;
+
+import org.apache.johnzon.mapper.Mapper;
+import org.apache.johnzon.mapper.MapperBuilder;
+import org.junit.Test;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.stream.JsonGenerator;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MappingSnapshotTest {
+    @Test
+    public void roundTrip() {
+        final FieldAndMethodAccessMode accessMode = new FieldAndMethodAccessMode(true, true, false, true, false);
+        final MappingSnapshot snapshot = read(capture(accessMode, Model.class));
+
+        final Map<String, AccessMode.Reader> readers = snapshot.findReaders(Model.class);
+        assertNotNull(readers);
+        assertEquals(accessMode.findReaders(Model.class).keySet(), readers.keySet());
+        final Map<String, AccessMode.Writer> writers = snapshot.findWriters(Model.class);
+        assertNotNull(writers);
+        assertEquals(accessMode.findWriters(Model.class).keySet(), writers.keySet());
+        assertEquals(accessMode.findReaders(Model.class).get("names").getType(), readers.get("names").getType());
+
+        final Model model = new Model();
+        model.setName("johnzon");
+        model.age = 10;
+        model.names = asList("a", "b");
+        final String expected;
+        try (final Mapper mapper = new MapperBuilder().setAccessMode(accessMode).build()) {
+            expected = mapper.writeObjectAsString(model);
+        }
+
+        final CountingAccessMode counting = new CountingAccessMode(accessMode);
+        try (final Mapper mapper = new MapperBuilder().setAccessMode(new MappingSnapshotAccessMode(counting, snapshot)).build()) {
+            final String json = mapper.writeObjectAsString(model);
+            assertEquals(expected, json);
+            final Model read = mapper.readObject(json, Model.class);
+            assertEquals("johnzon", read.getName());
+            assertEquals(10, read.age);
+            assertEquals(asList("a", "b"), read.names);
+        }
+        assertEquals(0, counting.scans.get());
+    }
+
+    @Test
+    public void staleClass() {
+        final FieldAndMethodAccessMode accessMode = new FieldAndMethodAccessMode(true, true, false, true, false);
+        final String json = capture(accessMode, Model.class);
+        final String hash = MappingSnapshot.hash(Model.class);
+        assertTrue(json.contains(hash));
+        final MappingSnapshot snapshot = read(json.replace(hash, "stale"));
+        assertNull(snapshot.findReaders(Model.class));
+
+        final CountingAccessMode counting = new CountingAccessMode(accessMode);
+        final MappingSnapshotAccessMode snapshotAccessMode = new MappingSnapshotAccessMode(counting, snapshot);
+        assertEquals(accessMode.findReaders(Model.class).keySet(), snapshotAccessMode.findReaders(Model.class).keySet());
+        assertEquals(1, counting.scans.get());
+    }
+
+    @Test
+    public void unsupportedAccessorsAreNotCaptured() {
+        final String json = capture(new FieldAndMethodAccessMode(true, true, false, true, false) {
+            @Override
+            public Map<String, Reader> findReaders(final Class<?> clazz) {
+                final Map<String, Reader> readers = super.findReaders(clazz);
+                try { // subclasses can change the behavior so they are not captured
+                    readers.put("custom", new FieldAccessMode.FieldReader(Model.class.getField("age"), int.class) {
+                    });
+                } catch (final NoSuchFieldException e) {
+                    throw new IllegalStateException(e);
+                }
+                return readers;
+            }
+        }, Model.class);
+        assertFalse(json.contains(Model.class.getName()));
+    }
+
+    @Test
+    public void mapperBuilder() {
+        final String json;
+        try (final Mapper mapper = new MapperBuilder().build()) {
+            final StringWriter writer = new StringWriter();
+            mapper.writeMappingSnapshot(writer, singletonList(Model.class));
+            json = writer.toString();
+        }
+        assertTrue(json, json.contains(Model.class.getName()));
+        try (final Mapper mapper = new MapperBuilder().setMappingSnapshot("missing/snapshot.json").build()) { // ignored
+            final Model model = new Model();
+            model.age = 1;
+            assertEquals("{\"age\":1}", mapper.writeObjectAsString(model));
+        }
+    }
+
+    private static String capture(final AccessMode accessMode, final Class<?> clazz) {
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = Json.createGenerator(writer)) {
+            MappingSnapshot.write(accessMode, singletonList(clazz), Json.createBuilderFactory(null), generator);
+        }
+        return writer.toString();
+    }
+
+    private static MappingSnapshot read(final String json) {
+        try (final JsonReader reader = Json.createReader(new StringReader(json))) {
+            return MappingSnapshot.read(reader);
+        }
+    }
+
+    private static class CountingAccessMode extends MappingSnapshotAccessMode {
+        private final AtomicInteger scans = new AtomicInteger();
+        private final AccessMode delegate;
+
+        private CountingAccessMode(final AccessMode delegate) {
+            super(delegate, null);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Map<String, Reader> findReaders(final Class<?> clazz) {
+            scans.incrementAndGet();
+            return delegate.findReaders(clazz);
+        }
+
+        @Override
+        public Map<String, Writer> findWriters(final Class<?> clazz) {
+            scans.incrementAndGet();
+            return delegate.findWriters(clazz);
+        }
+    }
+
+    public static class Model {
+        public int age;
+        public List<String> names;
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+    }
+}
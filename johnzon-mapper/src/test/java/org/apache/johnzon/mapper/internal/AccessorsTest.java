@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.mapper.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.apache.johnzon.mapper.MapperException;
+import org.apache.johnzon.mapper.access.MethodAccessMode;
+import org.junit.Test;
+
+public class AccessorsTest {
+    @Test
+    public void methods() throws Exception {
+        final Function<Object, Object> reader = Accessors.reader(Bean.class.getDeclaredMethod("getName"));
+        final BiConsumer<Object, Object> writer = Accessors.writer(Bean.class.getDeclaredMethod("setName", String.class));
+        final BiConsumer<Object, Object> primitiveWriter = Accessors.writer(Bean.class.getDeclaredMethod("setCount", int.class));
+        assertNotNull(reader);
+        assertNotNull(writer);
+        assertNotNull(primitiveWriter);
+
+        final Bean bean = new Bean();
+        writer.accept(bean, "johnzon");
+        primitiveWriter.accept(bean, (short) 3); // widening like Method.invoke
+        assertEquals("johnzon", reader.apply(bean));
+        assertEquals(3, bean.count);
+        assertEquals(3, Accessors.reader(Bean.class.getDeclaredMethod("getCount")).apply(bean));
+    }
+
+    @Test
+    public void fields() throws Exception {
+        final Bean bean = new Bean();
+        Accessors.writer(Bean.class.getDeclaredField("count")).accept(bean, 5);
+        assertEquals(5, Accessors.reader(Bean.class.getDeclaredField("count")).apply(bean));
+        assertNull(Accessors.reader(Bean.class.getDeclaredField("CONSTANT")));
+    }
+
+    @Test
+    public void primitives() throws Exception {
+        final Bean bean = new Bean();
+        bean.count = 1;
+        bean.big = 2;
+        bean.ratio = 3.5;
+        bean.active = true;
+        assertEquals(1, ToIntFunction.class.cast(Accessors.primitiveReader(Bean.class.getDeclaredMethod("getCount"))).applyAsInt(bean));
+        assertEquals(1, ToIntFunction.class.cast(Accessors.primitiveReader(Bean.class.getDeclaredField("count"))).applyAsInt(bean));
+        assertEquals(2L, ToLongFunction.class.cast(Accessors.primitiveReader(Bean.class.getDeclaredField("big"))).applyAsLong(bean));
+        assertEquals(3.5, ToDoubleFunction.class.cast(Accessors.primitiveReader(Bean.class.getDeclaredField("ratio"))).applyAsDouble(bean), 0.);
+        assertTrue(Predicate.class.cast(Accessors.primitiveReader(Bean.class.getDeclaredMethod("isActive"))).test(bean));
+        assertNull(Accessors.primitiveReader(Bean.class.getDeclaredMethod("getName")));
+    }
+
+    @Test
+    public void factories() throws Exception {
+        assertEquals(Bean.class, Accessors.factory(Bean.class.getDeclaredConstructor()).apply(null).getClass());
+        final Object created = Accessors.factory(Bean.class.getDeclaredConstructor(String.class, int.class))
+                .apply(new Object[]{"created", 2});
+        assertEquals("created", Bean.class.cast(created).name);
+        assertEquals(2, Bean.class.cast(created).count);
+    }
+
+    @Test
+    public void exceptionsAreNotWrapped() throws Exception {
+        final BiConsumer<Object, Object> writer = Accessors.writer(Bean.class.getDeclaredMethod("setName", String.class));
+        try {
+            writer.accept(new Bean(), "fail");
+            fail();
+        } catch (final IllegalArgumentException iae) {
+            assertSame(Bean.ERROR, iae);
+        }
+    }
+
+    @Test
+    public void accessModeWrapsLikeReflection() throws Exception {
+        final Method setter = Bean.class.getDeclaredMethod("setName", String.class);
+        try {
+            setter.setAccessible(true);
+            setter.invoke(new Bean(), "fail");
+            fail();
+        } catch (final InvocationTargetException ite) {
+            assertSame(Bean.ERROR, ite.getCause());
+        }
+        try {
+            new MethodAccessMode.MethodWriter(setter, String.class).write(new Bean(), "fail");
+            fail();
+        } catch (final MapperException me) {
+            assertTrue(InvocationTargetException.class.isInstance(me.getCause()));
+            assertSame(Bean.ERROR, me.getCause().getCause());
+        }
+
+        final Bean bean = new Bean();
+        bean.count = -1;
+        try {
+            new MethodAccessMode.MethodReader(Bean.class.getDeclaredMethod("getCount"), int.class).read(bean);
+            fail();
+        } catch (final MapperException me) {
+            assertSame(Bean.ERROR, me.getCause().getCause());
+        }
+        try {
+            ToIntFunction.class.cast(Accessors.primitiveReader(Bean.class.getDeclaredMethod("getCount"))).applyAsInt(bean);
+            fail();
+        } catch (final MapperException me) {
+            assertSame(Bean.ERROR, me.getCause().getCause());
+        }
+    }
+
+    private static class Bean {
+        private static final String CONSTANT = "constant";
+        private static final IllegalArgumentException ERROR = new IllegalArgumentException("fail");
+
+        private String name;
+        private int count;
+        private long big;
+        private double ratio;
+        private boolean active;
+
+        private Bean() {
+            // no-op
+        }
+
+        private Bean(final String name, final int count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        private String getName() {
+            return name;
+        }
+
+        private void setName(final String name) {
+            if ("fail".equals(name)) {
+                throw ERROR;
+            }
+            this.name = name;
+        }
+
+        public int getCount() {
+            if (count < 0) {
+                throw ERROR;
+            }
+            return count;
+        }
+
+        public void setCount(final int count) {
+            this.count = count;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.mapper.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Base64;
+
+import org.junit.Test;
+
+public class Base64StringsTest {
+    @Test
+    public void decode() {
+        for (int length = 0; length < 300; length++) {
+            final byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = (byte) (i * 13 + 251);
+            }
+            assertArrayEquals(bytes, Base64Strings.decode(Base64.getEncoder().encodeToString(bytes), false));
+            assertArrayEquals(bytes, Base64Strings.decode(Base64.getUrlEncoder().encodeToString(bytes), true));
+            assertArrayEquals(bytes, Base64Strings.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes), true));
+        }
+    }
+
+    @Test
+    public void invalid() {
+        for (final String value : new String[]{ "A", "AA=", "AAA==", "A===", "AA=A", "AA==AAAA", "AAAé", "AA-_" }) {
+            try {
+                Base64Strings.decode(value, false);
+                fail(value);
+            } catch (final IllegalArgumentException iae) {
+                // same error than the JDK decoder
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.mapper.internal;
+
+import org.apache.johnzon.mapper.Mapper;
+import org.apache.johnzon.mapper.MapperBuilder;
+import org.apache.johnzon.mapper.reflection.JohnzonParameterizedType;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class MappingCacheTest {
+    @Test
+    public void evictLeastRecentlyUsed() {
+        final MappingCache<String> cache = new MappingCache<>(2);
+        cache.putIfAbsent(String.class, "string");
+        cache.putIfAbsent(Integer.class, "integer");
+        assertEquals("string", cache.get(String.class)); // integer is now the eldest
+        cache.putIfAbsent(Long.class, "long");
+        assertEquals(2, cache.size());
+        assertNull(cache.get(Integer.class));
+        assertEquals("string", cache.get(String.class));
+        assertEquals("long", cache.get(Long.class));
+
+        final MappingCache.Statistics statistics = cache.getStatistics();
+        assertEquals(3, statistics.getHits());
+        assertEquals(3, statistics.getMisses()); // created entries
+        assertEquals(1, statistics.getEvictions());
+        assertEquals(2, statistics.getSize());
+    }
+
+    @Test
+    public void evictByBatch() {
+        final MappingCache<Integer> cache = new MappingCache<>(20);
+        final Class<?>[] types = {
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, Boolean.class, Character.class,
+            String.class, Object.class, Number.class, List.class, byte.class, short.class, int.class, long.class,
+            float.class, double.class, boolean.class, char.class, void.class
+        };
+        for (int i = 0; i < types.length; i++) {
+            cache.putIfAbsent(types[i], i);
+        }
+        // 10% of the entries are released at once so the next insertions don't scan the cache again
+        assertEquals(18, cache.size());
+        assertEquals(3, cache.getStatistics().getEvictions());
+        assertNull(cache.get(Byte.class));
+        assertEquals(20, cache.get(void.class).intValue());
+    }
+
+    @Test
+    public void missCountedOnce() {
+        try (final Mapper mapper = new MapperBuilder().build()) {
+            mapper.writeObjectAsString(new Model("v"));
+            mapper.writeObjectAsString(new Model("v"));
+            final MappingCache.Statistics statistics = mapper.getMappingCacheStatistics().get("classes");
+            assertEquals(1, statistics.getMisses());
+            assertEquals(1, statistics.getSize());
+        }
+    }
+
+    @Test
+    public void unbounded() {
+        final MappingCache<String> cache = new MappingCache<>(0);
+        for (int i = 0; i < 10; i++) {
+            cache.putIfAbsent(new JohnzonParameterizedType(List.class, Integer.class, String.class, Long.class), "value" + i);
+            cache.putIfAbsent(new JohnzonParameterizedType(List.class, String.class), "other" + i);
+        }
+        assertEquals(2, cache.size());
+        assertEquals("value0", cache.get(new JohnzonParameterizedType(List.class, Integer.class, String.class, Long.class)));
+        assertEquals(0, cache.getStatistics().getEvictions());
+    }
+
+    @Test
+    public void removeClassLoader() throws Exception {
+        final URL classes = Model.class.getProtectionDomain().getCodeSource().getLocation();
+        try (final URLClassLoader loader = new URLClassLoader(new URL[]{classes}, null)) {
+            final Class<?> model = loader.loadClass(Model.class.getName());
+            final MappingCache<String> cache = new MappingCache<>(0);
+            cache.putIfAbsent(Model.class, "app");
+            cache.putIfAbsent(model, "redeployed");
+            cache.putIfAbsent(new JohnzonParameterizedType(List.class, model), "list");
+            assertEquals(2, cache.removeAll(loader));
+            assertEquals(1, cache.size());
+            assertEquals("app", cache.get(Model.class));
+
+            try (final Mapper mapper = new MapperBuilder().setMappingCacheSize(10).build()) {
+                assertEquals("{\"value\":\"v\"}", mapper.writeObjectAsString(model.getConstructor(String.class).newInstance("v")));
+                assertEquals(1, mapper.getMappingCacheStatistics().get("classes").getSize());
+                mapper.clean(loader);
+                assertEquals(0, mapper.getMappingCacheStatistics().get("classes").getSize());
+            }
+        }
+    }
+
+    public static class Model {
+        private final String value;
+
+        public Model(final String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
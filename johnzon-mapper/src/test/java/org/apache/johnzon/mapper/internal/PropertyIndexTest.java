@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.mapper.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class PropertyIndexTest {
+    @Test
+    public void find() {
+        final Map<String, Integer> values = new HashMap<>();
+        values.put("", 0);
+        values.put("id", 1);
+        values.put("ab", 2);
+        values.put("name", 3);
+        values.put("nbme", 4);
+        values.put("namf", 5);
+        final PropertyIndex<Integer> index = new PropertyIndex<>(values);
+        values.forEach((key, value) -> {
+            assertEquals(value, index.find(key));
+            final char[] buffer = ("{\"" + key + "\":").toCharArray();
+            assertEquals(value, index.find(buffer, 2, key.length()));
+        });
+        assertNull(index.find("Name"));
+        assertNull(index.find("nam"));
+        assertNull(index.find("names"));
+        assertNull(index.find("xx"));
+        assertNull(index.find("a_very_long_unknown_name".toCharArray(), 2, 20));
+        assertNull(new PropertyIndex<>(new HashMap<>()).find("id"));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.maven.plugin;
+
+import org.apache.johnzon.mapper.Mapper;
+import org.apache.johnzon.mapper.MapperBuilder;
+import org.apache.johnzon.mapper.access.MappingSnapshot;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.Writer;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.apache.maven.plugins.annotations.LifecyclePhase.PROCESS_CLASSES;
+import static org.apache.maven.plugins.annotations.ResolutionScope.RUNTIME_PLUS_SYSTEM;
+
+/**
+ * Captures the mapping metadata of the configured classes to skip their reflection scan at runtime,
+ * see {@link MapperBuilder#setMappingSnapshot(String)}.
+ */
+@Mojo(name = "mapping-snapshot", defaultPhase = PROCESS_CLASSES, requiresDependencyResolution = RUNTIME_PLUS_SYSTEM)
+public class MappingSnapshotMojo extends AbstractMojo {
+    @Parameter(property = "johnzon.mapping-snapshot.classes", required = true)
+    protected List<String> classes;
+
+    @Parameter(property = "johnzon.mapping-snapshot.accessMode", defaultValue = "both")
+    protected String accessMode;
+
+    @Parameter(property = "johnzon.mapping-snapshot.supportHiddenAccess", defaultValue = "true")
+    protected boolean supportHiddenAccess;
+
+    @Parameter(property = "johnzon.mapping-snapshot.target",
+            defaultValue = "${project.build.outputDirectory}/" + MappingSnapshot.DEFAULT_LOCATION)
+    protected File target;
+
+    @Parameter(property = "johnzon.mapping-snapshot.classesDir", defaultValue = "${project.build.outputDirectory}")
+    protected File classesDir;
+
+    @Parameter(defaultValue = "${project}", readonly = true)
+    protected MavenProject project;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader old = thread.getContextClassLoader();
+        try (final URLClassLoader loader = newLoader(old);
+             final Mapper mapper = new MapperBuilder()
+                     .setAccessModeName(accessMode)
+                     .setSupportHiddenAccess(supportHiddenAccess)
+                     .build()) {
+            thread.setContextClassLoader(loader);
+            final Collection<Class<?>> types = new ArrayList<>(classes.size());
+            for (final String clazz : classes) {
+                types.add(loader.loadClass(clazz.trim()));
+            }
+            if (target.getParent() != null) {
+                Files.createDirectories(target.toPath().getParent());
+            }
+            try (final Writer writer = Files.newBufferedWriter(target.toPath(), StandardCharsets.UTF_8)) {
+                mapper.writeMappingSnapshot(writer, types);
+            }
+            getLog().info("Created " + target);
+        } catch (final Exception e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        } finally {
+            thread.setContextClassLoader(old);
+        }
+    }
+
+    private URLClassLoader newLoader(final ClassLoader parent) {
+        return new URLClassLoader(
+                Stream.concat(project.getArtifacts().stream()
+                                .map(Artifact::getFile)
+                                .filter(Objects::nonNull),
+                        Stream.of(classesDir))
+                        .filter(File::exists)
+                        .map(it -> {
+                            try {
+                                return it.toURI().toURL();
+                            } catch (final MalformedURLException e) {
+                                throw new IllegalStateException(e);
+                            }
+                        })
+                        .toArray(URL[]::new),
+                parent);
+    }
+}
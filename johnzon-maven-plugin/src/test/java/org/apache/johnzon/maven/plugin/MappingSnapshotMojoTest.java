@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.maven.plugin;
+
+import org.apache.johnzon.mapper.Mapper;
+import org.apache.johnzon.mapper.MapperBuilder;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MappingSnapshotMojoTest {
+    @Test
+    public void generate() throws MojoExecutionException, IOException {
+        final File workdir = new File("target/workdir-MappingSnapshotMojoTest");
+        final MappingSnapshotMojo mojo = new MappingSnapshotMojo();
+        mojo.classesDir = new File("target/classes");
+        mojo.target = new File(workdir, "META-INF/johnzon/mapping-snapshot.json");
+        mojo.accessMode = "both";
+        mojo.supportHiddenAccess = true;
+        mojo.classes = singletonList(Foo.class.getName());
+        mojo.project = new MavenProject() {
+            @Override
+            public Set<Artifact> getArtifacts() {
+                return emptySet();
+            }
+        };
+        if (mojo.target.exists()) {
+            mojo.target.delete();
+        }
+        mojo.execute();
+
+        final String snapshot = new String(Files.readAllBytes(mojo.target.toPath()), StandardCharsets.UTF_8);
+        assertTrue(snapshot, snapshot.contains("\"" + Foo.class.getName() + "\""));
+        assertTrue(snapshot, snapshot.contains("\"other\""));
+
+        final Thread thread = Thread.currentThread();
+        final ClassLoader old = thread.getContextClassLoader();
+        try (final URLClassLoader loader = new URLClassLoader(new URL[]{workdir.toURI().toURL()}, old)) {
+            thread.setContextClassLoader(loader);
+            try (final Mapper mapper = new MapperBuilder().setMappingSnapshot("META-INF/johnzon/mapping-snapshot.json").build()) {
+                final Foo foo = mapper.readObject("{\"simple\":\"s\",\"other\":[\"o\"]}", Foo.class);
+                assertEquals("s", foo.simple);
+                assertEquals(singletonList("o"), foo.other);
+                assertEquals("{\"other\":[\"o\"],\"simple\":\"s\"}", mapper.writeObjectAsString(foo));
+            }
+        } finally {
+            thread.setContextClassLoader(old);
+        }
+    }
+
+    public static class Foo {
+        public String simple;
+        public List<String> other;
+    }
+}
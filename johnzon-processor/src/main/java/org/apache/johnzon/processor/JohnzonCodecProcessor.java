@@ -0,0 +1,526 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.processor;
+
+import static java.util.Arrays.asList;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@code org.apache.johnzon.mapper.access.GeneratedCodec} for each {@code @JohnzonCodec} class
+ * and registers them as services.
+ *
+ * The model is the mapper one (codecs are only used by the mapper): public fields and public getters/setters,
+ * {@code @JohnzonProperty} renames a property and {@code @JohnzonIgnore} ignores it, JSON-B annotations are not read.
+ * Classes needing runtime configuration (converters, adapters, formats, creators, JDK types without native JSON mapping...)
+ * are skipped with a warning, they keep the runtime mapping.
+ */
+@SupportedAnnotationTypes(JohnzonCodecProcessor.JOHNZON_CODEC)
+public class JohnzonCodecProcessor extends AbstractProcessor {
+    static final String JOHNZON_CODEC = "org.apache.johnzon.mapper.JohnzonCodec";
+
+    private static final String ACCESS = "org.apache.johnzon.mapper.access.";
+    private static final String SERVICE = "META-INF/services/" + ACCESS + "GeneratedCodec";
+    private static final String JOHNZON = "org.apache.johnzon.mapper.";
+    private static final String JOHNZON_PROPERTY = JOHNZON + "JohnzonProperty";
+    private static final String JOHNZON_IGNORE = JOHNZON + "JohnzonIgnore";
+    private static final Collection<String> SUPPORTED_ANNOTATIONS = new HashSet<>(asList(
+            JOHNZON_CODEC, JOHNZON_PROPERTY, JOHNZON_IGNORE));
+    private static final Collection<String> NATIVE_TYPES = new HashSet<>(asList(
+            "java.lang.Object", "java.lang.String", "java.lang.Boolean", "java.lang.Character",
+            "java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double",
+            "java.math.BigDecimal", "java.math.BigInteger"));
+
+    private final Collection<String> codecs = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@JohnzonCodec is only supported on classes", element);
+                    continue;
+                }
+                final TypeElement type = TypeElement.class.cast(element);
+                try {
+                    codecs.add(generate(type));
+                } catch (final UnsupportedClassException uce) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                            "No codec generated for " + type.getQualifiedName() + ", the runtime mapping will be used: " + uce.getMessage(), uce.element);
+                } catch (final IOException ioe) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Can't generate the codec: " + ioe.getMessage(), type);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !codecs.isEmpty()) {
+            writeServices();
+        }
+        return true;
+    }
+
+    private String generate(final TypeElement type) throws IOException {
+        validateClass(type);
+        final Map<String, Property> properties = findProperties(type);
+
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String simpleName = codecSimpleName(type);
+        final String codecName = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        final String typeName = type.getQualifiedName().toString();
+        final DeclaredType declaredType = DeclaredType.class.cast(type.asType());
+
+        final StringBuilder readers = new StringBuilder();
+        final StringBuilder writers = new StringBuilder();
+        for (final Property property : properties.values()) {
+            final Element readAccessor = property.getter != null ? property.getter : property.readableField();
+            if (readAccessor != null) {
+                final TypeMirror readType = property.getter != null ?
+                        ExecutableType.class.cast(processingEnv.getTypeUtils().asMemberOf(declaredType, property.getter)).getReturnType() :
+                        processingEnv.getTypeUtils().asMemberOf(declaredType, property.field);
+                readers.append("        readers.put(").append(literal(property.readName())).append(", new ")
+                        .append(ACCESS).append("GeneratedCodec.PropertyReader(").append(typeLiteral(readType, readAccessor))
+                        .append(", instance -> ((").append(typeName).append(") instance).")
+                        .append(property.getter != null ? property.getter.getSimpleName() + "()" : property.field.getSimpleName())
+                        .append("));\n");
+            }
+
+            final Element writeAccessor = property.setter != null ? property.setter : property.writableField();
+            if (writeAccessor != null) {
+                final TypeMirror writeType = property.setter != null ?
+                        ExecutableType.class.cast(processingEnv.getTypeUtils().asMemberOf(declaredType, property.setter)).getParameterTypes().get(0) :
+                        processingEnv.getTypeUtils().asMemberOf(declaredType, property.field);
+                final String cast = "(" + castType(writeType) + ") value";
+                writers.append("        writers.put(").append(literal(property.writeName())).append(", new ")
+                        .append(ACCESS).append("GeneratedCodec.PropertyWriter(").append(typeLiteral(writeType, writeAccessor))
+                        .append(", (instance, value) -> ((").append(typeName).append(") instance).")
+                        .append(property.setter != null ?
+                                property.setter.getSimpleName() + "(" + cast + ")" :
+                                property.field.getSimpleName() + " = " + cast)
+                        .append("));\n");
+            }
+        }
+
+        try (final Writer writer = processingEnv.getFiler().createSourceFile(codecName, type).openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            if (processingEnv.getElementUtils().getTypeElement("javax.annotation.processing.Generated") != null) {
+                writer.write("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")\n");
+            }
+            writer.write("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+            writer.write("public final class " + simpleName + " implements " + ACCESS + "GeneratedCodec<" + typeName + "> {\n");
+            writer.write("    @Override\n");
+            writer.write("    public Class<" + typeName + "> type() {\n");
+            writer.write("        return " + typeName + ".class;\n");
+            writer.write("    }\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public java.util.Map<String, " + ACCESS + "AccessMode.Reader> readers() {\n");
+            writer.write("        final java.util.Map<String, " + ACCESS + "AccessMode.Reader> readers = new java.util.HashMap<>();\n");
+            writer.write(readers.toString());
+            writer.write("        return readers;\n");
+            writer.write("    }\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public java.util.Map<String, " + ACCESS + "AccessMode.Writer> writers() {\n");
+            writer.write("        final java.util.Map<String, " + ACCESS + "AccessMode.Writer> writers = new java.util.HashMap<>();\n");
+            writer.write(writers.toString());
+            writer.write("        return writers;\n");
+            writer.write("    }\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public " + ACCESS + "AccessMode.Factory factory() {\n");
+            writer.write("        return new " + ACCESS + "GeneratedCodec.NoArgFactory(" + typeName + "::new);\n");
+            writer.write("    }\n");
+            writer.write("}\n");
+        }
+        return codecName;
+    }
+
+    private void validateClass(final TypeElement type) {
+        final Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.PRIVATE)) {
+            throw new UnsupportedClassException(type, "abstract and private classes can't be instantiated");
+        }
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL && (type.getNestingKind() != NestingKind.MEMBER || !modifiers.contains(Modifier.STATIC))) {
+            throw new UnsupportedClassException(type, "only top level and static nested classes are supported");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedClassException(type, "generic classes are not supported");
+        }
+        if (isAssignable(type.asType(), "java.util.Collection") || isAssignable(type.asType(), "java.util.Map")) {
+            throw new UnsupportedClassException(type, "collections and maps are mapped by the runtime");
+        }
+        if (ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .noneMatch(it -> it.getParameters().isEmpty() && !it.getModifiers().contains(Modifier.PRIVATE))) {
+            throw new UnsupportedClassException(type, "a non private no-arg constructor is required");
+        }
+        validateAnnotations(processingEnv.getElementUtils().getPackageOf(type));
+        for (Element current = type; current != null; current = current.getEnclosingElement()) { // nested: outer annotations
+            if (current.getKind() == ElementKind.PACKAGE) {
+                break;
+            }
+            validateAnnotations(current);
+        }
+    }
+
+    private Map<String, Property> findProperties(final TypeElement type) {
+        final Map<String, Property> properties = new LinkedHashMap<>();
+        TypeElement current = type;
+        while (current != null && !"java.lang.Object".equals(current.getQualifiedName().toString())) {
+            if (current != type) {
+                if (isJdk(current.getQualifiedName().toString())) {
+                    throw new UnsupportedClassException(type, "JDK parent " + current.getQualifiedName() + " is not supported");
+                }
+                validateAnnotations(current);
+            }
+            for (final VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    final Property property = properties.computeIfAbsent(field.getSimpleName().toString(), Property::new);
+                    if (property.field == null) {
+                        property.field = field;
+                    }
+                }
+            }
+            for (final ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                final Set<Modifier> modifiers = method.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.ABSTRACT) || !modifiers.contains(Modifier.PUBLIC)) {
+                    continue;
+                }
+                final String name = method.getSimpleName().toString();
+                if (method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID) {
+                    final String propertyName = name.startsWith("get") && name.length() > 3 ?
+                            decapitalize(name.substring(3)) :
+                            (name.startsWith("is") && name.length() > 2 && method.getReturnType().getKind() == TypeKind.BOOLEAN ?
+                                    decapitalize(name.substring(2)) : null);
+                    if (propertyName != null) {
+                        final Property property = properties.computeIfAbsent(propertyName, Property::new);
+                        if (property.getter == null) {
+                            property.getter = method;
+                        }
+                    }
+                } else if (method.getParameters().size() == 1 && method.getReturnType().getKind() == TypeKind.VOID &&
+                        name.startsWith("set") && name.length() > 3) {
+                    final Property property = properties.computeIfAbsent(decapitalize(name.substring(3)), Property::new);
+                    if (property.setter == null) {
+                        property.setter = method;
+                    } else if (property.setter.getEnclosingElement() == current) {
+                        throw new UnsupportedClassException(method, "overloaded setters are not supported");
+                    }
+                }
+            }
+            final TypeMirror parent = current.getSuperclass();
+            current = parent.getKind() == TypeKind.DECLARED ? TypeElement.class.cast(DeclaredType.class.cast(parent).asElement()) : null;
+        }
+
+        final Map<String, Property> mapped = new LinkedHashMap<>();
+        for (final Property property : properties.values()) {
+            final Collection<Element> accessors = property.accessors();
+            accessors.forEach(this::validateAnnotations);
+            if (accessors.stream().anyMatch(this::isIgnored)) {
+                continue;
+            }
+            if (property.getter == null && property.readableField() == null && property.setter == null && property.writableField() == null) {
+                continue;
+            }
+            mapped.put(property.name, property);
+        }
+        final Collection<String> names = new HashSet<>();
+        for (final Property property : mapped.values()) {
+            property.readName = rename(property.getter, property.field, property.name);
+            property.writeName = rename(property.setter, property.field, property.name);
+            if (property.getter != null || property.readableField() != null) {
+                if (!names.add("r:" + property.readName)) {
+                    throw new UnsupportedClassException(type, "duplicated property " + property.readName);
+                }
+            }
+            if (property.setter != null || property.writableField() != null) {
+                if (!names.add("w:" + property.writeName)) {
+                    throw new UnsupportedClassException(type, "duplicated property " + property.writeName);
+                }
+            }
+        }
+        return mapped;
+    }
+
+    private boolean isIgnored(final Element element) {
+        if (element.getModifiers().contains(Modifier.TRANSIENT)) {
+            return true;
+        }
+        final AnnotationMirror ignore = findAnnotation(element, JOHNZON_IGNORE);
+        if (ignore == null) {
+            return false;
+        }
+        final Object minVersion = value(ignore, "minVersion");
+        if (minVersion != null && Integer.class.cast(minVersion) >= 0) {
+            throw new UnsupportedClassException(element, "versioned properties are not supported");
+        }
+        return true;
+    }
+
+    // same precedence than the runtime: the accessor annotation wins over the field one
+    private String rename(final Element accessor, final Element field, final String defaultName) {
+        for (final Element element : asList(accessor, field)) {
+            if (element == null) {
+                continue;
+            }
+            final AnnotationMirror johnzon = findAnnotation(element, JOHNZON_PROPERTY);
+            if (johnzon != null) {
+                return String.valueOf(value(johnzon, "value"));
+            }
+        }
+        return defaultName;
+    }
+
+    private void validateAnnotations(final Element element) {
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            final String name = TypeElement.class.cast(annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (name.startsWith(JOHNZON) && !SUPPORTED_ANNOTATIONS.contains(name)) {
+                throw new UnsupportedClassException(element, "@" + name + " needs the runtime mapping");
+            }
+        }
+    }
+
+    private String typeLiteral(final TypeMirror type, final Element owner) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return type.getKind().name().toLowerCase(Locale.ROOT) + ".class";
+            case ARRAY:
+                final TypeMirror component = ArrayType.class.cast(type).getComponentType();
+                if (component.getKind() == TypeKind.BYTE) {
+                    throw new UnsupportedClassException(owner, "byte[] depends on the runtime binary configuration");
+                }
+                if (component.getKind() == TypeKind.DECLARED && !DeclaredType.class.cast(component).getTypeArguments().isEmpty()) {
+                    throw new UnsupportedClassException(owner, "generic arrays are not supported");
+                }
+                typeLiteral(component, owner); // validate the component
+                return processingEnv.getTypeUtils().erasure(type) + ".class";
+            case DECLARED:
+                final DeclaredType declared = DeclaredType.class.cast(type);
+                final TypeElement element = TypeElement.class.cast(declared.asElement());
+                final String name = element.getQualifiedName().toString();
+                if (declared.getTypeArguments().isEmpty()) {
+                    if (!element.getTypeParameters().isEmpty()) {
+                        throw new UnsupportedClassException(owner, "raw type " + name + " is not supported");
+                    }
+                    if (isJdk(name) && !NATIVE_TYPES.contains(name) && element.getKind() != ElementKind.ENUM) {
+                        throw new UnsupportedClassException(owner, name + " depends on the runtime converters");
+                    }
+                    return name + ".class";
+                }
+                if (!name.startsWith("java.util.") || !(isAssignable(type, "java.util.Collection") || isAssignable(type, "java.util.Map"))) {
+                    throw new UnsupportedClassException(owner, "generic type " + type + " is not supported");
+                }
+                final List<? extends TypeMirror> arguments = declared.getTypeArguments();
+                if (isAssignable(type, "java.util.Map") && !"java.lang.String".equals(String.valueOf(processingEnv.getTypeUtils().erasure(arguments.get(0))))) {
+                    throw new UnsupportedClassException(owner, "only maps with string keys are supported");
+                }
+                final StringBuilder literal = new StringBuilder("new org.apache.johnzon.mapper.reflection.JohnzonParameterizedType(")
+                        .append(name).append(".class");
+                for (final TypeMirror argument : arguments) {
+                    literal.append(", ").append(typeLiteral(argument, owner));
+                }
+                return literal.append(')').toString();
+            default:
+                throw new UnsupportedClassException(owner, "type " + type + " is not supported");
+        }
+    }
+
+    private String castType(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass(processingEnv.getTypeUtils().getPrimitiveType(type.getKind())).getQualifiedName().toString();
+        }
+        return String.valueOf(processingEnv.getTypeUtils().erasure(type));
+    }
+
+    private boolean isAssignable(final TypeMirror type, final String parent) {
+        final TypeElement parentElement = processingEnv.getElementUtils().getTypeElement(parent);
+        return parentElement != null && processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(type), processingEnv.getTypeUtils().erasure(parentElement.asType()));
+    }
+
+    private boolean isJdk(final String name) {
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jakarta.");
+    }
+
+    private String codecSimpleName(final TypeElement type) {
+        final StringBuilder name = new StringBuilder(type.getSimpleName()).append("_JohnzonCodec");
+        for (Element current = type.getEnclosingElement(); current != null && !PackageElement.class.isInstance(current);
+             current = current.getEnclosingElement()) {
+            name.insert(0, current.getSimpleName() + "_");
+        }
+        return name.toString();
+    }
+
+    private void writeServices() {
+        final Collection<String> services = new TreeSet<>(codecs);
+        try { // incremental compilation, keep previous codecs
+            final FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE);
+            try (final BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                reader.lines().map(String::trim).filter(it -> !it.isEmpty() && !it.startsWith("#")).forEach(services::add);
+            }
+        } catch (final IOException | IllegalArgumentException e) {
+            // no previous services
+        }
+        try (final Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE).openWriter()) {
+            for (final String service : services) {
+                writer.write(service + "\n");
+            }
+        } catch (final IOException ioe) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Can't write " + SERVICE + ": " + ioe.getMessage());
+        }
+    }
+
+    private static AnnotationMirror findAnnotation(final Element element, final String type) {
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (type.equals(TypeElement.class.cast(annotation.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static Object value(final AnnotationMirror annotation, final String name) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            if (name.contentEquals(entry.getKey().getSimpleName())) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    // java.beans.Introspector.decapitalize
+    private static String decapitalize(final String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String literal(final String value) {
+        final StringBuilder out = new StringBuilder("\"");
+        for (final char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < ' ' || c > '~') {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        return out.append('"').toString();
+    }
+
+    private static class Property {
+        private final String name;
+        private VariableElement field;
+        private ExecutableElement getter;
+        private ExecutableElement setter;
+        private String readName;
+        private String writeName;
+
+        private Property(final String name) {
+            this.name = name;
+        }
+
+        private VariableElement readableField() {
+            return field != null && field.getModifiers().contains(Modifier.PUBLIC) ? field : null;
+        }
+
+        private VariableElement writableField() {
+            return field != null && field.getModifiers().contains(Modifier.PUBLIC) && !field.getModifiers().contains(Modifier.FINAL) ? field : null;
+        }
+
+        private String readName() {
+            return readName;
+        }
+
+        private String writeName() {
+            return writeName;
+        }
+
+        private Collection<Element> accessors() {
+            final Collection<Element> accessors = new ArrayList<>(3);
+            if (field != null) {
+                accessors.add(field);
+            }
+            if (getter != null) {
+                accessors.add(getter);
+            }
+            if (setter != null) {
+                accessors.add(setter);
+            }
+            return accessors;
+        }
+    }
+
+    private static class UnsupportedClassException extends RuntimeException {
+        private final Element element;
+
+        private UnsupportedClassException(final Element element, final String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
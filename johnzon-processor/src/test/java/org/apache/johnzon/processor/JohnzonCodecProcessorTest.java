@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.johnzon.processor;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+
+import org.apache.johnzon.mapper.Mapper;
+import org.apache.johnzon.mapper.MapperBuilder;
+import org.apache.johnzon.mapper.access.FieldAndMethodAccessMode;
+import org.apache.johnzon.mapper.access.KnownNotOpenedJavaTypesAccessMode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JohnzonCodecProcessorTest {
+    private static final String ORDER = "" +
+            "package demo;\n" +
+            "\n" +
+            "import java.util.List;\n" +
+            "import java.util.Map;\n" +
+            "import org.apache.johnzon.mapper.JohnzonCodec;\n" +
+            "import org.apache.johnzon.mapper.JohnzonIgnore;\n" +
+            "import org.apache.johnzon.mapper.JohnzonProperty;\n" +
+            "import jakarta.json.bind.annotation.JsonbProperty;\n" +
+            "\n" +
+            "@JohnzonCodec\n" +
+            "public class Order {\n" +
+            "    @JohnzonProperty(\"order_id\")\n" +
+            "    private String id;\n" +
+            "    private String internal = \"hidden\";\n" +
+            "    @JohnzonIgnore\n" +
+            "    public String secret;\n" +
+            "    @JsonbProperty(\"qty\") // the mapper does not read JSON-B annotations\n" +
+            "    public int quantity;\n" +
+            "    private boolean paid;\n" +
+            "    private List<Line> lines;\n" +
+            "    @JohnzonProperty(\"meta\")\n" +
+            "    private Map<String, Long> metadata;\n" +
+            "\n" +
+            "    public String getId() { return id; }\n" +
+            "    public void setId(final String id) { this.id = id; }\n" +
+            "    public boolean isPaid() { return paid; }\n" +
+            "    public void setPaid(final boolean paid) { this.paid = paid; }\n" +
+            "    public List<Line> getLines() { return lines; }\n" +
+            "    public void setLines(final List<Line> lines) { this.lines = lines; }\n" +
+            "    public Map<String, Long> getMetadata() { return metadata; }\n" +
+            "    public void setMetadata(final Map<String, Long> metadata) { this.metadata = metadata; }\n" +
+            "\n" +
+            "    @JohnzonCodec\n" +
+            "    public static class Line {\n" +
+            "        public String sku;\n" +
+            "        public double price;\n" +
+            "        public Status status;\n" +
+            "    }\n" +
+            "\n" +
+            "    public enum Status { OK, KO }\n" +
+            "}\n";
+
+    private static final String ORDER_JSON = "" +
+            "{\"lines\":[{\"price\":1.5,\"sku\":\"a\",\"status\":\"OK\"},{\"price\":2.0,\"sku\":\"b\",\"status\":\"KO\"}]," +
+            "\"meta\":{\"version\":2},\"order_id\":\"o1\",\"paid\":true,\"quantity\":3}";
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void generate() throws Exception {
+        final File output = temp.newFolder();
+        assertTrue(compile(output, "demo.Order", ORDER).isEmpty());
+        assertEquals(
+                asList("demo.Order_JohnzonCodec", "demo.Order_Line_JohnzonCodec"),
+                Files.readAllLines(new File(output, "META-INF/services/org.apache.johnzon.mapper.access.GeneratedCodec").toPath()));
+
+        withLoader(output, loader -> {
+            final Class<?> order = loader.loadClass("demo.Order");
+            try (final Mapper mapper = new MapperBuilder().setUseGeneratedCodecs(true).setAttributeOrder(String::compareTo).build()) {
+                final Object instance = mapper.readObject(ORDER_JSON, order);
+                assertEquals(ORDER_JSON, mapper.writeObjectAsString(instance));
+            }
+            try (final Mapper mapper = new MapperBuilder().setAttributeOrder(String::compareTo).build()) {
+                // the runtime model also uses private fields, ensures the codec was used previously
+                assertTrue(mapper.writeObjectAsString(mapper.readObject(ORDER_JSON, order)).contains("\"internal\":\"hidden\""));
+            }
+            try (final Mapper mapper = new MapperBuilder().setUseGeneratedCodecs(true).setAttributeOrder(String::compareTo)
+                    .setAccessMode(new KnownNotOpenedJavaTypesAccessMode(new FieldAndMethodAccessMode(true, true, false, true, false)))
+                    .build()) {
+                // custom access modes keep their own model
+                assertTrue(mapper.writeObjectAsString(mapper.readObject(ORDER_JSON, order)).contains("\"internal\":\"hidden\""));
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void unsupported() throws Exception {
+        final File output = temp.newFolder();
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(output, "demo.Dated", "" +
+                "package demo;\n" +
+                "\n" +
+                "@org.apache.johnzon.mapper.JohnzonCodec\n" +
+                "public class Dated {\n" +
+                "    public java.util.Date date;\n" +
+                "}\n");
+        assertEquals(1, diagnostics.size());
+        assertEquals(Diagnostic.Kind.WARNING, diagnostics.get(0).getKind());
+        assertTrue(diagnostics.get(0).getMessage(null), diagnostics.get(0).getMessage(null).contains("java.util.Date depends on the runtime converters"));
+        assertFalse(new File(output, "META-INF/services/org.apache.johnzon.mapper.access.GeneratedCodec").exists());
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(final File output, final String name, final String source) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (final StandardJavaFileManager manager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            manager.setLocation(StandardLocation.CLASS_OUTPUT, singletonList(output));
+            manager.setLocation(StandardLocation.SOURCE_OUTPUT, singletonList(output));
+            final Collection<String> options = new ArrayList<>(asList(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-processor", JohnzonCodecProcessor.class.getName()));
+            final JavaFileObject file = new SimpleJavaFileObject(
+                    URI.create("string:///" + name.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            };
+            final boolean success = compiler.getTask(null, manager, diagnostics, options, null, singletonList(file)).call();
+            assertTrue(diagnostics.getDiagnostics().stream().map(String::valueOf).collect(Collectors.joining("\n")), success);
+        }
+        return diagnostics.getDiagnostics().stream()
+                .filter(it -> it.getKind() != Diagnostic.Kind.NOTE)
+                .collect(Collectors.toList());
+    }
+
+    private void withLoader(final File output, final LoaderTask task) throws Exception {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previous = thread.getContextClassLoader();
+        try (final URLClassLoader loader = new URLClassLoader(new URL[]{output.toURI().toURL()}, previous)) {
+            thread.setContextClassLoader(loader);
+            task.run(loader);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    @FunctionalInterface
+    private interface LoaderTask {
+        Object run(ClassLoader loader) throws Exception;
+    }
+}